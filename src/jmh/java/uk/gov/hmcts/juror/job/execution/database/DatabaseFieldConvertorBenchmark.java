@@ -0,0 +1,94 @@
+package uk.gov.hmcts.juror.job.execution.database;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import uk.gov.hmcts.juror.job.execution.database.model.RequirePncCheck;
+import uk.gov.hmcts.juror.job.execution.jobs.checks.pnc.batch.PoliceCheck;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DatabaseFieldConvertorBenchmark {
+
+    @Param({"1000", "10000"})
+    private int rowCount;
+
+    private InMemoryResultSet inMemoryResultSet;
+    private ResultSet resultSet;
+
+    @Setup
+    public void setup() {
+        List<Object[]> rows = new ArrayList<>(rowCount);
+        PoliceCheck[] policeChecks = PoliceCheck.values();
+        for (int i = 0; i < rowCount; i++) {
+            rows.add(new Object[]{
+                policeChecks[i % policeChecks.length].name(),
+                String.valueOf(100_000_000 + i),
+                "First" + i,
+                i % 3 == 0 ? null : "Middle" + i,
+                "Last" + i,
+                Timestamp.valueOf(LocalDateTime.of(1980, 1, 1, 0, 0).plusDays(i % 10_000)),
+                "SW1H 9AJ"
+            });
+        }
+        inMemoryResultSet = InMemoryResultSet.create(List.of("police_check", "juror_number", "first_name",
+            "middle_name", "last_name", "date_of_birth", "post_code"), rows);
+        resultSet = inMemoryResultSet.toResultSet();
+    }
+
+    @Benchmark
+    public void reflectivePerRow(Blackhole blackhole) throws Exception {
+        inMemoryResultSet.reset();
+        while (resultSet.next()) {
+            blackhole.consume(convertReflectively(RequirePncCheck.class, resultSet));
+        }
+    }
+
+    @Benchmark
+    public void convertToItem(Blackhole blackhole) throws SQLException {
+        inMemoryResultSet.reset();
+        while (resultSet.next()) {
+            blackhole.consume(DatabaseFieldConvertor.convertToItem(RequirePncCheck.class, resultSet));
+        }
+    }
+
+    @Benchmark
+    public void boundRowMapper(Blackhole blackhole) throws SQLException {
+        inMemoryResultSet.reset();
+        RowMapper<RequirePncCheck> rowMapper = DatabaseFieldConvertor.bind(RequirePncCheck.class, resultSet);
+        while (resultSet.next()) {
+            blackhole.consume(rowMapper.mapRow(resultSet));
+        }
+    }
+
+    //The per row reflective pass convertToItem used before row mappers were cached, kept as the baseline
+    private static <T> T convertReflectively(Class<T> convertToClass, ResultSet resultSet) throws Exception {
+        T dto = convertToClass.getConstructor().newInstance();
+        for (Field field : convertToClass.getDeclaredFields()) {
+            if (!field.isAnnotationPresent(DatabaseColumn.class)) {
+                continue;
+            }
+            DatabaseColumn databaseColumn = field.getAnnotation(DatabaseColumn.class);
+            Method method = convertToClass.getMethod(databaseColumn.setter(), field.getType());
+            method.invoke(dto, DatabaseFieldConvertor.convertField(field, resultSet));
+        }
+        return dto;
+    }
+}
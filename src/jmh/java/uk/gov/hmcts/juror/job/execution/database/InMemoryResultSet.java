@@ -0,0 +1,73 @@
+package uk.gov.hmcts.juror.job.execution.database;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+//Minimal forward only result set backed by in memory rows. Column names are resolved through a map in the same way
+//the postgres driver does so name based and index based reads can be compared fairly
+public final class InMemoryResultSet implements InvocationHandler {
+
+    private final Map<String, Integer> columnIndexes;
+    private final List<Object[]> rows;
+    private int currentRow;
+
+    private InMemoryResultSet(List<String> columnNames, List<Object[]> rows) {
+        this.columnIndexes = new HashMap<>();
+        for (int i = 0; i < columnNames.size(); i++) {
+            columnIndexes.put(columnNames.get(i).toLowerCase(Locale.ROOT), i + 1);
+        }
+        this.rows = rows;
+        this.currentRow = -1;
+    }
+
+    public static InMemoryResultSet create(List<String> columnNames, List<Object[]> rows) {
+        return new InMemoryResultSet(columnNames, rows);
+    }
+
+    public ResultSet toResultSet() {
+        return (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(),
+            new Class<?>[]{ResultSet.class}, this);
+    }
+
+    public void reset() {
+        currentRow = -1;
+    }
+
+    @Override
+    @SuppressWarnings("PMD.CyclomaticComplexity")
+    public Object invoke(Object proxy, Method method, Object[] args) throws SQLException {
+        switch (method.getName()) {
+            case "next":
+                currentRow++;
+                return currentRow < rows.size();
+            case "isBeforeFirst":
+                return currentRow == -1 && !rows.isEmpty();
+            case "findColumn":
+                return findColumn((String) args[0]);
+            case "getObject":
+                int columnIndex = args[0] instanceof String columnName
+                    ? findColumn(columnName)
+                    : (Integer) args[0];
+                return ((Class<?>) args[1]).cast(rows.get(currentRow)[columnIndex - 1]);
+            case "close":
+                return null;
+            default:
+                throw new UnsupportedOperationException(method.getName());
+        }
+    }
+
+    private int findColumn(String columnName) throws SQLException {
+        Integer index = columnIndexes.get(columnName.toLowerCase(Locale.ROOT));
+        if (index == null) {
+            throw new SQLException("The column name " + columnName + " was not found in this ResultSet.");
+        }
+        return index;
+    }
+}
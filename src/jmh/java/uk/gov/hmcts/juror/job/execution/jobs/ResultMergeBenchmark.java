@@ -0,0 +1,58 @@
+package uk.gov.hmcts.juror.job.execution.jobs;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import uk.gov.hmcts.juror.job.execution.model.Status;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ResultMergeBenchmark {
+
+    //A parallel job has a handful of steps, a content store run can merge one result per generated file
+    @Param({"5", "100"})
+    private int resultCount;
+
+    @Param({"10", "100"})
+    private int failedIdsPerResult;
+
+    private List<Job.Result> results;
+
+    @Setup
+    public void setup() {
+        Status[] statuses = {Status.SUCCESS, Status.PARTIAL_SUCCESS, Status.SUCCESS, Status.FAILED};
+        results = new ArrayList<>(resultCount);
+        for (int i = 0; i < resultCount; i++) {
+            Job.Result result = new Job.Result(statuses[i % statuses.length], "Step " + i + " completed")
+                .addCounter("TOTAL_FILES_TO_GENERATED", 1000)
+                .addCounter("TOTAL_FILES_GENERATED_SUCCESS", 1000 - failedIdsPerResult)
+                .addCounter("TOTAL_FILES_GENERATED_UNSUCCESSFULLY", failedIdsPerResult);
+            ResultMetrics metrics = new ResultMetrics();
+            for (int j = 0; j < failedIdsPerResult; j++) {
+                metrics.addSample("FAILED_TO_GENERATE_FILE", "JURY" + i + "." + j);
+            }
+            results.add(result.addMetrics(metrics));
+        }
+    }
+
+    @Benchmark
+    public Job.Result merge() {
+        return Job.Result.merge(results);
+    }
+
+    @Benchmark
+    public Map<String, String> mergeAndReport() {
+        return Job.Result.merge(results).toMetaData();
+    }
+}
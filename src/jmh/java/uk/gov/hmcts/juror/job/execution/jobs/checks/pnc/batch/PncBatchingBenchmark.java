@@ -0,0 +1,67 @@
+package uk.gov.hmcts.juror.job.execution.jobs.checks.pnc.batch;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import uk.gov.hmcts.juror.job.execution.client.contracts.PoliceNationalCheckServiceClient;
+import uk.gov.hmcts.juror.standard.Utilities;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+//Splitting the checks returned by require_pnc_check_view into the bulk requests sent to the PNC service
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PncBatchingBenchmark {
+
+    @Param({"10000", "100000"})
+    private int checkCount;
+
+    @Param({"100", "500"})
+    private int batchSize;
+
+    private List<PoliceNationalCheckServiceClient.JurorCheckRequest> checks;
+    private PoliceNationalCheckServiceClient.JurorCheckRequestBulk.MetaData requestMetaData;
+
+    @Setup
+    public void setup() {
+        checks = new ArrayList<>(checkCount);
+        for (int i = 0; i < checkCount; i++) {
+            checks.add(PoliceNationalCheckServiceClient.JurorCheckRequest.builder()
+                .jurorNumber(String.valueOf(100_000_000 + i))
+                .dateOfBirth(String.format("%02d-%02d-19%02d", i % 28 + 1, i % 12 + 1, i % 80 + 10))
+                .postCode("SW1H 9AJ")
+                .name(PoliceNationalCheckServiceClient.NameDetails.builder()
+                    .firstName("First" + i)
+                    .middleName(i % 3 == 0 ? null : "Middle" + i)
+                    .lastName("Last" + i)
+                    .build())
+                .build());
+        }
+        requestMetaData = new PoliceNationalCheckServiceClient.JurorCheckRequestBulk.MetaData("PNC_BATCH", 1L);
+    }
+
+    @Benchmark
+    public List<List<PoliceNationalCheckServiceClient.JurorCheckRequest>> getBatches() {
+        return Utilities.getBatches(checks, batchSize);
+    }
+
+    @Benchmark
+    public void getBatchesAndBuildRequests(Blackhole blackhole) {
+        for (List<PoliceNationalCheckServiceClient.JurorCheckRequest> batch
+            : Utilities.getBatches(checks, batchSize)) {
+            blackhole.consume(PoliceNationalCheckServiceClient.JurorCheckRequestBulk.builder()
+                .checks(batch)
+                .metaData(requestMetaData)
+                .build());
+        }
+    }
+}
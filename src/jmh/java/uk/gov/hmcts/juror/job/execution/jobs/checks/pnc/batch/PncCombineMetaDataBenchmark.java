@@ -0,0 +1,69 @@
+package uk.gov.hmcts.juror.job.execution.jobs.checks.pnc.batch;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import uk.gov.hmcts.juror.job.execution.client.contracts.SchedulerServiceClient;
+import uk.gov.hmcts.juror.job.execution.model.Status;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+//combineMetaData runs once per PNC batch callback against the task totals held by the scheduler
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PncCombineMetaDataBenchmark {
+
+    private PncBatchJob pncBatchJob;
+    private SchedulerServiceClient.TaskResponse taskResponse;
+    private Map<String, String> callbackMetaData;
+
+    @Setup
+    public void setup() {
+        pncBatchJob = new PncBatchJob(null, new PncBatchConfig(), null, null, null, null);
+
+        Map<String, String> taskMetaData = new HashMap<>();
+        callbackMetaData = new HashMap<>();
+        int index = 0;
+        for (String key : PncBatchJob.META_DATA_KEYS_TO_COMBINE) {
+            //A running task has totals in the thousands, each callback covers one batch of a few hundred checks
+            taskMetaData.put(key, String.valueOf(25_000 + index * 7));
+            callbackMetaData.put(key, String.valueOf(index++ % 50));
+        }
+        taskMetaData.put(PncBatchJob.TOTAL_BATCHES_REQUESTED_KEY, "500");
+        taskMetaData.put(PncBatchJob.TOTAL_BATCHES_RESPONSES_KEY, "250");
+        taskResponse = new SchedulerServiceClient.TaskResponse();
+        taskResponse.setMetaData(taskMetaData);
+    }
+
+    private SchedulerServiceClient.StatusUpdatePayload createPayload() {
+        return new SchedulerServiceClient.StatusUpdatePayload(Status.PROCESSING, "Batch processed",
+            new HashMap<>(callbackMetaData));
+    }
+
+    //Baseline for the payload copy each combine benchmark starts from
+    @Benchmark
+    public SchedulerServiceClient.StatusUpdatePayload copyPayload() {
+        return createPayload();
+    }
+
+    @Benchmark
+    public SchedulerServiceClient.StatusUpdatePayload combineWithTask() {
+        SchedulerServiceClient.StatusUpdatePayload payload = createPayload();
+        pncBatchJob.combineMetaData(payload, taskResponse);
+        return payload;
+    }
+
+    @Benchmark
+    public SchedulerServiceClient.StatusUpdatePayload combineWithoutTask() {
+        SchedulerServiceClient.StatusUpdatePayload payload = createPayload();
+        pncBatchJob.combineMetaData(payload, null);
+        return payload;
+    }
+}
@@ -0,0 +1,50 @@
+package uk.gov.hmcts.juror.job.execution.jobs.dashboard.ams.data;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import uk.gov.hmcts.juror.job.execution.jobs.dashboard.ams.AmsDashboardConfig;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DashboardDataBenchmark {
+
+    //Rows per dashboard section. A normal dashboard has tens, a backlog of letters or expenses can reach thousands
+    @Param({"50", "5000"})
+    private int rowsPerEntry;
+
+    private Clock clock;
+    private DashboardData dashboardData;
+
+    @Setup
+    public void setup() {
+        clock = Clock.fixed(Instant.parse("2024-01-15T09:30:00Z"), ZoneId.of("Europe/London"));
+        dashboardData = new DashboardData(null, null, new AmsDashboardConfig(), clock);
+        for (int i = 0; i < rowsPerEntry; i++) {
+            dashboardData.getBureauLettersAutomaticallyGenerated().addEntry("Summons Reminder " + i, String.valueOf(i));
+            dashboardData.getBureauLettersToBePrinted().addEntry("Confirmation", "Letter " + i,
+                String.valueOf(i * 3));
+            dashboardData.getExpenses().addEntry("Paid", "2024-01-" + (i % 28 + 1), String.valueOf(i * 10.5));
+            dashboardData.getPncCheck().addEntry("Day " + i, String.valueOf(i * 5), String.valueOf(i * 4),
+                String.valueOf(i % 7), String.valueOf(i % 3));
+            dashboardData.getTimestamps().addRow("Section " + i, "2024-01-15 09:30:00");
+        }
+        dashboardData.getCertificates().addRow("PNC", "Mon Jan 15 09:30:00 GMT 2025", "VALID");
+    }
+
+    @Benchmark
+    public String toCsv() {
+        return dashboardData.toCsv(clock);
+    }
+}
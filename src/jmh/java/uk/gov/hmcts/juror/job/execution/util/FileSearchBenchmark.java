@@ -0,0 +1,77 @@
+package uk.gov.hmcts.juror.job.execution.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+//Mirrors the FTP directory the content store jobs search with their file name regex before uploading
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class FileSearchBenchmark {
+    static final String PRINT_FILE_REGEX = "JURY\\d+\\.\\d+.*";
+    static final String PAYMENT_FILE_REGEX = "\\d+.*\\d{13}\\.dat";
+
+    @Param({"1000", "10000"})
+    private int fileCount;
+
+    private Path directory;
+
+    @Setup
+    public void setup() throws IOException {
+        directory = Files.createTempDirectory("file-search-benchmark");
+        Path subDirectory = Files.createDirectories(directory.resolve("archive"));
+        for (int i = 0; i < fileCount; i++) {
+            Path parent = i % 10 == 0 ? subDirectory : directory;
+            //Roughly half print files, a third payment files and the rest files the jobs should ignore
+            String name = switch (i % 6) {
+                case 0, 1, 2 -> "JURY" + (100_000 + i) + "." + (i % 999) + ".txt";
+                case 3, 4 -> (1000 + i) + "_payment_" + (1_700_000_000_000L + i) + ".dat";
+                default -> "readme_" + i + ".log";
+            };
+            Files.createFile(parent.resolve(name));
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    @Benchmark
+    public Set<File> searchPrintFiles() {
+        return FileSearch.directory(directory.toFile(), true)
+            .setFileNameRegexFilter(PRINT_FILE_REGEX)
+            .search();
+    }
+
+    @Benchmark
+    public Set<File> searchPaymentFiles() {
+        return FileSearch.directory(directory.toFile(), true)
+            .setFileNameRegexFilter(PAYMENT_FILE_REGEX)
+            .search();
+    }
+
+    //Baseline for the directory walk alone
+    @Benchmark
+    public Set<File> searchWithoutFilter() {
+        return FileSearch.directory(directory.toFile(), true).search();
+    }
+}
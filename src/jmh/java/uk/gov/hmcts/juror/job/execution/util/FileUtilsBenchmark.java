@@ -0,0 +1,65 @@
+package uk.gov.hmcts.juror.job.execution.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class FileUtilsBenchmark {
+    static final String MUST_MATCH_REGEX = ".*\\d{9}.*";
+    static final String MUST_NOT_MATCH_REGEX = ".*(DEBUG|TRACE).*";
+
+    @Param({"10000", "200000"})
+    private int lineCount;
+
+    private Path file;
+
+    @Setup
+    public void setup() throws IOException {
+        file = Files.createTempFile("file-utils-benchmark", ".log");
+        String[] levels = {"INFO", "DEBUG", "WARN", "TRACE", "ERROR"};
+        try (BufferedWriter writer = Files.newBufferedWriter(file, FileUtils.DEFAULT_CHARSET)) {
+            for (int i = 0; i < lineCount; i++) {
+                writer.write("2024-01-15 09:30:" + String.format("%02d", i % 60) + " " + levels[i % levels.length]
+                    + " uk.gov.hmcts.juror.job.execution - Processed juror " + (100_000_000 + i)
+                    + " for pool " + (400_000_000 + i % 500));
+                writer.newLine();
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public List<String> getLinesWithoutFilters() {
+        return FileUtils.getLines(file.toFile(), null, null);
+    }
+
+    @Benchmark
+    public List<String> getLinesMustMatch() {
+        return FileUtils.getLines(file.toFile(), MUST_MATCH_REGEX, null);
+    }
+
+    @Benchmark
+    public List<String> getLinesMustMatchAndMustNotMatch() {
+        return FileUtils.getLines(file.toFile(), MUST_MATCH_REGEX, MUST_NOT_MATCH_REGEX);
+    }
+}
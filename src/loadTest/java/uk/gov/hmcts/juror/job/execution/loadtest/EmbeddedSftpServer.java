@@ -0,0 +1,67 @@
+package uk.gov.hmcts.juror.job.execution.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.sshd.common.file.virtualfs.VirtualFileSystemFactory;
+import org.apache.sshd.server.SshServer;
+import org.apache.sshd.server.keyprovider.SimpleGeneratorHostKeyProvider;
+import org.apache.sshd.sftp.server.SftpSubsystemFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+//An in process SFTP server with a separate home directory per user, authenticated by a shared password
+@Slf4j
+public class EmbeddedSftpServer implements AutoCloseable {
+    private final SshServer sshServer;
+    private final String password;
+    private final Map<String, Path> homeDirectories;
+
+    public EmbeddedSftpServer(Path directory, String password, String... users) throws IOException {
+        this.password = password;
+        this.homeDirectories = new ConcurrentHashMap<>();
+        VirtualFileSystemFactory fileSystemFactory = new VirtualFileSystemFactory();
+        for (String user : users) {
+            Path homeDirectory = Files.createDirectories(directory.resolve(user));
+            homeDirectories.put(user, homeDirectory);
+            fileSystemFactory.setUserHomeDir(user, homeDirectory);
+        }
+        this.sshServer = SshServer.setUpDefaultServer();
+        sshServer.setHost("localhost");
+        sshServer.setPort(0);
+        sshServer.setKeyPairProvider(new SimpleGeneratorHostKeyProvider(directory.resolve("hostkey.ser")));
+        sshServer.setPasswordAuthenticator((username, suppliedPassword, session) ->
+            homeDirectories.containsKey(username) && this.password.equals(suppliedPassword));
+        sshServer.setSubsystemFactories(List.of(new SftpSubsystemFactory()));
+        sshServer.setFileSystemFactory(fileSystemFactory);
+        sshServer.start();
+        log.info("SFTP server listening on port {}", getPort());
+    }
+
+    public int getPort() {
+        return sshServer.getPort();
+    }
+
+    public long countFiles(String user) throws IOException {
+        try (Stream<Path> files = Files.list(homeDirectories.get(user))) {
+            return files.filter(Files::isRegularFile).count();
+        }
+    }
+
+    public void clear(String user) throws IOException {
+        try (Stream<Path> files = Files.list(homeDirectories.get(user))) {
+            for (Path file : files.toList()) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        sshServer.stop(true);
+    }
+}
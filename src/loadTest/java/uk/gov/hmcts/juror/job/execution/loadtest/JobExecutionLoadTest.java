@@ -0,0 +1,108 @@
+package uk.gov.hmcts.juror.job.execution.loadtest;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.util.AopTestUtils;
+import uk.gov.hmcts.juror.job.execution.database.model.MetaData;
+import uk.gov.hmcts.juror.job.execution.jobs.Job;
+import uk.gov.hmcts.juror.job.execution.jobs.JobMetrics;
+import uk.gov.hmcts.juror.job.execution.jobs.checks.pnc.batch.PncBatchJob;
+import uk.gov.hmcts.juror.job.execution.jobs.contentstore.payment.PaymentFileJob;
+import uk.gov.hmcts.juror.job.execution.jobs.contentstore.print.PrintFileJob;
+import uk.gov.hmcts.juror.job.execution.jobs.dashboard.ams.AmsDashboardGenerateJob;
+import uk.gov.hmcts.juror.job.execution.model.Status;
+import uk.gov.hmcts.juror.job.execution.service.contracts.JobService;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Set;
+import java.util.concurrent.Callable;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+//Runs the file, PNC and dashboard jobs end to end against local stand-ins and reports throughput and latency.
+//Not part of check, run with ./gradlew loadTest -PloadTestSize=<rows> -PloadTestIterations=<runs per job>
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@DisplayName("Job execution load test")
+class JobExecutionLoadTest {
+    private static final int SIZE = Integer.getInteger("loadTest.size", 1000);
+    private static final int ITERATIONS = Integer.getInteger("loadTest.iterations", 3);
+    private static final long REMOTE_LATENCY = Long.getLong("loadTest.remoteLatency", 0);
+    private static final Path REPORT_DIRECTORY =
+        Path.of(System.getProperty("loadTest.reportDirectory", "build/reports/load-test"));
+    private static final Set<String> FAILED_STATUSES = Set.of(Status.FAILED.name(),
+        Status.FAILED_UNEXPECTED_EXCEPTION.name(), Status.VALIDATION_FAILED.name(), JobMetrics.UNKNOWN_STATUS);
+
+    private static LoadTestEnvironment environment;
+
+    @Autowired
+    private JobService jobService;
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @Autowired
+    private PrintFileJob printFileJob;
+    @Autowired
+    private PaymentFileJob paymentFileJob;
+    @Autowired
+    private PncBatchJob pncBatchJob;
+    @Autowired
+    private AmsDashboardGenerateJob amsDashboardGenerateJob;
+
+    @DynamicPropertySource
+    static void registerProperties(DynamicPropertyRegistry registry) throws Exception {
+        environment = new LoadTestEnvironment(SIZE, REMOTE_LATENCY);
+        environment.registerProperties(registry);
+    }
+
+    @AfterAll
+    static void afterAll() throws IOException {
+        if (environment != null) {
+            environment.close();
+        }
+    }
+
+    @Test
+    void runJobs() throws Exception {
+        LoadTestReport report = new LoadTestReport(SIZE, ITERATIONS, meterRegistry);
+        EmbeddedSftpServer sftpServer = environment.getSftpServer();
+        for (int iteration = 1; iteration <= ITERATIONS; iteration++) {
+            environment.reset();
+            run(report, printFileJob, iteration, () -> sftpServer.countFiles(LoadTestEnvironment.PRINT_USER));
+            run(report, paymentFileJob, iteration, () -> sftpServer.countFiles(LoadTestEnvironment.PAYMENT_USER));
+            run(report, pncBatchJob, iteration, () -> 0L);
+            run(report, amsDashboardGenerateJob, iteration, () -> 0L);
+
+            assertEquals(SIZE, sftpServer.countFiles(LoadTestEnvironment.PRINT_USER),
+                "Every print file should be uploaded");
+            assertEquals(SIZE, sftpServer.countFiles(LoadTestEnvironment.PAYMENT_USER),
+                "Every payment file should be uploaded");
+        }
+        report.write(REPORT_DIRECTORY);
+
+        assertEquals(0.0, meterRegistry.find(JobMetrics.JOB_RESULTS).counters().stream()
+                .filter(counter -> FAILED_STATUSES.contains(counter.getId().getTag(JobMetrics.TAG_STATUS)))
+                .mapToDouble(Counter::count).sum(),
+            "No job should fail");
+    }
+
+    //Jobs are triggered through the real JobServiceImpl, unwrapped from its @Async proxy so the run can be timed
+    private void run(LoadTestReport report, Job job, int iteration, Callable<Long> filesUploaded) throws Exception {
+        String jobName = AopUtils.getTargetClass(job).getSimpleName();
+        JobService synchronousJobService = AopTestUtils.getUltimateTargetObject(jobService);
+        MetaData metaData = new MetaData("LOAD_TEST_" + jobName, (long) iteration, new HashMap<>());
+
+        long startTime = System.nanoTime();
+        synchronousJobService.trigger(job, metaData);
+        report.record(jobName, Duration.ofNanos(System.nanoTime() - startTime), filesUploaded.call());
+    }
+}
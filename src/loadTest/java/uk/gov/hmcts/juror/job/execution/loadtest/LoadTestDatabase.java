@@ -0,0 +1,114 @@
+package uk.gov.hmcts.juror.job.execution.loadtest;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+//A throw away local Postgres holding just enough of juror_mod for the load tested jobs, seeded with a given number of
+//content store files per type, jurors needing a PNC check and dashboard rows
+@Slf4j
+public class LoadTestDatabase implements AutoCloseable {
+    public static final String DATABASE = "postgres";
+    public static final String USERNAME = "postgres";
+    static final int FILE_SIZE = 1024;
+
+    private static final String SEED_CONTENT_STORE_SQL = """
+        insert into juror_mod.content_store (request_id, document_id, file_type, data)
+        select id, 'JURY' || lpad(id::text, 8, '0') || '.0001', 'PRINT', rpad('PRINT ' || id, ?, '*')
+        from generate_series(1, ?) id
+        union all
+        select ? + id, '5_' || lpad(id::text, 13, '0') || '.dat', 'PAYMENT', rpad('PAYMENT ' || id, ?, '*')
+        from generate_series(1, ?) id
+        """;
+    //Every 20th juror is missing a postcode so the insufficient information path is exercised as well
+    private static final String SEED_PNC_CHECKS_SQL = """
+        insert into juror_mod.require_pnc_check
+            (juror_number, police_check, first_name, last_name, date_of_birth, post_code)
+        select lpad(id::text, 9, '0'), null, 'FNAME' || id, 'LNAME' || id, date '1980-01-01' + (id % 9000),
+               case when id % 20 = 0 then null else 'AB1 2CD' end
+        from generate_series(1, ?) id
+        """;
+    private static final String SEED_HISTORY_SQL = """
+        insert into juror_mod.juror_history (juror_number, history_code, user_id, date_created)
+        select lpad(id::text, 9, '0'), case when id % 2 = 0 then 'RDIS' else 'RRES' end, 'SYSTEM',
+               current_date - 1
+        from generate_series(1, ?) id
+        """;
+    private static final String SEED_BULK_PRINT_SQL = """
+        insert into juror_mod.bulk_print_data (juror_no, form_type, creation_date)
+        select lpad(id::text, 9, '0'), tfa.form_type, current_date
+        from generate_series(1, ?) id
+        join (select form_type, row_number() over (order by form_type) - 1 as position
+              from juror_mod.t_form_attr) tfa on tfa.position = id % 20
+        """;
+    private static final String SEED_PAYMENT_DATA_SQL = """
+        insert into juror_mod.payment_data (expense_file_name, expense_total, creation_date)
+        select document_id, 12.50, current_date
+        from juror_mod.content_store
+        where file_type = 'PAYMENT'
+        """;
+    private static final String RESET_CONTENT_STORE_SQL =
+        "update juror_mod.content_store set date_sent = null, failed_file_transfer = null";
+
+    private final EmbeddedPostgres postgres;
+
+    public LoadTestDatabase() throws IOException {
+        this.postgres = EmbeddedPostgres.builder().start();
+        log.info("Postgres listening on port {}", postgres.getPort());
+    }
+
+    public String getJdbcUrl() {
+        return postgres.getJdbcUrl(USERNAME, DATABASE);
+    }
+
+    public void seed(int size) throws IOException, SQLException {
+        try (Connection connection = postgres.getPostgresDatabase().getConnection()) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(readSchema());
+            }
+            execute(connection, SEED_CONTENT_STORE_SQL, FILE_SIZE, size, size, FILE_SIZE, size);
+            execute(connection, SEED_PNC_CHECKS_SQL, size);
+            execute(connection, SEED_HISTORY_SQL, size);
+            execute(connection, SEED_BULK_PRINT_SQL, size);
+            execute(connection, SEED_PAYMENT_DATA_SQL);
+        }
+        log.info("Seeded load test database with {} rows per table", size);
+    }
+
+    //Marks every file as unsent again so each iteration generates and uploads the same number of files
+    public void reset() throws SQLException {
+        try (Connection connection = postgres.getPostgresDatabase().getConnection()) {
+            execute(connection, RESET_CONTENT_STORE_SQL);
+        }
+    }
+
+    private void execute(Connection connection, String sql, Object... arguments) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (int index = 0; index < arguments.length; index++) {
+                statement.setObject(index + 1, arguments[index]);
+            }
+            statement.executeUpdate();
+        }
+    }
+
+    private String readSchema() throws IOException {
+        try (InputStream inputStream = LoadTestDatabase.class.getResourceAsStream("/load-test-schema.sql")) {
+            if (inputStream == null) {
+                throw new IOException("load-test-schema.sql not found on the classpath");
+            }
+            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        postgres.close();
+    }
+}
@@ -0,0 +1,146 @@
+package uk.gov.hmcts.juror.job.execution.loadtest;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.test.context.DynamicPropertyRegistry;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+//Everything the load tested jobs talk to, started locally: Postgres, an SFTP server for the print and payment
+//uploads, stub scheduler/PNC/juror services and a PNC keystore for the AMS dashboard certificate check
+@Slf4j
+@Getter
+public class LoadTestEnvironment implements AutoCloseable {
+    public static final String PRINT_USER = "print";
+    public static final String PAYMENT_USER = "payment";
+    static final String SFTP_PASSWORD = "load-test";
+    static final String KEYSTORE_PASSWORD = "load-test";
+    static final String KEYSTORE_ALIAS = "1";
+
+    private static final String LATEST_PNC_TASK = """
+        {"job_key":"PNC_BATCH","task_id":1,"status":"SUCCESS","created_at":"2026-01-01T00:00:00",
+        "last_updated_at":"2026-01-01T00:00:00","meta_data":{"TOTAL_CHECKS_REQUESTED":"100",
+        "TOTAL_WITH_STATUS_ELIGIBLE":"90","TOTAL_WITH_STATUS_INELIGIBLE":"10"}}
+        """;
+
+    private final Path workingDirectory;
+    private final LoadTestDatabase database;
+    private final EmbeddedSftpServer sftpServer;
+    private final StubHttpServer schedulerService;
+    private final StubHttpServer pncService;
+    private final StubHttpServer jurorService;
+    private final Path keyStore;
+
+    public LoadTestEnvironment(int size, long remoteLatency) throws IOException, SQLException, InterruptedException {
+        this.workingDirectory = Files.createTempDirectory("juror-load-test");
+        log.info("Load test working directory: {}", workingDirectory);
+        this.database = new LoadTestDatabase();
+        this.database.seed(size);
+        this.sftpServer = new EmbeddedSftpServer(Files.createDirectories(workingDirectory.resolve("sftp")),
+            SFTP_PASSWORD, PRINT_USER, PAYMENT_USER);
+        this.schedulerService = new StubHttpServer("Scheduler service", remoteLatency)
+            .respond("PUT", 202, null)
+            .respond("GET", 200, LATEST_PNC_TASK);
+        this.pncService = new StubHttpServer("PNC service", remoteLatency)
+            .respond("POST", 200, null);
+        this.jurorService = new StubHttpServer("Juror service", remoteLatency)
+            .respond("PATCH", 202, null);
+        this.keyStore = createKeyStore(workingDirectory.resolve("pnckeystore"));
+    }
+
+    public void registerProperties(DynamicPropertyRegistry registry) {
+        registry.add("defaults.database.url", database::getJdbcUrl);
+        registry.add("defaults.database.username", () -> LoadTestDatabase.USERNAME);
+        registry.add("defaults.database.password", () -> "");
+
+        registerSftp(registry, "print", PRINT_USER);
+        registerSftp(registry, "payment", PAYMENT_USER);
+
+        registerRemote(registry, "scheduler-service", schedulerService);
+        registerRemote(registry, "police-national-computer-check-service", pncService);
+        registerRemote(registry, "juror-service", jurorService);
+
+        registry.add("jobs.checks.pnc.batch.result-journal-directory",
+            () -> workingDirectory.resolve("pnc_results").toString());
+        registry.add("jobs.dashboard.ams.pnc-certificate-location", keyStore::toString);
+        registry.add("jobs.dashboard.ams.pnc-certificate-password", () -> KEYSTORE_PASSWORD);
+        registry.add("jobs.dashboard.ams.pnc-certificate-alias", () -> KEYSTORE_ALIAS);
+        registry.add("jobs.dashboard.ams.pnc-certificate-base64-encoded", () -> false);
+        registry.add("jobs.dashboard.ams.dashboard-csv-location",
+            () -> workingDirectory.resolve("dashboard.csv").toString());
+
+        //Percentiles are kept for the whole run rather than the default two minute window
+        registry.add("management.metrics.distribution.percentiles.juror.job", () -> "0.5,0.99");
+        registry.add("management.metrics.distribution.expiry.juror.job", () -> "1h");
+        //Per file and per juror logging would otherwise dominate the timings
+        registry.add("logging.level.uk.gov.hmcts.juror.job.execution.jobs", () -> "warn");
+        registry.add("logging.level.uk.gov.hmcts.juror.job.execution.service", () -> "warn");
+        registry.add("logging.level.uk.gov.hmcts.juror.job.execution.client", () -> "warn");
+    }
+
+    //Every file goes back to unsent and the SFTP homes are emptied so each iteration does the same work
+    public void reset() throws IOException, SQLException {
+        database.reset();
+        sftpServer.clear(PRINT_USER);
+        sftpServer.clear(PAYMENT_USER);
+        schedulerService.resetRequestCounts();
+        pncService.resetRequestCounts();
+        jurorService.resetRequestCounts();
+    }
+
+    private void registerSftp(DynamicPropertyRegistry registry, String job, String user) {
+        String prefix = "jobs." + job + ".";
+        registry.add(prefix + "ftp-directory", () -> createDirectory("ftp_" + job));
+        registry.add(prefix + "retry-delay", () -> 1000);
+        registry.add(prefix + "sftp.host", () -> "localhost");
+        registry.add(prefix + "sftp.port", sftpServer::getPort);
+        registry.add(prefix + "sftp.user", () -> user);
+        registry.add(prefix + "sftp.password", () -> SFTP_PASSWORD);
+        registry.add(prefix + "sftp.azure-deployment", () -> false);
+    }
+
+    private void registerRemote(DynamicPropertyRegistry registry, String service, StubHttpServer server) {
+        String prefix = "uk.gov.hmcts.juror.job.execution.remote." + service + ".";
+        registry.add(prefix + "scheme", () -> "http");
+        registry.add(prefix + "host", () -> "localhost");
+        registry.add(prefix + "port", server::getPort);
+    }
+
+    private String createDirectory(String name) {
+        try {
+            return Files.createDirectories(workingDirectory.resolve(name)).toString();
+        } catch (IOException exception) {
+            throw new IllegalStateException("Failed to create " + name, exception);
+        }
+    }
+
+    //keytool is used as the JDK has no public API for creating a self signed certificate
+    private Path createKeyStore(Path location) throws IOException, InterruptedException {
+        Path keytool = Path.of(System.getProperty("java.home"), "bin", "keytool");
+        Process process = new ProcessBuilder(keytool.toString(), "-genkeypair",
+            "-alias", KEYSTORE_ALIAS, "-keyalg", "RSA", "-keysize", "2048", "-validity", "365",
+            "-dname", "CN=juror-load-test", "-storetype", "PKCS12",
+            "-keystore", location.toString(), "-storepass", KEYSTORE_PASSWORD)
+            .redirectErrorStream(true)
+            .start();
+        String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+        if (!process.waitFor(1, TimeUnit.MINUTES) || process.exitValue() != 0) {
+            throw new IOException("Failed to create PNC keystore: " + output);
+        }
+        return location;
+    }
+
+    @Override
+    public void close() throws IOException {
+        schedulerService.close();
+        pncService.close();
+        jurorService.close();
+        sftpServer.close();
+        database.close();
+    }
+}
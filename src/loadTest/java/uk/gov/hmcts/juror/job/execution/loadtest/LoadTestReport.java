@@ -0,0 +1,115 @@
+package uk.gov.hmcts.juror.job.execution.loadtest;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import lombok.extern.slf4j.Slf4j;
+import uk.gov.hmcts.juror.job.execution.jobs.JobMetrics;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+//Throughput is worked out from the wall clock time of each job run, latency percentiles come from the job and step
+//timers JobMetrics already records
+@Slf4j
+public class LoadTestReport {
+    static final String REPORT_FILE = "load-test-report.txt";
+    private static final double PERCENTILE = 0.99;
+
+    private final int size;
+    private final int iterations;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, JobRuns> jobRuns;
+
+    public LoadTestReport(int size, int iterations, MeterRegistry meterRegistry) {
+        this.size = size;
+        this.iterations = iterations;
+        this.meterRegistry = meterRegistry;
+        this.jobRuns = new LinkedHashMap<>();
+    }
+
+    public void record(String jobName, Duration duration, long files) {
+        JobRuns runs = jobRuns.computeIfAbsent(jobName, name -> new JobRuns());
+        runs.count++;
+        runs.nanos += duration.toNanos();
+        runs.files += files;
+    }
+
+    public String render() {
+        StringBuilder report = new StringBuilder(1024);
+        report.append(String.format(Locale.ROOT, "Load test: %d rows, %d iterations%n%n", size, iterations))
+            .append(String.format(Locale.ROOT, "%-26s %6s %10s %10s %10s %12s %13s%n",
+                "Job", "Runs", "Mean (ms)", "Jobs/sec", "Files/sec", "p99 job (ms)", "p99 step (ms)"));
+
+        long totalRuns = 0;
+        long totalNanos = 0;
+        for (Map.Entry<String, JobRuns> entry : jobRuns.entrySet()) {
+            JobRuns runs = entry.getValue();
+            totalRuns += runs.count;
+            totalNanos += runs.nanos;
+            double seconds = runs.nanos / 1e9;
+            report.append(String.format(Locale.ROOT, "%-26s %6d %10.1f %10.2f %10.1f %12.1f %13.1f%n",
+                entry.getKey(), runs.count, runs.nanos / 1e6 / runs.count, runs.count / seconds,
+                runs.files / seconds,
+                getPercentile(getTimers(JobMetrics.JOB_DURATION, entry.getKey())),
+                getPercentile(getTimers(JobMetrics.STEP_DURATION, entry.getKey()))));
+        }
+        report.append(String.format(Locale.ROOT, "%nTotal: %d runs, %.2f jobs/sec%n%nStep p99 (ms)%n",
+            totalRuns, totalNanos == 0 ? 0 : totalRuns / (totalNanos / 1e9)));
+
+        meterRegistry.find(JobMetrics.STEP_DURATION).timers().stream()
+            .sorted(Comparator.comparing(LoadTestReport::getJobName)
+                .thenComparing(timer -> timer.getId().getTag(JobMetrics.TAG_STEP)))
+            .forEach(timer -> report.append(String.format(Locale.ROOT, "  %-26s step %-14s %-12s %8.1f%n",
+                getJobName(timer), timer.getId().getTag(JobMetrics.TAG_STEP),
+                timer.getId().getTag(JobMetrics.TAG_STATUS), getPercentile(List.of(timer)))));
+        return report.toString();
+    }
+
+    public Path write(Path directory) throws IOException {
+        String report = render();
+        log.info("\n{}", report);
+        Files.createDirectories(directory);
+        return Files.writeString(directory.resolve(REPORT_FILE), report, StandardCharsets.UTF_8);
+    }
+
+    private Collection<Timer> getTimers(String name, String jobName) {
+        return meterRegistry.find(name).timers().stream()
+            .filter(timer -> jobName.equals(getJobName(timer)))
+            .toList();
+    }
+
+    //The highest p99 across the matching timers, jobs run through a Spring proxy are tagged with the proxy class name
+    private double getPercentile(Collection<Timer> timers) {
+        double highest = 0;
+        for (Timer timer : timers) {
+            for (ValueAtPercentile valueAtPercentile : timer.takeSnapshot().percentileValues()) {
+                if (valueAtPercentile.percentile() == PERCENTILE) {
+                    highest = Math.max(highest, valueAtPercentile.value(TimeUnit.MILLISECONDS));
+                }
+            }
+        }
+        return highest;
+    }
+
+    static String getJobName(Timer timer) {
+        String jobName = timer.getId().getTag(JobMetrics.TAG_JOB);
+        return jobName == null ? JobMetrics.NO_JOB : jobName.replaceAll("\\$\\$.*", "");
+    }
+
+    private static final class JobRuns {
+        private long count;
+        private long nanos;
+        private long files;
+    }
+}
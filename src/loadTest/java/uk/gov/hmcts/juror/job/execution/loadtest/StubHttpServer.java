@@ -0,0 +1,92 @@
+package uk.gov.hmcts.juror.job.execution.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+//Stands in for a remote service by answering each HTTP method with a fixed status and body after an optional delay
+@Slf4j
+@SuppressWarnings("PMD.DoNotUseThreads")
+public class StubHttpServer implements AutoCloseable {
+    private final String name;
+    private final HttpServer server;
+    private final long latency;
+    private final Map<String, StubResponse> responses;
+    private final Map<String, AtomicLong> requestCounts;
+
+    public StubHttpServer(String name, long latency) throws IOException {
+        this.name = name;
+        this.latency = latency;
+        this.responses = new ConcurrentHashMap<>();
+        this.requestCounts = new ConcurrentHashMap<>();
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        this.server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        this.server.createContext("/", this::handle);
+        this.server.start();
+        log.info("{} stub listening on port {}", name, getPort());
+    }
+
+    public StubHttpServer respond(String method, int status, String body) {
+        responses.put(method, new StubResponse(status, body));
+        return this;
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    public long getRequestCount(String method) {
+        AtomicLong count = requestCounts.get(method);
+        return count == null ? 0 : count.get();
+    }
+
+    public void resetRequestCounts() {
+        requestCounts.clear();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange; InputStream requestBody = exchange.getRequestBody()) {
+            requestBody.transferTo(OutputStream.nullOutputStream());
+            requestCounts.computeIfAbsent(exchange.getRequestMethod(), method -> new AtomicLong()).incrementAndGet();
+            if (latency > 0) {
+                Thread.sleep(latency);
+            }
+            StubResponse response = responses.get(exchange.getRequestMethod());
+            if (response == null) {
+                log.warn("{} stub has no response for {} {}", name, exchange.getRequestMethod(),
+                    exchange.getRequestURI());
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+            byte[] body = response.body() == null ? new byte[0] : response.body().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(response.status(), body.length == 0 ? -1 : body.length);
+            if (body.length > 0) {
+                try (OutputStream responseBody = exchange.getResponseBody()) {
+                    responseBody.write(body);
+                }
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private record StubResponse(int status, String body) {
+    }
+}
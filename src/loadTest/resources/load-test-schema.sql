@@ -0,0 +1,80 @@
+-- Only the tables, columns and routines the load tested jobs touch. Not a copy of the juror_mod schema
+create schema if not exists juror_mod;
+
+create table juror_mod.content_store
+(
+    request_id           bigint primary key,
+    document_id          varchar(50)  not null,
+    file_type            varchar(20)  not null,
+    data                 text,
+    date_on_q_for_send   timestamp    not null default now(),
+    date_sent            timestamp,
+    failed_file_transfer boolean
+);
+create index content_store_file_type_idx on juror_mod.content_store (file_type, date_sent);
+
+-- Content is seeded up front so the procedures that move pending letters/payments into the content store are no-ops
+create procedure juror_mod.printfiles_to_clob(p_limit integer)
+    language plpgsql as
+$$
+begin
+    null;
+end;
+$$;
+
+create procedure juror_mod.payment_files_to_clob()
+    language plpgsql as
+$$
+begin
+    null;
+end;
+$$;
+
+create table juror_mod.require_pnc_check
+(
+    juror_number  varchar(9) primary key,
+    police_check  varchar(50),
+    first_name    varchar(20),
+    middle_name   varchar(20),
+    last_name     varchar(20),
+    date_of_birth date,
+    post_code     varchar(10)
+);
+create view juror_mod.require_pnc_check_view as
+select juror_number, police_check, first_name, middle_name, last_name, date_of_birth, post_code
+from juror_mod.require_pnc_check;
+
+create table juror_mod.juror_history
+(
+    juror_number varchar(9),
+    history_code varchar(4),
+    user_id      varchar(30),
+    date_created timestamp
+);
+
+create table juror_mod.t_form_attr
+(
+    form_type varchar(6) primary key,
+    dir_name  varchar(20)
+);
+
+create table juror_mod.bulk_print_data
+(
+    juror_no      varchar(9),
+    form_type     varchar(6),
+    creation_date date
+);
+
+create table juror_mod.payment_data
+(
+    expense_file_name varchar(50),
+    expense_total     numeric(10, 2),
+    creation_date     date
+);
+
+insert into juror_mod.t_form_attr (form_type, dir_name)
+values ('5221', 'SUMMONS'), ('5221C', 'SUMMONS'), ('5224', 'WITHDRAWAL'), ('5224A', 'CONFIRMATION'),
+       ('5224AC', 'CONFIRMATION'), ('5224C', 'WITHDRAWAL'), ('5225', 'EXCUSAL'), ('5225C', 'EXCUSAL'),
+       ('5226', 'NON-EXCUSAL'), ('5226A', 'NON-DEFER'), ('5226AC', 'NON-DEFER'), ('5226C', 'NON-EXCUSAL'),
+       ('5227', 'REQUEST'), ('5227C', 'REQUEST'), ('5228', 'NON-RESPONDED'), ('5228C', 'NON-RESPONDED'),
+       ('5229', 'POSTPONE'), ('5229A', 'DEFERRED'), ('5229AC', 'DEFERRED'), ('5229C', 'POSTPONE');
@@ -62,4 +62,14 @@ public class JobController {
         this.pncBatchJob.updateResult(payload, jobKey, taskId);
         return ResponseEntity.accepted().build();
     }
+
+    @PutMapping("/{jobKey}/{taskId}/cancel")
+    @PreAuthorize("hasAuthority('" + PermissionConstants.CANCEL + "')")
+    public ResponseEntity<Void> cancelJob(
+        @PathVariable("jobKey") String jobKey,
+        @PathVariable("taskId") Long taskId
+    ) {
+        this.jobService.cancel(jobKey, taskId);
+        return ResponseEntity.accepted().build();
+    }
 }
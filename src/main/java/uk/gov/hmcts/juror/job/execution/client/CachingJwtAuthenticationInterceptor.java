@@ -0,0 +1,87 @@
+package uk.gov.hmcts.juror.job.execution.client;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+//Reuses the Authorization header the wrapped (signing) interceptor produces until the token is about to expire. The
+//expiry is read from the token's own exp claim so the cache follows whatever token-validity the client is configured
+//with. Tokens without an exp claim, or that would need refreshing straight away, are never cached
+@Slf4j
+public class CachingJwtAuthenticationInterceptor implements ClientHttpRequestInterceptor {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final ClientHttpRequestInterceptor delegate;
+    private final long refreshAhead;
+    private final Clock clock;
+    private volatile CachedToken cachedToken;
+
+    public CachingJwtAuthenticationInterceptor(ClientHttpRequestInterceptor delegate, long refreshAhead) {
+        this(delegate, refreshAhead, Clock.systemUTC());
+    }
+
+    CachingJwtAuthenticationInterceptor(ClientHttpRequestInterceptor delegate, long refreshAhead, Clock clock) {
+        this.delegate = delegate;
+        this.refreshAhead = refreshAhead;
+        this.clock = clock;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+        throws IOException {
+        CachedToken token = cachedToken;
+        if (token != null && clock.millis() < token.refreshAt()) {
+            request.getHeaders().set(HttpHeaders.AUTHORIZATION, token.authorization());
+            return execution.execute(request, body);
+        }
+        //The request goes through the signing interceptor and the header it sets is kept for the following requests
+        return delegate.intercept(request, body, (signedRequest, signedBody) -> {
+            cache(signedRequest.getHeaders().getFirst(HttpHeaders.AUTHORIZATION));
+            return execution.execute(signedRequest, signedBody);
+        });
+    }
+
+    private void cache(String authorization) {
+        Long expiresAt = getExpiresAt(authorization);
+        if (expiresAt == null) {
+            cachedToken = null;
+            return;
+        }
+        long refreshAt = expiresAt - refreshAhead;
+        cachedToken = refreshAt > clock.millis() ? new CachedToken(authorization, refreshAt) : null;
+    }
+
+    //Returns the exp claim in ms, the header is "<prefix><header>.<payload>.<signature>"
+    static Long getExpiresAt(String authorization) {
+        if (authorization == null) {
+            return null;
+        }
+        String[] parts = authorization.substring(authorization.lastIndexOf(' ') + 1).split("\\.");
+        if (parts.length != 3) {
+            return null;
+        }
+        try {
+            JsonNode payload = OBJECT_MAPPER.readTree(
+                new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8));
+            JsonNode exp = payload.get("exp");
+            return exp == null || !exp.canConvertToLong() ? null : TimeUnit.SECONDS.toMillis(exp.asLong());
+        } catch (IOException | IllegalArgumentException exception) {
+            log.warn("Unable to read the expiry of the authentication token, it will not be cached", exception);
+            return null;
+        }
+    }
+
+    private record CachedToken(String authorization, long refreshAt) {
+    }
+}
@@ -0,0 +1,99 @@
+package uk.gov.hmcts.juror.job.execution.client;
+
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+//The JDK HttpClient opens a new connection for every concurrent request with no limit of its own, so WebClient
+//requests wait here for one of maxConnections permits instead. A permit is held until the response body has been
+//consumed or released, which is when the connection goes back to the client's keep-alive pool
+public class ConnectionLimitExchangeFilter implements ExchangeFilterFunction {
+
+    private final Queue<Waiter> waiting;
+    private int available;
+
+    public ConnectionLimitExchangeFilter(int maxConnections) {
+        this.waiting = new ArrayDeque<>();
+        this.available = Math.max(1, maxConnections);
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        return acquire().flatMap(permit -> next.exchange(request)
+            .map(response -> response.mutate()
+                .body(body -> body.doFinally(signal -> permit.release()))
+                .build())
+            .doOnError(throwable -> permit.release())
+            .doOnCancel(permit::release));
+    }
+
+    Mono<Permit> acquire() {
+        return Mono.create(sink -> {
+            Permit permit = new Permit();
+            Waiter waiter = new Waiter(sink, permit);
+            boolean acquired;
+            synchronized (this) {
+                acquired = available > 0;
+                if (acquired) {
+                    available--;
+                } else {
+                    waiting.add(waiter);
+                }
+            }
+            if (acquired) {
+                sink.success(permit);
+                return;
+            }
+            sink.onCancel(() -> {
+                boolean removed;
+                synchronized (this) {
+                    removed = waiting.remove(waiter);
+                }
+                //Already handed the permit, which the cancelled request will never release itself
+                if (!removed) {
+                    permit.release();
+                }
+            });
+        });
+    }
+
+    private void release() {
+        Waiter next;
+        synchronized (this) {
+            next = waiting.poll();
+            if (next == null) {
+                available++;
+                return;
+            }
+        }
+        next.sink().success(next.permit());
+    }
+
+    synchronized int getAvailable() {
+        return available;
+    }
+
+    synchronized int getWaiting() {
+        return waiting.size();
+    }
+
+    final class Permit {
+        private final AtomicBoolean released = new AtomicBoolean(false);
+
+        void release() {
+            if (released.compareAndSet(false, true)) {
+                ConnectionLimitExchangeFilter.this.release();
+            }
+        }
+    }
+
+    private record Waiter(MonoSink<Permit> sink, Permit permit) {
+    }
+}
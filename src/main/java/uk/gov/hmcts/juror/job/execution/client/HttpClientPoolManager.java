@@ -0,0 +1,126 @@
+package uk.gov.hmcts.juror.job.execution.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.ssl.DefaultClientTlsStrategy;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.ssl.SSLContexts;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.juror.job.execution.config.HttpClientConfig;
+import uk.gov.hmcts.juror.job.execution.config.RemoteConfig;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.net.ssl.SSLContext;
+
+//One pooled, keep-alive HttpClient per remote service so repeated calls (e.g. a PNC run calling the juror service
+//for every juror) reuse open connections. All pools share an SSLContext so TLS sessions are resumed rather than
+//renegotiated when a new connection is needed
+@Component
+@Slf4j
+public class HttpClientPoolManager {
+
+    final Map<String, PooledHttpClient> httpClients;
+    private final MeterRegistry meterRegistry;
+    private final SSLContext sslContext;
+
+    @Autowired
+    public HttpClientPoolManager(ObjectProvider<MeterRegistry> meterRegistry) {
+        this(meterRegistry.getIfAvailable());
+    }
+
+    HttpClientPoolManager(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.httpClients = new ConcurrentHashMap<>();
+        this.sslContext = SSLContexts.createSystemDefault();
+    }
+
+    public ClientHttpRequestFactory getRequestFactory(String service, RemoteConfig config) {
+        return new HttpComponentsClientHttpRequestFactory(getHttpClient(service, config).httpClient());
+    }
+
+    PooledHttpClient getHttpClient(String service, RemoteConfig config) {
+        //Pool settings are taken from the first config seen for that service
+        return httpClients.computeIfAbsent(service, key -> createHttpClient(key, config));
+    }
+
+    PooledHttpClient createHttpClient(String service, RemoteConfig config) {
+        HttpClientConfig httpClientConfig = config.getHttpClient();
+        int maxConnectionsPerRoute = httpClientConfig.getMaxConnectionsPerRoute(service);
+        int maxConnectionsTotal = httpClientConfig.getMaxConnectionsTotal(service);
+        log.info("Creating http connection pool for {} with {} connections per route and {} in total", service,
+            maxConnectionsPerRoute, maxConnectionsTotal);
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+            .setTlsSocketStrategy(new DefaultClientTlsStrategy(sslContext))
+            .setMaxConnPerRoute(maxConnectionsPerRoute)
+            .setMaxConnTotal(maxConnectionsTotal)
+            .setDefaultConnectionConfig(createConnectionConfig(config))
+            .build();
+        if (meterRegistry != null) {
+            new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, service).bindTo(meterRegistry);
+        }
+
+        HttpClientBuilder httpClientBuilder = HttpClients.custom()
+            .setConnectionManager(connectionManager)
+            .setDefaultRequestConfig(createRequestConfig(httpClientConfig))
+            //Requests are authenticated per call with a JWT so connections are not tied to a user and can be reused
+            .disableConnectionState()
+            .evictExpiredConnections();
+        if (httpClientConfig.getIdleEvictionTimeout() > 0) {
+            httpClientBuilder.evictIdleConnections(TimeValue.ofMilliseconds(httpClientConfig.getIdleEvictionTimeout()));
+        }
+        return new PooledHttpClient(httpClientBuilder.build(), connectionManager);
+    }
+
+    ConnectionConfig createConnectionConfig(RemoteConfig config) {
+        HttpClientConfig httpClientConfig = config.getHttpClient();
+        ConnectionConfig.Builder builder = ConnectionConfig.custom()
+            .setValidateAfterInactivity(TimeValue.ofMilliseconds(httpClientConfig.getValidateAfterInactivity()));
+        if (httpClientConfig.getTimeToLive() > 0) {
+            builder.setTimeToLive(TimeValue.ofMilliseconds(httpClientConfig.getTimeToLive()));
+        }
+        if (config.getConnectTimeout() > 0) {
+            builder.setConnectTimeout(Timeout.ofMilliseconds(config.getConnectTimeout()));
+        }
+        if (config.getReadTimeout() > 0) {
+            builder.setSocketTimeout(Timeout.ofMilliseconds(config.getReadTimeout()));
+        }
+        return builder.build();
+    }
+
+    RequestConfig createRequestConfig(HttpClientConfig httpClientConfig) {
+        RequestConfig.Builder builder = RequestConfig.custom();
+        if (httpClientConfig.getConnectionRequestTimeout() > 0) {
+            builder.setConnectionRequestTimeout(Timeout.ofMilliseconds(
+                httpClientConfig.getConnectionRequestTimeout()));
+        }
+        return builder.build();
+    }
+
+    @PreDestroy
+    public void close() {
+        httpClients.forEach((service, pooledHttpClient) -> {
+            log.info("Closing http connection pool for {}", service);
+            pooledHttpClient.httpClient().close(CloseMode.GRACEFUL);
+        });
+        httpClients.clear();
+    }
+
+    record PooledHttpClient(CloseableHttpClient httpClient, PoolingHttpClientConnectionManager connectionManager) {
+    }
+}
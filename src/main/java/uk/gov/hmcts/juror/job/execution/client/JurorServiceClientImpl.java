@@ -3,6 +3,7 @@ package uk.gov.hmcts.juror.job.execution.client;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpMethod;
@@ -16,11 +17,28 @@ import uk.gov.hmcts.juror.standard.client.contract.ClientType;
 import uk.gov.hmcts.juror.standard.service.exceptions.InternalServerException;
 import uk.gov.hmcts.juror.standard.service.exceptions.RemoteGatewayException;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
 @Slf4j
 @Component
+@ConditionalOnProperty(prefix = "uk.gov.hmcts.juror.job.execution.remote.web-client", name = "enabled",
+    havingValue = "false", matchIfMissing = true)
+@SuppressWarnings("PMD.DoNotUseThreads")
 public class JurorServiceClientImpl extends AbstractRemoteRestClient implements JurorServiceClient {
 
     private final String url;
+    private final int bulkConcurrency;
+
+    protected JurorServiceClientImpl(RestTemplateBuilder restTemplateBuilder, String scheme, String host,
+                                     String port, String url) {
+        this(restTemplateBuilder, scheme, host, port, url, 1);
+    }
 
     @Autowired
     protected JurorServiceClientImpl(
@@ -28,10 +46,12 @@ public class JurorServiceClientImpl extends AbstractRemoteRestClient implements
         @Value("${uk.gov.hmcts.juror.job.execution.remote.juror-service.scheme}") String scheme,
         @Value("${uk.gov.hmcts.juror.job.execution.remote.juror-service.host}") String host,
         @Value("${uk.gov.hmcts.juror.job.execution.remote.juror-service.port}") String port,
-        @Value("${uk.gov.hmcts.juror.job.execution.remote.juror-service.url}") String url) {
+        @Value("${uk.gov.hmcts.juror.job.execution.remote.juror-service.url}") String url,
+        @Value("${uk.gov.hmcts.juror.job.execution.remote.juror-service.bulk-concurrency:1}") int bulkConcurrency) {
         super(restTemplateBuilder);
         String urlPrefix = scheme + "://" + host + ":" + port;
         this.url = urlPrefix + url;
+        this.bulkConcurrency = bulkConcurrency;
     }
 
     @Override
@@ -53,4 +73,51 @@ public class JurorServiceClientImpl extends AbstractRemoteRestClient implements
         }
         log.debug("Successfully updated juror: " + jurorNumber + " pnc check result on juror service backend");
     }
+
+    //The juror service only accepts one juror per request so bulk updates are spread over a bounded pool instead
+    @Override
+    public List<StatusUpdate> updateAll(List<StatusUpdate> statusUpdates) {
+        int concurrency = getConcurrency(statusUpdates.size());
+        if (concurrency == 1) {
+            return JurorServiceClient.super.updateAll(statusUpdates);
+        }
+        log.info("Updating pnc status of {} jurors with a concurrency of {}", statusUpdates.size(), concurrency);
+        List<Future<Boolean>> futures = new ArrayList<>(statusUpdates.size());
+        List<StatusUpdate> failedUpdates = new ArrayList<>();
+        try (ExecutorService executorService = Executors.newFixedThreadPool(concurrency, createThreadFactory())) {
+            for (StatusUpdate statusUpdate : statusUpdates) {
+                futures.add(executorService.submit(() -> statusUpdate.apply(this)));
+            }
+            for (int index = 0; index < futures.size(); index++) {
+                if (!Boolean.TRUE.equals(getUpdateResult(futures.get(index)))) {
+                    failedUpdates.add(statusUpdates.get(index));
+                }
+            }
+        }
+        return failedUpdates;
+    }
+
+    int getConcurrency(int updateCount) {
+        return Math.max(1, Math.min(bulkConcurrency, updateCount));
+    }
+
+    private Boolean getUpdateResult(Future<Boolean> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException exception) {
+            log.error("Interrupted while waiting for juror pnc status update", exception);
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            return false;
+        } catch (ExecutionException exception) {
+            log.error("Unexpected error when updating juror pnc status", exception);
+            return false;
+        }
+    }
+
+    private ThreadFactory createThreadFactory() {
+        return Thread.currentThread().isVirtual()
+            ? Thread.ofVirtual().name("juror-service-update-", 1).factory()
+            : Thread.ofPlatform().name("juror-service-update-", 1).daemon(true).factory();
+    }
 }
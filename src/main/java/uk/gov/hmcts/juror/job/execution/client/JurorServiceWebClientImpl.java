@@ -0,0 +1,79 @@
+package uk.gov.hmcts.juror.job.execution.client;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import uk.gov.hmcts.juror.job.execution.client.contracts.JurorServiceClient;
+import uk.gov.hmcts.juror.job.execution.config.RemoteConfig;
+import uk.gov.hmcts.juror.standard.client.contract.ClientType;
+import uk.gov.hmcts.juror.standard.service.exceptions.InternalServerException;
+import uk.gov.hmcts.juror.standard.service.exceptions.RemoteGatewayException;
+
+import java.util.List;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "uk.gov.hmcts.juror.job.execution.remote.web-client", name = "enabled",
+    havingValue = "true")
+public class JurorServiceWebClientImpl implements JurorServiceClient {
+
+    private final WebClient webClient;
+    private final String url;
+    private final int maxRequestsInFlight;
+
+    public JurorServiceWebClientImpl(
+        @ClientType("JurorService") WebClient webClient,
+        RemoteConfig config,
+        @Value("${uk.gov.hmcts.juror.job.execution.remote.juror-service.url}") String url) {
+        this.webClient = webClient;
+        this.url = url;
+        this.maxRequestsInFlight = Math.max(1, config.getWebClient().getMaxRequestsInFlight());
+    }
+
+    @Override
+    public void call(String jurorNumber, Payload payload) {
+        update(jurorNumber, payload).block();
+    }
+
+    //Updates are fanned out with at most maxRequestsInFlight outstanding, further updates are only requested from
+    //the list as responses arrive. Failed updates are returned in their original order
+    @Override
+    public List<StatusUpdate> updateAll(List<StatusUpdate> statusUpdates) {
+        log.info("Updating pnc status of {} jurors with up to {} requests in flight", statusUpdates.size(),
+            maxRequestsInFlight);
+        return Flux.fromIterable(statusUpdates)
+            .flatMapSequential(statusUpdate -> update(statusUpdate.jurorNumber(), statusUpdate.payload())
+                    .then(Mono.<StatusUpdate>empty())
+                    .onErrorResume(exception -> Mono.just(statusUpdate)),
+                maxRequestsInFlight)
+            .collectList()
+            .block();
+    }
+
+    Mono<Void> update(String jurorNumber, Payload payload) {
+        return Mono.defer(() -> {
+            log.debug("Updating juror: " + jurorNumber + " pnc check result on juror service backend");
+            return webClient.patch()
+                .uri(url, jurorNumber)
+                .bodyValue(payload)
+                .exchangeToMono(ClientResponse::toBodilessEntity);
+        }).onErrorMap(throwable -> {
+            String message = "Failed to update juror pnc status";
+            log.error(message, throwable);
+            return new InternalServerException(message, throwable);
+        }).flatMap(response -> {
+            if (!response.getStatusCode().equals(HttpStatus.ACCEPTED)) {
+                return Mono.<Void>error(new RemoteGatewayException(
+                    "Call to JurorServiceClient failed status code was: " + response.getStatusCode()));
+            }
+            log.debug("Successfully updated juror: " + jurorNumber + " pnc check result on juror service backend");
+            return Mono.empty();
+        });
+    }
+}
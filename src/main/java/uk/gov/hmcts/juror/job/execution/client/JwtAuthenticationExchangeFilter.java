@@ -0,0 +1,97 @@
+package uk.gov.hmcts.juror.job.execution.client;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.concurrent.atomic.AtomicReference;
+
+//Signs WebClient requests with the same (optionally caching) interceptor the RestTemplate clients use. The
+//interceptor is run against a stand in request so the Authorization header it sets can be copied onto the real one
+public class JwtAuthenticationExchangeFilter implements ExchangeFilterFunction {
+    private static final byte[] NO_BODY = new byte[0];
+
+    private final ClientHttpRequestInterceptor interceptor;
+
+    public JwtAuthenticationExchangeFilter(ClientHttpRequestInterceptor interceptor) {
+        this.interceptor = interceptor;
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        return Mono.fromCallable(() -> getAuthorization(request.method(), request.url()))
+            .flatMap(authorization -> next.exchange(ClientRequest.from(request)
+                .headers(headers -> headers.set(HttpHeaders.AUTHORIZATION, authorization))
+                .build()));
+    }
+
+    String getAuthorization(HttpMethod method, URI uri) throws IOException {
+        HttpHeaders headers = new HttpHeaders();
+        HttpRequest signingRequest = new HttpRequest() {
+            @Override
+            public HttpMethod getMethod() {
+                return method;
+            }
+
+            @Override
+            public URI getURI() {
+                return uri;
+            }
+
+            @Override
+            public HttpHeaders getHeaders() {
+                return headers;
+            }
+        };
+        AtomicReference<String> authorization = new AtomicReference<>();
+        try (ClientHttpResponse ignored = interceptor.intercept(signingRequest, NO_BODY, (signedRequest, body) -> {
+            authorization.set(signedRequest.getHeaders().getFirst(HttpHeaders.AUTHORIZATION));
+            return new NoContentResponse();
+        })) {
+            if (authorization.get() == null) {
+                throw new IOException("Authentication interceptor did not set an Authorization header");
+            }
+            return authorization.get();
+        }
+    }
+
+    private static final class NoContentResponse implements ClientHttpResponse {
+        @Override
+        public HttpStatusCode getStatusCode() {
+            return HttpStatus.NO_CONTENT;
+        }
+
+        @Override
+        public String getStatusText() {
+            return HttpStatus.NO_CONTENT.getReasonPhrase();
+        }
+
+        @Override
+        public void close() {
+            //Nothing to release
+        }
+
+        @Override
+        public InputStream getBody() {
+            return new ByteArrayInputStream(NO_BODY);
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return new HttpHeaders();
+        }
+    }
+}
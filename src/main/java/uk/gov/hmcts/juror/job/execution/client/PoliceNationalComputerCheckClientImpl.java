@@ -2,6 +2,7 @@ package uk.gov.hmcts.juror.job.execution.client;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpMethod;
@@ -17,6 +18,8 @@ import uk.gov.hmcts.juror.standard.service.exceptions.RemoteGatewayException;
 
 @Slf4j
 @Component
+@ConditionalOnProperty(prefix = "uk.gov.hmcts.juror.job.execution.remote.web-client", name = "enabled",
+    havingValue = "false", matchIfMissing = true)
 public class PoliceNationalComputerCheckClientImpl extends AbstractRemoteRestClient
     implements PoliceNationalCheckServiceClient {
     private final String bulkUpdateUrl;
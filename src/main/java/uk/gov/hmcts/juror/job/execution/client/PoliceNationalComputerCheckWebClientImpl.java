@@ -0,0 +1,65 @@
+package uk.gov.hmcts.juror.job.execution.client;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import uk.gov.hmcts.juror.job.execution.client.contracts.PoliceNationalCheckServiceClient;
+import uk.gov.hmcts.juror.standard.client.contract.ClientType;
+import uk.gov.hmcts.juror.standard.service.exceptions.InternalServerException;
+import uk.gov.hmcts.juror.standard.service.exceptions.RemoteGatewayException;
+
+import java.util.concurrent.CompletableFuture;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "uk.gov.hmcts.juror.job.execution.remote.web-client", name = "enabled",
+    havingValue = "true")
+public class PoliceNationalComputerCheckWebClientImpl implements PoliceNationalCheckServiceClient {
+    private final WebClient webClient;
+    private final String bulkUpdateUrl;
+
+    public PoliceNationalComputerCheckWebClientImpl(
+        @ClientType("PoliceNationalCheckService") WebClient webClient,
+        @Value("${uk.gov.hmcts.juror.job.execution.remote.police-national-computer-check-service.url}")
+        String bulkUpdateUrl) {
+        this.webClient = webClient;
+        this.bulkUpdateUrl = bulkUpdateUrl;
+    }
+
+    @Override
+    public void checkJurors(JurorCheckRequestBulk jurorCheckRequestBulk) {
+        send(jurorCheckRequestBulk).block();
+    }
+
+    @Override
+    public CompletableFuture<Void> checkJurorsAsync(JurorCheckRequestBulk jurorCheckRequestBulk) {
+        return send(jurorCheckRequestBulk).toFuture();
+    }
+
+    @Override
+    public boolean isNonBlocking() {
+        return true;
+    }
+
+    Mono<Void> send(JurorCheckRequestBulk jurorCheckRequestBulk) {
+        return webClient.post()
+            .uri(bulkUpdateUrl)
+            .bodyValue(jurorCheckRequestBulk)
+            .exchangeToMono(ClientResponse::toBodilessEntity)
+            .onErrorMap(throwable -> {
+                String message = "Failed to run bulk juror pnc checks";
+                log.error(message, throwable);
+                return new InternalServerException(message, throwable);
+            })
+            .flatMap(response -> response.getStatusCode().equals(HttpStatus.OK)
+                ? Mono.<Void>empty()
+                : Mono.<Void>error(new RemoteGatewayException(
+                "Call to PoliceNationalCheckServiceClientImpl check bulk jurors failed status code was: "
+                    + response.getStatusCode())));
+    }
+}
@@ -3,6 +3,7 @@ package uk.gov.hmcts.juror.job.execution.client;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.logging.log4j.util.Strings;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpMethod;
@@ -22,6 +23,8 @@ import static uk.gov.hmcts.juror.job.execution.jobs.dashboard.ams.data.Timestamp
 
 @Slf4j
 @Component
+@ConditionalOnProperty(prefix = "uk.gov.hmcts.juror.job.execution.remote.web-client", name = "enabled",
+    havingValue = "false", matchIfMissing = true)
 public class SchedulerServiceClientImpl extends AbstractRemoteRestClient implements SchedulerServiceClient {
 
     private final String updateStatusUrl;
@@ -0,0 +1,163 @@
+package uk.gov.hmcts.juror.job.execution.client;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.logging.log4j.util.Strings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import uk.gov.hmcts.juror.job.execution.client.contracts.SchedulerServiceClient;
+import uk.gov.hmcts.juror.standard.client.contract.ClientType;
+import uk.gov.hmcts.juror.standard.service.exceptions.InternalServerException;
+import uk.gov.hmcts.juror.standard.service.exceptions.RemoteGatewayException;
+
+import java.time.LocalDateTime;
+
+import static uk.gov.hmcts.juror.job.execution.jobs.dashboard.ams.data.Timestamps.DATE_TIME_FORMATTER;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "uk.gov.hmcts.juror.job.execution.remote.web-client", name = "enabled",
+    havingValue = "true")
+public class SchedulerServiceWebClientImpl implements SchedulerServiceClient {
+
+    private final WebClient webClient;
+    private final String updateStatusUrl;
+    private final String getLatestStatusUrl;
+    private final String getStatusUrl;
+
+    public SchedulerServiceWebClientImpl(
+        @ClientType("SchedulerService") WebClient webClient,
+        @Value("${uk.gov.hmcts.juror.job.execution.remote.scheduler-service-update-status-url}") String updateStatusUrl,
+        @Value("${uk.gov.hmcts.juror.job.execution.remote.scheduler-service-get-latest-status-url}")
+        String getLatestStatusUrl,
+        @Value("${uk.gov.hmcts.juror.job.execution.remote.scheduler-service-get-status-url}") String getStatusUrl
+    ) {
+        //Urls are relative to the base url of the web client
+        this.webClient = webClient;
+        this.updateStatusUrl = updateStatusUrl;
+        this.getLatestStatusUrl = getLatestStatusUrl;
+        this.getStatusUrl = getStatusUrl;
+    }
+
+    @Override
+    public void updateStatus(String jobKey, Long taskId, StatusUpdatePayload payload) {
+        ResponseEntity<Void> response;
+        try {
+            log.info(
+                "[JobKey: {}]\n[{}]\nTaskId: {},\nstatus={},\nmessage={},\nmetadata={}",
+                jobKey,
+                DATE_TIME_FORMATTER.format(LocalDateTime.now()),
+                taskId,
+                payload.getStatus(),
+                payload.getMessage(),
+                payload.getMetaData()
+            );
+            if (Strings.isBlank(jobKey) || taskId == null) {
+                return;//No need to continue if jobKey/taskId are not provided as these are required for reporting back
+            }
+            response = webClient.put()
+                .uri(updateStatusUrl, jobKey, taskId)
+                .bodyValue(payload)
+                .exchangeToMono(SchedulerServiceWebClientImpl::toUpdateStatusResponse)
+                .block();
+        } catch (Exception exception) {
+            String message = "Failed to upload Job result";
+            log.error(message, exception);
+            throw new InternalServerException(message, exception);
+        }
+
+        final HttpStatusCode statusCode = response.getStatusCode();
+        if (!statusCode.equals(HttpStatus.ACCEPTED)) {
+            throw new RemoteGatewayException(
+                "Call to SchedulerServiceClient.updateStatus(jobKey, taskId, payload) failed status code"
+                    + " was: "
+                    + statusCode);
+        }
+    }
+
+    @Override
+    public TaskResponse getLatestTask(String jobKey) {
+        ResponseEntity<TaskResponse> response;
+        try {
+            if (Strings.isBlank(jobKey)) {
+                return null;
+            }
+            log.debug("Getting Job Status for JobKey: " + jobKey);
+            response = webClient.get()
+                .uri(getLatestStatusUrl, jobKey)
+                .exchangeToMono(SchedulerServiceWebClientImpl::toTaskResponse)
+                .block();
+        } catch (Exception exception) {
+            String message = "Failed to get latest Job status";
+            log.error(message, exception);
+            throw new InternalServerException(message, exception);
+        }
+
+        final HttpStatusCode statusCode = response.getStatusCode();
+        if (statusCode.equals(HttpStatus.NOT_FOUND)) {
+            return null;
+        }
+        if (!statusCode.equals(HttpStatus.OK)) {
+            throw new RemoteGatewayException(
+                "Call to SchedulerServiceClient.getLatestTask(String jobKey) failed status code was: "
+                    + statusCode);
+        }
+        return response.getBody();
+    }
+
+    @Override
+    public TaskResponse getTask(String jobKey, Long taskId) {
+        ResponseEntity<TaskResponse> response;
+        try {
+            if (Strings.isBlank(jobKey) || taskId == null) {
+                return null;
+            }
+            log.debug("Getting Job Status for JobKey: " + jobKey + " TaskId: " + taskId);
+            response = webClient.get()
+                .uri(getStatusUrl, jobKey, taskId)
+                .exchangeToMono(SchedulerServiceWebClientImpl::toTaskResponse)
+                .block();
+        } catch (Exception exception) {
+            String message = "Failed to get latest Job status";
+            log.error(message, exception);
+            throw new InternalServerException(message, exception);
+        }
+
+        final HttpStatusCode statusCode = response.getStatusCode();
+        if (statusCode.equals(HttpStatus.NOT_FOUND)) {
+            return null;
+        }
+        if (!statusCode.equals(HttpStatus.OK)) {
+            throw new RemoteGatewayException(
+                "Call to SchedulerServiceClient.getTask(String jobKey,Long taskId) failed status code was: "
+                    + statusCode);
+        }
+        return response.getBody();
+    }
+
+    //A 4xx is raised as the RestTemplate client raises it so a rejected update can be told apart from a failed call
+    private static Mono<ResponseEntity<Void>> toUpdateStatusResponse(ClientResponse response) {
+        if (!response.statusCode().is4xxClientError()) {
+            return response.toBodilessEntity();
+        }
+        return response.bodyToMono(byte[].class)
+            .defaultIfEmpty(new byte[0])
+            .flatMap(body -> Mono.error(HttpClientErrorException.create(response.statusCode(),
+                response.statusCode().toString(), response.headers().asHttpHeaders(), body, null)));
+    }
+
+    //Only successful responses carry a task, anything else is released and checked by status alone
+    private static Mono<ResponseEntity<TaskResponse>> toTaskResponse(ClientResponse response) {
+        if (response.statusCode().equals(HttpStatus.OK)) {
+            return response.toEntity(TaskResponse.class);
+        }
+        return response.releaseBody().thenReturn(ResponseEntity.status(response.statusCode()).build());
+    }
+}
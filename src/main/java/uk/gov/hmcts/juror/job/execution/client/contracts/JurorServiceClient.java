@@ -6,10 +6,35 @@ import lombok.Getter;
 import uk.gov.hmcts.juror.job.execution.jobs.checks.pnc.batch.PoliceCheck;
 import uk.gov.hmcts.juror.standard.client.contract.Client;
 
+import java.util.ArrayList;
+import java.util.List;
+
 public interface JurorServiceClient extends Client {
 
     void call(String jurorNumber, Payload result);
 
+    //Applies every status update returning those that failed. Implementations may send updates concurrently
+    default List<StatusUpdate> updateAll(List<StatusUpdate> statusUpdates) {
+        List<StatusUpdate> failedUpdates = new ArrayList<>();
+        for (StatusUpdate statusUpdate : statusUpdates) {
+            if (!statusUpdate.apply(this)) {
+                failedUpdates.add(statusUpdate);
+            }
+        }
+        return failedUpdates;
+    }
+
+    record StatusUpdate(String jurorNumber, Payload payload) {
+        public boolean apply(JurorServiceClient jurorServiceClient) {
+            try {
+                jurorServiceClient.call(jurorNumber, payload);
+                return true;
+            } catch (Exception exception) {
+                return false;
+            }
+        }
+    }
+
     @AllArgsConstructor
     @Getter
     @EqualsAndHashCode
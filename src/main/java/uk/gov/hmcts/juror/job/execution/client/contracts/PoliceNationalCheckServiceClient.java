@@ -15,6 +15,7 @@ import uk.gov.hmcts.juror.standard.client.contract.Client;
 
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public interface PoliceNationalCheckServiceClient extends Client {
 
@@ -23,6 +24,20 @@ public interface PoliceNationalCheckServiceClient extends Client {
 
     void checkJurors(JurorCheckRequestBulk jurorCheckRequestBulk);
 
+    //Sends the checks without holding the calling thread. Blocking implementations complete before returning
+    default CompletableFuture<Void> checkJurorsAsync(JurorCheckRequestBulk jurorCheckRequestBulk) {
+        try {
+            checkJurors(jurorCheckRequestBulk);
+            return CompletableFuture.completedFuture(null);
+        } catch (Exception exception) {
+            return CompletableFuture.failedFuture(exception);
+        }
+    }
+
+    default boolean isNonBlocking() {
+        return false;
+    }
+
 
     @Data
     @Builder
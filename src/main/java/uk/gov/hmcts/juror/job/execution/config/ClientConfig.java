@@ -4,14 +4,19 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.http.client.ClientHttpRequestInterceptor;
 import org.springframework.web.util.DefaultUriBuilderFactory;
+import uk.gov.hmcts.juror.job.execution.client.CachingJwtAuthenticationInterceptor;
+import uk.gov.hmcts.juror.job.execution.client.HttpClientPoolManager;
 import uk.gov.hmcts.juror.standard.client.contract.ClientType;
 import uk.gov.hmcts.juror.standard.client.interceptor.JwtAuthenticationInterceptor;
 import uk.gov.hmcts.juror.standard.config.WebConfig;
 import uk.gov.hmcts.juror.standard.service.contracts.auth.JwtService;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.function.Supplier;
 
 @Configuration
 @Slf4j
@@ -21,44 +26,78 @@ public class ClientConfig {
     @ClientType("SchedulerService")
     public RestTemplateBuilder schedulerServiceRestTemplateBuilder(
         final RemoteConfig config,
-        final JwtService jwtService
+        final JwtService jwtService,
+        final HttpClientPoolManager httpClientPoolManager
     ) {
-        return restTemplateBuilder(config.getSchedulerService(), jwtService);
+        return restTemplateBuilder("scheduler-service", config, config.getSchedulerService(), jwtService,
+            httpClientPoolManager);
     }
 
     @Bean
     @ClientType("JurorService")
     public RestTemplateBuilder jurorServiceRestTemplateBuilder(
         final RemoteConfig config,
-        final JwtService jwtService
+        final JwtService jwtService,
+        final HttpClientPoolManager httpClientPoolManager
     ) {
-        return restTemplateBuilder(config.getJurorService(), jwtService);
+        return restTemplateBuilder("juror-service", config, config.getJurorService(), jwtService, httpClientPoolManager);
     }
 
     @Bean
     @ClientType("PoliceNationalCheckService")
     public RestTemplateBuilder policeNationalCheckServiceRestTemplateBuilder(
         final RemoteConfig config,
-        final JwtService jwtService
+        final JwtService jwtService,
+        final HttpClientPoolManager httpClientPoolManager
     ) {
-        return restTemplateBuilder(config.getPoliceNationalComputerCheckService(), jwtService);
+        return restTemplateBuilder("police-national-computer-check-service", config,
+            config.getPoliceNationalComputerCheckService(), jwtService, httpClientPoolManager);
     }
 
     @SuppressWarnings("removal")
-    private RestTemplateBuilder restTemplateBuilder(final WebConfig webConfig,
-                                                    final JwtService jwtService) {
+    private RestTemplateBuilder restTemplateBuilder(final String service,
+                                                    final RemoteConfig config,
+                                                    final WebConfig webConfig,
+                                                    final JwtService jwtService,
+                                                    final HttpClientPoolManager httpClientPoolManager) {
         final List<ClientHttpRequestInterceptor> clientHttpRequestInterceptorList =
-            List.of(new JwtAuthenticationInterceptor(jwtService, webConfig.getSecurity()));
+            List.of(authenticationInterceptor(config, new JwtAuthenticationInterceptor(jwtService,
+                webConfig.getSecurity())));
 
         // Construct URI builder with scheme, host, and port
         DefaultUriBuilderFactory uriBuilderFactory = new DefaultUriBuilderFactory(
             webConfig.getScheme() + "://" + webConfig.getHost() + ":" + webConfig.getPort());
         uriBuilderFactory.setEncodingMode(DefaultUriBuilderFactory.EncodingMode.URI_COMPONENT);
 
+        // Pooled keep-alive client per service when enabled, otherwise the request factory from the web config
+        final Supplier<ClientHttpRequestFactory> requestFactory = config.getHttpClient().isEnabled()
+            ? () -> httpClientPoolManager.getRequestFactory(service, config)
+            : webConfig::getRequestFactory;
+
         // Return builder with explicit URI handler and request factory
-        return new RestTemplateBuilder()
-            .requestFactory(webConfig::getRequestFactory) // Avoids Spring's HttpClient5 auto-configuration
+        RestTemplateBuilder restTemplateBuilder = new RestTemplateBuilder()
+            .requestFactory(requestFactory) // Avoids Spring's HttpClient5 auto-configuration
             .uriTemplateHandler(uriBuilderFactory)
             .additionalInterceptors(clientHttpRequestInterceptorList);
+        return applyTimeouts(restTemplateBuilder, config);
+    }
+
+    //Each client gets its own cache as the services are signed for with different secrets and claims
+    static ClientHttpRequestInterceptor authenticationInterceptor(RemoteConfig config,
+                                                                  ClientHttpRequestInterceptor interceptor) {
+        if (!config.getJwtCache().isEnabled()) {
+            return interceptor;
+        }
+        return new CachingJwtAuthenticationInterceptor(interceptor, config.getJwtCache().getRefreshAhead());
+    }
+
+    static RestTemplateBuilder applyTimeouts(RestTemplateBuilder restTemplateBuilder, RemoteConfig config) {
+        if (config.getConnectTimeout() > 0) {
+            restTemplateBuilder = restTemplateBuilder.connectTimeout(Duration.ofMillis(config.getConnectTimeout()));
+        }
+        if (config.getReadTimeout() > 0) {
+            restTemplateBuilder = restTemplateBuilder.readTimeout(Duration.ofMillis(config.getReadTimeout()));
+        }
+        return restTemplateBuilder;
     }
 }
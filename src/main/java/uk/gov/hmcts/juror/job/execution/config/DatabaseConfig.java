@@ -20,4 +20,13 @@ public class DatabaseConfig {
     private String password;
     private String url;
     private String schema;
+
+    private Integer poolSize;
+    private Integer minimumIdle;
+    private Long connectionTimeout;
+    private Long validationTimeout;
+    private Long idleTimeout;
+    private Long maxLifetime;
+
+    private Integer fetchSize;
 }
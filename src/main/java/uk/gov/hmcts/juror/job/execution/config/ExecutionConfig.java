@@ -0,0 +1,14 @@
+package uk.gov.hmcts.juror.job.execution.config;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class ExecutionConfig {
+    //Maximum number of job steps to run at once, 0 or less runs every step at once
+    private int concurrency;
+
+    //Unset follows the thread the job was triggered on so jobs run on virtual threads fan out onto them too
+    private Boolean virtualThreads;
+}
@@ -0,0 +1,53 @@
+package uk.gov.hmcts.juror.job.execution.config;
+
+import lombok.Data;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Data
+public class HttpClientConfig {
+    //Use a pooled, keep-alive HttpClient5 per remote service rather than the request factory from WebConfig. The pool
+    //only applies the timeouts below and the JVM default trust store, none of the WebConfig request factory settings
+    private boolean enabled;
+
+    private int maxConnectionsPerRoute = 20;
+
+    private int maxConnectionsTotal = 50;
+
+    //Pool limits for a single service keyed by its remote config name (e.g. juror-service), unset limits fall back to
+    //the ones above
+    private Map<String, PoolLimits> services = new HashMap<>();
+
+    //Connections idle for longer than this (ms) are closed in the background, 0 to keep them until they expire
+    private long idleEvictionTimeout = 30_000;
+
+    //Maximum lifetime (ms) of a pooled connection, 0 for no limit
+    private long timeToLive;
+
+    //Pooled connections idle for longer than this (ms) are checked before being reused
+    private long validateAfterInactivity = 2_000;
+
+    //Maximum time (ms) to wait for a connection from the pool, 0 for no limit
+    private long connectionRequestTimeout;
+
+    public int getMaxConnectionsPerRoute(String service) {
+        PoolLimits poolLimits = services.get(service);
+        return poolLimits == null || poolLimits.getMaxConnectionsPerRoute() == null
+            ? maxConnectionsPerRoute
+            : poolLimits.getMaxConnectionsPerRoute();
+    }
+
+    public int getMaxConnectionsTotal(String service) {
+        PoolLimits poolLimits = services.get(service);
+        return poolLimits == null || poolLimits.getMaxConnectionsTotal() == null
+            ? maxConnectionsTotal
+            : poolLimits.getMaxConnectionsTotal();
+    }
+
+    @Data
+    public static class PoolLimits {
+        private Integer maxConnectionsPerRoute;
+        private Integer maxConnectionsTotal;
+    }
+}
@@ -0,0 +1,53 @@
+package uk.gov.hmcts.juror.job.execution.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Configuration
+@ConfigurationProperties(prefix = "jobs.timeouts")
+@Getter
+@Setter
+public class JobTimeoutConfig {
+    //Time budget (ms) for a whole job run, 0 or less for no limit
+    private long jobTimeout;
+
+    //Time budget (ms) for a single job step, 0 or less for no limit
+    private long stepTimeout;
+
+    //Per job overrides keyed by job name e.g. PrintFileJob
+    private Map<String, Timeouts> jobs = new HashMap<>();
+
+    //Report TIMED_OUT and CANCELLED to the scheduler service, otherwise a stopped job is reported as FAILED. Only
+    //enable once the scheduler service accepts these statuses
+    private boolean reportStoppedStatus;
+
+    public long getJobTimeout(String jobName) {
+        return getJobTimeout(jobName, 0);
+    }
+
+    //jobDefault is the budget a job sets itself (e.g. housekeeping's max timeout), used in place of jobTimeout
+    public long getJobTimeout(String jobName, long jobDefault) {
+        Timeouts timeouts = jobs.get(jobName);
+        if (timeouts != null && timeouts.getJobTimeout() != null) {
+            return timeouts.getJobTimeout();
+        }
+        return jobDefault > 0 ? jobDefault : jobTimeout;
+    }
+
+    public long getStepTimeout(String jobName) {
+        Timeouts timeouts = jobs.get(jobName);
+        return timeouts == null || timeouts.getStepTimeout() == null ? stepTimeout : timeouts.getStepTimeout();
+    }
+
+    @Getter
+    @Setter
+    public static class Timeouts {
+        private Long jobTimeout;
+        private Long stepTimeout;
+    }
+}
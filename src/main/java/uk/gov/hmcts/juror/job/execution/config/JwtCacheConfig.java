@@ -0,0 +1,12 @@
+package uk.gov.hmcts.juror.job.execution.config;
+
+import lombok.Data;
+
+@Data
+public class JwtCacheConfig {
+    //Reuse each client's signed token until it is close to expiring rather than signing one per request
+    private boolean enabled;
+
+    //How long (ms) before the token expires a new one is signed
+    private long refreshAhead = 30_000;
+}
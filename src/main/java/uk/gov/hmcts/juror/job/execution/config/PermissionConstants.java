@@ -3,6 +3,7 @@ package uk.gov.hmcts.juror.job.execution.config;
 public final class PermissionConstants {
     public static final String TRIGGER = "job::trigger";
     public static final String UPDATE_PNC = "job::update::pnc";
+    public static final String CANCEL = "job::cancel";
 
     private PermissionConstants() {
 
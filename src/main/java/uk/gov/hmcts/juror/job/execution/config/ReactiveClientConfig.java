@@ -0,0 +1,74 @@
+package uk.gov.hmcts.juror.job.execution.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.JdkClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+import uk.gov.hmcts.juror.job.execution.client.ConnectionLimitExchangeFilter;
+import uk.gov.hmcts.juror.job.execution.client.JwtAuthenticationExchangeFilter;
+import uk.gov.hmcts.juror.standard.client.contract.ClientType;
+import uk.gov.hmcts.juror.standard.client.interceptor.JwtAuthenticationInterceptor;
+import uk.gov.hmcts.juror.standard.config.WebConfig;
+import uk.gov.hmcts.juror.standard.service.contracts.auth.JwtService;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+//WebClients for the non-blocking remote clients. The JDK HttpClient is used as the connector so no additional
+//runtime (e.g. reactor-netty) is needed, it multiplexes every outstanding request over a single selector thread.
+//Concurrent requests per service are capped at the same per route limit as the pooled RestTemplate clients
+@Configuration
+@ConditionalOnProperty(prefix = "uk.gov.hmcts.juror.job.execution.remote.web-client", name = "enabled",
+    havingValue = "true")
+public class ReactiveClientConfig {
+
+    @Bean
+    @ClientType("SchedulerService")
+    public WebClient schedulerServiceWebClient(final RemoteConfig config, final JwtService jwtService) {
+        return webClient("scheduler-service", config, config.getSchedulerService(), jwtService);
+    }
+
+    @Bean
+    @ClientType("JurorService")
+    public WebClient jurorServiceWebClient(final RemoteConfig config, final JwtService jwtService) {
+        return webClient("juror-service", config, config.getJurorService(), jwtService);
+    }
+
+    @Bean
+    @ClientType("PoliceNationalCheckService")
+    public WebClient policeNationalCheckServiceWebClient(final RemoteConfig config, final JwtService jwtService) {
+        return webClient("police-national-computer-check-service", config,
+            config.getPoliceNationalComputerCheckService(), jwtService);
+    }
+
+    static WebClient webClient(final String service, final RemoteConfig config, final WebConfig webConfig,
+                               final JwtService jwtService) {
+        DefaultUriBuilderFactory uriBuilderFactory = new DefaultUriBuilderFactory(
+            webConfig.getScheme() + "://" + webConfig.getHost() + ":" + webConfig.getPort());
+        uriBuilderFactory.setEncodingMode(DefaultUriBuilderFactory.EncodingMode.URI_COMPONENT);
+
+        return WebClient.builder()
+            .uriBuilderFactory(uriBuilderFactory)
+            .clientConnector(createConnector(config))
+            //Outermost so requests are only signed once they are about to be sent
+            .filter(new ConnectionLimitExchangeFilter(config.getHttpClient().getMaxConnectionsPerRoute(service)))
+            .filter(new JwtAuthenticationExchangeFilter(ClientConfig.authenticationInterceptor(config,
+                new JwtAuthenticationInterceptor(jwtService, webConfig.getSecurity()))))
+            .build();
+    }
+
+    static JdkClientHttpConnector createConnector(RemoteConfig config) {
+        HttpClient.Builder httpClientBuilder = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1);
+        if (config.getConnectTimeout() > 0) {
+            httpClientBuilder.connectTimeout(Duration.ofMillis(config.getConnectTimeout()));
+        }
+        JdkClientHttpConnector connector = new JdkClientHttpConnector(httpClientBuilder.build());
+        if (config.getReadTimeout() > 0) {
+            connector.setReadTimeout(Duration.ofMillis(config.getReadTimeout()));
+        }
+        return connector;
+    }
+}
@@ -31,4 +31,21 @@ public class RemoteConfig {
     @NotNull
     @NestedConfigurationProperty
     private WebConfig policeNationalComputerCheckService;
+
+    //Applied to every remote service in ms, 0 to leave the request factory default. A blocked socket read does not
+    //respond to a job being stopped so the read timeout is what bounds a hung remote call
+    private long connectTimeout;
+    private long readTimeout;
+
+    @NotNull
+    @NestedConfigurationProperty
+    private HttpClientConfig httpClient = new HttpClientConfig();
+
+    @NotNull
+    @NestedConfigurationProperty
+    private JwtCacheConfig jwtCache = new JwtCacheConfig();
+
+    @NotNull
+    @NestedConfigurationProperty
+    private WebClientConfig webClient = new WebClientConfig();
 }
@@ -28,6 +28,12 @@ public class SftpConfig {
 
     private int sessionWaitTimeout;
 
+    //Upper bound for a single backed off retry delay (ms), 0 for no cap
+    private long retryMaxDelay;
+
+    //Maximum time (ms) a single upload run may spend uploading and retrying files, 0 for no deadline
+    private long uploadDeadline;
+
     private boolean azureDeployment;
 
     private String password;
@@ -0,0 +1,29 @@
+package uk.gov.hmcts.juror.job.execution.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "jobs.status-outbox")
+@Getter
+@Setter
+public class StatusOutboxConfig {
+    //When disabled job results are sent straight to the scheduler service and are lost if that call fails
+    private boolean enabled;
+
+    //Directory holding the journal, required when enabled. It must be on a volume that outlives the pod for results
+    //to survive a restart
+    private String directory;
+
+    //Maximum number of status updates sent per delivery pass before they are acknowledged in the journal
+    private int batchSize = 50;
+
+    //Delay (ms) before the first retry, doubled after every failed pass up to maxRetryDelay
+    private long retryDelay = 1000;
+    private long maxRetryDelay = 60_000;
+
+    //Attempts before an undeliverable status update is dropped, 0 or less to retry until it is delivered
+    private int maxAttempts = 30;
+}
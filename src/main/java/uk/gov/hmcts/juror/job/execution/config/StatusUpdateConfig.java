@@ -0,0 +1,15 @@
+package uk.gov.hmcts.juror.job.execution.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "jobs.status-updates")
+@Getter
+@Setter
+public class StatusUpdateConfig {
+    //Window (ms) in which progress updates for the same task are merged into one, 0 or less sends every update
+    private long coalesceWindow;
+}
@@ -0,0 +1,80 @@
+package uk.gov.hmcts.juror.job.execution.config;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordedThread;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.thread.Threading;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.stream.Collectors;
+
+//Only active when jobs run on virtual threads (spring.threads.virtual.enabled). Logs every time a virtual thread
+//stays pinned to its carrier (blocking inside synchronized or native code) for longer than the threshold
+@Component
+@Slf4j
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningMonitor implements InitializingBean, DisposableBean {
+
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    static final int MAX_FRAMES = 10;
+
+    private final Duration threshold;
+    private RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(
+        @Value("${jobs.execution.pinned-thread-threshold:20ms}") Duration threshold) {
+        this.threshold = threshold;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::logPinnedEvent);
+        recordingStream.startAsync();
+        log.info("Monitoring virtual threads pinned for longer than {} ms", threshold.toMillis());
+    }
+
+    void logPinnedEvent(RecordedEvent event) {
+        RecordedThread thread = event.getThread();
+        log.warn("Virtual thread {} pinned for {} ms at: {}",
+            thread == null ? "unknown" : thread.getJavaName(),
+            event.getDuration().toMillis(),
+            formatStackTrace(event.getStackTrace()));
+    }
+
+    static String formatStackTrace(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "unknown";
+        }
+        return stackTrace.getFrames().stream()
+            .limit(MAX_FRAMES)
+            .map(VirtualThreadPinningMonitor::formatFrame)
+            .collect(Collectors.joining(" <- "));
+    }
+
+    private static String formatFrame(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+            + ":" + frame.getLineNumber();
+    }
+
+    boolean isRunning() {
+        return recordingStream != null;
+    }
+
+    @Override
+    public void destroy() {
+        if (recordingStream != null) {
+            recordingStream.close();
+            recordingStream = null;
+        }
+    }
+}
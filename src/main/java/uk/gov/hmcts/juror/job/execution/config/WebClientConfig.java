@@ -0,0 +1,11 @@
+package uk.gov.hmcts.juror.job.execution.config;
+
+import lombok.Data;
+
+@Data
+public class WebClientConfig {
+    //Use the non-blocking WebClient implementations of the remote clients rather than the RestTemplate ones
+    private boolean enabled;
+    //Upper bound on concurrent requests when fanning out bulk updates (e.g. juror PNC statuses)
+    private int maxRequestsInFlight = 256;
+}
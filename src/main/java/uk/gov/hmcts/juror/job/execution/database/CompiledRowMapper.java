@@ -0,0 +1,150 @@
+package uk.gov.hmcts.juror.job.execution.database;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import uk.gov.hmcts.juror.standard.service.exceptions.InternalServerException;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+//Built once per class, the constructor and setters are bound up front (via LambdaMetafactory falling back to
+//MethodHandles) so converting a row does no reflective lookups
+@Slf4j
+public final class CompiledRowMapper<T> implements RowMapper<T> {
+
+    @Getter
+    private final Class<T> type;
+    private final Supplier<T> constructor;
+    final List<ColumnBinding> columnBindings;
+
+    private CompiledRowMapper(Class<T> type, Supplier<T> constructor, List<ColumnBinding> columnBindings) {
+        this.type = type;
+        this.constructor = constructor;
+        this.columnBindings = Collections.unmodifiableList(columnBindings);
+    }
+
+    @SuppressWarnings({
+        "PMD.AvoidInstantiatingObjectsInLoops",
+        "PMD.AvoidCatchingThrowable"
+    })
+    static <T> CompiledRowMapper<T> create(Class<T> type) {
+        try {
+            List<ColumnBinding> columnBindings = new ArrayList<>();
+            for (Field field : type.getDeclaredFields()) {
+                DatabaseColumn databaseColumn = field.getAnnotation(DatabaseColumn.class);
+                if (databaseColumn == null) {
+                    continue;
+                }
+                Method method = type.getMethod(databaseColumn.setter(), field.getType());
+                columnBindings.add(new ColumnBinding(databaseColumn,
+                    DatabaseFieldConvertor.getConverter(field.getType()),
+                    bindSetter(method)));
+            }
+            return new CompiledRowMapper<>(type, bindConstructor(type), columnBindings);
+        } catch (InternalServerException exception) {
+            throw exception;
+        } catch (Throwable throwable) {
+            throw new InternalServerException("Failed to create row mapper for: " + type, throwable);
+        }
+    }
+
+    @Override
+    public T mapRow(ResultSet resultSet) {
+        return mapRow(resultSet, findColumns(resultSet));
+    }
+
+    //Resolves each column index once so that every row of this result set can be read by index instead of by name
+    public RowMapper<T> bind(ResultSet resultSet) {
+        final int[] columnIndexes = findColumns(resultSet);
+        return row -> mapRow(row, columnIndexes);
+    }
+
+    private int[] findColumns(ResultSet resultSet) {
+        int[] columnIndexes = new int[columnBindings.size()];
+        for (int i = 0; i < columnIndexes.length; i++) {
+            columnIndexes[i] = DatabaseFieldConvertor.findColumn(resultSet,
+                columnBindings.get(i).databaseColumn().name(), type);
+        }
+        return columnIndexes;
+    }
+
+    private T mapRow(ResultSet resultSet, int[] columnIndexes) {
+        T dto = constructor.get();
+        for (int i = 0; i < columnIndexes.length; i++) {
+            ColumnBinding columnBinding = columnBindings.get(i);
+            columnBinding.setter().accept(dto,
+                columnBinding.converter().convert(columnBinding.databaseColumn(), resultSet, columnIndexes[i]));
+        }
+        return dto;
+    }
+
+    @SuppressWarnings({
+        "unchecked",
+        "PMD.AvoidCatchingThrowable"
+    })
+    static <T> Supplier<T> bindConstructor(Class<T> type) throws ReflectiveOperationException {
+        MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+        MethodHandle handle = lookup.unreflectConstructor(type.getConstructor());
+        try {
+            CallSite callSite = LambdaMetafactory.metafactory(lookup, "get",
+                MethodType.methodType(Supplier.class),
+                MethodType.methodType(Object.class),
+                handle,
+                MethodType.methodType(type));
+            return (Supplier<T>) callSite.getTarget().invoke();
+        } catch (Throwable throwable) {
+            log.debug("Unable to bind constructor of {} via LambdaMetafactory using MethodHandle instead",
+                type, throwable);
+            return () -> {
+                try {
+                    return (T) handle.invoke();
+                } catch (Throwable invokeThrowable) {
+                    throw new InternalServerException("Failed to create instance of: " + type, invokeThrowable);
+                }
+            };
+        }
+    }
+
+    @SuppressWarnings({
+        "unchecked",
+        "PMD.AvoidCatchingThrowable"
+    })
+    static BiConsumer<Object, Object> bindSetter(Method method) throws ReflectiveOperationException {
+        Class<?> declaringClass = method.getDeclaringClass();
+        MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(declaringClass, MethodHandles.lookup());
+        MethodHandle handle = lookup.unreflect(method);
+        try {
+            CallSite callSite = LambdaMetafactory.metafactory(lookup, "accept",
+                MethodType.methodType(BiConsumer.class),
+                MethodType.methodType(void.class, Object.class, Object.class),
+                handle,
+                MethodType.methodType(void.class, declaringClass, method.getParameterTypes()[0]));
+            return (BiConsumer<Object, Object>) callSite.getTarget().invoke();
+        } catch (Throwable throwable) {
+            log.debug("Unable to bind setter {} via LambdaMetafactory using MethodHandle instead", method, throwable);
+            return (dto, value) -> {
+                try {
+                    handle.invoke(dto, value);
+                } catch (Throwable invokeThrowable) {
+                    throw new InternalServerException("Failed to invoke setter: " + method, invokeThrowable);
+                }
+            };
+        }
+    }
+
+    record ColumnBinding(DatabaseColumn databaseColumn,
+                         DatabaseFieldConvertor.Converter converter,
+                         BiConsumer<Object, Object> setter) {
+    }
+}
@@ -0,0 +1,104 @@
+package uk.gov.hmcts.juror.job.execution.database;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.juror.job.execution.config.DatabaseConfig;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Component
+@Slf4j
+public class ConnectionPoolManager {
+
+    static final String DRIVER_CLASS_NAME = "org.postgresql.Driver";
+    static final String POOL_NAME_PREFIX = "job-execution-";
+
+    final Map<PoolKey, HikariDataSource> dataSources;
+    private final MeterRegistry meterRegistry;
+    private final AtomicInteger poolCount;
+
+    @Autowired
+    public ConnectionPoolManager(ObjectProvider<MeterRegistry> meterRegistry) {
+        this(meterRegistry.getIfAvailable());
+    }
+
+    ConnectionPoolManager(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.dataSources = new ConcurrentHashMap<>();
+        this.poolCount = new AtomicInteger(0);
+    }
+
+    public Connection getConnection(DatabaseConfig config) throws SQLException {
+        return getDataSource(config).getConnection();
+    }
+
+    HikariDataSource getDataSource(DatabaseConfig config) {
+        //Pools are shared by url/username/schema so pool sizing is taken from the first config seen for that key
+        return dataSources.computeIfAbsent(PoolKey.of(config), key -> createDataSource(key, config));
+    }
+
+    HikariDataSource createDataSource(PoolKey key, DatabaseConfig config) {
+        log.info("Creating connection pool for url: {} user: {} schema: {}", key.url(), key.username(),
+            key.schema());
+        return new HikariDataSource(createHikariConfig(key, config));
+    }
+
+    @SuppressWarnings("PMD.LawOfDemeter")
+    HikariConfig createHikariConfig(PoolKey key, DatabaseConfig config) {
+        HikariConfig hikariConfig = new HikariConfig();
+        hikariConfig.setPoolName(POOL_NAME_PREFIX + key.schema() + '-' + poolCount.incrementAndGet());
+        hikariConfig.setDriverClassName(DRIVER_CLASS_NAME);
+        hikariConfig.setJdbcUrl(key.url());
+        hikariConfig.setUsername(key.username());
+        hikariConfig.setPassword(config.getPassword());
+        hikariConfig.setSchema(key.schema());
+
+        if (config.getPoolSize() != null) {
+            hikariConfig.setMaximumPoolSize(config.getPoolSize());
+        }
+        if (config.getMinimumIdle() != null) {
+            hikariConfig.setMinimumIdle(config.getMinimumIdle());
+        }
+        if (config.getConnectionTimeout() != null) {
+            hikariConfig.setConnectionTimeout(config.getConnectionTimeout());
+        }
+        if (config.getValidationTimeout() != null) {
+            hikariConfig.setValidationTimeout(config.getValidationTimeout());
+        }
+        if (config.getIdleTimeout() != null) {
+            hikariConfig.setIdleTimeout(config.getIdleTimeout());
+        }
+        if (config.getMaxLifetime() != null) {
+            hikariConfig.setMaxLifetime(config.getMaxLifetime());
+        }
+        if (meterRegistry != null) {
+            hikariConfig.setMetricRegistry(meterRegistry);
+        }
+        return hikariConfig;
+    }
+
+    @PreDestroy
+    public void close() {
+        dataSources.forEach((key, dataSource) -> {
+            log.info("Closing connection pool: {}", dataSource.getPoolName());
+            dataSource.close();
+        });
+        dataSources.clear();
+    }
+
+    record PoolKey(String url, String username, String schema) {
+        static PoolKey of(DatabaseConfig config) {
+            return new PoolKey(config.getUrl(), config.getUsername(), config.getSchema());
+        }
+    }
+}
@@ -4,96 +4,127 @@ import lombok.extern.slf4j.Slf4j;
 import uk.gov.hmcts.juror.standard.service.exceptions.InternalServerException;
 
 import java.lang.reflect.Field;
-import java.lang.reflect.Method;
 import java.math.BigDecimal;
 import java.sql.Clob;
 import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.time.LocalDate;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.function.BiFunction;
 
 @Slf4j
 public final class DatabaseFieldConvertor {
 
     static final String FAILED_CONVERT_RESULT_MESSAGE = "Failed to convert result set into: ";
 
-    static final Map<Class<?>, BiFunction<DatabaseColumn, ResultSet, ?>> CONVERTERS = new ConcurrentHashMap<>();
+    //Converters read by column index, name based reads resolve the index with ResultSet.findColumn first
+    static final Map<Class<?>, Converter> CONVERTERS = new ConcurrentHashMap<>();
+    static final Map<Class<?>, CompiledRowMapper<?>> ROW_MAPPERS = new ConcurrentHashMap<>();
 
     private DatabaseFieldConvertor() {
 
     }
 
     static {
-        CONVERTERS.put(String.class, (databaseColumn, resultSet) -> {
+        CONVERTERS.put(String.class, (databaseColumn, resultSet, columnIndex) -> {
             if (databaseColumn.isClob()) {
-                Clob clob = getResultSetObject(resultSet, databaseColumn.name(), Clob.class);
+                Clob clob = getResultSetObject(resultSet, columnIndex, Clob.class);
                 try {
                     return clob.getSubString(1, (int) clob.length());
                 } catch (Exception e) {
                     throw new InternalServerException("Failed to convert clob to string", e);
                 }
             } else {
-                return getResultSetObject(resultSet, databaseColumn.name(), String.class);
+                return getResultSetObject(resultSet, columnIndex, String.class);
             }
         });
-
         CONVERTERS.put(Integer.class,
-            (databaseColumn, resultSet) -> getResultSetObject(resultSet, databaseColumn.name(), Integer.class));
+            (databaseColumn, resultSet, columnIndex) -> getResultSetObject(resultSet, columnIndex, Integer.class));
         CONVERTERS.put(Long.class,
-            (databaseColumn, resultSet) -> getResultSetObject(resultSet, databaseColumn.name(), Long.class));
+            (databaseColumn, resultSet, columnIndex) -> getResultSetObject(resultSet, columnIndex, Long.class));
         CONVERTERS.put(BigDecimal.class,
-            (databaseColumn, resultSet) -> getResultSetObject(resultSet, databaseColumn.name(), BigDecimal.class));
+            (databaseColumn, resultSet, columnIndex) -> getResultSetObject(resultSet, columnIndex, BigDecimal.class));
         CONVERTERS.put(LocalDate.class,
-            (databaseColumn, resultSet) -> {
-                Timestamp timestamp = getResultSetObject(resultSet, databaseColumn.name(), Timestamp.class);
+            (databaseColumn, resultSet, columnIndex) -> {
+                Timestamp timestamp = getResultSetObject(resultSet, columnIndex, Timestamp.class);
                 return timestamp == null ? null : timestamp.toLocalDateTime().toLocalDate();
             });
         CONVERTERS.put(Boolean.class,
-            (databaseColumn, resultSet) -> getResultSetObject(resultSet, databaseColumn.name(), Boolean.class));
+            (databaseColumn, resultSet, columnIndex) -> getResultSetObject(resultSet, columnIndex, Boolean.class));
     }
 
-    static <T> T getResultSetObject(ResultSet resultSet, String columnName, Class<T> type) {
+    static <T> T getResultSetObject(ResultSet resultSet, int columnIndex, Class<T> type) {
         try {
-            return resultSet.getObject(columnName, type);
+            return resultSet.getObject(columnIndex, type);
         } catch (Exception e) {
             throw new InternalServerException(FAILED_CONVERT_RESULT_MESSAGE + type, e);
         }
     }
 
+    static int findColumn(ResultSet resultSet, String columnName, Class<?> type) {
+        try {
+            return resultSet.findColumn(columnName);
+        } catch (SQLException exception) {
+            throw new InternalServerException(FAILED_CONVERT_RESULT_MESSAGE + type
+                + " column not found: " + columnName, exception);
+        }
+    }
 
-    public static <T> T convertToItem(Class<T> convertToClass, ResultSet resultSet) {
+    @SuppressWarnings("unchecked")
+    static <T> CompiledRowMapper<T> getOrCreateRowMapper(Class<T> convertToClass) {
+        return (CompiledRowMapper<T>) ROW_MAPPERS.computeIfAbsent(convertToClass, CompiledRowMapper::create);
+    }
+
+    public static <T> CompiledRowMapper<T> getRowMapper(Class<T> convertToClass) {
         try {
-            T dto = convertToClass.getConstructor().newInstance();
+            return getOrCreateRowMapper(convertToClass);
+        } catch (Exception exception) {
+            log.error(FAILED_CONVERT_RESULT_MESSAGE + convertToClass, exception);
+            throw new InternalServerException(FAILED_CONVERT_RESULT_MESSAGE + convertToClass, exception);
+        }
+    }
 
-            for (Field field : convertToClass.getDeclaredFields()) {
-                if (!field.isAnnotationPresent(DatabaseColumn.class)) {
-                    continue;
-                }
-                DatabaseColumn databaseColumn = field.getAnnotation(DatabaseColumn.class);
-                Method method = convertToClass.getMethod(databaseColumn.setter(), field.getType());
-                method.invoke(dto, convertField(field, resultSet));
+    //Use when converting multiple rows from the same result set as column indexes are only resolved once
+    public static <T> RowMapper<T> bind(Class<T> convertToClass, ResultSet resultSet) {
+        RowMapper<T> rowMapper = getRowMapper(convertToClass).bind(resultSet);
+        return row -> {
+            try {
+                return rowMapper.mapRow(row);
+            } catch (Exception exception) {
+                log.error(FAILED_CONVERT_RESULT_MESSAGE + convertToClass, exception);
+                throw new InternalServerException(FAILED_CONVERT_RESULT_MESSAGE + convertToClass, exception);
             }
-            return dto;
+        };
+    }
+
+    public static <T> T convertToItem(Class<T> convertToClass, ResultSet resultSet) {
+        try {
+            return getOrCreateRowMapper(convertToClass).mapRow(resultSet);
         } catch (Exception exception) {
             log.error(FAILED_CONVERT_RESULT_MESSAGE + convertToClass, exception);
             throw new InternalServerException(FAILED_CONVERT_RESULT_MESSAGE + convertToClass, exception);
         }
     }
 
-    @SuppressWarnings("unchecked")//This is checked via the .isEnum() method
     static Object convertField(Field field, ResultSet resultSet) {
-        final DatabaseColumn databaseColumn = field.getAnnotation(DatabaseColumn.class);
-        if (field.getType().isEnum()) {
-            return getEnumInstance(field.getType().asSubclass(Enum.class),
-                getResultSetObject(resultSet, databaseColumn.name(), String.class)
-            );
+        Converter converter = getConverter(field.getType());
+        DatabaseColumn databaseColumn = field.getAnnotation(DatabaseColumn.class);
+        return converter.convert(databaseColumn, resultSet,
+            findColumn(resultSet, databaseColumn.name(), field.getDeclaringClass()));
+    }
+
+    @SuppressWarnings("unchecked")//This is checked via the .isEnum() method
+    static Converter getConverter(Class<?> type) {
+        if (type.isEnum()) {
+            Class<? extends Enum> enumClass = type.asSubclass(Enum.class);
+            return (databaseColumn, resultSet, columnIndex) -> getEnumInstance(enumClass,
+                getResultSetObject(resultSet, columnIndex, String.class));
         }
-        if (!CONVERTERS.containsKey(field.getType())) {
-            throw new InternalServerException("Unsupported class type: " + field.getType());
+        if (!CONVERTERS.containsKey(type)) {
+            throw new InternalServerException("Unsupported class type: " + type);
         }
-        return CONVERTERS.get(field.getType()).apply(databaseColumn, resultSet);
+        return CONVERTERS.get(type);
     }
 
     static <T extends Enum<T>> T getEnumInstance(final Class<T> enumClass, final String value) {
@@ -102,4 +133,9 @@ public final class DatabaseFieldConvertor {
         }
         return Enum.valueOf(enumClass, value);
     }
+
+    @FunctionalInterface
+    interface Converter {
+        Object convert(DatabaseColumn databaseColumn, ResultSet resultSet, int columnIndex);
+    }
 }
@@ -0,0 +1,110 @@
+package uk.gov.hmcts.juror.job.execution.database;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.juror.job.execution.jobs.JobMetrics;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+//Times database calls by statement fingerprint and the job running them. Connection acquire time is recorded
+//separately from statement execution so pool starvation can be told apart from slow SQL
+@Component
+@Slf4j
+public class DatabaseMetrics {
+    public static final String CONNECTION_ACQUIRE = "juror.db.connection.acquire";
+    public static final String STATEMENT_DURATION = "juror.db.statement.duration";
+
+    public static final String TAG_JOB = "job";
+    public static final String TAG_OPERATION = "operation";
+    public static final String TAG_STATEMENT = "statement";
+    public static final String TAG_OUTCOME = "outcome";
+    public static final String OUTCOME_SUCCESS = "success";
+    public static final String OUTCOME_FAILURE = "failure";
+
+    public static final String OPERATION_PROCEDURE = "procedure";
+    public static final String OPERATION_FUNCTION = "function";
+    public static final String OPERATION_UPDATE = "update";
+    public static final String OPERATION_BATCH_UPDATE = "batch_update";
+    public static final String OPERATION_QUERY = "query";
+
+    static final int MAX_FINGERPRINT_LENGTH = 120;
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    public static final DatabaseMetrics NOOP = new DatabaseMetrics(new CompositeMeterRegistry(), 0);
+
+    private final MeterRegistry meterRegistry;
+    private final long slowQueryThresholdNanos;
+
+    @Autowired
+    public DatabaseMetrics(ObjectProvider<MeterRegistry> meterRegistry,
+                           @Value("${defaults.database.slow-query-threshold:0}") long slowQueryThreshold) {
+        this(meterRegistry.getIfAvailable(CompositeMeterRegistry::new), slowQueryThreshold);
+    }
+
+    //A slow query threshold (ms) of 0 or less disables the slow query log
+    public DatabaseMetrics(MeterRegistry meterRegistry, long slowQueryThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.slowQueryThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowQueryThreshold);
+    }
+
+    public Timer.Sample start() {
+        return Timer.start(meterRegistry);
+    }
+
+    public void recordConnectionAcquire(Timer.Sample sample, boolean successful) {
+        sample.stop(meterRegistry.timer(CONNECTION_ACQUIRE,
+            TAG_JOB, JobMetrics.getCurrentJob(),
+            TAG_OUTCOME, successful ? OUTCOME_SUCCESS : OUTCOME_FAILURE));
+    }
+
+    public void recordStatement(Timer.Sample sample, String operation, String statement, boolean successful,
+                                Object... arguments) {
+        String jobName = JobMetrics.getCurrentJob();
+        String fingerprint = fingerprint(statement);
+        long durationNanos = sample.stop(meterRegistry.timer(STATEMENT_DURATION,
+            TAG_JOB, jobName,
+            TAG_OPERATION, operation,
+            TAG_STATEMENT, fingerprint,
+            TAG_OUTCOME, successful ? OUTCOME_SUCCESS : OUTCOME_FAILURE));
+
+        if (slowQueryThresholdNanos > 0 && durationNanos >= slowQueryThresholdNanos) {
+            log.warn("Slow {} for job {} took {}ms: '{}' with parameters: {}", operation, jobName,
+                TimeUnit.NANOSECONDS.toMillis(durationNanos), fingerprint, redact(arguments));
+        }
+    }
+
+    //Literals are replaced and whitespace collapsed so the same statement always has the same tag value
+    static String fingerprint(String statement) {
+        if (statement == null) {
+            return "unknown";
+        }
+        String fingerprint = STRING_LITERAL.matcher(statement).replaceAll("?");
+        fingerprint = NUMBER_LITERAL.matcher(fingerprint).replaceAll("?");
+        fingerprint = WHITESPACE.matcher(fingerprint).replaceAll(" ").trim();
+        if (fingerprint.length() > MAX_FINGERPRINT_LENGTH) {
+            return fingerprint.substring(0, MAX_FINGERPRINT_LENGTH);
+        }
+        return fingerprint;
+    }
+
+    //Only parameter types are logged as parameters can hold juror details
+    static String redact(Object... arguments) {
+        if (arguments == null) {
+            return "[]";
+        }
+        return Arrays.stream(arguments)
+            .map(argument -> argument == null ? "null" : argument.getClass().getSimpleName())
+            .collect(Collectors.joining(", ", "[", "]"));
+    }
+}
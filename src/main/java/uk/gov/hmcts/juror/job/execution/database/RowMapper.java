@@ -0,0 +1,8 @@
+package uk.gov.hmcts.juror.job.execution.database;
+
+import java.sql.ResultSet;
+
+@FunctionalInterface
+public interface RowMapper<T> {
+    T mapRow(ResultSet resultSet);
+}
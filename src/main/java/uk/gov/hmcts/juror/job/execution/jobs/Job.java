@@ -5,6 +5,7 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Autowired;
 import uk.gov.hmcts.juror.job.execution.database.model.MetaData;
 import uk.gov.hmcts.juror.job.execution.model.Status;
 import uk.gov.hmcts.juror.job.execution.rules.Rule;
@@ -28,9 +29,16 @@ import java.util.function.Function;
 public abstract class Job {
 
     private final Set<Rule> rules;
+    private JobMetrics jobMetrics;
 
     protected Job() {
         this.rules = new HashSet<>();
+        this.jobMetrics = JobMetrics.NOOP;
+    }
+
+    @Autowired(required = false)
+    public void setJobMetrics(JobMetrics jobMetrics) {
+        this.jobMetrics = jobMetrics;
     }
 
     protected void addRules(Rule... rules) {
@@ -45,13 +53,14 @@ public abstract class Job {
         return null;
     }
 
+    //Metrics are read through the getter as the final methods below also run on Spring proxies of a job
     public final Result execute(MetaData metaData) {
         try {
-            Result rulesResult = runRules();
+            Result rulesResult = getJobMetrics().recordRules(getName(), this::runRules);
             if (rulesResult != null) {
                 return rulesResult;
             }
-            return executeRunners(metaData);
+            return getJobMetrics().recordRunners(getName(), () -> executeRunners(metaData));
         } catch (Exception e) {
             log.error("Unexpected exception", e);
             return new Result(Status.FAILED_UNEXPECTED_EXCEPTION,
@@ -63,6 +72,27 @@ public abstract class Job {
 
 
     protected final Result runJobStep(Function<MetaData, Result> resultFunction, MetaData metaData) {
+        return runJobStep(resultFunction, metaData, "0");
+    }
+
+    protected final Result runJobStep(Function<MetaData, Result> resultFunction, MetaData metaData, String step) {
+        return getJobMetrics().recordStep(getName(), step, () -> executeJobStep(resultFunction, metaData, step));
+    }
+
+    //Each step runs in its own execution so it can be stopped on its own time budget as well as the job's
+    private Result executeJobStep(Function<MetaData, Result> resultFunction, MetaData metaData, String step) {
+        JobExecution jobExecution = JobExecution.current();
+        if (jobExecution.isStopped()) {
+            log.warn("Not running step {} of Job: {} as the job has been stopped", step, getName());
+            return jobExecution.toStoppedResult(null);
+        }
+        try (JobExecution stepExecution = jobExecution.startStep(getName() + " step " + step)) {
+            Result result = stepExecution.call(() -> applyJobStep(resultFunction, metaData));
+            return stepExecution.isStopped() ? stepExecution.toStoppedResult(result) : result;
+        }
+    }
+
+    private Result applyJobStep(Function<MetaData, Result> resultFunction, MetaData metaData) {
         try {
             return resultFunction.apply(metaData);
         } catch (InternalServerException exception) {
@@ -82,6 +112,11 @@ public abstract class Job {
         return this.getClass().getSimpleName();
     }
 
+    //Time budget (ms) the job sets itself, used unless jobs.timeouts overrides it. 0 or less to use the default
+    public long getTimeout() {
+        return 0;
+    }
+
     @Getter
     @EqualsAndHashCode
     public static class Result {
@@ -89,6 +124,7 @@ public abstract class Job {
         private final String message;
         private final Throwable throwable;
         private final Map<String, String> metaData;
+        private final ResultMetrics metrics;
 
 
         public Result(Status status) {
@@ -104,6 +140,7 @@ public abstract class Job {
             this.message = message;
             this.throwable = throwable;
             this.metaData = new ConcurrentHashMap<>();
+            this.metrics = new ResultMetrics();
         }
 
         public Result addMetaData(Map<String, String> metaData) {
@@ -116,6 +153,23 @@ public abstract class Job {
             return this;
         }
 
+        public Result addCounter(String key, long value) {
+            this.metrics.add(key, value);
+            return this;
+        }
+
+        public Result addMetrics(ResultMetrics metrics) {
+            this.metrics.merge(metrics);
+            return this;
+        }
+
+        //Metrics are only turned into strings here, when the result is reported to the scheduler
+        public Map<String, String> toMetaData() {
+            Map<String, String> allMetaData = new ConcurrentHashMap<>(this.metaData);
+            allMetaData.putAll(this.metrics.toMetaData());
+            return allMetaData;
+        }
+
         public static Result passed() {
             return passed(null);
         }
@@ -149,6 +203,7 @@ public abstract class Job {
             Status status = null;
             Throwable throwable = null;
             Map<String, String> metaData = new ConcurrentHashMap<>();
+            ResultMetrics metrics = new ResultMetrics();
             for (Result result : results) {
                 if (status == null || result.getStatus() != null
                     && result.getStatus().getPriority() > status.getPriority()) {
@@ -160,12 +215,16 @@ public abstract class Job {
                 if (!Collections.isEmpty(result.getMetaData())) {
                     metaData.putAll(result.getMetaData());
                 }
+                if (result.getMetrics() != null) {
+                    metrics.merge(result.getMetrics());
+                }
                 if (!StringUtils.isBlank(result.getMessage())) {
                     messages.add(result.getMessage());
                 }
             }
-            return new Result(status, messages.isEmpty() ? null : String.join("\\n", messages), throwable).addMetaData(
-                metaData);
+            return new Result(status, messages.isEmpty() ? null : String.join("\\n", messages), throwable)
+                .addMetaData(metaData)
+                .addMetrics(metrics);
         }
     }
 
@@ -0,0 +1,263 @@
+package uk.gov.hmcts.juror.job.execution.jobs;
+
+import lombok.extern.slf4j.Slf4j;
+import uk.gov.hmcts.juror.job.execution.model.Status;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+//The time budget and stop state of a running job, or one of its steps. The execution for the current thread is held
+//in a thread local so lower layers (JDBC statements, SFTP uploads) can use what is left of the budget and register
+//how to stop themselves. Stopping an execution, when its deadline passes or it is cancelled, runs those actions and
+//interrupts the thread it was started on. Jobs run outside of JobServiceImpl get NONE which never stops
+@Slf4j
+@SuppressWarnings("PMD.DoNotUseThreads")
+public final class JobExecution implements AutoCloseable {
+    public static final JobExecution NONE = new JobExecution("none", 0, 0, Long.MAX_VALUE, null, null);
+
+    private static final ThreadLocal<JobExecution> CURRENT = new ThreadLocal<>();
+
+    private final String name;
+    private final long timeout;
+    private final long stepTimeout;
+    private final long deadline;
+    private final ScheduledExecutorService scheduler;
+    private final Consumer<JobExecution> onClose;
+    private final Set<StopAction> stopActions;
+    private final ThreadInterrupt threadInterrupt;
+    private ScheduledFuture<?> deadlineFuture;
+    private Registration parentRegistration;
+    private volatile Status stopStatus;
+    private volatile String stopReason;
+
+    private JobExecution(String name, long timeout, long stepTimeout, long deadline,
+                         ScheduledExecutorService scheduler, Consumer<JobExecution> onClose) {
+        this.name = name;
+        this.timeout = timeout;
+        this.stepTimeout = stepTimeout;
+        this.deadline = deadline;
+        this.scheduler = scheduler;
+        this.onClose = onClose;
+        this.stopActions = new LinkedHashSet<>();
+        this.threadInterrupt = scheduler == null ? null : new ThreadInterrupt(Thread.currentThread());
+    }
+
+    //Timeouts are in ms, 0 or less for no limit. The execution stops the thread it is started on
+    public static JobExecution start(String name, long timeout, long stepTimeout,
+                                     ScheduledExecutorService scheduler, Consumer<JobExecution> onClose) {
+        JobExecution jobExecution = new JobExecution(name, timeout, stepTimeout,
+            getDeadline(System.nanoTime(), timeout, Long.MAX_VALUE), scheduler, onClose);
+        jobExecution.scheduleDeadline();
+        return jobExecution;
+    }
+
+    public static JobExecution current() {
+        JobExecution jobExecution = CURRENT.get();
+        return jobExecution == null ? NONE : jobExecution;
+    }
+
+    //A step gets the job's step timeout but never outlives the job, and is stopped along with it
+    public JobExecution startStep(String stepName) {
+        if (this == NONE) {
+            return NONE;
+        }
+        JobExecution stepExecution = new JobExecution(stepName, stepTimeout, 0,
+            getDeadline(System.nanoTime(), stepTimeout, deadline), scheduler, null);
+        stepExecution.parentRegistration = onStop(() -> stepExecution.stop(stopStatus, stopReason));
+        if (stepExecution.deadline < deadline) {
+            stepExecution.scheduleDeadline();
+        }
+        return stepExecution;
+    }
+
+    public <T> T call(Supplier<T> supplier) {
+        JobExecution previous = CURRENT.get();
+        CURRENT.set(this);
+        try {
+            return supplier.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    //The action runs straight away if the execution has already been stopped
+    public Registration onStop(Runnable action) {
+        if (this == NONE) {
+            return Registration.NONE;
+        }
+        StopAction stopAction = new StopAction(action);
+        synchronized (this) {
+            if (stopStatus == null) {
+                stopActions.add(stopAction);
+                return stopAction;
+            }
+        }
+        runStopAction(stopAction);
+        return Registration.NONE;
+    }
+
+    public boolean cancel() {
+        return stop(Status.CANCELLED, name + " was cancelled");
+    }
+
+    boolean stop(Status status, String reason) {
+        if (this == NONE) {
+            return false;
+        }
+        List<StopAction> actions;
+        synchronized (this) {
+            if (stopStatus != null) {
+                return false;
+            }
+            stopStatus = status;
+            stopReason = reason;
+            actions = new ArrayList<>(stopActions);
+            stopActions.clear();
+        }
+        log.warn("Stopping {}: {}", name, reason);
+        actions.forEach(this::runStopAction);
+        if (threadInterrupt != null) {
+            threadInterrupt.run();
+        }
+        return true;
+    }
+
+    public boolean isStopped() {
+        return stopStatus != null;
+    }
+
+    public Status getStopStatus() {
+        return stopStatus;
+    }
+
+    public boolean hasDeadline() {
+        return deadline != Long.MAX_VALUE;
+    }
+
+    public long getRemainingMillis() {
+        if (!hasDeadline()) {
+            return Long.MAX_VALUE;
+        }
+        return Math.max(0, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime()));
+    }
+
+    //Anything the job had counted before it was stopped is kept
+    public Job.Result toStoppedResult(Job.Result result) {
+        if (result != null && result.getStatus() == stopStatus) {
+            return result;
+        }
+        String message = result == null || result.getMessage() == null
+            ? stopReason : stopReason + "\\n" + result.getMessage();
+        Job.Result stoppedResult = new Job.Result(stopStatus, message, result == null ? null : result.getThrowable());
+        if (result != null) {
+            stoppedResult.addMetaData(result.getMetaData())
+                .addMetrics(result.getMetrics());
+        }
+        return stoppedResult;
+    }
+
+    //Must be called on the thread the execution was started on so an interrupt it caused can be cleared
+    @Override
+    public void close() {
+        if (this == NONE) {
+            return;
+        }
+        if (deadlineFuture != null) {
+            deadlineFuture.cancel(false);
+        }
+        if (parentRegistration != null) {
+            parentRegistration.close();
+        }
+        if (threadInterrupt != null) {
+            threadInterrupt.finish();
+        }
+        if (onClose != null) {
+            onClose.accept(this);
+        }
+    }
+
+    private void scheduleDeadline() {
+        if (scheduler != null && hasDeadline()) {
+            deadlineFuture = scheduler.schedule(() -> stop(Status.TIMED_OUT, name + " timed out after " + timeout
+                + "ms"), deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void runStopAction(StopAction stopAction) {
+        try {
+            stopAction.action.run();
+        } catch (Exception exception) {
+            log.error("Failed to stop part of {}", name, exception);
+        }
+    }
+
+    private synchronized void remove(StopAction stopAction) {
+        stopActions.remove(stopAction);
+    }
+
+    static long getDeadline(long now, long timeout, long parentDeadline) {
+        if (timeout <= 0) {
+            return parentDeadline;
+        }
+        return Math.min(parentDeadline, now + TimeUnit.MILLISECONDS.toNanos(timeout));
+    }
+
+    public interface Registration extends AutoCloseable {
+        Registration NONE = () -> {
+        };
+
+        @Override
+        void close();
+    }
+
+    private final class StopAction implements Registration {
+        private final Runnable action;
+
+        private StopAction(Runnable action) {
+            this.action = action;
+        }
+
+        @Override
+        public void close() {
+            remove(this);
+        }
+    }
+
+    //Only interrupts the thread while the execution is open so an interrupt never leaks into whatever the thread
+    //(e.g. a pooled @Async thread) runs next
+    private static final class ThreadInterrupt {
+        private final Thread thread;
+        private boolean active;
+        private boolean interrupted;
+
+        private ThreadInterrupt(Thread thread) {
+            this.thread = thread;
+            this.active = true;
+        }
+
+        private synchronized void run() {
+            if (active) {
+                interrupted = true;
+                thread.interrupt();
+            }
+        }
+
+        private synchronized void finish() {
+            active = false;
+            if (interrupted && Thread.currentThread() == thread) {
+                Thread.interrupted();
+            }
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package uk.gov.hmcts.juror.job.execution.jobs;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.juror.job.execution.config.JobTimeoutConfig;
+import uk.gov.hmcts.juror.job.execution.database.model.MetaData;
+import uk.gov.hmcts.juror.job.execution.model.Status;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+
+//Starts a JobExecution for each job run with the job's time budget and keeps track of the running tasks so they can
+//be cancelled by job key and task id. A single daemon thread stops executions once their deadline passes
+@Component
+@Slf4j
+@SuppressWarnings("PMD.DoNotUseThreads")
+public class JobExecutionManager {
+    private final JobTimeoutConfig config;
+    private final ScheduledThreadPoolExecutor scheduler;
+    private final Map<TaskKey, JobExecution> runningTasks;
+
+    @Autowired
+    public JobExecutionManager(JobTimeoutConfig config) {
+        this.config = config;
+        this.scheduler = new ScheduledThreadPoolExecutor(1,
+            Thread.ofPlatform().name("job-execution-deadline").daemon(true).factory());
+        this.scheduler.setRemoveOnCancelPolicy(true);
+        this.runningTasks = new ConcurrentHashMap<>();
+    }
+
+    public JobExecution start(String jobName, MetaData metaData) {
+        return start(jobName, 0, metaData);
+    }
+
+    //jobTimeout is the job's own time budget (ms), jobs.timeouts overrides for the job take precedence
+    public JobExecution start(String jobName, long jobTimeout, MetaData metaData) {
+        TaskKey taskKey = TaskKey.of(metaData);
+        JobExecution jobExecution = JobExecution.start(jobName, config.getJobTimeout(jobName, jobTimeout),
+            config.getStepTimeout(jobName), scheduler,
+            taskKey == null ? null : execution -> runningTasks.remove(taskKey, execution));
+        if (taskKey != null) {
+            runningTasks.put(taskKey, jobExecution);
+        }
+        return jobExecution;
+    }
+
+    //Returns false if the task is not running on this instance
+    public boolean cancel(String jobKey, Long taskId) {
+        JobExecution jobExecution = runningTasks.get(new TaskKey(jobKey, taskId));
+        if (jobExecution == null) {
+            return false;
+        }
+        log.info("Cancelling task {} for job {}", taskId, jobKey);
+        jobExecution.cancel();
+        return true;
+    }
+
+    public boolean isRunning(String jobKey, Long taskId) {
+        return runningTasks.containsKey(new TaskKey(jobKey, taskId));
+    }
+
+    //The status sent to the scheduler service, which may not accept TIMED_OUT or CANCELLED
+    public Status getReportedStatus(Status status) {
+        if (!config.isReportStoppedStatus() && (status == Status.TIMED_OUT || status == Status.CANCELLED)) {
+            return Status.FAILED;
+        }
+        return status;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    record TaskKey(String jobKey, Long taskId) {
+        static TaskKey of(MetaData metaData) {
+            if (metaData == null || StringUtils.isBlank(metaData.getJobKey()) || metaData.getTaskId() == null) {
+                return null;
+            }
+            return new TaskKey(metaData.getJobKey(), metaData.getTaskId());
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package uk.gov.hmcts.juror.job.execution.jobs;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.juror.job.execution.model.Status;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+//Records job, rule and step timings so they are exposed through the prometheus actuator endpoint.
+//Jobs built outside of Spring use NOOP which is backed by a registry with no backends
+@Component
+public class JobMetrics {
+    public static final String JOB_DURATION = "juror.job.duration";
+    public static final String JOB_RESULTS = "juror.job.results";
+    public static final String JOB_ACTIVE = "juror.job.active";
+    public static final String RULES_DURATION = "juror.job.rules.duration";
+    public static final String RUNNERS_DURATION = "juror.job.runners.duration";
+    public static final String STEP_DURATION = "juror.job.step.duration";
+
+    public static final String TAG_JOB = "job";
+    public static final String TAG_STATUS = "status";
+    public static final String TAG_STEP = "step";
+    public static final String UNKNOWN_STATUS = "UNKNOWN";
+    public static final String NO_JOB = "none";
+
+    //The job running on the current thread so lower layers (e.g. database calls) can tag their own metrics
+    private static final ThreadLocal<String> CURRENT_JOB = new ThreadLocal<>();
+
+    public static final JobMetrics NOOP = new JobMetrics(new CompositeMeterRegistry());
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, AtomicInteger> activeJobs;
+
+    @Autowired
+    public JobMetrics(ObjectProvider<MeterRegistry> meterRegistry) {
+        this(meterRegistry.getIfAvailable(CompositeMeterRegistry::new));
+    }
+
+    public JobMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.activeJobs = new ConcurrentHashMap<>();
+    }
+
+    public Job.Result recordJob(String jobName, Supplier<Job.Result> execution) {
+        AtomicInteger active = activeJobs.computeIfAbsent(jobName,
+            name -> meterRegistry.gauge(JOB_ACTIVE, Tags.of(TAG_JOB, name), new AtomicInteger(0)));
+        active.incrementAndGet();
+        try {
+            return record(jobName, execution, UNKNOWN_STATUS, status -> {
+                meterRegistry.counter(JOB_RESULTS, TAG_JOB, jobName, TAG_STATUS, status).increment();
+                return meterRegistry.timer(JOB_DURATION, TAG_JOB, jobName, TAG_STATUS, status);
+            });
+        } finally {
+            active.decrementAndGet();
+        }
+    }
+
+    //Rules return null when they all pass
+    public Job.Result recordRules(String jobName, Supplier<Job.Result> rules) {
+        return record(jobName, rules, Status.VALIDATION_PASSED.name(),
+            status -> meterRegistry.timer(RULES_DURATION, TAG_JOB, jobName, TAG_STATUS, status));
+    }
+
+    public Job.Result recordRunners(String jobName, Supplier<Job.Result> runners) {
+        return record(jobName, runners, UNKNOWN_STATUS,
+            status -> meterRegistry.timer(RUNNERS_DURATION, TAG_JOB, jobName, TAG_STATUS, status));
+    }
+
+    public Job.Result recordStep(String jobName, String step, Supplier<Job.Result> jobStep) {
+        return record(jobName, jobStep, UNKNOWN_STATUS,
+            status -> meterRegistry.timer(STEP_DURATION, TAG_JOB, jobName, TAG_STEP, step, TAG_STATUS, status));
+    }
+
+    public static String getCurrentJob() {
+        String jobName = CURRENT_JOB.get();
+        return jobName == null ? NO_JOB : jobName;
+    }
+
+    private Job.Result record(String jobName, Supplier<Job.Result> execution, String nullResultStatus,
+                              Function<String, Timer> timerForStatus) {
+        String previousJob = CURRENT_JOB.get();
+        CURRENT_JOB.set(jobName);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String status = UNKNOWN_STATUS;
+        try {
+            Job.Result result = execution.get();
+            if (result == null) {
+                status = nullResultStatus;
+            } else if (result.getStatus() != null) {
+                status = result.getStatus().name();
+            }
+            return result;
+        } finally {
+            sample.stop(timerForStatus.apply(status));
+            if (previousJob == null) {
+                CURRENT_JOB.remove();
+            } else {
+                CURRENT_JOB.set(previousJob);
+            }
+        }
+    }
+}
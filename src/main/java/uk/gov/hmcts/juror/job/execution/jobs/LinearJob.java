@@ -23,8 +23,9 @@ public abstract class LinearJob extends Job {
         List<Result> results = new ArrayList<>();
         ResultSupplier resultSupplier = getResultSupplier();
 
+        int step = 0;
         for (Function<MetaData, Result> resultRunner : resultSupplier.getResultRunners()) {
-            Result result = runJobStep(resultRunner, metaData);
+            Result result = runJobStep(resultRunner, metaData, String.valueOf(step++));
             results.add(result);
             if (!resultSupplier.isContinueOnFailure()
                 && result.getStatus() != Status.SUCCESS) {
@@ -2,20 +2,36 @@ package uk.gov.hmcts.juror.job.execution.jobs;
 
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
+import uk.gov.hmcts.juror.job.execution.config.ExecutionConfig;
 import uk.gov.hmcts.juror.job.execution.database.model.MetaData;
 import uk.gov.hmcts.juror.job.execution.model.Status;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.Function;
+import java.util.stream.IntStream;
 
 @Getter
 @Slf4j
+@SuppressWarnings("PMD.DoNotUseThreads")
 public abstract class ParallelJob extends Job {
 
+    private final ExecutionConfig executionConfig;
 
     protected ParallelJob() {
+        this(null);
+    }
+
+    protected ParallelJob(ExecutionConfig executionConfig) {
         super();
+        this.executionConfig = executionConfig;
     }
 
     public abstract List<ResultSupplier> getResultSuppliers();
@@ -24,8 +40,9 @@ public abstract class ParallelJob extends Job {
     public Result executeRunners(MetaData metaData) {
         List<Result> results = Collections.synchronizedList(new ArrayList<>());
 
+        int supplierIndex = 0;
         for (ResultSupplier resultSupplier : getResultSuppliers()) {
-            Result result = executeResultSupplier(resultSupplier, metaData);
+            Result result = executeResultSupplier(resultSupplier, metaData, supplierIndex++);
             results.add(result);
             if (!resultSupplier.isContinueOnFailure() && result.getStatus() != Status.SUCCESS) {
                 break;
@@ -34,12 +51,65 @@ public abstract class ParallelJob extends Job {
         return Result.merge(results);
     }
 
-    private Result executeResultSupplier(ResultSupplier resultSupplier, MetaData metaData) {
-        List<Result> resultSupplierResults = Collections.synchronizedList(new ArrayList<>());
-        resultSupplier.getResultRunners().parallelStream().forEach(resultRunner ->
-            resultSupplierResults.add(runJobStep(resultRunner, metaData)));
+    //Steps are tagged as <supplier index>.<runner index>
+    private Result executeResultSupplier(ResultSupplier resultSupplier, MetaData metaData, int supplierIndex) {
+        List<Function<MetaData, Result>> resultRunners = new ArrayList<>(resultSupplier.getResultRunners());
+        //Steps run on other threads so the job's execution is handed over for them to be stopped along with it
+        JobExecution jobExecution = JobExecution.current();
+        List<Callable<Result>> jobSteps = IntStream.range(0, resultRunners.size())
+            .<Callable<Result>>mapToObj(runnerIndex -> () -> jobExecution.call(() ->
+                runJobStep(resultRunners.get(runnerIndex), metaData, supplierIndex + "." + runnerIndex)))
+            .toList();
+        List<Result> resultSupplierResults = new ArrayList<>();
+        //Steps are mostly blocking JDBC calls so they run on the job's own executor rather than the common pool
+        try (ExecutorService executorService = createExecutorService(jobSteps.size())) {
+            List<Future<Result>> futures = executorService.invokeAll(jobSteps);
+            for (int runnerIndex = 0; runnerIndex < futures.size(); runnerIndex++) {
+                resultSupplierResults.add(getStepResult(futures.get(runnerIndex),
+                    supplierIndex + "." + runnerIndex));
+            }
+        } catch (InterruptedException exception) {
+            log.error("Interrupted while waiting for job steps: " + getName(), exception);
+            Thread.currentThread().interrupt();
+            resultSupplierResults.add(Result.failed("Interrupted while waiting for job steps", exception));
+        }
         Result result = Result.merge(resultSupplierResults);
         resultSupplier.runPostActions(result);
         return result;
     }
+
+    //A step that fails only fails its own result, the results of the other steps are still collected
+    private Result getStepResult(Future<Result> future, String step) throws InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException exception) {
+            log.error("Unexpected error when executing step " + step + " of Job: " + getName(), exception);
+            return new Result(Status.FAILED_UNEXPECTED_EXCEPTION,
+                "Unexpected exception raised: " + exception.getCause().getClass().getName(),
+                exception.getCause());
+        }
+    }
+
+    protected ExecutorService createExecutorService(int jobStepCount) {
+        String threadNamePrefix = getName() + "-step-";
+        ThreadFactory threadFactory = isVirtualThreads()
+            ? Thread.ofVirtual().name(threadNamePrefix, 1).factory()
+            : Thread.ofPlatform().name(threadNamePrefix, 1).daemon(true).factory();
+        return Executors.newFixedThreadPool(getConcurrency(jobStepCount), threadFactory);
+    }
+
+    int getConcurrency(int jobStepCount) {
+        int stepCount = Math.max(1, jobStepCount);
+        if (executionConfig == null || executionConfig.getConcurrency() <= 0) {
+            return stepCount;
+        }
+        return Math.min(executionConfig.getConcurrency(), stepCount);
+    }
+
+    boolean isVirtualThreads() {
+        if (executionConfig == null || executionConfig.getVirtualThreads() == null) {
+            return Thread.currentThread().isVirtual();
+        }
+        return executionConfig.getVirtualThreads();
+    }
 }
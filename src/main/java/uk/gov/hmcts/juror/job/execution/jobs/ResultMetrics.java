@@ -0,0 +1,135 @@
+package uk.gov.hmcts.juror.job.execution.jobs;
+
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+//Typed job metrics carried on a Result. Counters are summed and gauges keep the highest value when results are
+//merged, samples keep the first SAMPLE_LIMIT values per key (e.g. failed document ids) along with a total count.
+//Values are only turned into strings by toMetaData when the result is reported to the scheduler
+@EqualsAndHashCode
+@ToString
+public class ResultMetrics {
+    public static final int SAMPLE_LIMIT = 100;
+    public static final String OMITTED_SAMPLES_SUFFIX = "_OMITTED";
+
+    private final Map<String, Long> counters;
+    private final Map<String, Long> gauges;
+    private final Map<String, Samples> samples;
+
+    public ResultMetrics() {
+        this.counters = new ConcurrentHashMap<>();
+        this.gauges = new ConcurrentHashMap<>();
+        this.samples = new ConcurrentHashMap<>();
+    }
+
+    public ResultMetrics increment(String key) {
+        return add(key, 1);
+    }
+
+    public ResultMetrics add(String key, long amount) {
+        counters.merge(key, amount, Long::sum);
+        return this;
+    }
+
+    public ResultMetrics setGauge(String key, long value) {
+        gauges.put(key, value);
+        return this;
+    }
+
+    public ResultMetrics addSample(String key, String value) {
+        samples.computeIfAbsent(key, sampleKey -> new Samples()).add(value);
+        return this;
+    }
+
+    public long getCounter(String key) {
+        return counters.getOrDefault(key, 0L);
+    }
+
+    public Long getGauge(String key) {
+        return gauges.get(key);
+    }
+
+    public List<String> getSamples(String key) {
+        Samples keySamples = samples.get(key);
+        return keySamples == null ? List.of() : keySamples.getValues();
+    }
+
+    public long getSampleCount(String key) {
+        Samples keySamples = samples.get(key);
+        return keySamples == null ? 0 : keySamples.getTotal();
+    }
+
+    public boolean isEmpty() {
+        return counters.isEmpty() && gauges.isEmpty() && samples.isEmpty();
+    }
+
+    public ResultMetrics merge(ResultMetrics other) {
+        other.counters.forEach(this::add);
+        other.gauges.forEach((key, value) -> gauges.merge(key, value, Math::max));
+        other.samples.forEach((key, value) -> samples.computeIfAbsent(key, sampleKey -> new Samples()).addAll(value));
+        return this;
+    }
+
+    //Samples are reported as KEY_1..KEY_n to match the metadata keys the scheduler has always been sent
+    public Map<String, String> toMetaData() {
+        Map<String, String> metaData = new HashMap<>();
+        counters.forEach((key, value) -> metaData.put(key, String.valueOf(value)));
+        gauges.forEach((key, value) -> metaData.put(key, String.valueOf(value)));
+        samples.forEach((key, value) -> {
+            List<String> values = value.getValues();
+            for (int index = 0; index < values.size(); index++) {
+                metaData.put(key + "_" + (index + 1), values.get(index));
+            }
+            if (value.getTotal() > values.size()) {
+                metaData.put(key + OMITTED_SAMPLES_SUFFIX, String.valueOf(value.getTotal() - values.size()));
+            }
+        });
+        return metaData;
+    }
+
+    @EqualsAndHashCode
+    @ToString
+    private static final class Samples {
+        private final List<String> values = new ArrayList<>();
+        private long total;
+
+        private synchronized void add(String value) {
+            total++;
+            if (values.size() < SAMPLE_LIMIT) {
+                values.add(value);
+            }
+        }
+
+        private void addAll(Samples other) {
+            List<String> otherValues;
+            long otherTotal;
+            synchronized (other) {
+                otherValues = new ArrayList<>(other.values);
+                otherTotal = other.total;
+            }
+            synchronized (this) {
+                for (String value : otherValues) {
+                    if (values.size() < SAMPLE_LIMIT) {
+                        values.add(value);
+                    }
+                }
+                total += otherTotal;
+            }
+        }
+
+        private synchronized List<String> getValues() {
+            return Collections.unmodifiableList(new ArrayList<>(values));
+        }
+
+        private synchronized long getTotal() {
+            return total;
+        }
+    }
+}
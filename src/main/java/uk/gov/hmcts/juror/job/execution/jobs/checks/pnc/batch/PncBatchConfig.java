@@ -18,4 +18,17 @@ public class PncBatchConfig {
 
     @NotNull
     private Integer batchSize;
+
+    //Maximum number of batches waiting on the PNC service at once, 1 or less sends them one after another
+    private int maxBatchesInFlight;
+
+    //Reads the view through a cursor and sends each batch as it fills rather than loading every juror first
+    private boolean streaming;
+
+    //How often aggregated PNC callback results are pushed to the scheduler, 0 or less updates it on every callback
+    private long resultFlushInterval;
+
+    //Where aggregated PNC callback results are journaled until the last batch for the task has responded. Required
+    //when resultFlushInterval is set, and must be on a volume that outlives the pod
+    private String resultJournalDirectory;
 }
\ No newline at end of file
@@ -0,0 +1,139 @@
+package uk.gov.hmcts.juror.job.execution.jobs.checks.pnc.batch;
+
+import lombok.extern.slf4j.Slf4j;
+import uk.gov.hmcts.juror.job.execution.client.contracts.PoliceNationalCheckServiceClient;
+import uk.gov.hmcts.juror.job.execution.database.model.MetaData;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+//Sends batches to the PNC service as they are handed over. With more than one batch in flight batches are sent
+//first come first served on a fixed pool and dispatch blocks once maxBatchesInFlight are waiting on the service.
+//Non-blocking clients need no pool, the semaphore alone bounds how many requests are outstanding
+@Slf4j
+@SuppressWarnings("PMD.DoNotUseThreads")
+class PncBatchDispatcher implements AutoCloseable {
+    private final PoliceNationalCheckServiceClient policeNationalCheckServiceClient;
+    private final PoliceNationalCheckServiceClient.JurorCheckRequestBulk.MetaData requestMetaData;
+    private final int maxBatchesInFlight;
+    private final boolean concurrent;
+    private final ExecutorService executorService;
+    private final Semaphore inFlight;
+    private final AtomicInteger dispatched;
+    private final AtomicInteger failed;
+
+    PncBatchDispatcher(PoliceNationalCheckServiceClient policeNationalCheckServiceClient, MetaData metaData,
+                       int maxBatchesInFlight) {
+        this.policeNationalCheckServiceClient = policeNationalCheckServiceClient;
+        this.requestMetaData = new PoliceNationalCheckServiceClient.JurorCheckRequestBulk.MetaData(
+            metaData.getJobKey(), metaData.getTaskId());
+        this.maxBatchesInFlight = Math.max(1, maxBatchesInFlight);
+        this.concurrent = this.maxBatchesInFlight > 1;
+        this.executorService = !concurrent || policeNationalCheckServiceClient.isNonBlocking()
+            ? null
+            : Executors.newFixedThreadPool(this.maxBatchesInFlight, createThreadFactory());
+        this.inFlight = new Semaphore(this.maxBatchesInFlight, true);
+        this.dispatched = new AtomicInteger(0);
+        this.failed = new AtomicInteger(0);
+    }
+
+    void dispatch(List<PoliceNationalCheckServiceClient.JurorCheckRequest> batch) {
+        if (!concurrent) {
+            send(batch);
+            return;
+        }
+        try {
+            inFlight.acquire();
+        } catch (InterruptedException exception) {
+            log.error("Interrupted while waiting to send PNC batch", exception);
+            Thread.currentThread().interrupt();
+            failed.incrementAndGet();
+            return;
+        }
+        if (executorService == null) {
+            sendAsync(batch);
+            return;
+        }
+        try {
+            executorService.execute(() -> {
+                try {
+                    send(batch);
+                } finally {
+                    inFlight.release();
+                }
+            });
+        } catch (RejectedExecutionException exception) {
+            log.error("PNC batch dispatcher closed before sending batch", exception);
+            inFlight.release();
+            failed.incrementAndGet();
+        }
+    }
+
+    //Waits for every batch handed over so far to be sent
+    PncBatchJob.BatchDispatchResult complete() {
+        if (concurrent) {
+            try {
+                inFlight.acquire(maxBatchesInFlight);
+                inFlight.release(maxBatchesInFlight);
+            } catch (InterruptedException exception) {
+                log.error("Interrupted while waiting for PNC batches to send", exception);
+                Thread.currentThread().interrupt();
+            }
+        }
+        return new PncBatchJob.BatchDispatchResult(dispatched.get(), failed.get());
+    }
+
+    private void send(List<PoliceNationalCheckServiceClient.JurorCheckRequest> batch) {
+        try {
+            policeNationalCheckServiceClient.checkJurors(createRequest(batch));
+            dispatched.incrementAndGet();
+        } catch (Exception exception) {
+            log.error("Failed to send batch of {} checks to the PNC service", batch.size(), exception);
+            failed.incrementAndGet();
+        }
+    }
+
+    //The permit taken in dispatch is released once the response arrives rather than when the call returns
+    private void sendAsync(List<PoliceNationalCheckServiceClient.JurorCheckRequest> batch) {
+        CompletableFuture<Void> future;
+        try {
+            future = policeNationalCheckServiceClient.checkJurorsAsync(createRequest(batch));
+        } catch (Exception exception) {
+            future = CompletableFuture.failedFuture(exception);
+        }
+        future.whenComplete((result, throwable) -> {
+            if (throwable == null) {
+                dispatched.incrementAndGet();
+            } else {
+                log.error("Failed to send batch of {} checks to the PNC service", batch.size(), throwable);
+                failed.incrementAndGet();
+            }
+            inFlight.release();
+        });
+    }
+
+    private PoliceNationalCheckServiceClient.JurorCheckRequestBulk createRequest(
+        List<PoliceNationalCheckServiceClient.JurorCheckRequest> batch) {
+        return PoliceNationalCheckServiceClient.JurorCheckRequestBulk.builder().checks(batch)
+            .metaData(requestMetaData).build();
+    }
+
+    private static ThreadFactory createThreadFactory() {
+        return Thread.currentThread().isVirtual()
+            ? Thread.ofVirtual().name("pnc-batch-", 1).factory()
+            : Thread.ofPlatform().name("pnc-batch-", 1).daemon(true).factory();
+    }
+
+    @Override
+    public void close() {
+        if (executorService != null) {
+            executorService.shutdownNow();
+        }
+    }
+}
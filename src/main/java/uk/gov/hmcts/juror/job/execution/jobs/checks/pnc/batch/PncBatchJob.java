@@ -20,6 +20,7 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Consumer;
 
 @Getter
 @Component
@@ -29,6 +30,7 @@ public class PncBatchJob extends LinearJob {
     public static final String TOTAL_CHECKS_IN_BATCH_KEY;
     public static final String TOTAL_BATCHES_RESPONSES_KEY;
     public static final String TOTAL_BATCHES_REQUESTED_KEY;
+    public static final String TOTAL_BATCHES_FAILED_KEY;
 
     static final Set<String> META_DATA_KEYS_TO_COMBINE;
     static final String GET_JURORS_THAT_REQUIRE_PNC_CHECK_SQL;
@@ -38,6 +40,7 @@ public class PncBatchJob extends LinearJob {
     private final PoliceNationalCheckServiceClient policeNationalCheckServiceClient;
     private final SchedulerServiceClient schedulerServiceClient;
     private final JurorServiceClient jurorServiceClient;
+    private final PncResultAccumulator resultAccumulator;
 
 
     static {
@@ -46,6 +49,7 @@ public class PncBatchJob extends LinearJob {
         TOTAL_CHECKS_IN_BATCH_KEY = "TOTAL_CHECKS_IN_BATCH";
         TOTAL_BATCHES_RESPONSES_KEY = "TOTAL_BATCHES_RESPONSES";
         TOTAL_BATCHES_REQUESTED_KEY = "TOTAL_BATCHES_REQUESTED";
+        TOTAL_BATCHES_FAILED_KEY = "TOTAL_BATCHES_FAILED";
 
         HashSet<String> metaDataKeys = new HashSet<>();
         for (PoliceCheck policeCheck : PoliceCheck.values()) {
@@ -60,48 +64,102 @@ public class PncBatchJob extends LinearJob {
     public PncBatchJob(DatabaseService databaseService, PncBatchConfig pncBatchConfig,
                        PoliceNationalCheckServiceClient policeNationalCheckServiceClient,
                        SchedulerServiceClient schedulerServiceClient,
-                       JurorServiceClient jurorServiceClient) {
+                       JurorServiceClient jurorServiceClient,
+                       PncResultAccumulator resultAccumulator) {
         super();
         this.databaseService = databaseService;
         this.config = pncBatchConfig;
         this.policeNationalCheckServiceClient = policeNationalCheckServiceClient;
         this.schedulerServiceClient = schedulerServiceClient;
         this.jurorServiceClient = jurorServiceClient;
+        this.resultAccumulator = resultAccumulator;
     }
 
     @Override
     public ResultSupplier getResultSupplier() {
+        if (config.isStreaming()) {
+            return new ResultSupplier(false, List.of(this::streamPncChecks));
+        }
         return new ResultSupplier(false, List.of(metaData -> {
             List<PoliceNationalCheckServiceClient.JurorCheckRequest> jurorCheckRequests = getJurorsToCheck();
             if (jurorCheckRequests.isEmpty()) {
-                return new Result(Status.SUCCESS,
-                    "0 jurors need PNC checks. As such none were sent to the PNC service", null)
-                    .addMetaData(TOTAL_BATCHES_REQUESTED_KEY, "0")
-                    .addMetaData(TOTAL_CHECKS_REQUESTED_KEY, "0");
+                return createResult(0, new BatchDispatchResult(0, 0));
             }
-            int numberOfBatches = triggerPncCheck(jurorCheckRequests, metaData);
-            return new Result(Status.PROCESSING,
-                jurorCheckRequests.size() + " jurors sent to the PNC service to be checked. "
-                    + "In " + numberOfBatches + " batches",
-                null)
-                .addMetaData(TOTAL_BATCHES_REQUESTED_KEY, String.valueOf(numberOfBatches))
-                .addMetaData(TOTAL_CHECKS_REQUESTED_KEY, String.valueOf(jurorCheckRequests.size()));
+            return createResult(jurorCheckRequests.size(), triggerPncCheck(jurorCheckRequests, metaData));
         }));
     }
 
+    Result createResult(long checksRequested, BatchDispatchResult dispatchResult) {
+        if (checksRequested == 0) {
+            return new Result(Status.SUCCESS,
+                "0 jurors need PNC checks. As such none were sent to the PNC service", null)
+                .addCounter(TOTAL_BATCHES_REQUESTED_KEY, 0)
+                .addCounter(TOTAL_CHECKS_REQUESTED_KEY, 0);
+        }
+        //Only batches that reached the PNC service will call back so only those count as requested
+        if (dispatchResult.dispatched() == 0) {
+            return new Result(Status.FAILED,
+                "Failed to send all " + dispatchResult.failed() + " batches to the PNC service", null)
+                .addCounter(TOTAL_BATCHES_REQUESTED_KEY, 0)
+                .addCounter(TOTAL_BATCHES_FAILED_KEY, dispatchResult.failed())
+                .addCounter(TOTAL_CHECKS_REQUESTED_KEY, checksRequested);
+        }
+        String message = checksRequested + " jurors sent to the PNC service to be checked. "
+            + "In " + dispatchResult.dispatched() + " batches";
+        if (dispatchResult.failed() > 0) {
+            message += ". " + dispatchResult.failed() + " batches failed to send";
+        }
+        return new Result(Status.PROCESSING, message, null)
+            .addCounter(TOTAL_BATCHES_REQUESTED_KEY, dispatchResult.dispatched())
+            .addCounter(TOTAL_BATCHES_FAILED_KEY, dispatchResult.failed())
+            .addCounter(TOTAL_CHECKS_REQUESTED_KEY, checksRequested);
+    }
 
-    @SuppressWarnings("PMD.AvoidInstantiatingObjectsInLoops")
-    public int triggerPncCheck(List<PoliceNationalCheckServiceClient.JurorCheckRequest> jurorCheckRequests,
-                               MetaData metaData) {
+    public BatchDispatchResult triggerPncCheck(
+        List<PoliceNationalCheckServiceClient.JurorCheckRequest> jurorCheckRequests, MetaData metaData) {
         List<List<PoliceNationalCheckServiceClient.JurorCheckRequest>> batches =
             Utilities.getBatches(jurorCheckRequests, config.getBatchSize());
-        for (List<PoliceNationalCheckServiceClient.JurorCheckRequest> batch : batches) {
-            this.policeNationalCheckServiceClient.checkJurors(
-                PoliceNationalCheckServiceClient.JurorCheckRequestBulk.builder().checks(batch).metaData(
-                    new PoliceNationalCheckServiceClient.JurorCheckRequestBulk.MetaData(metaData.getJobKey(),
-                        metaData.getTaskId())).build());
+        int maxBatchesInFlight = getMaxBatchesInFlight(batches.size());
+        log.info("Sending {} batches to the PNC service with up to {} in flight", batches.size(),
+            maxBatchesInFlight);
+        try (PncBatchDispatcher dispatcher = createDispatcher(metaData, maxBatchesInFlight)) {
+            batches.forEach(dispatcher::dispatch);
+            return dispatcher.complete();
         }
-        return batches.size();
+    }
+
+    //Rows are read through a cursor and each batch is sent as soon as it fills so the first batch goes out while
+    //later rows are still being read and only the batches in flight are held in memory
+    Result streamPncChecks(MetaData metaData) {
+        try (PncBatchDispatcher dispatcher = createDispatcher(metaData,
+            getMaxBatchesInFlight(Integer.MAX_VALUE))) {
+            StreamingBatchAssembler batchAssembler = new StreamingBatchAssembler(dispatcher);
+            try {
+                databaseService.execute(config.getDatabase(), connection -> {
+                    log.info("Streaming jurors that require PNC checks");
+                    databaseService.executeStreamingPreparedStatement(connection, RequirePncCheck.class,
+                        config.getDatabase() == null ? null : config.getDatabase().getFetchSize(),
+                        batchAssembler, GET_JURORS_THAT_REQUIRE_PNC_CHECK_SQL);
+                    batchAssembler.finish();
+                });
+            } catch (RuntimeException exception) {
+                //Batches already sent are allowed to finish rather than being interrupted when the job fails
+                dispatcher.complete();
+                throw exception;
+            }
+            return createResult(batchAssembler.getChecksRequested(), dispatcher.complete());
+        }
+    }
+
+    PncBatchDispatcher createDispatcher(MetaData metaData, int maxBatchesInFlight) {
+        return new PncBatchDispatcher(policeNationalCheckServiceClient, metaData, maxBatchesInFlight);
+    }
+
+    int getMaxBatchesInFlight(int batchCount) {
+        return Math.max(1, Math.min(config.getMaxBatchesInFlight(), batchCount));
+    }
+
+    public record BatchDispatchResult(int dispatched, int failed) {
     }
 
     List<PoliceNationalCheckServiceClient.JurorCheckRequest> getJurorsToCheck() {
@@ -116,45 +174,136 @@ public class PncBatchJob extends LinearJob {
 
         //Process the jurors that require a PNC check
         List<PoliceNationalCheckServiceClient.JurorCheckRequest> jurorCheckRequests = new ArrayList<>();
+        List<JurorServiceClient.StatusUpdate> statusUpdates = new ArrayList<>();
         jurorsThatRequirePncCheck.forEach(requirePncCheck -> {
-            //If the user is missing information update status and skip
-            boolean isMissingInformation = false;
-            if (StringUtils.isBlank(requirePncCheck.getPostcode())) {
-                isMissingInformation = true;
-                log.info("Skipping juror {} as they are missing postcode information",
-                         requirePncCheck.getJurorNumber());
-
+            boolean isMissingInformation = isMissingInformation(requirePncCheck);
+            JurorServiceClient.StatusUpdate statusUpdate = getStatusUpdate(requirePncCheck, isMissingInformation);
+            if (statusUpdate != null) {
+                statusUpdates.add(statusUpdate);
             }
-            if (StringUtils.isBlank(requirePncCheck.getFirstName())) {
-                isMissingInformation = true;
-                log.info("Skipping juror {} as they are missing firstname information",
-                         requirePncCheck.getJurorNumber());
+            if (!isMissingInformation) {
+                jurorCheckRequests.add(requirePncCheck.toJurorCheckRequest());
+            }
+        });
+        updateJurorStatuses(statusUpdates);
+        return jurorCheckRequests;
+    }
+
+    //Returns the status the juror needs moving to before they are checked, or null if it does not need to change
+    private JurorServiceClient.StatusUpdate getStatusUpdate(RequirePncCheck requirePncCheck,
+                                                            boolean isMissingInformation) {
+        //If the user is missing information update status and skip
+        if (isMissingInformation) {
+            return new JurorServiceClient.StatusUpdate(requirePncCheck.getJurorNumber(),
+                new JurorServiceClient.Payload(PoliceCheck.INSUFFICIENT_INFORMATION));
+        }
+        //If this is the users first check update status to in progress and continue
+        if (requirePncCheck.getPoliceCheck() == null
+            || requirePncCheck.getPoliceCheck() == PoliceCheck.NOT_CHECKED) {
+            return new JurorServiceClient.StatusUpdate(requirePncCheck.getJurorNumber(),
+                new JurorServiceClient.Payload(PoliceCheck.IN_PROGRESS));
+        }
+        return null;
+    }
+
+    private boolean isMissingInformation(RequirePncCheck requirePncCheck) {
+        boolean isMissingInformation = false;
+        if (StringUtils.isBlank(requirePncCheck.getPostcode())) {
+            isMissingInformation = true;
+            log.info("Skipping juror {} as they are missing postcode information",
+                     requirePncCheck.getJurorNumber());
 
+        }
+        if (StringUtils.isBlank(requirePncCheck.getFirstName())) {
+            isMissingInformation = true;
+            log.info("Skipping juror {} as they are missing firstname information",
+                     requirePncCheck.getJurorNumber());
+
+        }
+        if (requirePncCheck.getDateOfBirth() == null) {
+            isMissingInformation = true;
+            log.info("Skipping juror {} as they are missing DOB information", requirePncCheck.getJurorNumber());
+        }
+        return isMissingInformation;
+    }
+
+    void updateJurorStatuses(List<JurorServiceClient.StatusUpdate> statusUpdates) {
+        if (statusUpdates.isEmpty()) {
+            return;
+        }
+        List<JurorServiceClient.StatusUpdate> failedUpdates = jurorServiceClient.updateAll(statusUpdates);
+        if (!failedUpdates.isEmpty()) {
+            logFailedUpdates(failedUpdates);
+            throw new InternalServerException("Failed to update juror pnc status for " + failedUpdates.size()
+                + " of " + statusUpdates.size() + " jurors");
+        }
+    }
+
+    private void logFailedUpdates(List<JurorServiceClient.StatusUpdate> failedUpdates) {
+        failedUpdates.forEach(failedUpdate -> log.error("Failed to update juror {} pnc status to {}",
+            failedUpdate.jurorNumber(), failedUpdate.payload().getStatus()));
+    }
+
+    //Runs on the thread reading the cursor. Status updates are always applied before the batch holding those
+    //jurors is sent so a PNC result can never be overwritten by a late in progress update. A failed status update
+    //fails the job, as it does when the jurors are read as a list, and the unsent batch is left for the next run
+    private final class StreamingBatchAssembler implements Consumer<RequirePncCheck> {
+        private final PncBatchDispatcher dispatcher;
+        private final List<PoliceNationalCheckServiceClient.JurorCheckRequest> batch;
+        private final List<JurorServiceClient.StatusUpdate> statusUpdates;
+        @Getter
+        private long checksRequested;
+
+        private StreamingBatchAssembler(PncBatchDispatcher dispatcher) {
+            this.dispatcher = dispatcher;
+            this.batch = new ArrayList<>(config.getBatchSize());
+            this.statusUpdates = new ArrayList<>();
+        }
+
+        @Override
+        public void accept(RequirePncCheck requirePncCheck) {
+            boolean isMissingInformation = isMissingInformation(requirePncCheck);
+            JurorServiceClient.StatusUpdate statusUpdate = getStatusUpdate(requirePncCheck, isMissingInformation);
+            if (statusUpdate != null) {
+                statusUpdates.add(statusUpdate);
+            }
+            if (!isMissingInformation) {
+                batch.add(requirePncCheck.toJurorCheckRequest());
             }
-            if (requirePncCheck.getDateOfBirth() == null) {
-                isMissingInformation = true;
-                log.info("Skipping juror {} as they are missing DOB information", requirePncCheck.getJurorNumber());
+            if (batch.size() >= config.getBatchSize()) {
+                dispatchBatch();
+            } else if (statusUpdates.size() >= config.getBatchSize()) {
+                updateStatuses();
             }
+        }
+
+        private void finish() {
+            dispatchBatch();
+        }
 
-            if (isMissingInformation) {
-                jurorServiceClient.call(requirePncCheck.getJurorNumber(),
-                                        new JurorServiceClient.Payload(PoliceCheck.INSUFFICIENT_INFORMATION));
+        private void dispatchBatch() {
+            updateStatuses();
+            if (batch.isEmpty()) {
                 return;
             }
+            checksRequested += batch.size();
+            dispatcher.dispatch(List.copyOf(batch));
+            batch.clear();
+        }
 
-            //If this is the users first check update status to in progress and continue
-            if (requirePncCheck.getPoliceCheck() == null
-                || requirePncCheck.getPoliceCheck() == PoliceCheck.NOT_CHECKED) {
-                jurorServiceClient.call(requirePncCheck.getJurorNumber(),
-                    new JurorServiceClient.Payload(PoliceCheck.IN_PROGRESS));
-            }
-            jurorCheckRequests.add(requirePncCheck.toJurorCheckRequest());
-        });
-        return jurorCheckRequests;
+        private void updateStatuses() {
+            List<JurorServiceClient.StatusUpdate> updates = List.copyOf(statusUpdates);
+            statusUpdates.clear();
+            updateJurorStatuses(updates);
+        }
     }
 
 
     public void updateResult(SchedulerServiceClient.StatusUpdatePayload payload, String jobKey, Long taskId) {
+        if (payload != null && resultAccumulator.isEnabled()) {
+            resultAccumulator.accept(payload, jobKey, taskId);
+            return;
+        }
         if (payload != null) {
             SchedulerServiceClient.TaskResponse taskResponse = this.schedulerServiceClient.getTask(jobKey, taskId);
             if (taskResponse == null) {
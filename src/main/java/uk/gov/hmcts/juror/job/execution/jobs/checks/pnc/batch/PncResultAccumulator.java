@@ -0,0 +1,340 @@
+package uk.gov.hmcts.juror.job.execution.jobs.checks.pnc.batch;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.juror.job.execution.client.contracts.SchedulerServiceClient;
+import uk.gov.hmcts.juror.job.execution.model.Status;
+import uk.gov.hmcts.juror.job.execution.service.contracts.StatusUpdatePublisher;
+import uk.gov.hmcts.juror.standard.service.exceptions.InternalServerException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+//Aggregates PNC callbacks in process so each callback no longer reads and rewrites the task on the scheduler.
+//Totals are pushed to the scheduler on a timer and as soon as the last batch responds. Every callback is written to
+//a journal file per task before it is acknowledged so totals survive a restart and are flushed again on start up.
+//Totals are held by a single pod, so it must only be enabled when PNC callbacks for a task all reach the same pod.
+//When the publisher coalesces, every callback also publishes the running totals and the publisher limits how often
+//they reach the scheduler
+@Component
+@Slf4j
+@SuppressWarnings("PMD.DoNotUseThreads")
+public class PncResultAccumulator implements InitializingBean, DisposableBean {
+    static final String JOURNAL_FILE_SUFFIX = ".pnc";
+    static final String JOURNAL_JOB_KEY = "journal.job_key";
+    static final String JOURNAL_TASK_ID = "journal.task_id";
+
+    private final SchedulerServiceClient schedulerServiceClient;
+    private final StatusUpdatePublisher statusUpdatePublisher;
+    private final PncBatchConfig config;
+    final Map<String, TaskTotals> tasks;
+    private ScheduledExecutorService flushScheduler;
+
+    public PncResultAccumulator(SchedulerServiceClient schedulerServiceClient, PncBatchConfig config,
+                                StatusUpdatePublisher statusUpdatePublisher) {
+        this.schedulerServiceClient = schedulerServiceClient;
+        this.statusUpdatePublisher = statusUpdatePublisher;
+        this.config = config;
+        this.tasks = new ConcurrentHashMap<>();
+    }
+
+    public boolean isEnabled() {
+        return config.getResultFlushInterval() > 0;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws IOException {
+        if (!isEnabled()) {
+            return;
+        }
+        //Totals are only held by this pod, so they must survive it being restarted
+        if (StringUtils.isBlank(config.getResultJournalDirectory())) {
+            throw new InternalServerException("PNC result accumulator is enabled but no persistent directory is set "
+                + "in jobs.checks.pnc.batch.result-journal-directory");
+        }
+        Files.createDirectories(getJournalDirectory());
+        loadJournal();
+        flushScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "pnc-result-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flushScheduler.scheduleWithFixedDelay(this::flush, config.getResultFlushInterval(),
+            config.getResultFlushInterval(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        if (flushScheduler != null) {
+            flushScheduler.shutdownNow();
+            flushScheduler = null;
+            flush();
+        }
+    }
+
+    public void accept(SchedulerServiceClient.StatusUpdatePayload payload, String jobKey, Long taskId) {
+        TaskTotals taskTotals = getTaskTotals(jobKey, taskId);
+        //Counters come before the response count so whoever sees the last response also sees every count
+        Map<String, Long> increments = new LinkedHashMap<>();
+        for (String key : PncBatchJob.META_DATA_KEYS_TO_COMBINE) {
+            String value = payload.getMetaDataValue(key);
+            if (StringUtils.isNumeric(value)) {
+                increments.put(key, Long.parseLong(value));
+            }
+        }
+        increments.put(PncBatchJob.TOTAL_BATCHES_RESPONSES_KEY, 1L);
+        //Callbacks for the same task are journaled in turn and only counted once journaled, so a callback that fails
+        //here and is sent again by the PNC service is not counted twice
+        synchronized (taskTotals) {
+            writeJournal(taskTotals, increments);
+            increments.forEach((key, increment) -> taskTotals.counters.merge(key, increment, Long::sum));
+            taskTotals.status = payload.getStatus();
+            taskTotals.message = payload.getMessage();
+            taskTotals.dirty.set(true);
+        }
+        if (!completeIfAllBatchesResponded(taskTotals)) {
+            publishProgress(taskTotals);
+        }
+    }
+
+    //Totals without the number of batches requested are left to the timer, which reads it from the scheduler first.
+    //A task another callback has already completed is no longer in tasks and gets no more progress
+    void publishProgress(TaskTotals taskTotals) {
+        if (statusUpdatePublisher.isCoalescing() && taskTotals.getBatchesRequested() != null
+            && tasks.get(taskTotals.getTaskKey()) == taskTotals && taskTotals.dirty.getAndSet(false)) {
+            statusUpdatePublisher.publish(taskTotals.jobKey, taskTotals.taskId, taskTotals.toPayload());
+        }
+    }
+
+    void flush() {
+        for (TaskTotals taskTotals : tasks.values()) {
+            //Tasks without the number of batches requested are checked every time until the job has reported it,
+            //otherwise callbacks that all arrived before the job result would never complete the task
+            boolean dirty = taskTotals.dirty.getAndSet(false);
+            if (!dirty && taskTotals.getBatchesRequested() != null) {
+                continue;
+            }
+            try {
+                if (taskTotals.getBatchesRequested() == null) {
+                    //The job may still have been sending batches when the first callbacks arrived
+                    refreshBaseline(taskTotals);
+                }
+                if (!completeIfAllBatchesResponded(taskTotals) && dirty) {
+                    statusUpdatePublisher.publish(taskTotals.jobKey, taskTotals.taskId, taskTotals.toPayload());
+                }
+            } catch (Exception exception) {
+                log.error("Failed to flush PNC results for jobKey: {} taskId: {}", taskTotals.jobKey,
+                    taskTotals.taskId, exception);
+                taskTotals.dirty.set(true);
+            }
+        }
+    }
+
+    private boolean completeIfAllBatchesResponded(TaskTotals taskTotals) {
+        String batchesRequested = taskTotals.getBatchesRequested();
+        String batchesResponded = String.valueOf(taskTotals.get(PncBatchJob.TOTAL_BATCHES_RESPONSES_KEY));
+        if (!batchesResponded.equals(batchesRequested)) {
+            return false;
+        }
+        //Only the caller that removes the task completes it so the final status is sent once
+        if (!tasks.remove(taskTotals.getTaskKey(), taskTotals)) {
+            return true;
+        }
+        SchedulerServiceClient.StatusUpdatePayload payload = taskTotals.toPayload();
+        String checksRequested = payload.getMetaDataValue(PncBatchJob.TOTAL_CHECKS_REQUESTED_KEY);
+        long checksProcessed = taskTotals.get("TOTAL_WITH_STATUS_" + PoliceCheck.ELIGIBLE.name())
+            + taskTotals.get("TOTAL_WITH_STATUS_" + PoliceCheck.INELIGIBLE.name());
+        if (String.valueOf(checksProcessed).equals(checksRequested)) {
+            payload.setStatus(Status.SUCCESS);
+            payload.setMessage("All batches have successfully processed");
+        } else {
+            payload.setStatus(Status.PARTIAL_SUCCESS);
+            payload.setMessage("All batches have processed but some checks did not process");
+        }
+        try {
+            statusUpdatePublisher.publish(taskTotals.jobKey, taskTotals.taskId, payload);
+        } catch (Exception exception) {
+            //The callback has already been counted so it is not failed, the timer retries the final update instead
+            log.error("Failed to send final PNC results for jobKey: {} taskId: {}", taskTotals.jobKey,
+                taskTotals.taskId, exception);
+            tasks.putIfAbsent(taskTotals.getTaskKey(), taskTotals);
+            taskTotals.dirty.set(true);
+            return true;
+        }
+        deleteJournal(taskTotals);
+        return true;
+    }
+
+    private TaskTotals getTaskTotals(String jobKey, Long taskId) {
+        String taskKey = getTaskKey(jobKey, taskId);
+        TaskTotals taskTotals = tasks.get(taskKey);
+        if (taskTotals != null) {
+            return taskTotals;
+        }
+        //The scheduler is only read the first time a task is seen, its totals become the baseline
+        TaskTotals newTaskTotals = new TaskTotals(jobKey, taskId, getTask(jobKey, taskId).getMetaData());
+        taskTotals = tasks.putIfAbsent(taskKey, newTaskTotals);
+        return taskTotals == null ? newTaskTotals : taskTotals;
+    }
+
+    private void refreshBaseline(TaskTotals taskTotals) {
+        Map<String, String> baseline = new HashMap<>(taskTotals.baseline);
+        Map<String, String> taskMetaData = getTask(taskTotals.jobKey, taskTotals.taskId).getMetaData();
+        baseline.putIfAbsent(PncBatchJob.TOTAL_BATCHES_REQUESTED_KEY,
+            taskMetaData.get(PncBatchJob.TOTAL_BATCHES_REQUESTED_KEY));
+        baseline.putIfAbsent(PncBatchJob.TOTAL_CHECKS_REQUESTED_KEY,
+            taskMetaData.get(PncBatchJob.TOTAL_CHECKS_REQUESTED_KEY));
+        baseline.values().removeIf(value -> value == null);
+        taskTotals.baseline = Map.copyOf(baseline);
+    }
+
+    private SchedulerServiceClient.TaskResponse getTask(String jobKey, Long taskId) {
+        SchedulerServiceClient.TaskResponse taskResponse = schedulerServiceClient.getTask(jobKey, taskId);
+        if (taskResponse == null) {
+            throw new InternalServerException(
+                "Task with jobKey: " + jobKey + " taskId: " + taskId + " was not found. "
+                    + "Failed to update status");
+        }
+        return taskResponse;
+    }
+
+    //Journals the totals as they will be once the increments are added, called holding the task's lock
+    private void writeJournal(TaskTotals taskTotals, Map<String, Long> increments) {
+        Properties properties = new Properties();
+        properties.putAll(taskTotals.toMetaData());
+        increments.forEach((key, increment) -> properties.put(key, String.valueOf(taskTotals.get(key) + increment)));
+        properties.put(JOURNAL_JOB_KEY, taskTotals.jobKey);
+        properties.put(JOURNAL_TASK_ID, String.valueOf(taskTotals.taskId));
+        Path journalFile = getJournalFile(taskTotals);
+        try {
+            Path tempFile = journalFile.resolveSibling(journalFile.getFileName() + ".tmp");
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                OutputStream outputStream = Channels.newOutputStream(channel);
+                properties.store(outputStream, null);
+                outputStream.flush();
+                //Forced to disk before the callback is acknowledged, not left in the page cache
+                channel.force(true);
+            }
+            Files.move(tempFile, journalFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException exception) {
+            throw new InternalServerException("Failed to journal PNC results for jobKey: "
+                + taskTotals.jobKey + " taskId: " + taskTotals.taskId, exception);
+        }
+    }
+
+    private void deleteJournal(TaskTotals taskTotals) {
+        try {
+            Files.deleteIfExists(getJournalFile(taskTotals));
+        } catch (IOException exception) {
+            log.error("Failed to delete PNC result journal for jobKey: {} taskId: {}", taskTotals.jobKey,
+                taskTotals.taskId, exception);
+        }
+    }
+
+    void loadJournal() throws IOException {
+        try (DirectoryStream<Path> journalFiles = Files.newDirectoryStream(getJournalDirectory(),
+            "*" + JOURNAL_FILE_SUFFIX)) {
+            for (Path journalFile : journalFiles) {
+                Properties properties = new Properties();
+                try (InputStream inputStream = Files.newInputStream(journalFile)) {
+                    properties.load(inputStream);
+                }
+                Map<String, String> baseline = new HashMap<>();
+                properties.stringPropertyNames().forEach(key -> baseline.put(key, properties.getProperty(key)));
+                String jobKey = baseline.remove(JOURNAL_JOB_KEY);
+                Long taskId = Long.valueOf(baseline.remove(JOURNAL_TASK_ID));
+                TaskTotals taskTotals = new TaskTotals(jobKey, taskId, baseline);
+                taskTotals.status = Status.PROCESSING;
+                taskTotals.dirty.set(true);
+                tasks.put(taskTotals.getTaskKey(), taskTotals);
+                log.info("Recovered PNC results for jobKey: {} taskId: {}", jobKey, taskId);
+            }
+        }
+    }
+
+    private Path getJournalDirectory() {
+        return Path.of(config.getResultJournalDirectory());
+    }
+
+    private Path getJournalFile(TaskTotals taskTotals) {
+        return getJournalDirectory().resolve(
+            taskTotals.getTaskKey().replaceAll("[^A-Za-z0-9_-]", "_") + JOURNAL_FILE_SUFFIX);
+    }
+
+    static String getTaskKey(String jobKey, Long taskId) {
+        return jobKey + "_" + taskId;
+    }
+
+    static final class TaskTotals {
+        private final String jobKey;
+        private final Long taskId;
+        //Only updated holding the task's lock, read without it
+        private final Map<String, Long> counters;
+        private final AtomicBoolean dirty;
+        private volatile Map<String, String> baseline;
+        private volatile Status status;
+        private volatile String message;
+
+        private TaskTotals(String jobKey, Long taskId, Map<String, String> baseline) {
+            this.jobKey = jobKey;
+            this.taskId = taskId;
+            Map<String, String> nonNullBaseline = new HashMap<>(baseline);
+            nonNullBaseline.values().removeIf(value -> value == null);
+            this.baseline = Map.copyOf(nonNullBaseline);
+            this.dirty = new AtomicBoolean(false);
+            Set<String> keys = new HashSet<>(PncBatchJob.META_DATA_KEYS_TO_COMBINE);
+            keys.add(PncBatchJob.TOTAL_BATCHES_RESPONSES_KEY);
+            this.counters = new ConcurrentHashMap<>();
+            keys.forEach(key -> counters.put(key, 0L));
+        }
+
+        String getTaskKey() {
+            return PncResultAccumulator.getTaskKey(jobKey, taskId);
+        }
+
+        String getBatchesRequested() {
+            return baseline.get(PncBatchJob.TOTAL_BATCHES_REQUESTED_KEY);
+        }
+
+        long get(String key) {
+            String baselineValue = baseline.get(key);
+            long value = StringUtils.isNumeric(baselineValue) ? Long.parseLong(baselineValue) : 0;
+            Long counter = counters.get(key);
+            return counter == null ? value : value + counter;
+        }
+
+        Map<String, String> toMetaData() {
+            Map<String, String> metaData = new HashMap<>(baseline);
+            counters.keySet().forEach(key -> metaData.put(key, String.valueOf(get(key))));
+            return metaData;
+        }
+
+        SchedulerServiceClient.StatusUpdatePayload toPayload() {
+            return new SchedulerServiceClient.StatusUpdatePayload(
+                status == null ? Status.PROCESSING : status, message, new ConcurrentHashMap<>(toMetaData()));
+        }
+    }
+}
@@ -6,6 +6,7 @@ import uk.gov.hmcts.juror.job.execution.config.DatabaseConfig;
 import uk.gov.hmcts.juror.job.execution.database.model.ContentStore;
 import uk.gov.hmcts.juror.job.execution.database.model.MetaData;
 import uk.gov.hmcts.juror.job.execution.jobs.LinearJob;
+import uk.gov.hmcts.juror.job.execution.jobs.ResultMetrics;
 import uk.gov.hmcts.juror.job.execution.model.Status;
 import uk.gov.hmcts.juror.job.execution.rules.Rules;
 import uk.gov.hmcts.juror.job.execution.service.contracts.DatabaseService;
@@ -16,11 +17,15 @@ import uk.gov.hmcts.juror.job.execution.util.Sftp;
 
 import java.io.File;
 import java.sql.SQLException;
+import java.time.Clock;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 @Slf4j
 @Getter
@@ -31,14 +36,21 @@ public abstract class ContentStoreFileJob extends LinearJob {
         + "WHERE CS.FILE_TYPE=? "
         + "AND CS.DATE_SENT is NULL";
 
-    private static final String UPDATE_SQL_QUERY = "UPDATE CONTENT_STORE "
+    static final String UPDATE_SQL_QUERY = "UPDATE CONTENT_STORE "
         + "SET DATE_SENT=now(), FAILED_FILE_TRANSFER=false "
         + "WHERE DOCUMENT_ID=? AND FILE_TYPE=? AND DATE_SENT is NULL";
 
-    private static final String UPDATE_SQL_FAILED_QUERY = "UPDATE CONTENT_STORE "
+    static final String UPDATE_SQL_FAILED_QUERY = "UPDATE CONTENT_STORE "
         + "SET FAILED_FILE_TRANSFER=true "
         + "WHERE DOCUMENT_ID=? AND FILE_TYPE=?";
 
+    static final String TOTAL_FILES_TO_GENERATE_KEY = "TOTAL_FILES_TO_GENERATED";
+    static final String TOTAL_FILES_GENERATED_SUCCESS_KEY = "TOTAL_FILES_GENERATED_SUCCESS";
+    static final String TOTAL_FILES_GENERATED_UNSUCCESSFULLY_KEY = "TOTAL_FILES_GENERATED_UNSUCCESSFULLY";
+    static final String FAILED_TO_GENERATE_FILE_KEY = "FAILED_TO_GENERATE_FILE";
+    static final String FAILED_TO_UPLOAD_FILE_KEY = "FAILED_TO_UPLOAD_FILE";
+    static final String FAILED_TO_UPDATE_FILE_KEY = "FAILED_TO_UPDATE_FILE";
+
     private final SftpService sftpService;
     private final DatabaseService databaseService;
     private final Class<? extends Sftp> sftpClass;
@@ -50,6 +62,10 @@ public abstract class ContentStoreFileJob extends LinearJob {
     private final String fileType;
     private final long retryLimit;
     private final long retryDelay;
+    private final int updateBatchSize;
+    private final long updateBatchInterval;
+    private final int pipelineQueueCapacity;
+    private final Clock clock;
 
     @SuppressWarnings("PMD.ExcessiveParameterList")
     protected ContentStoreFileJob(
@@ -63,7 +79,10 @@ public abstract class ContentStoreFileJob extends LinearJob {
         String fileNameRegex,
         Class<? extends Sftp> sftpClass,
         long retryLimit,
-        long retryDelay
+        long retryDelay,
+        int updateBatchSize,
+        long updateBatchInterval,
+        int pipelineQueueCapacity
     ) {
         super();
         this.sftpService = sftpService;
@@ -78,11 +97,19 @@ public abstract class ContentStoreFileJob extends LinearJob {
         new File(this.getFtpDirectory().getAbsolutePath()).mkdir();
         this.retryLimit = retryLimit;
         this.retryDelay = retryDelay;
+        this.updateBatchSize = updateBatchSize;
+        this.updateBatchInterval = updateBatchInterval;
+        this.pipelineQueueCapacity = pipelineQueueCapacity;
+        this.clock = Clock.systemUTC();
         addRules(
             Rules.requireDirectory(this.getFtpDirectory())
         );
     }
 
+    private Integer getFetchSize() {
+        return databaseConfig == null ? null : databaseConfig.getFetchSize();
+    }
+
     private boolean isRunFailedOnly(MetaData metaData) {
         if (metaData.getRequestParams().containsKey("onlyRunFailed")) {
             return Boolean.parseBoolean(metaData.getRequestParams().get("onlyRunFailed"));
@@ -92,10 +119,17 @@ public abstract class ContentStoreFileJob extends LinearJob {
     }
 
     protected Result generateFiles(MetaData metaData) {
-        Map<String, String> resultMetaData = new ConcurrentHashMap<>();
-        AtomicInteger successCount = new AtomicInteger(0);
-        AtomicInteger failureCount = new AtomicInteger(0);
-        AtomicInteger totalFiles = new AtomicInteger(0);
+        return generateFiles(metaData, documentId -> false, file -> {
+        });
+    }
+
+    //Rows matched by alwaysGenerate are written even when only failed transfers are being run
+    private Result generateFiles(MetaData metaData, Predicate<String> alwaysGenerate,
+                                 Consumer<File> generatedFileConsumer) {
+        ResultMetrics metrics = new ResultMetrics()
+            .add(TOTAL_FILES_TO_GENERATE_KEY, 0)
+            .add(TOTAL_FILES_GENERATED_SUCCESS_KEY, 0)
+            .add(TOTAL_FILES_GENERATED_UNSUCCESSFULLY_KEY, 0);
 
         boolean isRunFailedOnly = isRunFailedOnly(metaData);
         databaseService.execute(getDatabaseConfig(), connection -> {
@@ -105,84 +139,200 @@ public abstract class ContentStoreFileJob extends LinearJob {
             }
             log.info("{}: Getting Items to generate", fileType);
 
-            List<ContentStore> contentStoreList =
-                databaseService.executePreparedStatement(connection, ContentStore.class, SELECT_SQL_QUERY, fileType);
-
-            // check the flag - only run failed transfers, otherwise run all (failed and new)
-            if (isRunFailedOnly) {
-                contentStoreList = contentStoreList
-                    .stream()
-                    .filter(ContentStore::isFailedFileTransfer)
-                    .toList();
-            }
+            //Rows are streamed so only the content store item currently being written is held in memory
+            databaseService.executeStreamingPreparedStatement(connection, ContentStore.class, getFetchSize(),
+                contentStore -> {
+                    boolean generate = alwaysGenerate.test(contentStore.getDocumentId());
+                    // check the flag - only run failed transfers, otherwise run all (failed and new)
+                    if (isRunFailedOnly && !contentStore.isFailedFileTransfer() && !generate) {
+                        return;
+                    }
+                    metrics.increment(TOTAL_FILES_TO_GENERATE_KEY);
+                    final File file;
+                    try {
+                        log.info("{}: Generating file {}: {}", fileType,
+                            metrics.getCounter(TOTAL_FILES_TO_GENERATE_KEY), contentStore.getDocumentId());
+                        file = FileUtils.createFile(
+                            this.getFtpDirectory().getAbsolutePath() + '/' + contentStore.getDocumentId());
 
-            totalFiles.set(contentStoreList.size());
-            AtomicInteger count = new AtomicInteger(1);
-
-            contentStoreList.forEach(contentStore -> {
-                try {
-                    log.info("{}: Generating file {}/{}: {}", fileType, count.getAndIncrement(), totalFiles.get(),
-                        contentStore.getDocumentId());
-                    File file = FileUtils.createFile(
-                        this.getFtpDirectory().getAbsolutePath() + '/' + contentStore.getDocumentId());
-
-                    FileUtils.writeToFile(file, contentStore.getData());
-                    successCount.incrementAndGet();
-                } catch (Exception e) {
-                    log.error("{}: Failed to generate file for: {}", fileType, contentStore.getDocumentId(), e);
-                    resultMetaData.put("FAILED_TO_GENERATE_FILE_" + failureCount.incrementAndGet(),
-                        contentStore.getDocumentId());
-                }
-            });
+                        FileUtils.writeToFile(file, contentStore.getData());
+                        metrics.increment(TOTAL_FILES_GENERATED_SUCCESS_KEY);
+                    } catch (Exception e) {
+                        log.error("{}: Failed to generate file for: {}", fileType, contentStore.getDocumentId(), e);
+                        metrics.increment(TOTAL_FILES_GENERATED_UNSUCCESSFULLY_KEY)
+                            .addSample(FAILED_TO_GENERATE_FILE_KEY, contentStore.getDocumentId());
+                        return;
+                    }
+                    generatedFileConsumer.accept(file);
+                }, SELECT_SQL_QUERY, fileType);
         });
-        resultMetaData.put("TOTAL_FILES_TO_GENERATED", String.valueOf(totalFiles));
-        resultMetaData.put("TOTAL_FILES_GENERATED_SUCCESS", successCount.toString());
-        resultMetaData.put("TOTAL_FILES_GENERATED_UNSUCCESSFULLY", failureCount.toString());
-        if (failureCount.get() > 0) {
+        long failureCount = metrics.getCounter(TOTAL_FILES_GENERATED_UNSUCCESSFULLY_KEY);
+        if (failureCount > 0) {
             return Result.partialSuccess(
-                    failureCount.get() + " files failed to generate out of " + totalFiles.get() + ".")
-                .addMetaData(resultMetaData);
+                    failureCount + " files failed to generate out of "
+                        + metrics.getCounter(TOTAL_FILES_TO_GENERATE_KEY) + ".")
+                .addMetrics(metrics);
         } else {
             return Result.passed()
-                .addMetaData(resultMetaData);
+                .addMetrics(metrics);
         }
     }
 
     protected Result uploadFiles() {
-        Map<String, String> metaData = new ConcurrentHashMap<>();
-        AtomicInteger successCount = new AtomicInteger(0);
-        AtomicInteger failureCount = new AtomicInteger(0);
-        AtomicInteger successUpdateCount = new AtomicInteger(0);
-        AtomicInteger failedUpdateCount = new AtomicInteger(0);
-        String message;
-        Status status;
-
         log.info("{}: Uploading generated files", fileType);
-        Set<File> filesToProcess = FileSearch.directory(this.getFtpDirectory(), true)
+        Set<File> filesToProcess = findFilesToUpload();
+        UploadTracker uploadTracker = new UploadTracker();
+
+        try {
+            if (filesToProcess.isEmpty()) {
+                log.info("{}: No files found", fileType);
+            } else {
+                log.info("{}: Attempting to upload files", fileType);
+                //Files are uploaded concurrently but each result is handled here on the job thread
+                sftpService.upload(sftpClass, filesToProcess, retryLimit, retryDelay, uploadTracker);
+                log.info("{}: Job completed", fileType);
+            }
+        } finally {
+            uploadTracker.finish();
+        }
+        return uploadTracker.toResult(filesToProcess.size());
+    }
+
+    //Generated files are handed straight to the upload stage so generation and transfer overlap. The directory is
+    //only searched once, up front, to pick up files left behind by an earlier run that stopped before uploading them
+    protected Result generateAndUploadFiles(MetaData metaData) {
+        UploadTracker uploadTracker = new UploadTracker();
+        AtomicInteger totalFilesToUpload = new AtomicInteger(0);
+        Result generateResult;
+        try (SftpService.UploadPipeline pipeline =
+                 sftpService.openPipeline(sftpClass, retryLimit, retryDelay, pipelineQueueCapacity)) {
+            Set<File> leftoverFiles = findFilesToUpload();
+            if (!leftoverFiles.isEmpty()) {
+                log.info("{}: Found {} files left from a previous run", fileType, leftoverFiles.size());
+            }
+            Set<String> leftoverFileNames = new HashSet<>();
+            leftoverFiles.forEach(file -> leftoverFileNames.add(file.getName()));
+
+            //A leftover file may have been cut short so it is written again while its row is still pending. The
+            //content store cursor only waits on an upload once as many files are waiting as the pipeline holds,
+            //results (with their content store updates) are only handled after the cursor is closed
+            Deque<File> waitingFiles = new ArrayDeque<>();
+            generateResult = generateFiles(metaData, leftoverFileNames::remove,
+                file -> {
+                    totalFilesToUpload.incrementAndGet();
+                    while (!waitingFiles.isEmpty() && pipeline.trySubmit(waitingFiles.peek())) {
+                        waitingFiles.poll();
+                    }
+                    if (waitingFiles.isEmpty() && pipeline.trySubmit(file)) {
+                        return;
+                    }
+                    if (waitingFiles.size() >= pipelineQueueCapacity) {
+                        pipeline.submit(waitingFiles.poll());
+                    }
+                    waitingFiles.add(file);
+                });
+            //Leftovers whose rows are no longer pending were written in full before, they are uploaded as they are
+            leftoverFiles.stream()
+                .filter(file -> leftoverFileNames.contains(file.getName()))
+                .forEach(file -> {
+                    totalFilesToUpload.incrementAndGet();
+                    waitingFiles.add(file);
+                });
+            for (File file : waitingFiles) {
+                pipeline.drainResults(uploadTracker);
+                pipeline.submit(file);
+            }
+            pipeline.complete(uploadTracker);
+        } finally {
+            uploadTracker.finish();
+        }
+        log.info("{}: Job completed", fileType);
+        return Result.merge(List.of(generateResult, uploadTracker.toResult(totalFilesToUpload.get())));
+    }
+
+    private Set<File> findFilesToUpload() {
+        return FileSearch.directory(this.getFtpDirectory(), true)
             .setFileNameRegexFilter(fileNameRegex).search();
-        int totalFilesToUpload = filesToProcess.size();
+    }
 
-        if (filesToProcess.isEmpty()) {
-            log.info("{}: No files found", fileType);
-            status = Status.SUCCESS;
-            message = "No files found";
-        } else {
-            log.info("{}: Attempting to upload files", fileType);
-            filesToProcess.forEach(file -> {
-                if (sftpService.upload(sftpClass, file, retryLimit, retryDelay)) {
-                    updateDateSent(file, successUpdateCount, failedUpdateCount, metaData);
-                    successCount.incrementAndGet();
+    boolean isPipelined() {
+        return pipelineQueueCapacity > 0;
+    }
+
+    boolean isBatchUpdates() {
+        return updateBatchSize > 1;
+    }
+
+    @Override
+    public ResultSupplier getResultSupplier() {
+        if (isPipelined()) {
+            return new ResultSupplier(false, List.of(this::generateAndUploadFiles));
+        }
+        return new ResultSupplier(false, List.of(
+            this::generateFiles,
+            metaData -> uploadFiles()
+        ));
+    }
+
+    //Turns upload results into content store updates and the upload metadata reported by the job.
+    //Results are always handed over on the job thread, batched updates may also be flushed on the batch's timer
+    private final class UploadTracker implements Consumer<SftpService.UploadResult> {
+        private final ResultMetrics metrics = new ResultMetrics();
+        private final AtomicInteger successCount = new AtomicInteger(0);
+        private final AtomicInteger failureCount = new AtomicInteger(0);
+        private final AtomicInteger successUpdateCount = new AtomicInteger(0);
+        private final AtomicInteger failedUpdateCount = new AtomicInteger(0);
+        private final ContentStoreUpdateBatch updateBatch;
+
+        private UploadTracker() {
+            //A batch size of 1 or less keeps the original behaviour of updating each file as soon as it is uploaded
+            this.updateBatch = isBatchUpdates()
+                ? new ContentStoreUpdateBatch(databaseService, getDatabaseConfig(), fileType, updateBatchSize,
+                updateBatchInterval, clock, successUpdateCount, failedUpdateCount, metrics)
+                : null;
+        }
+
+        @Override
+        public void accept(SftpService.UploadResult uploadResult) {
+            final File file = uploadResult.file();
+            if (uploadResult.successful()) {
+                successCount.incrementAndGet();
+            } else {
+                failureCount.incrementAndGet();
+                metrics.addSample(FAILED_TO_UPLOAD_FILE_KEY, file.getName());
+                failedUpdateCount.incrementAndGet();
+            }
+            //A batched file is deleted by the batch once its update has been flushed
+            if (updateBatch != null) {
+                if (uploadResult.successful()) {
+                    updateBatch.addSent(file);
                 } else {
-                    setToFailed(file);
-                    metaData.put("FAILED_TO_UPLOAD_FILE_" + failureCount.incrementAndGet(), file.getName());
-                    failedUpdateCount.incrementAndGet();
+                    updateBatch.addFailed(file);
                 }
-                FileUtils.deleteFile(file);
-            });
-            log.info("{}: Job completed", fileType);
+                return;
+            }
+            if (uploadResult.successful()) {
+                updateDateSent(file, successUpdateCount, failedUpdateCount, metrics);
+            } else {
+                setToFailed(file);
+            }
+            FileUtils.deleteFile(file);
+        }
 
-            if (failureCount.get() > 0 || failedUpdateCount.get() > 0) {
-                message = failureCount.get() + " files failed to upload out of " + filesToProcess.size();
+        private void finish() {
+            if (updateBatch != null) {
+                updateBatch.close();
+            }
+        }
+
+        private Result toResult(int totalFilesToUpload) {
+            String message;
+            Status status;
+            if (totalFilesToUpload == 0) {
+                status = Status.SUCCESS;
+                message = "No files found";
+            } else if (failureCount.get() > 0 || failedUpdateCount.get() > 0) {
+                message = failureCount.get() + " files failed to upload out of " + totalFilesToUpload;
 
                 if (failureCount.get() == totalFilesToUpload) {
                     status = Status.FAILED;
@@ -193,34 +343,26 @@ public abstract class ContentStoreFileJob extends LinearJob {
                 status = Status.SUCCESS;
                 message = "Successfully uploaded " + totalFilesToUpload + " files";
             }
-        }
-
-        metaData.put("TOTAL_FILES_TO_UPLOAD", String.valueOf(totalFilesToUpload));
-        metaData.put("TOTAL_FILES_UPLOADED_SUCCESS", successCount.toString());
-        metaData.put("TOTAL_FILES_UPLOADED_UNSUCCESSFULLY", failureCount.toString());
-        metaData.put("TOTAL_FILES_UPDATED_SUCCESS", successUpdateCount.toString());
-        metaData.put("TOTAL_FILES_UPDATED_UNSUCCESSFULLY", failedUpdateCount.toString());
-
-        return new Result(status, message).addMetaData(metaData);
-    }
 
-    @Override
-    public ResultSupplier getResultSupplier() {
-        return new ResultSupplier(false, List.of(
-            this::generateFiles,
-            metaData -> uploadFiles()
-        ));
+            metrics.add("TOTAL_FILES_TO_UPLOAD", totalFilesToUpload)
+                .add("TOTAL_FILES_UPLOADED_SUCCESS", successCount.get())
+                .add("TOTAL_FILES_UPLOADED_UNSUCCESSFULLY", failureCount.get())
+                .add("TOTAL_FILES_UPDATED_SUCCESS", successUpdateCount.get())
+                .add("TOTAL_FILES_UPDATED_UNSUCCESSFULLY", failedUpdateCount.get());
+            return new Result(status, message).addMetrics(metrics);
+        }
     }
 
     private void updateDateSent(File file, AtomicInteger successUpdateCount, AtomicInteger failedUpdateCount,
-                                Map<String, String> metaData) {
+                                ResultMetrics metrics) {
         databaseService.execute(getDatabaseConfig(), connection -> {
             try {
                 databaseService.executeUpdate(connection, UPDATE_SQL_QUERY, file.getName(), fileType);
                 successUpdateCount.incrementAndGet();
             } catch (SQLException e) {
                 log.error("{}: Failed to update file: {} as uploaded", fileType, file.getName(), e);
-                metaData.put("FAILED_TO_UPDATE_FILE_" + failedUpdateCount.incrementAndGet(), "file.getName()");
+                failedUpdateCount.incrementAndGet();
+                metrics.addSample(FAILED_TO_UPDATE_FILE_KEY, file.getName());
             }
         });
     }
@@ -0,0 +1,165 @@
+package uk.gov.hmcts.juror.job.execution.jobs.contentstore;
+
+import lombok.extern.slf4j.Slf4j;
+import uk.gov.hmcts.juror.job.execution.config.DatabaseConfig;
+import uk.gov.hmcts.juror.job.execution.jobs.ResultMetrics;
+import uk.gov.hmcts.juror.job.execution.service.contracts.DatabaseService;
+import uk.gov.hmcts.juror.job.execution.util.FileUtils;
+
+import java.io.File;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+//Collects content store status updates so they can be sent as JDBC batches rather than one statement per file.
+//A flush happens once the batch size is reached or the flush interval has passed since the last flush, which is also
+//checked on a timer so updates are not held while no uploads are finishing. Each uploaded file is only deleted once
+//its update has been flushed, so a file whose update was never made is uploaded again on the next run
+@Slf4j
+@SuppressWarnings("PMD.DoNotUseThreads")
+class ContentStoreUpdateBatch implements AutoCloseable {
+
+    private final DatabaseService databaseService;
+    private final DatabaseConfig databaseConfig;
+    private final String fileType;
+    private final int batchSize;
+    private final long flushInterval;
+    private final Clock clock;
+
+    private final AtomicInteger successUpdateCount;
+    private final AtomicInteger failedUpdateCount;
+    private final ResultMetrics metrics;
+
+    private final ScheduledExecutorService flushTimer;
+    private final List<File> sentFiles;
+    private final List<File> failedFiles;
+    private long lastFlush;
+
+    @SuppressWarnings("PMD.ExcessiveParameterList")
+    ContentStoreUpdateBatch(DatabaseService databaseService, DatabaseConfig databaseConfig, String fileType,
+                            int batchSize, long flushInterval, Clock clock,
+                            AtomicInteger successUpdateCount, AtomicInteger failedUpdateCount,
+                            ResultMetrics metrics) {
+        this(databaseService, databaseConfig, fileType, batchSize, flushInterval, clock, successUpdateCount,
+            failedUpdateCount, metrics, flushInterval > 0
+                ? Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("content-store-update-" + fileType).daemon(true).factory())
+                : null);
+    }
+
+    @SuppressWarnings("PMD.ExcessiveParameterList")
+    ContentStoreUpdateBatch(DatabaseService databaseService, DatabaseConfig databaseConfig, String fileType,
+                            int batchSize, long flushInterval, Clock clock,
+                            AtomicInteger successUpdateCount, AtomicInteger failedUpdateCount,
+                            ResultMetrics metrics, ScheduledExecutorService flushTimer) {
+        this.databaseService = databaseService;
+        this.databaseConfig = databaseConfig;
+        this.fileType = fileType;
+        this.batchSize = batchSize;
+        this.flushInterval = flushInterval;
+        this.clock = clock;
+        this.successUpdateCount = successUpdateCount;
+        this.failedUpdateCount = failedUpdateCount;
+        this.metrics = metrics;
+        this.flushTimer = flushTimer;
+        this.sentFiles = new ArrayList<>();
+        this.failedFiles = new ArrayList<>();
+        this.lastFlush = clock.millis();
+        if (flushTimer != null) {
+            flushTimer.scheduleWithFixedDelay(this::flushIfDue, flushInterval, flushInterval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    synchronized void addSent(File file) {
+        sentFiles.add(file);
+        flushIfRequired();
+    }
+
+    synchronized void addFailed(File file) {
+        failedFiles.add(file);
+        flushIfRequired();
+    }
+
+    synchronized int size() {
+        return sentFiles.size() + failedFiles.size();
+    }
+
+    private void flushIfRequired() {
+        if (size() >= batchSize || clock.millis() - lastFlush >= flushInterval) {
+            flush();
+        }
+    }
+
+    //Runs on the flush timer, a failure is logged and the updates are left for the next run to make
+    synchronized void flushIfDue() {
+        try {
+            if (clock.millis() - lastFlush >= flushInterval) {
+                flush();
+            }
+        } catch (Exception e) {
+            log.error("{}: Failed to flush content store updates", fileType, e);
+        }
+    }
+
+    synchronized void flush() {
+        lastFlush = clock.millis();
+        if (size() == 0) {
+            return;
+        }
+        final List<String> sent = toDocumentIds(sentFiles);
+        final List<String> failed = toDocumentIds(failedFiles);
+        final List<File> files = new ArrayList<>(sentFiles);
+        files.addAll(failedFiles);
+        sentFiles.clear();
+        failedFiles.clear();
+
+        log.info("{}: Flushing {} uploaded and {} failed file updates", fileType, sent.size(), failed.size());
+        databaseService.execute(databaseConfig, connection -> {
+            if (!sent.isEmpty()) {
+                try {
+                    databaseService.executeBatchUpdate(connection, ContentStoreFileJob.UPDATE_SQL_QUERY,
+                        toBatchArguments(sent));
+                    successUpdateCount.addAndGet(sent.size());
+                } catch (SQLException e) {
+                    log.error("{}: Failed to update files: {} as uploaded", fileType, sent, e);
+                    failedUpdateCount.addAndGet(sent.size());
+                    sent.forEach(documentId ->
+                        metrics.addSample(ContentStoreFileJob.FAILED_TO_UPDATE_FILE_KEY, documentId));
+                }
+            }
+            if (!failed.isEmpty()) {
+                try {
+                    databaseService.executeBatchUpdate(connection, ContentStoreFileJob.UPDATE_SQL_FAILED_QUERY,
+                        toBatchArguments(failed));
+                } catch (SQLException e) {
+                    log.error("{}: Failed to set failed file transfer flag: {}", fileType, failed, e);
+                }
+            }
+        });
+        files.forEach(FileUtils::deleteFile);
+    }
+
+    //Stops the flush timer and flushes whatever is left
+    @Override
+    public void close() {
+        if (flushTimer != null) {
+            flushTimer.shutdown();
+        }
+        flush();
+    }
+
+    private static List<String> toDocumentIds(List<File> files) {
+        return files.stream().map(File::getName).toList();
+    }
+
+    private List<Object[]> toBatchArguments(List<String> documentIds) {
+        return documentIds.stream()
+            .map(documentId -> new Object[]{documentId, fileType})
+            .toList();
+    }
+}
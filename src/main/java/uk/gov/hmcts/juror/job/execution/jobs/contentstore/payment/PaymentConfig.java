@@ -28,4 +28,10 @@ public class PaymentConfig implements HasDatabaseConfig, HasSftpConfig {
 
     private long retryLimit;
     private long retryDelay;
+
+    private int updateBatchSize;
+    private long updateBatchInterval;
+
+    //A capacity above 0 overlaps file generation with uploading instead of running them one after the other
+    private int pipelineQueueCapacity;
 }
@@ -25,6 +25,9 @@ public class PaymentFileJob extends ContentStoreFileJob {
             "\\d+.*\\d{13}\\.dat",
             PaymentSftp.class,
             paymentConfig.getRetryLimit(),
-            paymentConfig.getRetryDelay());
+            paymentConfig.getRetryDelay(),
+            paymentConfig.getUpdateBatchSize(),
+            paymentConfig.getUpdateBatchInterval(),
+            paymentConfig.getPipelineQueueCapacity());
     }
 }
@@ -30,4 +30,10 @@ public class PrintConfig implements HasDatabaseConfig, HasSftpConfig {
 
     private long retryLimit;
     private long retryDelay;
+
+    private int updateBatchSize;
+    private long updateBatchInterval;
+
+    //A capacity above 0 overlaps file generation with uploading instead of running them one after the other
+    private int pipelineQueueCapacity;
 }
@@ -25,6 +25,9 @@ public class PrintFileJob extends ContentStoreFileJob {
             "JURY\\d+\\.\\d+.*",
             PrintSftp.class,
             printConfig.getRetryLimit(),
-            printConfig.getRetryDelay());
+            printConfig.getRetryDelay(),
+            printConfig.getUpdateBatchSize(),
+            printConfig.getUpdateBatchInterval(),
+            printConfig.getPipelineQueueCapacity());
     }
 }
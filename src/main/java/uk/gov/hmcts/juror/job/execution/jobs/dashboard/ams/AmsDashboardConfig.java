@@ -8,6 +8,7 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.NestedConfigurationProperty;
 import org.springframework.context.annotation.Configuration;
 import uk.gov.hmcts.juror.job.execution.config.DatabaseConfig;
+import uk.gov.hmcts.juror.job.execution.config.ExecutionConfig;
 import uk.gov.hmcts.juror.job.execution.config.contracts.HasDatabaseConfig;
 
 import java.io.File;
@@ -22,6 +23,9 @@ public class AmsDashboardConfig implements HasDatabaseConfig {
     @NestedConfigurationProperty
     private DatabaseConfig database;
 
+    @NestedConfigurationProperty
+    private ExecutionConfig execution;
+
     @NotNull
     private File pncCertificateLocation;
 
@@ -26,7 +26,7 @@ public class AmsDashboardGenerateJob extends ParallelJob {
     public AmsDashboardGenerateJob(SchedulerServiceClient schedulerServiceClient,
                                    DatabaseService databaseService,
                                    AmsDashboardConfig config, Clock clock) {
-        super();
+        super(config.getExecution());
         this.schedulerServiceClient = schedulerServiceClient;
         this.databaseService = databaseService;
         this.config = config;
@@ -16,7 +16,6 @@ import java.security.NoSuchAlgorithmException;
 import java.security.cert.Certificate;
 import java.security.cert.CertificateException;
 import java.security.cert.X509Certificate;
-import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.time.Clock;
 import java.time.LocalDateTime;
@@ -26,8 +25,7 @@ import java.util.Locale;
 @Slf4j
 @SuppressWarnings("PMD.LawOfDemeter")
 public class Certificates extends DashboardDataEntry {
-    private static final DateFormat DATE_FORMATTER =
-        new SimpleDateFormat("EEE MMM dd HH:mm:ss z yyyy", Locale.getDefault());
+    private static final String DATE_FORMAT = "EEE MMM dd HH:mm:ss z yyyy";
     final AmsDashboardConfig config;
     final Clock clock;
 
@@ -53,10 +51,9 @@ public class Certificates extends DashboardDataEntry {
         this.addEntry(name, expiryDate, status);
     }
 
+    //A formatter per call rather than a shared one behind a lock, a synchronized block pins a virtual thread
     private String formatDate(Date date) {
-        synchronized (DATE_FORMATTER) {
-            return DATE_FORMATTER.format(date);
-        }
+        return new SimpleDateFormat(DATE_FORMAT, Locale.getDefault()).format(date);
     }
 
     public Job.Result populate() {
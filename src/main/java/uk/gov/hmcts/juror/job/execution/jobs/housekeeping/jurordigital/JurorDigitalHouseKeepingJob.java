@@ -4,10 +4,21 @@ import org.springframework.stereotype.Component;
 import uk.gov.hmcts.juror.job.execution.jobs.StoredProcedureJob;
 import uk.gov.hmcts.juror.job.execution.service.contracts.DatabaseService;
 
+import java.util.concurrent.TimeUnit;
+
 @Component
 public class JurorDigitalHouseKeepingJob extends StoredProcedureJob {
+    private final long timeout;
+
     protected JurorDigitalHouseKeepingJob(DatabaseService databaseService, JurorDigitalHouseKeepingConfig config) {
         super(databaseService, config.getDatabase(), "juror_mod.housekeeping_digital_process",
             config.getMaxTimeout());
+        this.timeout = TimeUnit.SECONDS.toMillis(config.getMaxTimeout());
+    }
+
+    //The procedure's max timeout (seconds) is also the time budget for the job
+    @Override
+    public long getTimeout() {
+        return timeout;
     }
 }
@@ -6,13 +6,24 @@ import org.springframework.stereotype.Component;
 import uk.gov.hmcts.juror.job.execution.jobs.StoredProcedureJob;
 import uk.gov.hmcts.juror.job.execution.service.contracts.DatabaseService;
 
+import java.util.concurrent.TimeUnit;
+
 @Component
 @Getter
 @Setter
 public class HouseKeepingJob extends StoredProcedureJob {
 
+    private final long timeout;
+
     protected HouseKeepingJob(DatabaseService databaseService, HouseKeepingConfig config) {
         super(databaseService, config.getDatabase(), "juror_mod.housekeeping_process",
             config.getMaxTimeout(), config.getOwnerRestrict());
+        this.timeout = TimeUnit.SECONDS.toMillis(config.getMaxTimeout());
+    }
+
+    //The procedure's max timeout (seconds) is also the time budget for the job
+    @Override
+    public long getTimeout() {
+        return timeout;
     }
 }
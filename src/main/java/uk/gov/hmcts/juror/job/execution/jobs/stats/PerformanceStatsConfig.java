@@ -7,6 +7,7 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.NestedConfigurationProperty;
 import org.springframework.context.annotation.Configuration;
 import uk.gov.hmcts.juror.job.execution.config.DatabaseConfig;
+import uk.gov.hmcts.juror.job.execution.config.ExecutionConfig;
 
 @Configuration
 @ConfigurationProperties(prefix = "jobs.stats.performance")
@@ -17,6 +18,9 @@ public class PerformanceStatsConfig {
     @NestedConfigurationProperty
     private DatabaseConfig database;
 
+    @NestedConfigurationProperty
+    private ExecutionConfig execution;
+
     @NotNull
     private Integer responseTimesAndNonRespondNoMonths;
     @NotNull
@@ -18,7 +18,7 @@ public class PerformanceStatsJob extends ParallelJob {
     @Autowired
     public PerformanceStatsJob(DatabaseService databaseService,
                                PerformanceStatsConfig config) {
-        super();
+        super(config.getExecution());
         this.databaseService = databaseService;
         this.config = config;
     }
@@ -12,7 +12,10 @@ public enum Status {
     PENDING(6),
     INDETERMINATE(7),
     FAILED(8),
-    FAILED_UNEXPECTED_EXCEPTION(9);
+    FAILED_UNEXPECTED_EXCEPTION(9),
+    //A job or step that ran past its time budget, or was cancelled, and was stopped before it finished
+    TIMED_OUT(10),
+    CANCELLED(11);
 
 
     private final int priority;
@@ -20,4 +23,9 @@ public enum Status {
     Status(int priority) {
         this.priority = priority;
     }
+
+    //No further updates are expected for a task once it reports one of these
+    public boolean isTerminal() {
+        return this != VALIDATION_PASSED && this != PROCESSING && this != PENDING;
+    }
 }
@@ -1,20 +1,25 @@
 package uk.gov.hmcts.juror.job.execution.service;
 
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.juror.job.execution.config.DatabaseConfig;
+import uk.gov.hmcts.juror.job.execution.database.ConnectionPoolManager;
 import uk.gov.hmcts.juror.job.execution.database.DatabaseFieldConvertor;
+import uk.gov.hmcts.juror.job.execution.database.DatabaseMetrics;
+import uk.gov.hmcts.juror.job.execution.database.RowMapper;
+import uk.gov.hmcts.juror.job.execution.jobs.JobExecution;
 import uk.gov.hmcts.juror.job.execution.service.contracts.DatabaseService;
 import uk.gov.hmcts.juror.standard.service.exceptions.InternalServerException;
 
 import java.sql.CallableStatement;
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -25,11 +30,22 @@ import java.util.function.Consumer;
 @Slf4j
 public class DatabaseServiceImpl implements DatabaseService {
 
+    static final int DEFAULT_FETCH_SIZE = 100;
+
     private final DatabaseConfig defaultDatabaseConfig;
+    private final ConnectionPoolManager connectionPoolManager;
+    private final DatabaseMetrics databaseMetrics;
+
+    public DatabaseServiceImpl(DatabaseConfig defaultDatabaseConfig, ConnectionPoolManager connectionPoolManager) {
+        this(defaultDatabaseConfig, connectionPoolManager, DatabaseMetrics.NOOP);
+    }
 
     @Autowired
-    public DatabaseServiceImpl(DatabaseConfig defaultDatabaseConfig) {
+    public DatabaseServiceImpl(DatabaseConfig defaultDatabaseConfig, ConnectionPoolManager connectionPoolManager,
+                               DatabaseMetrics databaseMetrics) {
         this.defaultDatabaseConfig = defaultDatabaseConfig;
+        this.connectionPoolManager = connectionPoolManager;
+        this.databaseMetrics = databaseMetrics;
     }
 
     @Override
@@ -60,28 +76,41 @@ public class DatabaseServiceImpl implements DatabaseService {
         if (config.getPassword() == null) {
             config.setPassword(defaultDatabaseConfig.getPassword());
         }
+        if (config.getPoolSize() == null) {
+            config.setPoolSize(defaultDatabaseConfig.getPoolSize());
+        }
+        if (config.getMinimumIdle() == null) {
+            config.setMinimumIdle(defaultDatabaseConfig.getMinimumIdle());
+        }
+        if (config.getConnectionTimeout() == null) {
+            config.setConnectionTimeout(defaultDatabaseConfig.getConnectionTimeout());
+        }
+        if (config.getValidationTimeout() == null) {
+            config.setValidationTimeout(defaultDatabaseConfig.getValidationTimeout());
+        }
+        if (config.getIdleTimeout() == null) {
+            config.setIdleTimeout(defaultDatabaseConfig.getIdleTimeout());
+        }
+        if (config.getMaxLifetime() == null) {
+            config.setMaxLifetime(defaultDatabaseConfig.getMaxLifetime());
+        }
+        if (config.getFetchSize() == null) {
+            config.setFetchSize(defaultDatabaseConfig.getFetchSize());
+        }
         return config;
     }
 
-    private Connection getConnection(DatabaseConfig databaseConfig) throws SQLException, ClassNotFoundException {
-        DatabaseConfig actualConfig = getEffectiveDatabaseConfig(databaseConfig);
-        Connection connection = null;
+    private Connection getConnection(DatabaseConfig databaseConfig) throws SQLException {
+        Timer.Sample sample = databaseMetrics.start();
+        boolean successful = false;
         try {
-            Class.forName("org.postgresql.Driver");
-            connection = DriverManager.getConnection(actualConfig.getUrl(),
-                actualConfig.getUsername(),
-                actualConfig.getPassword());
-
-            connection.setSchema(actualConfig.getSchema());
-        } catch (Exception exception) {
-            log.error("Failed to set database schema", exception);
-            if (connection != null) {
-                connection.close();
-            }
-            throw exception;//Close connection and throw original error we do not want to use try with resource here
-            // as we need the connection to remain open for consuming sources
+            //Schema is applied by the pool when the connection is created and reset when it is returned
+            Connection connection = connectionPoolManager.getConnection(getEffectiveDatabaseConfig(databaseConfig));
+            successful = true;
+            return connection;
+        } finally {
+            databaseMetrics.recordConnectionAcquire(sample, successful);
         }
-        return connection;
     }
 
 
@@ -89,15 +118,22 @@ public class DatabaseServiceImpl implements DatabaseService {
     public void executeStoredProcedure(Connection connection, String procedureName, Object... arguments) {
         final String sql = "CALL " + procedureName + "(" + StringUtils.chop("?,".repeat(arguments.length)) + ")";
         log.info("Attempting to run sql: '" + sql + "' with parameters: " + Arrays.toString(arguments));
-        try (CallableStatement callableStatement = connection.prepareCall(sql)) {
+        Timer.Sample sample = databaseMetrics.start();
+        boolean successful = false;
+        try (CallableStatement callableStatement = connection.prepareCall(sql);
+             JobExecution.Registration stop = applyTimeBudget(callableStatement)) {
             for (int i = 0; i < arguments.length; i++) {
                 callableStatement.setObject(i + 1, arguments[i]);
             }
             callableStatement.execute();
+            successful = true;
             log.info("Call to " + procedureName + " Successful");
         } catch (Exception e) {
             log.error("Failed to execute stored procedure: " + procedureName, e);
             throw new InternalServerException("Failed to execute stored procedure: " + procedureName, e);
+        } finally {
+            databaseMetrics.recordStatement(sample, DatabaseMetrics.OPERATION_PROCEDURE, procedureName, successful,
+                arguments);
         }
     }
 
@@ -112,7 +148,10 @@ public class DatabaseServiceImpl implements DatabaseService {
                                                   Object... arguments) {
         final String sql = "{? = CALL " + procedureName + "(" + StringUtils.chop("?,".repeat(arguments.length)) + ")}";
         log.info("Attempting to run sql: '" + sql + "' with parameters: " + Arrays.toString(arguments));
-        try (CallableStatement callableStatement = connection.prepareCall(sql)) {
+        Timer.Sample sample = databaseMetrics.start();
+        boolean successful = false;
+        try (CallableStatement callableStatement = connection.prepareCall(sql);
+             JobExecution.Registration stop = applyTimeBudget(callableStatement)) {
 
             callableStatement.registerOutParameter(1, returnSqlType);
             for (int i = 0; i < arguments.length; i++) {
@@ -120,43 +159,181 @@ public class DatabaseServiceImpl implements DatabaseService {
             }
             callableStatement.execute();
             log.info("Call to " + procedureName + " Successful");
-            return callableStatement.getObject(1, returnClass);
+            T result = callableStatement.getObject(1, returnClass);
+            successful = true;
+            return result;
         } catch (Exception e) {
             log.error("Failed to execute stored procedure with return: " + procedureName, e);
             throw new InternalServerException("Failed to execute stored procedure with return: " + procedureName, e);
+        } finally {
+            databaseMetrics.recordStatement(sample, DatabaseMetrics.OPERATION_FUNCTION, procedureName, successful,
+                arguments);
         }
     }
 
     @Override
     public void executeUpdate(Connection connection, String sql, Object... arguments) throws SQLException {
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+        Timer.Sample sample = databaseMetrics.start();
+        boolean successful = false;
+        try (PreparedStatement ps = connection.prepareStatement(sql);
+             JobExecution.Registration stop = applyTimeBudget(ps)) {
             for (int i = 0; i < arguments.length; i++) {
                 ps.setObject(i + 1, arguments[i]);
             }
             ps.executeUpdate();
+            successful = true;
+        } finally {
+            databaseMetrics.recordStatement(sample, DatabaseMetrics.OPERATION_UPDATE, sql, successful, arguments);
+        }
+    }
+
+    @Override
+    public int[] executeBatchUpdate(Connection connection, String sql, List<Object[]> batchArguments)
+        throws SQLException {
+        if (batchArguments.isEmpty()) {
+            return new int[0];
+        }
+        Timer.Sample sample = databaseMetrics.start();
+        boolean successful = false;
+        try (PreparedStatement ps = connection.prepareStatement(sql);
+             JobExecution.Registration stop = applyTimeBudget(ps)) {
+            for (Object[] arguments : batchArguments) {
+                for (int i = 0; i < arguments.length; i++) {
+                    ps.setObject(i + 1, arguments[i]);
+                }
+                ps.addBatch();
+            }
+            int[] updateCounts = ps.executeBatch();
+            successful = true;
+            return updateCounts;
+        } finally {
+            databaseMetrics.recordStatement(sample, DatabaseMetrics.OPERATION_BATCH_UPDATE, sql, successful,
+                batchArguments.get(0));
         }
     }
 
     @Override
     public <T> List<T> executePreparedStatement(Connection connection, Class<T> convertToClass, String sql, Object...
         arguments) {
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+        Timer.Sample sample = databaseMetrics.start();
+        boolean successful = false;
+        try (PreparedStatement ps = connection.prepareStatement(sql);
+             JobExecution.Registration stop = applyTimeBudget(ps)) {
             for (int i = 0; i < arguments.length; i++) {
                 ps.setObject(i + 1, arguments[i]);
             }
             try (ResultSet rs = ps.executeQuery()) {
-                if (!rs.isBeforeFirst()) {
-                    return Collections.emptyList();
-                }
-                List<T> items = new ArrayList<>();
-                while (rs.next()) {
-                    items.add(DatabaseFieldConvertor.convertToItem(convertToClass, rs));
+                List<T> items;
+                if (rs.isBeforeFirst()) {
+                    RowMapper<T> rowMapper = DatabaseFieldConvertor.bind(convertToClass, rs);
+                    items = new ArrayList<>();
+                    while (rs.next()) {
+                        items.add(rowMapper.mapRow(rs));
+                    }
+                } else {
+                    items = Collections.emptyList();
                 }
+                successful = true;
                 return items;
             }
         } catch (Exception e) {
             log.error("Failed to get result set", e);
             throw new InternalServerException("Failed to get result set", e);
+        } finally {
+            databaseMetrics.recordStatement(sample, DatabaseMetrics.OPERATION_QUERY, sql, successful, arguments);
+        }
+    }
+
+    @Override
+    public <T> long executeStreamingPreparedStatement(Connection connection, Class<T> convertToClass,
+                                                      Integer fetchSize, Consumer<T> rowConsumer,
+                                                      String sql, Object... arguments) {
+        boolean originalAutoCommit = false;
+        try {
+            //The postgres driver only uses a cursor (and honours the fetch size) when autocommit is off
+            originalAutoCommit = connection.getAutoCommit();
+            if (originalAutoCommit) {
+                connection.setAutoCommit(false);
+            }
+            long rowCount = 0;
+            try (PreparedStatement ps = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY,
+                ResultSet.CONCUR_READ_ONLY);
+                 JobExecution.Registration stop = applyTimeBudget(ps)) {
+                ps.setFetchSize(getEffectiveFetchSize(fetchSize));
+                for (int i = 0; i < arguments.length; i++) {
+                    ps.setObject(i + 1, arguments[i]);
+                }
+                try (ResultSet rs = ps.executeQuery()) {
+                    RowMapper<T> rowMapper = DatabaseFieldConvertor.bind(convertToClass, rs);
+                    while (rs.next()) {
+                        rowConsumer.accept(rowMapper.mapRow(rs));
+                        rowCount++;
+                    }
+                }
+            }
+            if (originalAutoCommit) {
+                connection.commit();
+            }
+            return rowCount;
+        } catch (Exception e) {
+            log.error("Failed to stream result set", e);
+            if (originalAutoCommit) {
+                rollback(connection);
+            }
+            throw new InternalServerException("Failed to stream result set", e);
+        } finally {
+            if (originalAutoCommit) {
+                restoreAutoCommit(connection);
+            }
+        }
+    }
+
+    //Statements get whatever is left of the job's time budget and are cancelled if the job is stopped first, as a
+    //thread blocked on the database socket does not respond to an interrupt
+    JobExecution.Registration applyTimeBudget(Statement statement) throws SQLException {
+        JobExecution jobExecution = JobExecution.current();
+        if (jobExecution.hasDeadline()) {
+            statement.setQueryTimeout(getQueryTimeoutSeconds(jobExecution.getRemainingMillis()));
+        }
+        return jobExecution.onStop(() -> cancel(statement));
+    }
+
+    static int getQueryTimeoutSeconds(long remainingMillis) {
+        //0 means no timeout to the driver so at least a second is always given
+        return (int) Math.min(Integer.MAX_VALUE, Math.max(1, (remainingMillis + 999) / 1000));
+    }
+
+    private void cancel(Statement statement) {
+        try {
+            statement.cancel();
+        } catch (SQLException e) {
+            log.error("Failed to cancel statement", e);
+        }
+    }
+
+    int getEffectiveFetchSize(Integer fetchSize) {
+        if (fetchSize != null) {
+            return fetchSize;
+        }
+        if (defaultDatabaseConfig.getFetchSize() != null) {
+            return defaultDatabaseConfig.getFetchSize();
+        }
+        return DEFAULT_FETCH_SIZE;
+    }
+
+    private void rollback(Connection connection) {
+        try {
+            connection.rollback();
+        } catch (SQLException e) {
+            log.error("Failed to rollback streaming query", e);
+        }
+    }
+
+    private void restoreAutoCommit(Connection connection) {
+        try {
+            connection.setAutoCommit(true);
+        } catch (SQLException e) {
+            log.error("Failed to restore auto commit", e);
         }
     }
 }
@@ -7,7 +7,11 @@ import org.springframework.stereotype.Service;
 import uk.gov.hmcts.juror.job.execution.client.contracts.SchedulerServiceClient;
 import uk.gov.hmcts.juror.job.execution.database.model.MetaData;
 import uk.gov.hmcts.juror.job.execution.jobs.Job;
+import uk.gov.hmcts.juror.job.execution.jobs.JobExecution;
+import uk.gov.hmcts.juror.job.execution.jobs.JobExecutionManager;
+import uk.gov.hmcts.juror.job.execution.jobs.JobMetrics;
 import uk.gov.hmcts.juror.job.execution.service.contracts.JobService;
+import uk.gov.hmcts.juror.job.execution.service.contracts.StatusUpdateService;
 import uk.gov.hmcts.juror.standard.service.exceptions.NotFoundException;
 
 import java.time.Clock;
@@ -23,16 +27,20 @@ public class JobServiceImpl implements JobService {
 
     final Clock clock;
     final Map<String, Job> jobRunners;
-    final SchedulerServiceClient schedulerServiceClient;
+    final StatusUpdateService statusUpdateService;
+    final JobMetrics jobMetrics;
+    final JobExecutionManager jobExecutionManager;
 
     @Autowired
-    public JobServiceImpl(Clock clock, SchedulerServiceClient schedulerServiceClient,
-                          List<Job> jobList) {
+    public JobServiceImpl(Clock clock, StatusUpdateService statusUpdateService,
+                          List<Job> jobList, JobMetrics jobMetrics, JobExecutionManager jobExecutionManager) {
         this.clock = clock;
+        this.jobMetrics = jobMetrics;
+        this.jobExecutionManager = jobExecutionManager;
         this.jobRunners = new ConcurrentHashMap<>();
-        this.schedulerServiceClient = schedulerServiceClient;
+        this.statusUpdateService = statusUpdateService;
         jobList.forEach(job -> {
-            String jobName = job.getClass().getSimpleName().replaceAll("\\$\\$.*", "");
+            String jobName = getJobName(job);
             this.jobRunners.put(jobName, job);
             log.info("Job loaded: " + jobName);
         });
@@ -52,19 +60,37 @@ public class JobServiceImpl implements JobService {
     public void trigger(Job job, MetaData metaData) {
         log.info("Job triggered: " + job.getName() + " " + metaData);
         final Instant startTime = clock.instant();
-        final Job.Result result = job.execute(metaData);
+        final Job.Result result;
+        try (JobExecution jobExecution = jobExecutionManager.start(getJobName(job), job.getTimeout(), metaData)) {
+            result = jobMetrics.recordJob(job.getName(), () -> jobExecution.call(() -> {
+                Job.Result jobResult = job.execute(metaData);
+                return jobExecution.isStopped() ? jobExecution.toStoppedResult(jobResult) : jobResult;
+            }));
+        }
         final Duration duration = Duration.between(startTime, clock.instant());
 
         log.info("Job duration: " + duration);
-        schedulerServiceClient.updateStatus(
+        statusUpdateService.updateStatus(
             metaData.getJobKey(),
             metaData.getTaskId(),
             new SchedulerServiceClient.StatusUpdatePayload(
-                result.getStatus(),
+                jobExecutionManager.getReportedStatus(result.getStatus()),
                 result.getMessage(),
-                result.getMetaData()
+                result.toMetaData()
             )
         );
     }
 
+    //The job stops itself and reports back to the scheduler as cancelled through trigger
+    @Override
+    public void cancel(String jobKey, Long taskId) {
+        if (!jobExecutionManager.cancel(jobKey, taskId)) {
+            throw new NotFoundException("No running task with id: " + taskId + " found for job key: " + jobKey);
+        }
+    }
+
+    //Jobs are proxied so the generated class suffix is removed
+    static String getJobName(Job job) {
+        return job.getClass().getSimpleName().replaceAll("\\$\\$.*", "");
+    }
 }
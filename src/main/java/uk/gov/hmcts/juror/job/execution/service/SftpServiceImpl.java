@@ -2,73 +2,353 @@ package uk.gov.hmcts.juror.job.execution.service;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.integration.file.remote.session.CachingSessionFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.util.ClassUtils;
+import uk.gov.hmcts.juror.job.execution.config.SftpConfig;
+import uk.gov.hmcts.juror.job.execution.jobs.JobExecution;
 import uk.gov.hmcts.juror.job.execution.service.contracts.SftpService;
 import uk.gov.hmcts.juror.job.execution.util.Sftp;
 
 import java.io.File;
+import java.time.Clock;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @Slf4j
+@SuppressWarnings("PMD.DoNotUseThreads")
 public class SftpServiceImpl implements SftpService {
 
+    static final int DEFAULT_PARALLELISM = 1;
+
     final Map<Class<? extends Sftp>, Sftp.SftpServerGateway> sftpServerGatewaysByParentClass;
+    final Map<Class<?>, SftpConfig> sftpConfigByParentClass;
+    final Map<Class<?>, Sftp> sftpByParentClass;
+    private final Clock clock;
 
-    @Autowired
     public SftpServiceImpl(List<Sftp.SftpServerGateway> sftpServerGateways) {
+        this(sftpServerGateways, List.of(), Clock.systemUTC());
+    }
+
+    @Autowired
+    public SftpServiceImpl(List<Sftp.SftpServerGateway> sftpServerGateways, List<Sftp> sftps, Clock clock) {
         this.sftpServerGatewaysByParentClass = sftpServerGateways.stream().collect(Collectors.toMap(
             Sftp.SftpServerGateway::getParent,
             Function.identity()
         ));
+        //Configuration classes are proxied so the user class is needed to match the gateway parent
+        this.sftpConfigByParentClass = sftps.stream()
+            .filter(sftp -> sftp.getConfig() != null)
+            .collect(Collectors.toMap(
+                ClassUtils::getUserClass,
+                Sftp::getConfig
+            ));
+        this.sftpByParentClass = sftps.stream()
+            .collect(Collectors.toMap(ClassUtils::getUserClass, Function.identity()));
+        this.clock = clock;
     }
 
     @Override
     public Collection<File> upload(Class<? extends Sftp> sftpClass, Collection<File> filesToProcess,
                                    long retryLimit, long retryDelay) {
         Set<File> filesFailedToUpload = new HashSet<>();
-        Sftp.SftpServerGateway gateway = getGateway(sftpClass);
-        for (File file : filesToProcess) {
-            if (!upload(gateway, file, retryLimit, retryDelay)) {
-                filesFailedToUpload.add(file);
+        upload(sftpClass, filesToProcess, retryLimit, retryDelay, result -> {
+            if (!result.successful()) {
+                filesFailedToUpload.add(result.file());
             }
-        }
+        });
         return filesFailedToUpload;
     }
 
+    //A single file is retried on the calling thread rather than opening a pipeline, and its threads, for it
     @Override
     public boolean upload(Class<? extends Sftp> sftpClass, File fileToProcess, long retryLimit, long retryDelay) {
-        return upload(getGateway(sftpClass), fileToProcess, retryLimit, retryDelay);
-    }
-
-
-    private boolean upload(Sftp.SftpServerGateway gateway, File fileToProcess, long retryLimit, long retryDelay) {
+        final Sftp.SftpServerGateway gateway = getGateway(sftpClass);
+        final long retryMaxDelay = getRetryMaxDelay(sftpClass);
+        final long deadline = getDeadline(getUploadDeadline(sftpClass), JobExecution.current());
         log.info("Uploading: {}", fileToProcess);
-        int retryCount = 0;
-        do {
-            if (retryCount > 0) {
-                log.info("Uploading {} failed, retrying ({}/{}): waiting {} ms", fileToProcess, retryCount, retryLimit,
-                         retryDelay);
-                try {
-                    Thread.sleep(retryDelay);
-                } catch (InterruptedException e) {
-                    log.error("Failed to sleep", e);
-                    Thread.currentThread().interrupt();
-                }
+        for (int attempt = 1; ; attempt++) {
+            if (clock.millis() >= deadline) {
+                log.warn("Upload deadline reached before uploading: {}", fileToProcess);
+                return false;
             }
             if (upload(gateway, fileToProcess)) {
                 log.info("Upload successful: {}", fileToProcess);
                 return true;
             }
-            retryCount++;
-        } while (retryLimit > 0 && retryCount <= retryLimit);
-        return false;
+            if (attempt > retryLimit) {
+                return false;
+            }
+            long delay = getBackoffDelay(retryDelay, attempt, retryMaxDelay);
+            if (clock.millis() + delay >= deadline) {
+                log.warn("Uploading {} failed, not retrying as the upload deadline would be passed", fileToProcess);
+                return false;
+            }
+            log.info("Uploading {} failed, retrying ({}/{}): waiting {} ms", fileToProcess, attempt, retryLimit,
+                delay);
+            try {
+                Thread.sleep(delay);
+            } catch (InterruptedException e) {
+                log.error("Interrupted while waiting to retry: {}", fileToProcess, e);
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+    }
+
+    @Override
+    public void upload(Class<? extends Sftp> sftpClass, Collection<File> filesToProcess,
+                       long retryLimit, long retryDelay, Consumer<UploadResult> resultConsumer) {
+        if (filesToProcess.isEmpty()) {
+            return;
+        }
+        log.info("Uploading {} files", filesToProcess.size());
+        try (UploadPipeline pipeline = openPipeline(sftpClass, retryLimit, retryDelay, filesToProcess.size())) {
+            filesToProcess.forEach(pipeline::submit);
+            pipeline.complete(resultConsumer);
+        }
+    }
+
+    @Override
+    public UploadPipeline openPipeline(Class<? extends Sftp> sftpClass, long retryLimit, long retryDelay,
+                                       int queueCapacity) {
+        //Never run more uploads than there are pooled sessions otherwise workers just queue for a session
+        final int parallelism = Math.max(DEFAULT_PARALLELISM, Math.min(getParallelism(sftpClass), queueCapacity));
+        final long uploadDeadline = getUploadDeadline(sftpClass);
+        final JobExecution jobExecution = JobExecution.current();
+        final long deadline = getDeadline(uploadDeadline, jobExecution);
+        log.info("Opening upload pipeline with a parallelism of {} and a capacity of {}", parallelism,
+            queueCapacity);
+        SftpUploadPipeline pipeline = new SftpUploadPipeline(
+            Executors.newScheduledThreadPool(parallelism, createThreadFactory(sftpClass)),
+            getGateway(sftpClass), retryLimit, retryDelay, getRetryMaxDelay(sftpClass), deadline,
+            Math.max(1, queueCapacity));
+        pipeline.stopRegistration = jobExecution.onStop(() -> {
+            pipeline.abort();
+            resetSessions(sftpClass);
+        });
+        return pipeline;
+    }
+
+    //Uploads never run past the job's time budget even when no upload deadline is configured
+    long getDeadline(long uploadDeadline, JobExecution jobExecution) {
+        long deadline = uploadDeadline > 0 ? clock.millis() + uploadDeadline : Long.MAX_VALUE;
+        if (jobExecution.hasDeadline()) {
+            deadline = Math.min(deadline, clock.millis() + jobExecution.getRemainingMillis());
+        }
+        return deadline;
+    }
+
+    //Cached sessions are dropped so those held by aborted uploads are closed rather than reused
+    void resetSessions(Class<? extends Sftp> sftpClass) {
+        Sftp sftp = sftpByParentClass.get(sftpClass);
+        if (sftp != null && sftp.sftpSessionFactory() instanceof CachingSessionFactory<?> cachingSessionFactory) {
+            log.warn("Resetting cached sftp sessions for {}", sftpClass.getSimpleName());
+            cachingSessionFactory.resetCache();
+        }
+    }
+
+    int getParallelism(Class<? extends Sftp> sftpClass) {
+        SftpConfig config = sftpConfigByParentClass.get(sftpClass);
+        return config == null ? DEFAULT_PARALLELISM : Math.max(DEFAULT_PARALLELISM, config.getPoolSize());
+    }
+
+    long getUploadDeadline(Class<? extends Sftp> sftpClass) {
+        SftpConfig config = sftpConfigByParentClass.get(sftpClass);
+        return config == null ? 0 : config.getUploadDeadline();
+    }
+
+    long getRetryMaxDelay(Class<? extends Sftp> sftpClass) {
+        SftpConfig config = sftpConfigByParentClass.get(sftpClass);
+        return config == null ? 0 : config.getRetryMaxDelay();
+    }
+
+    //Exponential backoff with equal jitter, the delay for each retry falls between half and all of
+    //retryDelay * 2^(attempt - 1) (capped at retryMaxDelay when set) so failed files do not retry in lockstep
+    static long getBackoffDelay(long retryDelay, int attempt, long retryMaxDelay) {
+        if (retryDelay <= 0) {
+            return 0;
+        }
+        double exponentialDelay = retryDelay * Math.pow(2, attempt - 1);
+        long delay = (long) Math.min(exponentialDelay, retryMaxDelay > 0 ? retryMaxDelay : Long.MAX_VALUE);
+        long halfDelay = delay / 2;
+        return halfDelay + ThreadLocalRandom.current().nextLong(delay - halfDelay + 1);
+    }
+
+    private ThreadFactory createThreadFactory(Class<? extends Sftp> sftpClass) {
+        final AtomicInteger threadCount = new AtomicInteger(0);
+        final String prefix = "sftp-upload-" + sftpClass.getSimpleName() + "-";
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    //Failed attempts are put back on the scheduler rather than sleeping the worker so other files keep uploading
+    //while a failed file waits for its retry. Results are only handed over on the thread that owns the pipeline
+    private final class SftpUploadPipeline implements UploadPipeline {
+        private final ScheduledExecutorService executorService;
+        private final Sftp.SftpServerGateway gateway;
+        private final long retryLimit;
+        private final long retryDelay;
+        private final long retryMaxDelay;
+        private final long deadline;
+        private final Semaphore capacity;
+        private final BlockingQueue<UploadResult> results;
+        private final Set<File> outstandingFiles;
+        private JobExecution.Registration stopRegistration = JobExecution.Registration.NONE;
+
+        @SuppressWarnings("PMD.ExcessiveParameterList")
+        private SftpUploadPipeline(ScheduledExecutorService executorService, Sftp.SftpServerGateway gateway,
+                                   long retryLimit, long retryDelay, long retryMaxDelay, long deadline,
+                                   int queueCapacity) {
+            this.executorService = executorService;
+            this.gateway = gateway;
+            this.retryLimit = retryLimit;
+            this.retryDelay = retryDelay;
+            this.retryMaxDelay = retryMaxDelay;
+            this.deadline = deadline;
+            this.capacity = new Semaphore(queueCapacity);
+            this.results = new LinkedBlockingQueue<>();
+            //Also read by abort on the thread stopping the job
+            this.outstandingFiles = ConcurrentHashMap.newKeySet();
+        }
+
+        @Override
+        public void submit(File file) {
+            outstandingFiles.add(file);
+            try {
+                capacity.acquire();
+                executorService.execute(() -> attempt(file, 1));
+            } catch (InterruptedException e) {
+                log.error("Interrupted while waiting to submit: {}", file, e);
+                Thread.currentThread().interrupt();
+                results.add(new UploadResult(file, false));
+            } catch (RejectedExecutionException e) {
+                log.error("Upload pipeline closed before submitting: {}", file, e);
+                capacity.release();
+                results.add(new UploadResult(file, false));
+            }
+        }
+
+        @Override
+        public boolean trySubmit(File file) {
+            if (!capacity.tryAcquire()) {
+                return false;
+            }
+            outstandingFiles.add(file);
+            try {
+                executorService.execute(() -> attempt(file, 1));
+            } catch (RejectedExecutionException e) {
+                log.error("Upload pipeline closed before submitting: {}", file, e);
+                capacity.release();
+                results.add(new UploadResult(file, false));
+            }
+            return true;
+        }
+
+        @Override
+        public void drainResults(Consumer<UploadResult> resultConsumer) {
+            UploadResult result;
+            while ((result = results.poll()) != null) {
+                accept(result, resultConsumer);
+            }
+        }
+
+        @Override
+        public void complete(Consumer<UploadResult> resultConsumer) {
+            try {
+                while (!outstandingFiles.isEmpty()) {
+                    accept(results.take(), resultConsumer);
+                }
+            } catch (InterruptedException e) {
+                log.error("Interrupted while waiting for uploads to complete", e);
+                Thread.currentThread().interrupt();
+                //Anything still outstanding is reported as failed so the caller can flag it for the next run
+                Set.copyOf(outstandingFiles).forEach(file -> accept(new UploadResult(file, false), resultConsumer));
+            }
+        }
+
+        //A file already reported as failed by abort may still finish afterwards, only its first result is handed over
+        private void accept(UploadResult result, Consumer<UploadResult> resultConsumer) {
+            if (outstandingFiles.remove(result.file())) {
+                resultConsumer.accept(result);
+            }
+        }
+
+        @Override
+        public void close() {
+            stopRegistration.close();
+            executorService.shutdownNow();
+        }
+
+        //Called from the thread stopping the job, interrupts uploads in flight and stops any retries. Queued and
+        //waiting files are dropped by the executor so every outstanding file is reported as failed here, letting
+        //complete return without being interrupted. The released permit wakes a submit waiting for room, the closed
+        //executor then rejects it
+        private void abort() {
+            log.warn("Aborting upload pipeline");
+            executorService.shutdownNow();
+            Set.copyOf(outstandingFiles).forEach(file -> results.add(new UploadResult(file, false)));
+            capacity.release();
+        }
+
+        private void attempt(File file, int attempt) {
+            if (clock.millis() >= deadline) {
+                log.warn("Upload deadline reached before uploading: {}", file);
+                finish(new UploadResult(file, false));
+                return;
+            }
+            if (attempt == 1) {
+                log.info("Uploading: {}", file);
+            }
+            if (upload(gateway, file)) {
+                log.info("Upload successful: {}", file);
+                finish(new UploadResult(file, true));
+                return;
+            }
+            if (attempt > retryLimit) {
+                finish(new UploadResult(file, false));
+                return;
+            }
+            long delay = getBackoffDelay(retryDelay, attempt, retryMaxDelay);
+            if (clock.millis() + delay >= deadline) {
+                log.warn("Uploading {} failed, not retrying as the upload deadline would be passed", file);
+                finish(new UploadResult(file, false));
+                return;
+            }
+            log.info("Uploading {} failed, retrying ({}/{}): waiting {} ms", file, attempt, retryLimit, delay);
+            try {
+                executorService.schedule(() -> attempt(file, attempt + 1), delay, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                log.warn("Upload pipeline closed before retrying: {}", file);
+                finish(new UploadResult(file, false));
+            }
+        }
+
+        private void finish(UploadResult result) {
+            results.add(result);
+            capacity.release();
+        }
     }
 
     private boolean upload(Sftp.SftpServerGateway gateway, File fileToProcess) {
@@ -0,0 +1,180 @@
+package uk.gov.hmcts.juror.job.execution.service;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import uk.gov.hmcts.juror.job.execution.client.contracts.SchedulerServiceClient;
+import uk.gov.hmcts.juror.job.execution.model.Status;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+//Append-only journal of status updates waiting to be sent to the scheduler service. Each line is either an update or
+//the acknowledgement of one, updates without an acknowledgement are pending. Appends are forced to disk before
+//returning so a result is never only held in memory. The file is rewritten with just the pending updates on open and
+//truncated whenever nothing is pending, so it only grows while the scheduler service is unavailable
+@Slf4j
+class StatusOutboxJournal implements Closeable {
+    static final String FILE_NAME = "status-outbox.journal";
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final Path file;
+    private final Map<Long, Entry> pending;
+    private final FileChannel channel;
+    private long nextId;
+
+    StatusOutboxJournal(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        this.file = directory.resolve(FILE_NAME);
+        this.pending = new LinkedHashMap<>();
+        replay();
+        compact();
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+            StandardOpenOption.APPEND);
+        if (!pending.isEmpty()) {
+            log.info("Status outbox journal {} has {} status updates still to send", file, pending.size());
+        }
+    }
+
+    synchronized Entry append(String jobKey, Long taskId, SchedulerServiceClient.StatusUpdatePayload payload)
+        throws IOException {
+        Entry entry = new Entry(nextId++, jobKey, taskId, payload.getStatus(), payload.getMessage(),
+            new LinkedHashMap<>(payload.getMetaData()));
+        write(List.of(JournalRecord.of(entry)), true);
+        pending.put(entry.id(), entry);
+        return entry;
+    }
+
+    //Acknowledgements are not forced to disk, if they are lost the update is sent again which the scheduler allows
+    synchronized void acknowledge(Collection<Entry> entries) throws IOException {
+        if (entries.isEmpty()) {
+            return;
+        }
+        entries.forEach(entry -> pending.remove(entry.id()));
+        if (pending.isEmpty()) {
+            channel.truncate(0);
+            return;
+        }
+        write(entries.stream().map(entry -> JournalRecord.acknowledged(entry.id())).toList(), false);
+    }
+
+    synchronized List<Entry> getPending(int limit) {
+        return getPending(limit, Set.of());
+    }
+
+    //Updates for the skipped tasks are left out so they do not take up the limit
+    synchronized List<Entry> getPending(int limit, Set<String> skipTasks) {
+        return pending.values().stream()
+            .filter(entry -> !skipTasks.contains(entry.task()))
+            .limit(limit)
+            .toList();
+    }
+
+    synchronized int getPendingCount() {
+        return pending.size();
+    }
+
+    private void write(List<JournalRecord> records, boolean force) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (JournalRecord journalRecord : records) {
+            lines.append(OBJECT_MAPPER.writeValueAsString(journalRecord)).append('\n');
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        if (force) {
+            channel.force(false);
+        }
+    }
+
+    private void replay() throws IOException {
+        if (!Files.exists(file)) {
+            return;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    apply(OBJECT_MAPPER.readValue(line, JournalRecord.class));
+                } catch (JsonProcessingException exception) {
+                    //Only expected for the last line if the service stopped part way through an append
+                    log.warn("Skipping unreadable status outbox journal line: {}", line, exception);
+                }
+            }
+        }
+    }
+
+    private void apply(JournalRecord journalRecord) {
+        if (journalRecord.acknowledged()) {
+            pending.remove(journalRecord.id());
+        } else {
+            pending.put(journalRecord.id(), journalRecord.toEntry());
+        }
+        nextId = Math.max(nextId, journalRecord.id() + 1);
+    }
+
+    private void compact() throws IOException {
+        Path compacted = file.resolveSibling(FILE_NAME + ".tmp");
+        List<String> lines = new ArrayList<>(pending.size());
+        for (Entry entry : pending.values()) {
+            lines.add(OBJECT_MAPPER.writeValueAsString(JournalRecord.of(entry)));
+        }
+        Files.write(compacted, lines, StandardCharsets.UTF_8);
+        try (FileChannel compactedChannel = FileChannel.open(compacted, StandardOpenOption.WRITE)) {
+            compactedChannel.force(true);
+        }
+        Files.move(compacted, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        channel.close();
+    }
+
+    record Entry(long id, String jobKey, Long taskId, Status status, String message, Map<String, String> metaData) {
+        String task() {
+            return jobKey + "/" + taskId;
+        }
+
+        SchedulerServiceClient.StatusUpdatePayload toPayload() {
+            return new SchedulerServiceClient.StatusUpdatePayload(status, message,
+                metaData == null ? null : new LinkedHashMap<>(metaData));
+        }
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record JournalRecord(long id, boolean acknowledged, String jobKey, Long taskId, Status status, String message,
+                         Map<String, String> metaData) {
+        static JournalRecord of(Entry entry) {
+            return new JournalRecord(entry.id(), false, entry.jobKey(), entry.taskId(), entry.status(),
+                entry.message(), entry.metaData());
+        }
+
+        static JournalRecord acknowledged(long id) {
+            return new JournalRecord(id, true, null, null, null, null, null);
+        }
+
+        Entry toEntry() {
+            return new Entry(id, jobKey, taskId, status, message, metaData);
+        }
+    }
+}
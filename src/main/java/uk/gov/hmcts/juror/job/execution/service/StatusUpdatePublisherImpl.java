@@ -0,0 +1,190 @@
+package uk.gov.hmcts.juror.job.execution.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.logging.log4j.util.Strings;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import uk.gov.hmcts.juror.job.execution.client.contracts.SchedulerServiceClient;
+import uk.gov.hmcts.juror.job.execution.config.StatusUpdateConfig;
+import uk.gov.hmcts.juror.job.execution.model.Status;
+import uk.gov.hmcts.juror.job.execution.service.contracts.StatusUpdatePublisher;
+import uk.gov.hmcts.juror.job.execution.service.contracts.StatusUpdateService;
+
+import java.time.Clock;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+//Holds progress updates for a task for the coalesce window and sends only the latest, with the meta data of every
+//update merged in. A terminal update is sent at once and replaces whatever progress is still held for the task.
+//Sends for a task happen under its pending update's lock so held progress can never overtake the terminal update, and
+//completed tasks are remembered for a while so progress published after the terminal update is dropped
+@Service
+@Slf4j
+@SuppressWarnings("PMD.DoNotUseThreads")
+public class StatusUpdatePublisherImpl implements StatusUpdatePublisher {
+    //How long (ms) a completed task is remembered, callbacks for it are not expected long after it completes
+    static final long COMPLETED_RETENTION = 3_600_000;
+
+    private final StatusUpdateService statusUpdateService;
+    private final long coalesceWindow;
+    private final ScheduledExecutorService executorService;
+    private final Clock clock;
+    final Map<String, PendingUpdate> pending;
+    final Map<String, Long> completed;
+
+    @Autowired
+    public StatusUpdatePublisherImpl(StatusUpdateService statusUpdateService, StatusUpdateConfig config) {
+        this(statusUpdateService, config, config.getCoalesceWindow() > 0
+            ? Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("status-update-publisher").daemon(true).factory())
+            : null, Clock.systemUTC());
+    }
+
+    StatusUpdatePublisherImpl(StatusUpdateService statusUpdateService, StatusUpdateConfig config,
+                              ScheduledExecutorService executorService, Clock clock) {
+        this.statusUpdateService = statusUpdateService;
+        this.coalesceWindow = config.getCoalesceWindow();
+        this.executorService = executorService;
+        this.clock = clock;
+        this.pending = new ConcurrentHashMap<>();
+        this.completed = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public boolean isCoalescing() {
+        return coalesceWindow > 0;
+    }
+
+    @Override
+    public void publish(String jobKey, Long taskId, SchedulerServiceClient.StatusUpdatePayload payload) {
+        if (!isCoalescing() || Strings.isBlank(jobKey) || taskId == null) {
+            statusUpdateService.updateStatus(jobKey, taskId, payload);
+            return;
+        }
+        String taskKey = jobKey + "/" + taskId;
+        if (payload.getStatus() == null || payload.getStatus().isTerminal()) {
+            publishTerminal(taskKey, jobKey, taskId, payload);
+            return;
+        }
+        boolean merged = false;
+        while (!merged) {
+            PendingUpdate pendingUpdate = pending.computeIfAbsent(taskKey, key -> new PendingUpdate(jobKey, taskId));
+            synchronized (pendingUpdate) {
+                //An update that has just been sent is replaced by a new one for the next window
+                if (pendingUpdate.sent) {
+                    continue;
+                }
+                //Checked after the pending update is in the map so either this sees the task as completed or the
+                //terminal update sees (and discards) the pending update
+                if (completed.containsKey(taskKey)) {
+                    log.debug("Dropping progress update for completed job key: {} task id: {}", jobKey, taskId);
+                    pendingUpdate.sent = true;
+                    pending.remove(taskKey, pendingUpdate);
+                    return;
+                }
+                if (pendingUpdate.merge(payload)) {
+                    schedule(taskKey, pendingUpdate);
+                }
+                merged = true;
+            }
+        }
+    }
+
+    private void publishTerminal(String taskKey, String jobKey, Long taskId,
+                                 SchedulerServiceClient.StatusUpdatePayload payload) {
+        long now = clock.millis();
+        completed.values().removeIf(completedAt -> completedAt < now - COMPLETED_RETENTION);
+        completed.put(taskKey, now);
+        PendingUpdate pendingUpdate = pending.get(taskKey);
+        if (pendingUpdate == null) {
+            statusUpdateService.updateStatus(jobKey, taskId, payload);
+            return;
+        }
+        synchronized (pendingUpdate) {
+            if (!pendingUpdate.sent) {
+                pendingUpdate.sent = true;
+                pending.remove(taskKey, pendingUpdate);
+                pendingUpdate.metaData.forEach((key, value) -> {
+                    if (payload.getMetaDataValue(key) == null && value != null) {
+                        payload.addMetaData(key, value);
+                    }
+                });
+            }
+            statusUpdateService.updateStatus(jobKey, taskId, payload);
+        }
+    }
+
+    private void schedule(String taskKey, PendingUpdate pendingUpdate) {
+        try {
+            executorService.schedule(() -> flush(taskKey, pendingUpdate), coalesceWindow, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException exception) {
+            flush(taskKey, pendingUpdate);
+        }
+    }
+
+    void flush(String taskKey, PendingUpdate pendingUpdate) {
+        synchronized (pendingUpdate) {
+            if (pendingUpdate.sent) {
+                return;
+            }
+            try {
+                statusUpdateService.updateStatus(pendingUpdate.jobKey, pendingUpdate.taskId,
+                    pendingUpdate.toPayload());
+            } catch (Exception exception) {
+                //Progress is best effort, the next update carries the latest totals anyway
+                log.error("Failed to send progress update for job key: {} task id: {}", pendingUpdate.jobKey,
+                    pendingUpdate.taskId, exception);
+            } finally {
+                pendingUpdate.sent = true;
+                pending.remove(taskKey, pendingUpdate);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        if (executorService != null) {
+            executorService.shutdownNow();
+        }
+        pending.forEach(this::flush);
+    }
+
+    static final class PendingUpdate {
+        private final String jobKey;
+        private final Long taskId;
+        private final Map<String, String> metaData;
+        private Status status;
+        private String message;
+        private int updates;
+        private boolean sent;
+
+        private PendingUpdate(String jobKey, Long taskId) {
+            this.jobKey = jobKey;
+            this.taskId = taskId;
+            this.metaData = new LinkedHashMap<>();
+        }
+
+        //Returns true for the first update of the window
+        private boolean merge(SchedulerServiceClient.StatusUpdatePayload payload) {
+            status = payload.getStatus();
+            message = payload.getMessage();
+            metaData.putAll(payload.getMetaData());
+            return updates++ == 0;
+        }
+
+        int getUpdates() {
+            return updates;
+        }
+
+        private SchedulerServiceClient.StatusUpdatePayload toPayload() {
+            return new SchedulerServiceClient.StatusUpdatePayload(status, message, new HashMap<>(metaData));
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package uk.gov.hmcts.juror.job.execution.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.logging.log4j.util.Strings;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
+import uk.gov.hmcts.juror.job.execution.client.contracts.SchedulerServiceClient;
+import uk.gov.hmcts.juror.job.execution.config.StatusOutboxConfig;
+import uk.gov.hmcts.juror.job.execution.service.contracts.StatusUpdateService;
+import uk.gov.hmcts.juror.standard.service.exceptions.InternalServerException;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+//With the outbox enabled status updates are written to a local journal and sent to the scheduler service on a single
+//background thread, so a job never waits on (or fails because of) the scheduler. Failed sends are retried with
+//backoff, updates for the same task are always sent in the order they were made and rejected updates are dropped
+@Service
+@Slf4j
+@SuppressWarnings("PMD.DoNotUseThreads")
+public class StatusUpdateServiceImpl implements StatusUpdateService {
+
+    private final SchedulerServiceClient schedulerServiceClient;
+    private final StatusOutboxConfig config;
+    private final StatusOutboxJournal journal;
+    private final ScheduledExecutorService executorService;
+    private final AtomicBoolean deliveryRequested;
+    //Only used from the delivery thread
+    private final Map<Long, Integer> attempts;
+    private ScheduledFuture<?> retry;
+    private long retryDelay;
+
+    @Autowired
+    public StatusUpdateServiceImpl(SchedulerServiceClient schedulerServiceClient, StatusOutboxConfig config)
+        throws IOException {
+        this(schedulerServiceClient, config, config.isEnabled()
+            ? Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("status-outbox").daemon(true).factory())
+            : null);
+    }
+
+    StatusUpdateServiceImpl(SchedulerServiceClient schedulerServiceClient, StatusOutboxConfig config,
+                            ScheduledExecutorService executorService) throws IOException {
+        this.schedulerServiceClient = schedulerServiceClient;
+        this.config = config;
+        this.executorService = executorService;
+        this.deliveryRequested = new AtomicBoolean(false);
+        this.attempts = new HashMap<>();
+        if (config.isEnabled() && Strings.isBlank(config.getDirectory())) {
+            throw new InternalServerException(
+                "Status outbox is enabled but no persistent directory is set in jobs.status-outbox.directory");
+        }
+        this.journal = config.isEnabled() ? new StatusOutboxJournal(Path.of(config.getDirectory())) : null;
+        if (journal != null && journal.getPendingCount() > 0) {
+            requestDelivery();
+        }
+    }
+
+    @Override
+    public void updateStatus(String jobKey, Long taskId, SchedulerServiceClient.StatusUpdatePayload payload) {
+        //Updates that can not be reported back are still passed on so the client logs them as it always has
+        if (journal == null || Strings.isBlank(jobKey) || taskId == null) {
+            schedulerServiceClient.updateStatus(jobKey, taskId, payload);
+            return;
+        }
+        try {
+            journal.append(jobKey, taskId, payload);
+        } catch (IOException exception) {
+            log.error("Failed to write status update to the outbox journal, sending it directly", exception);
+            schedulerServiceClient.updateStatus(jobKey, taskId, payload);
+            return;
+        }
+        requestDelivery();
+    }
+
+    void requestDelivery() {
+        if (!deliveryRequested.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executorService.execute(this::deliver);
+        } catch (RejectedExecutionException exception) {
+            //Shutting down, whatever is still pending is sent once the service is started again
+            deliveryRequested.set(false);
+            log.warn("Status outbox stopped with {} status updates still to send", journal.getPendingCount());
+        }
+    }
+
+    void deliver() {
+        deliveryRequested.set(false);
+        int batchSize = Math.max(1, config.getBatchSize());
+        Set<String> failedTasks = new HashSet<>();
+        int delivered = 0;
+        List<StatusOutboxJournal.Entry> batch;
+        do {
+            //Tasks that have failed this pass are skipped so the updates of other tasks queued behind them still go
+            batch = journal.getPending(batchSize, failedTasks);
+            delivered += deliver(batch, failedTasks);
+        } while (batch.size() == batchSize && !failedTasks.isEmpty());
+
+        if (!failedTasks.isEmpty()) {
+            scheduleRetry();
+        } else {
+            retryDelay = 0;
+            if (delivered > 0 && journal.getPendingCount() > 0) {
+                requestDelivery();
+            }
+        }
+    }
+
+    private int deliver(List<StatusOutboxJournal.Entry> batch, Set<String> failedTasks) {
+        List<StatusOutboxJournal.Entry> delivered = new ArrayList<>(batch.size());
+        for (StatusOutboxJournal.Entry entry : batch) {
+            if (failedTasks.contains(entry.task())) {
+                continue;
+            }
+            if (send(entry)) {
+                delivered.add(entry);
+            } else {
+                failedTasks.add(entry.task());
+            }
+        }
+        try {
+            journal.acknowledge(delivered);
+        } catch (IOException exception) {
+            //The updates may be sent again after a restart which the scheduler service allows
+            log.error("Failed to acknowledge {} sent status updates in the outbox journal", delivered.size(),
+                exception);
+        }
+        return delivered.size();
+    }
+
+    //Returns true once the update no longer needs sending, either because it was sent or it has been given up on
+    private boolean send(StatusOutboxJournal.Entry entry) {
+        try {
+            schedulerServiceClient.updateStatus(entry.jobKey(), entry.taskId(), entry.toPayload());
+            attempts.remove(entry.id());
+            return true;
+        } catch (Exception exception) {
+            int attempt = attempts.merge(entry.id(), 1, Integer::sum);
+            if (!isRetryable(exception)) {
+                log.error("Dropping status update for job key: {} task id: {} status: {} as it was rejected",
+                    entry.jobKey(), entry.taskId(), entry.status(), exception);
+                attempts.remove(entry.id());
+                return true;
+            }
+            if (config.getMaxAttempts() > 0 && attempt >= config.getMaxAttempts()) {
+                log.error("Dropping status update for job key: {} task id: {} status: {} after {} attempts",
+                    entry.jobKey(), entry.taskId(), entry.status(), attempt, exception);
+                attempts.remove(entry.id());
+                return true;
+            }
+            log.warn("Failed to send status update for job key: {} task id: {} (attempt {}), it will be retried",
+                entry.jobKey(), entry.taskId(), attempt);
+            return false;
+        }
+    }
+
+    //A 4xx response will be the same next time, apart from a request timeout or being rate limited
+    static boolean isRetryable(Throwable exception) {
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            if (cause instanceof HttpClientErrorException clientErrorException) {
+                HttpStatusCode statusCode = clientErrorException.getStatusCode();
+                return statusCode.isSameCodeAs(HttpStatus.REQUEST_TIMEOUT)
+                    || statusCode.isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS);
+            }
+        }
+        return true;
+    }
+
+    private void scheduleRetry() {
+        retryDelay = retryDelay == 0
+            ? config.getRetryDelay()
+            : Math.min(retryDelay * 2, config.getMaxRetryDelay());
+        if (retry != null && !retry.isDone()) {
+            return;
+        }
+        log.info("Retrying {} pending status updates in {} ms", journal.getPendingCount(), retryDelay);
+        try {
+            retry = executorService.schedule(this::deliver, retryDelay, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException exception) {
+            log.warn("Status outbox stopped with {} status updates still to send", journal.getPendingCount());
+        }
+    }
+
+    long getRetryDelay() {
+        return retryDelay;
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        if (journal == null) {
+            return;
+        }
+        executorService.shutdownNow();
+        try {
+            if (!executorService.awaitTermination(5, TimeUnit.SECONDS)) {
+                log.warn("Status outbox delivery did not stop in time");
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+        journal.close();
+    }
+}
@@ -23,5 +23,12 @@ public interface DatabaseService {
 
     void executeUpdate(Connection connection, String sql, Object... arguments) throws SQLException;
 
+    int[] executeBatchUpdate(Connection connection, String sql, List<Object[]> batchArguments) throws SQLException;
+
     <T> List<T> executePreparedStatement(Connection connection, Class<T> clazz, String sql, Object... arguments);
+
+    //Rows are read through a server side cursor and passed to the consumer one at a time. A null fetch size uses the
+    //default database fetch size. Returns the number of rows processed
+    <T> long executeStreamingPreparedStatement(Connection connection, Class<T> clazz, Integer fetchSize,
+                                               Consumer<T> rowConsumer, String sql, Object... arguments);
 }
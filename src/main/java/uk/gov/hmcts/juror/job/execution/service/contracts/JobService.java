@@ -7,4 +7,6 @@ public interface JobService {
     void trigger(Job job, MetaData metaData);
 
     Job getJob(String jobKey);
+
+    void cancel(String jobKey, Long taskId);
 }
@@ -4,6 +4,7 @@ import uk.gov.hmcts.juror.job.execution.util.Sftp;
 
 import java.io.File;
 import java.util.Collection;
+import java.util.function.Consumer;
 
 public interface SftpService {
     default Collection<File> upload(Class<? extends Sftp> sftpClass, Collection<File> filesToProcess) {
@@ -18,4 +19,36 @@ public interface SftpService {
     }
 
     boolean upload(Class<? extends Sftp> sftpClass, File fileToProcess, long retryLimit, long retryDelay);
+
+    //Uploads each file and hands its result to the consumer on the calling thread as soon as it is known.
+    //Implementations may upload files concurrently so results are not guaranteed to arrive in collection order
+    default void upload(Class<? extends Sftp> sftpClass, Collection<File> filesToProcess,
+                        long retryLimit, long retryDelay, Consumer<UploadResult> resultConsumer) {
+        for (File file : filesToProcess) {
+            resultConsumer.accept(new UploadResult(file, upload(sftpClass, file, retryLimit, retryDelay)));
+        }
+    }
+
+    //Opens an upload stage files can be handed to as they become available. At most queueCapacity files are held
+    //(queued, uploading or waiting to retry) at once, submitting beyond that blocks until a file completes
+    UploadPipeline openPipeline(Class<? extends Sftp> sftpClass, long retryLimit, long retryDelay, int queueCapacity);
+
+    record UploadResult(File file, boolean successful) {
+    }
+
+    interface UploadPipeline extends AutoCloseable {
+        void submit(File file);
+
+        //Submits the file only if the pipeline has room for it, never waits
+        boolean trySubmit(File file);
+
+        //Hands over any results that are already available without waiting
+        void drainResults(Consumer<UploadResult> resultConsumer);
+
+        //Waits for every submitted file to finish and hands over the remaining results
+        void complete(Consumer<UploadResult> resultConsumer);
+
+        @Override
+        void close();
+    }
 }
@@ -0,0 +1,11 @@
+package uk.gov.hmcts.juror.job.execution.service.contracts;
+
+import uk.gov.hmcts.juror.job.execution.client.contracts.SchedulerServiceClient;
+
+public interface StatusUpdatePublisher {
+
+    //Progress updates may be held back and merged with later ones, terminal updates are always sent straight away
+    void publish(String jobKey, Long taskId, SchedulerServiceClient.StatusUpdatePayload payload);
+
+    boolean isCoalescing();
+}
@@ -0,0 +1,8 @@
+package uk.gov.hmcts.juror.job.execution.service.contracts;
+
+import uk.gov.hmcts.juror.job.execution.client.contracts.SchedulerServiceClient;
+
+public interface StatusUpdateService {
+
+    void updateStatus(String jobKey, Long taskId, SchedulerServiceClient.StatusUpdatePayload payload);
+}
@@ -5,8 +5,16 @@ import uk.gov.hmcts.juror.standard.service.exceptions.InternalServerException;
 
 import java.io.File;
 import java.io.IOException;
-import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
@@ -15,6 +23,11 @@ import java.util.stream.Stream;
 
 public final class FileUtils {
 
+    public static final Charset DEFAULT_CHARSET = StandardCharsets.UTF_8;
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+    //Enough for any single encoded character
+    private static final int MIN_WRITE_BUFFER_SIZE = 16;
+
     private FileUtils() {
 
     }
@@ -64,12 +77,35 @@ public final class FileUtils {
         return checksFile != null && checksFile.exists();
     }
 
+    //The data is encoded a chunk at a time into one reused buffer rather than copied into a byte[] of its full size.
+    //Characters that can not be encoded are replaced, as String.getBytes does
     public static void writeToFile(File file, String data) throws IOException {
-        try (OutputStream outputStream = Files.newOutputStream(file.toPath())) {
-            final byte[] contentInBytes = data.getBytes();
-            outputStream.write(contentInBytes);
-            outputStream.flush();
+        CharsetEncoder encoder = DEFAULT_CHARSET.newEncoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        CharBuffer chars = CharBuffer.wrap(data);
+        ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(WRITE_BUFFER_SIZE,
+            Math.max(MIN_WRITE_BUFFER_SIZE, (long) Math.ceil(data.length() * encoder.maxBytesPerChar()))));
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            CoderResult result;
+            do {
+                result = encoder.encode(chars, buffer, true);
+                write(channel, buffer);
+            } while (result.isOverflow());
+            do {
+                result = encoder.flush(buffer);
+                write(channel, buffer);
+            } while (result.isOverflow());
+        }
+    }
+
+    private static void write(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
         }
+        buffer.clear();
     }
 
 
@@ -34,6 +34,7 @@ import java.util.stream.Stream;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -147,6 +148,43 @@ public class JobControllerTest {
 
     }
 
+    @Nested
+    @DisplayName("PUT " + Cancel.PUT_CANCEL_URL)
+    class Cancel extends ControllerTest {
+        static final String PUT_CANCEL_URL = CONTROLLER_BASEURL + "/{jobKey}/{taskId}/cancel";
+
+        public Cancel() {
+            super(HttpMethod.PUT, PUT_CANCEL_URL, HttpStatus.ACCEPTED);
+        }
+
+        @Override
+        protected Stream<SuccessRequestArgument> getSuccessRequestArgument() {
+            SuccessRequestArgument successRequestArgument = new SuccessRequestArgument("Typical", getSuccessStatus(),
+                null, resultActions -> verify(jobService, times(1))
+                .cancel(TestConstants.VALID_JOB_KEY, TestConstants.VALID_TASK_ID_LONG), null);
+            successRequestArgument.setPathParams(
+                new String[]{TestConstants.VALID_JOB_KEY, TestConstants.VALID_TASK_ID});
+            return Stream.of(successRequestArgument);
+        }
+
+        @Test
+        @DisplayName("NOT_FOUND: Task is not running")
+        void negativeTaskNotRunning() {
+            NotFoundArgument notFoundArgument = new NotFoundArgument();
+            notFoundArgument.setPathParams(new String[]{TestConstants.VALID_JOB_KEY, TestConstants.VALID_TASK_ID});
+            notFoundArgument.setPreActions(builder -> doThrow(new NotFoundException("No running task"))
+                .when(jobService).cancel(TestConstants.VALID_JOB_KEY, TestConstants.VALID_TASK_ID_LONG));
+            callAndValidate(notFoundArgument);
+        }
+
+        @Override
+        protected RequestArgument defaultRequestArgument() {
+            RequestArgument requestArgument = new RequestArgument(null, null, null);
+            requestArgument.setPathParams(new String[]{TestConstants.VALID_JOB_KEY, TestConstants.VALID_TASK_ID});
+            return requestArgument;
+        }
+    }
+
     @Nested
     @DisplayName("PUT " + UpdatePncJobStatus.PUT_PNC_UPDATE)
     class UpdatePncJobStatus extends ControllerTestWithPayload {
@@ -0,0 +1,136 @@
+package uk.gov.hmcts.juror.job.execution.client;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.util.Base64;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("CachingJwtAuthenticationInterceptor")
+class CachingJwtAuthenticationInterceptorTest {
+    private static final long NOW = 1_700_000_000_000L;
+    private static final long VALIDITY = 300_000;
+    private static final long REFRESH_AHEAD = 30_000;
+
+    private Clock clock;
+    private AtomicInteger signCount;
+    private ClientHttpResponse response;
+    private CachingJwtAuthenticationInterceptor interceptor;
+
+    @BeforeEach
+    void beforeEach() {
+        clock = mock(Clock.class);
+        when(clock.millis()).thenReturn(NOW);
+        signCount = new AtomicInteger();
+        response = mock(ClientHttpResponse.class);
+        interceptor = new CachingJwtAuthenticationInterceptor(createSigningInterceptor("{\"exp\":%d}"),
+            REFRESH_AHEAD, clock);
+    }
+
+    //Stands in for JwtAuthenticationInterceptor, signing a token valid from the clock's current time
+    private ClientHttpRequestInterceptor createSigningInterceptor(String payloadFormat) {
+        return (request, body, execution) -> {
+            long exp = (clock.millis() + VALIDITY) / 1000;
+            request.getHeaders().set(HttpHeaders.AUTHORIZATION, "Bearer "
+                + createToken(String.format(payloadFormat, exp)) + signCount.incrementAndGet());
+            return execution.execute(request, body);
+        };
+    }
+
+    private static String createToken(String payload) {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        return encoder.encodeToString("{\"alg\":\"HS256\"}".getBytes(StandardCharsets.UTF_8)) + "."
+            + encoder.encodeToString(payload.getBytes(StandardCharsets.UTF_8)) + ".signature";
+    }
+
+    private String call() throws IOException {
+        MockClientHttpRequest request = new MockClientHttpRequest(HttpMethod.GET, URI.create("http://localhost"));
+        ClientHttpRequestExecution execution = (executedRequest, body) -> {
+            assertSame(request, executedRequest, "The original request should be executed");
+            return response;
+        };
+        assertSame(response, interceptor.intercept(request, new byte[0], execution));
+        return request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+    }
+
+    @Nested
+    @DisplayName("public ClientHttpResponse intercept(HttpRequest request, byte[] body, "
+        + "ClientHttpRequestExecution execution)")
+    class Intercept {
+        @Test
+        void positiveTokenReusedWithinValidity() throws IOException {
+            String authorization = call();
+            when(clock.millis()).thenReturn(NOW + VALIDITY - REFRESH_AHEAD - 1000);
+            assertEquals(authorization, call(), "Cached token should be reused");
+            assertEquals(authorization, call(), "Cached token should be reused");
+            assertEquals(1, signCount.get(), "Token should only be signed once");
+        }
+
+        @Test
+        void positiveTokenRefreshedAheadOfExpiry() throws IOException {
+            String authorization = call();
+            when(clock.millis()).thenReturn(NOW + VALIDITY - REFRESH_AHEAD);
+            String refreshedAuthorization = call();
+
+            assertEquals(2, signCount.get(), "Token should be signed again ahead of expiry");
+            assertEquals(refreshedAuthorization, call(), "Refreshed token should then be reused");
+            assertEquals(2, signCount.get());
+            assertNotEquals(authorization, refreshedAuthorization, "A new token should be used");
+        }
+
+        @Test
+        void negativeTokenWithoutExpiryNotCached() throws IOException {
+            interceptor = new CachingJwtAuthenticationInterceptor(createSigningInterceptor("{\"iat\":%d}"),
+                REFRESH_AHEAD, clock);
+            call();
+            call();
+            assertEquals(2, signCount.get(), "Tokens without an expiry should be signed every time");
+        }
+
+        @Test
+        void negativeValidityShorterThanRefreshAheadNotCached() throws IOException {
+            interceptor = new CachingJwtAuthenticationInterceptor(createSigningInterceptor("{\"exp\":%d}"),
+                VALIDITY, clock);
+            call();
+            call();
+            assertEquals(2, signCount.get(), "Tokens that would need refreshing straight away should not be cached");
+        }
+    }
+
+    @Nested
+    @DisplayName("static Long getExpiresAt(String authorization)")
+    class GetExpiresAt {
+        @Test
+        void positiveExpiry() {
+            assertEquals(1_700_000_300_000L, CachingJwtAuthenticationInterceptor.getExpiresAt(
+                "Bearer " + createToken("{\"sub\":\"juror\",\"exp\":1700000300}")));
+        }
+
+        @Test
+        void negativeNotAToken() {
+            assertNull(CachingJwtAuthenticationInterceptor.getExpiresAt(null));
+            assertNull(CachingJwtAuthenticationInterceptor.getExpiresAt("Bearer abc"));
+            assertNull(CachingJwtAuthenticationInterceptor.getExpiresAt("Bearer a.!!!.c"));
+            assertNull(CachingJwtAuthenticationInterceptor.getExpiresAt("Bearer " + createToken("not json")));
+        }
+    }
+}
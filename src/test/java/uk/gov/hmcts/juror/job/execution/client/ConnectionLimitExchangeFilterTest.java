@@ -0,0 +1,104 @@
+package uk.gov.hmcts.juror.job.execution.client;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayName("ConnectionLimitExchangeFilter")
+class ConnectionLimitExchangeFilterTest {
+    private static final ClientRequest REQUEST =
+        ClientRequest.create(HttpMethod.PATCH, URI.create("https://localhost:8080/juror/123")).build();
+
+    private final List<Sinks.One<ClientResponse>> responses = new CopyOnWriteArrayList<>();
+    private final ExchangeFunction next = request -> {
+        Sinks.One<ClientResponse> response = Sinks.one();
+        responses.add(response);
+        return response.asMono();
+    };
+
+    private static ClientResponse createResponse() {
+        return ClientResponse.create(HttpStatus.ACCEPTED).body("OK").build();
+    }
+
+    @Nested
+    @DisplayName("public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next)")
+    class Filter {
+        @Test
+        void positiveRequestsWaitForConnection() {
+            ConnectionLimitExchangeFilter filter = new ConnectionLimitExchangeFilter(2);
+            List<String> bodies = new CopyOnWriteArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                filter.filter(REQUEST, next).flatMap(response -> response.bodyToMono(String.class))
+                    .subscribe(bodies::add);
+            }
+            assertEquals(2, responses.size(), "Only two requests should be sent at once");
+            assertEquals(1, filter.getWaiting());
+
+            responses.get(0).tryEmitValue(createResponse());
+            assertEquals(3, responses.size(), "Waiting request should be sent once a body is consumed");
+            responses.get(1).tryEmitValue(createResponse());
+            responses.get(2).tryEmitValue(createResponse());
+
+            assertEquals(List.of("OK", "OK", "OK"), bodies);
+            assertEquals(2, filter.getAvailable(), "Every connection should be released");
+        }
+
+        @Test
+        void positiveConnectionReleasedOnError() {
+            ConnectionLimitExchangeFilter filter = new ConnectionLimitExchangeFilter(1);
+            filter.filter(REQUEST, next).onErrorResume(throwable -> Mono.empty()).subscribe();
+            responses.get(0).tryEmitError(new IllegalStateException("I am the cause"));
+
+            assertEquals(1, filter.getAvailable(), "Failed request should release its connection");
+        }
+
+        @Test
+        void positiveWaitingRequestCancelled() {
+            ConnectionLimitExchangeFilter filter = new ConnectionLimitExchangeFilter(1);
+            filter.filter(REQUEST, next).subscribe();
+            Disposable waiting = filter.filter(REQUEST, next).subscribe();
+            assertEquals(1, filter.getWaiting());
+
+            waiting.dispose();
+            assertEquals(0, filter.getWaiting(), "Cancelled request should stop waiting");
+            responses.get(0).tryEmitValue(createResponse());
+            assertEquals(1, responses.size(), "Cancelled request should not be sent");
+        }
+
+        @Test
+        void positiveSentRequestCancelled() {
+            ConnectionLimitExchangeFilter filter = new ConnectionLimitExchangeFilter(1);
+            Disposable sent = filter.filter(REQUEST, next).subscribe();
+            filter.filter(REQUEST, next).subscribe();
+
+            sent.dispose();
+            assertEquals(2, responses.size(), "Cancelling a sent request should release its connection");
+            assertEquals(0, filter.getAvailable());
+        }
+
+        @Test
+        void positiveNotSentUntilSubscribed() {
+            ConnectionLimitExchangeFilter filter = new ConnectionLimitExchangeFilter(1);
+            Mono<ClientResponse> response = filter.filter(REQUEST, next);
+
+            assertEquals(0, responses.size());
+            assertEquals(1, filter.getAvailable(), "Connection should only be taken once subscribed to");
+            response.subscribe();
+            assertEquals(0, filter.getAvailable());
+        }
+    }
+}
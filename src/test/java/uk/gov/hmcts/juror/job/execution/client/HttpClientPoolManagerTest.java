@@ -0,0 +1,169 @@
+package uk.gov.hmcts.juror.job.execution.client;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+import uk.gov.hmcts.juror.job.execution.config.HttpClientConfig;
+import uk.gov.hmcts.juror.job.execution.config.RemoteConfig;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("HttpClientPoolManager")
+class HttpClientPoolManagerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private HttpClientPoolManager httpClientPoolManager;
+    private RemoteConfig config;
+
+    @BeforeEach
+    void beforeEach() {
+        meterRegistry = new SimpleMeterRegistry();
+        httpClientPoolManager = new HttpClientPoolManager(meterRegistry);
+        config = new RemoteConfig();
+        config.getHttpClient().setEnabled(true);
+        config.getHttpClient().setMaxConnectionsPerRoute(5);
+        config.getHttpClient().setMaxConnectionsTotal(10);
+    }
+
+    @AfterEach
+    void afterEach() {
+        httpClientPoolManager.close();
+    }
+
+    @Nested
+    @DisplayName("public ClientHttpRequestFactory getRequestFactory(String service, RemoteConfig config)")
+    class GetRequestFactory {
+        @Test
+        void positiveReusesPoolForSameService() {
+            HttpClientPoolManager.PooledHttpClient pooledHttpClient =
+                httpClientPoolManager.getHttpClient("JurorService", config);
+
+            assertSame(pooledHttpClient, httpClientPoolManager.getHttpClient("JurorService", config),
+                "Pool should be shared by the same service");
+            assertNotSame(pooledHttpClient, httpClientPoolManager.getHttpClient("SchedulerService", config),
+                "Each service should get its own pool");
+            assertInstanceOf(HttpComponentsClientHttpRequestFactory.class,
+                httpClientPoolManager.getRequestFactory("JurorService", config));
+        }
+
+        @Test
+        void positivePoolSizeApplied() {
+            HttpClientPoolManager.PooledHttpClient pooledHttpClient =
+                httpClientPoolManager.getHttpClient("JurorService", config);
+
+            assertEquals(5, pooledHttpClient.connectionManager().getDefaultMaxPerRoute());
+            assertEquals(10, pooledHttpClient.connectionManager().getMaxTotal());
+        }
+
+        @Test
+        void positivePerServicePoolSizeApplied() {
+            HttpClientConfig.PoolLimits poolLimits = new HttpClientConfig.PoolLimits();
+            poolLimits.setMaxConnectionsPerRoute(50);
+            config.getHttpClient().getServices().put("JurorService", poolLimits);
+
+            HttpClientPoolManager.PooledHttpClient jurorService =
+                httpClientPoolManager.getHttpClient("JurorService", config);
+            HttpClientPoolManager.PooledHttpClient schedulerService =
+                httpClientPoolManager.getHttpClient("SchedulerService", config);
+
+            assertEquals(50, jurorService.connectionManager().getDefaultMaxPerRoute(), "Override should apply");
+            assertEquals(10, jurorService.connectionManager().getMaxTotal(), "Unset limit should fall back");
+            assertEquals(5, schedulerService.connectionManager().getDefaultMaxPerRoute(),
+                "Other services should keep the default");
+        }
+
+        @Test
+        void positivePoolMetricsBound() {
+            httpClientPoolManager.getHttpClient("JurorService", config);
+
+            assertEquals(10.0, meterRegistry.get("httpcomponents.httpclient.pool.total.max")
+                .tag("httpclient", "JurorService").gauge().value(), "Pool max should be exposed");
+            assertEquals(0.0, meterRegistry.get("httpcomponents.httpclient.pool.total.connections")
+                .tags("httpclient", "JurorService", "state", "leased").gauge().value(),
+                "Leased connections should be exposed");
+        }
+
+        @Test
+        void positiveConnectionsKeptAlive() throws IOException {
+            Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+            HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            server.createContext("/", exchange -> {
+                clientPorts.add(exchange.getRemoteAddress().getPort());
+                exchange.sendResponseHeaders(200, 2);
+                exchange.getResponseBody().write("OK".getBytes());
+                exchange.close();
+            });
+            server.start();
+            try {
+                RestTemplate restTemplate =
+                    new RestTemplate(httpClientPoolManager.getRequestFactory("JurorService", config));
+                String url = "http://localhost:" + server.getAddress().getPort() + "/";
+                for (int i = 0; i < 5; i++) {
+                    assertEquals("OK", restTemplate.getForObject(url, String.class));
+                }
+            } finally {
+                server.stop(0);
+            }
+            assertEquals(1, clientPorts.size(), "Every call should reuse the same connection");
+        }
+    }
+
+    @Nested
+    @DisplayName("ConnectionConfig createConnectionConfig(RemoteConfig config)")
+    class CreateConnectionConfig {
+        @Test
+        void positiveTimeoutsApplied() {
+            config.setConnectTimeout(1000);
+            config.setReadTimeout(5000);
+            config.getHttpClient().setTimeToLive(60_000);
+            config.getHttpClient().setValidateAfterInactivity(500);
+
+            ConnectionConfig connectionConfig = httpClientPoolManager.createConnectionConfig(config);
+            assertEquals(Timeout.ofMilliseconds(1000), connectionConfig.getConnectTimeout());
+            assertEquals(Timeout.ofMilliseconds(5000), connectionConfig.getSocketTimeout());
+            assertEquals(TimeValue.ofMilliseconds(60_000), connectionConfig.getTimeToLive());
+            assertEquals(TimeValue.ofMilliseconds(500), connectionConfig.getValidateAfterInactivity());
+        }
+
+        @Test
+        void positiveDefaultsWhenNotConfigured() {
+            ConnectionConfig connectionConfig = httpClientPoolManager.createConnectionConfig(config);
+            assertNull(connectionConfig.getSocketTimeout(), "No socket timeout should be set");
+            assertNull(connectionConfig.getTimeToLive(), "No time to live should be set");
+        }
+    }
+
+    @Test
+    void positiveConnectionRequestTimeoutApplied() {
+        config.getHttpClient().setConnectionRequestTimeout(250);
+        RequestConfig requestConfig = httpClientPoolManager.createRequestConfig(config.getHttpClient());
+        assertEquals(Timeout.ofMilliseconds(250), requestConfig.getConnectionRequestTimeout());
+    }
+
+    @Test
+    void positiveCloseRemovesPools() {
+        httpClientPoolManager.getHttpClient("JurorService", config);
+        httpClientPoolManager.close();
+        assertTrue(httpClientPoolManager.httpClients.isEmpty(), "Pools should be removed once closed");
+    }
+}
@@ -17,13 +17,19 @@ import uk.gov.hmcts.juror.job.execution.testsupport.TestConstants;
 import uk.gov.hmcts.juror.standard.service.exceptions.InternalServerException;
 import uk.gov.hmcts.juror.standard.service.exceptions.RemoteGatewayException;
 
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @SuppressWarnings("unchecked")
@@ -121,4 +127,84 @@ class JurorServiceClientImplTest {
             assertEquals(payload, argumentCaptor.getValue().getBody(), "Payloads should match");
         }
     }
+
+    @DisplayName("UpdateAll: " + URL)
+    @Nested
+    class UpdateAll {
+        private static final String FAILING_JUROR_NUMBER = "222222222";
+
+        private JurorServiceClient.StatusUpdate createStatusUpdate(String jurorNumber) {
+            return new JurorServiceClient.StatusUpdate(jurorNumber,
+                new JurorServiceClient.Payload(PoliceCheck.IN_PROGRESS));
+        }
+
+        private JurorServiceClientImpl createClient(int bulkConcurrency) {
+            RestTemplateBuilder restTemplateBuilder = mock(RestTemplateBuilder.class);
+            when(restTemplateBuilder.build()).thenReturn(restTemplate);
+            return new JurorServiceClientImpl(restTemplateBuilder, SCHEME, HOST, PORT, URL_SUFFIX, bulkConcurrency);
+        }
+
+        @Test
+        void positiveSequential() {
+            when(response.getStatusCode()).thenReturn(HttpStatus.ACCEPTED);
+            when(restTemplate.exchange(eq(URL), eq(HttpMethod.PATCH), any(), eq(Void.class),
+                eq(FAILING_JUROR_NUMBER))).thenThrow(new RuntimeException("I am the cause"));
+
+            List<JurorServiceClient.StatusUpdate> failedUpdates = jurorServiceClient.updateAll(List.of(
+                createStatusUpdate(TestConstants.VALID_JUROR_NUMBER),
+                createStatusUpdate(FAILING_JUROR_NUMBER)));
+
+            assertEquals(List.of(createStatusUpdate(FAILING_JUROR_NUMBER)), failedUpdates,
+                "Only the failing update should be returned");
+            verify(restTemplate, times(1)).exchange(eq(URL), eq(HttpMethod.PATCH), any(), eq(Void.class),
+                eq(TestConstants.VALID_JUROR_NUMBER));
+        }
+
+        @Test
+        void positiveConcurrencyBounded() {
+            AtomicInteger inFlight = new AtomicInteger(0);
+            AtomicInteger maxInFlight = new AtomicInteger(0);
+            when(response.getStatusCode()).thenReturn(HttpStatus.ACCEPTED);
+            when(restTemplate.exchange(eq(URL), eq(HttpMethod.PATCH), any(), eq(Void.class), anyString()))
+                .thenAnswer(invocation -> {
+                    maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                    Thread.sleep(20);
+                    inFlight.decrementAndGet();
+                    if (FAILING_JUROR_NUMBER.equals(invocation.getArgument(4))) {
+                        throw new RuntimeException("I am the cause");
+                    }
+                    return response;
+                });
+
+            List<JurorServiceClient.StatusUpdate> statusUpdates = List.of(
+                createStatusUpdate("111111111"),
+                createStatusUpdate(FAILING_JUROR_NUMBER),
+                createStatusUpdate("333333333"),
+                createStatusUpdate("444444444"),
+                createStatusUpdate("555555555"),
+                createStatusUpdate("666666666"));
+            List<JurorServiceClient.StatusUpdate> failedUpdates = createClient(3).updateAll(statusUpdates);
+
+            assertEquals(List.of(createStatusUpdate(FAILING_JUROR_NUMBER)), failedUpdates,
+                "Only the failing update should be returned");
+            assertEquals(3, maxInFlight.get(), "No more than 3 updates should be in flight at once");
+            verify(restTemplate, times(6)).exchange(eq(URL), eq(HttpMethod.PATCH), any(), eq(Void.class),
+                anyString());
+        }
+
+        @Test
+        void positiveEmpty() {
+            assertTrue(createClient(3).updateAll(List.of()).isEmpty(), "No updates should fail");
+            verifyNoInteractions(restTemplate);
+        }
+
+        @Test
+        void positiveGetConcurrency() {
+            JurorServiceClientImpl client = createClient(4);
+            assertEquals(4, client.getConcurrency(10), "Should be bound by config");
+            assertEquals(2, client.getConcurrency(2), "Should be bound by the number of updates");
+            assertEquals(1, client.getConcurrency(0), "Should never be less than 1");
+            assertEquals(1, jurorServiceClient.getConcurrency(10), "Should default to 1");
+        }
+    }
 }
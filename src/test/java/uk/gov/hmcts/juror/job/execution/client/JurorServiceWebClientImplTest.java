@@ -0,0 +1,157 @@
+package uk.gov.hmcts.juror.job.execution.client;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import uk.gov.hmcts.juror.job.execution.client.contracts.JurorServiceClient;
+import uk.gov.hmcts.juror.job.execution.config.RemoteConfig;
+import uk.gov.hmcts.juror.job.execution.jobs.checks.pnc.batch.PoliceCheck;
+import uk.gov.hmcts.juror.job.execution.testsupport.TestConstants;
+import uk.gov.hmcts.juror.standard.service.exceptions.InternalServerException;
+import uk.gov.hmcts.juror.standard.service.exceptions.RemoteGatewayException;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("Client: Juror Service (WebClient)")
+class JurorServiceWebClientImplTest {
+    private static final String URL_PREFIX = "https://localhost:8080";
+    private static final String URL = "/api/v1/moj/juror-record/pnc/{jurorNumber}";
+
+    private RemoteConfig config;
+    private List<ClientRequest> requests;
+    private JurorServiceWebClientImpl jurorServiceClient;
+
+    @BeforeEach
+    void beforeEach() {
+        config = new RemoteConfig();
+        requests = new CopyOnWriteArrayList<>();
+    }
+
+    private void createClient(ExchangeFunction exchangeFunction) {
+        WebClient webClient = WebClient.builder()
+            .baseUrl(URL_PREFIX)
+            .exchangeFunction(request -> {
+                requests.add(request);
+                return exchangeFunction.exchange(request);
+            })
+            .build();
+        jurorServiceClient = new JurorServiceWebClientImpl(webClient, config, URL);
+    }
+
+    private void createClient(HttpStatus status) {
+        createClient(request -> Mono.just(ClientResponse.create(status).build()));
+    }
+
+    private static JurorServiceClient.StatusUpdate createStatusUpdate(String jurorNumber) {
+        return new JurorServiceClient.StatusUpdate(jurorNumber, new JurorServiceClient.Payload(PoliceCheck.ELIGIBLE));
+    }
+
+    @Nested
+    @DisplayName("public void call(String jurorNumber, Payload payload)")
+    class Call {
+        @Test
+        void positiveTypical() {
+            createClient(HttpStatus.ACCEPTED);
+            jurorServiceClient.call(TestConstants.VALID_JUROR_NUMBER,
+                new JurorServiceClient.Payload(PoliceCheck.ELIGIBLE));
+
+            assertEquals(1, requests.size(), "One request should be sent");
+            assertEquals(HttpMethod.PATCH, requests.get(0).method());
+            assertEquals(URI.create(URL_PREFIX + "/api/v1/moj/juror-record/pnc/" + TestConstants.VALID_JUROR_NUMBER),
+                requests.get(0).url());
+        }
+
+        @Test
+        void negativeIncorrectStatusCode() {
+            createClient(HttpStatus.OK);
+            RemoteGatewayException exception = assertThrows(RemoteGatewayException.class,
+                () -> jurorServiceClient.call(TestConstants.VALID_JUROR_NUMBER,
+                    new JurorServiceClient.Payload(PoliceCheck.ELIGIBLE)));
+            assertEquals("Call to JurorServiceClient failed status code was: 200 OK", exception.getMessage());
+        }
+
+        @Test
+        void negativeExceptionRaised() {
+            createClient(request -> Mono.error(new IllegalStateException("I am the cause")));
+            InternalServerException exception = assertThrows(InternalServerException.class,
+                () -> jurorServiceClient.call(TestConstants.VALID_JUROR_NUMBER,
+                    new JurorServiceClient.Payload(PoliceCheck.ELIGIBLE)));
+            assertEquals("Failed to update juror pnc status", exception.getMessage());
+        }
+    }
+
+    @Nested
+    @DisplayName("public List<StatusUpdate> updateAll(List<StatusUpdate> statusUpdates)")
+    class UpdateAll {
+        @Test
+        void positiveFailedUpdatesReturnedInOrder() {
+            createClient(request -> Mono.just(ClientResponse.create(
+                request.url().getPath().endsWith("2") || request.url().getPath().endsWith("4")
+                    ? HttpStatus.INTERNAL_SERVER_ERROR
+                    : HttpStatus.ACCEPTED).build()));
+            List<JurorServiceClient.StatusUpdate> statusUpdates = new ArrayList<>();
+            for (int i = 1; i <= 5; i++) {
+                statusUpdates.add(createStatusUpdate("12345678" + i));
+            }
+
+            assertEquals(List.of(statusUpdates.get(1), statusUpdates.get(3)),
+                jurorServiceClient.updateAll(statusUpdates), "Only failed updates should be returned");
+            assertEquals(5, requests.size(), "Every update should be sent");
+        }
+
+        @Test
+        void positiveRequestsInFlightBounded() throws Exception {
+            config.getWebClient().setMaxRequestsInFlight(3);
+            AtomicInteger inFlight = new AtomicInteger(0);
+            AtomicInteger maxInFlight = new AtomicInteger(0);
+            List<Sinks.One<ClientResponse>> pending = new CopyOnWriteArrayList<>();
+            createClient(request -> {
+                maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                Sinks.One<ClientResponse> sink = Sinks.one();
+                pending.add(sink);
+                return sink.asMono().doOnNext(response -> inFlight.decrementAndGet());
+            });
+            List<JurorServiceClient.StatusUpdate> statusUpdates = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                statusUpdates.add(createStatusUpdate(TestConstants.VALID_JUROR_NUMBER));
+            }
+
+            CompletableFuture<List<JurorServiceClient.StatusUpdate>> result =
+                CompletableFuture.supplyAsync(() -> jurorServiceClient.updateAll(statusUpdates));
+            //Responses are released one at a time, each response lets one more update be sent
+            for (int responded = 0; responded < 10; responded++) {
+                waitForRequests(pending, Math.min(10, responded + 3));
+                pending.get(responded).tryEmitValue(ClientResponse.create(HttpStatus.ACCEPTED).build());
+            }
+
+            assertEquals(List.of(), result.get(5, TimeUnit.SECONDS), "No updates should fail");
+            assertEquals(3, maxInFlight.get(), "No more than 3 requests should be in flight");
+        }
+
+        private void waitForRequests(List<?> pending, int expected) throws InterruptedException {
+            long deadline = System.currentTimeMillis() + 5000;
+            while (pending.size() < expected && System.currentTimeMillis() < deadline) {
+                Thread.sleep(1);
+            }
+            assertEquals(expected, pending.size(), "Requests in flight should be topped up to the limit");
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package uk.gov.hmcts.juror.job.execution.client;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("JwtAuthenticationExchangeFilter")
+class JwtAuthenticationExchangeFilterTest {
+    private static final URI URL = URI.create("https://localhost:8080/jurors/check/bulk");
+
+    @Nested
+    @DisplayName("public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next)")
+    class Filter {
+        @Test
+        void positiveAuthorizationHeaderSet() {
+            AtomicInteger signCount = new AtomicInteger();
+            ClientHttpRequestInterceptor interceptor = (request, body, execution) -> {
+                assertEquals(HttpMethod.POST, request.getMethod());
+                assertEquals(URL, request.getURI());
+                request.getHeaders().set(HttpHeaders.AUTHORIZATION, "Bearer token" + signCount.incrementAndGet());
+                return execution.execute(request, body);
+            };
+            List<ClientRequest> requests = new CopyOnWriteArrayList<>();
+            ExchangeFunction next = request -> {
+                requests.add(request);
+                return Mono.just(ClientResponse.create(HttpStatus.OK).build());
+            };
+            JwtAuthenticationExchangeFilter filter = new JwtAuthenticationExchangeFilter(interceptor);
+
+            Mono<ClientResponse> response = filter.filter(ClientRequest.create(HttpMethod.POST, URL).build(), next);
+            assertTrue(requests.isEmpty(), "Request should only be sent once subscribed to");
+            assertEquals(HttpStatus.OK, response.block().statusCode());
+            filter.filter(ClientRequest.create(HttpMethod.POST, URL).build(), next).block();
+
+            assertEquals(2, requests.size());
+            assertEquals("Bearer token1", requests.get(0).headers().getFirst(HttpHeaders.AUTHORIZATION));
+            assertEquals("Bearer token2", requests.get(1).headers().getFirst(HttpHeaders.AUTHORIZATION),
+                "Each request should be signed");
+        }
+
+        @Test
+        void negativeNoAuthorizationHeader() {
+            JwtAuthenticationExchangeFilter filter = new JwtAuthenticationExchangeFilter(
+                (request, body, execution) -> execution.execute(request, body));
+            Mono<ClientResponse> response = filter.filter(ClientRequest.create(HttpMethod.POST, URL).build(),
+                request -> Mono.just(ClientResponse.create(HttpStatus.OK).build()));
+
+            RuntimeException exception = assertThrows(RuntimeException.class, response::block);
+            assertEquals(IOException.class, exception.getCause().getClass());
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package uk.gov.hmcts.juror.job.execution.client;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import uk.gov.hmcts.juror.job.execution.client.contracts.PoliceNationalCheckServiceClient;
+import uk.gov.hmcts.juror.standard.service.exceptions.InternalServerException;
+import uk.gov.hmcts.juror.standard.service.exceptions.RemoteGatewayException;
+
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Client: Police National Computer Check (WebClient)")
+class PoliceNationalComputerCheckWebClientImplTest {
+    private static final String URL_PREFIX = "https://localhost:8080";
+    private static final String URL = "/jurors/check/bulk";
+
+    private List<ClientRequest> requests;
+    private PoliceNationalComputerCheckWebClientImpl policeNationalCheckServiceClient;
+
+    @BeforeEach
+    void beforeEach() {
+        requests = new CopyOnWriteArrayList<>();
+    }
+
+    private void createClient(ExchangeFunction exchangeFunction) {
+        WebClient webClient = WebClient.builder()
+            .baseUrl(URL_PREFIX)
+            .exchangeFunction(request -> {
+                requests.add(request);
+                return exchangeFunction.exchange(request);
+            })
+            .build();
+        policeNationalCheckServiceClient = new PoliceNationalComputerCheckWebClientImpl(webClient, URL);
+    }
+
+    private void createClient(HttpStatus status) {
+        createClient(request -> Mono.just(ClientResponse.create(status).build()));
+    }
+
+    private static PoliceNationalCheckServiceClient.JurorCheckRequestBulk createRequest() {
+        return PoliceNationalCheckServiceClient.JurorCheckRequestBulk.builder().build();
+    }
+
+    @Test
+    void positiveNonBlocking() {
+        createClient(HttpStatus.OK);
+        assertTrue(policeNationalCheckServiceClient.isNonBlocking(), "WebClient implementation is non-blocking");
+    }
+
+    @Nested
+    @DisplayName("public void checkJurors(JurorCheckRequestBulk jurorCheckRequestBulk)")
+    class CheckJurors {
+        @Test
+        void positiveTypical() {
+            createClient(HttpStatus.OK);
+            policeNationalCheckServiceClient.checkJurors(createRequest());
+
+            assertEquals(1, requests.size(), "One request should be sent");
+            assertEquals(HttpMethod.POST, requests.get(0).method());
+            assertEquals(URI.create(URL_PREFIX + URL), requests.get(0).url());
+        }
+
+        @Test
+        void negativeIncorrectStatusCode() {
+            createClient(HttpStatus.NOT_FOUND);
+            RemoteGatewayException exception = assertThrows(RemoteGatewayException.class,
+                () -> policeNationalCheckServiceClient.checkJurors(createRequest()));
+            assertEquals("Call to PoliceNationalCheckServiceClientImpl check bulk jurors failed status code was: "
+                + "404 NOT_FOUND", exception.getMessage());
+        }
+
+        @Test
+        void negativeExceptionRaised() {
+            createClient(request -> Mono.error(new IllegalStateException("I am the cause")));
+            InternalServerException exception = assertThrows(InternalServerException.class,
+                () -> policeNationalCheckServiceClient.checkJurors(createRequest()));
+            assertEquals("Failed to run bulk juror pnc checks", exception.getMessage());
+        }
+    }
+
+    @Nested
+    @DisplayName("public CompletableFuture<Void> checkJurorsAsync(JurorCheckRequestBulk jurorCheckRequestBulk)")
+    class CheckJurorsAsync {
+        @Test
+        void positiveCompletesWhenResponseArrives() {
+            Sinks.One<ClientResponse> sink = Sinks.one();
+            createClient(request -> sink.asMono());
+
+            CompletableFuture<Void> future = policeNationalCheckServiceClient.checkJurorsAsync(createRequest());
+            assertEquals(1, requests.size(), "Request should be sent straight away");
+            assertFalse(future.isDone(), "Future should wait for the response");
+
+            sink.tryEmitValue(ClientResponse.create(HttpStatus.OK).build());
+            assertTrue(future.isDone() && !future.isCompletedExceptionally(), "Future should complete normally");
+        }
+
+        @Test
+        void negativeIncorrectStatusCode() {
+            createClient(HttpStatus.BAD_GATEWAY);
+            CompletableFuture<Void> future = policeNationalCheckServiceClient.checkJurorsAsync(createRequest());
+            ExecutionException exception = assertThrows(ExecutionException.class, future::get);
+            assertInstanceOf(RemoteGatewayException.class, exception.getCause());
+        }
+    }
+}
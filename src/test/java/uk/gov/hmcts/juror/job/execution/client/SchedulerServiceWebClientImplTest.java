@@ -0,0 +1,180 @@
+package uk.gov.hmcts.juror.job.execution.client;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import uk.gov.hmcts.juror.job.execution.client.contracts.SchedulerServiceClient;
+import uk.gov.hmcts.juror.job.execution.model.Status;
+import uk.gov.hmcts.juror.standard.service.exceptions.InternalServerException;
+import uk.gov.hmcts.juror.standard.service.exceptions.RemoteGatewayException;
+
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Client: Scheduler Service (WebClient)")
+class SchedulerServiceWebClientImplTest {
+    private static final String URL_PREFIX = "https://localhost:8080";
+    private static final String UPDATE_STATUS_URL = "/job/{job-key}/task/{task-id}/status";
+    private static final String GET_LATEST_STATUS_URL = "/job/{job-key}/status";
+    private static final String GET_STATUS_URL = "/job/{job-key}/task/{task-id}";
+    private static final String JOB_KEY = "ABC";
+    private static final Long TASK_ID = 1L;
+
+    private List<ClientRequest> requests;
+    private ClientResponse response;
+    private SchedulerServiceWebClientImpl schedulerServiceClient;
+
+    @BeforeEach
+    void beforeEach() {
+        requests = new CopyOnWriteArrayList<>();
+        WebClient webClient = WebClient.builder()
+            .baseUrl(URL_PREFIX)
+            .exchangeFunction(request -> {
+                requests.add(request);
+                return Mono.just(response);
+            })
+            .build();
+        schedulerServiceClient = new SchedulerServiceWebClientImpl(webClient, UPDATE_STATUS_URL,
+            GET_LATEST_STATUS_URL, GET_STATUS_URL);
+    }
+
+    private void assertRequest(HttpMethod method, String url) {
+        assertEquals(1, requests.size(), "One request should be sent");
+        assertEquals(method, requests.get(0).method());
+        assertEquals(URI.create(url), requests.get(0).url());
+    }
+
+    private static ClientResponse createTaskResponse() {
+        return ClientResponse.create(HttpStatus.OK)
+            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+            .body("{\"job_key\":\"ABC\",\"task_id\":1,\"status\":\"PROCESSING\",\"message\":\"Running\"}")
+            .build();
+    }
+
+    private static SchedulerServiceClient.StatusUpdatePayload createPayload() {
+        return new SchedulerServiceClient.StatusUpdatePayload(Status.PROCESSING, "Running", null);
+    }
+
+    @Nested
+    @DisplayName("public void updateStatus(String jobKey, Long taskId, StatusUpdatePayload payload)")
+    class UpdateStatus {
+        @Test
+        void positiveTypical() {
+            response = ClientResponse.create(HttpStatus.ACCEPTED).build();
+            schedulerServiceClient.updateStatus(JOB_KEY, TASK_ID, createPayload());
+            assertRequest(HttpMethod.PUT, URL_PREFIX + "/job/ABC/task/1/status");
+        }
+
+        @Test
+        void positiveNoTaskId() {
+            schedulerServiceClient.updateStatus(JOB_KEY, null, createPayload());
+            assertTrue(requests.isEmpty(), "No request should be sent without a task id");
+        }
+
+        @Test
+        void negativeIncorrectStatusCode() {
+            response = ClientResponse.create(HttpStatus.OK).build();
+            RemoteGatewayException exception = assertThrows(RemoteGatewayException.class,
+                () -> schedulerServiceClient.updateStatus(JOB_KEY, TASK_ID, createPayload()));
+            assertEquals("Call to SchedulerServiceClient.updateStatus(jobKey, taskId, payload) failed status code"
+                + " was: 200 OK", exception.getMessage());
+        }
+
+        @Test
+        void negativeClientErrorRaisedAsHttpClientErrorException() {
+            response = ClientResponse.create(HttpStatus.BAD_REQUEST).body("Invalid status").build();
+            InternalServerException exception = assertThrows(InternalServerException.class,
+                () -> schedulerServiceClient.updateStatus(JOB_KEY, TASK_ID, createPayload()));
+            assertEquals("Failed to upload Job result", exception.getMessage());
+            HttpClientErrorException cause = assertInstanceOf(HttpClientErrorException.class, exception.getCause(),
+                "A 4xx should be raised as the RestTemplate client raises it");
+            assertEquals(HttpStatus.BAD_REQUEST, cause.getStatusCode());
+            assertEquals("Invalid status", cause.getResponseBodyAsString());
+        }
+
+        @Test
+        void negativeServerErrorStatusCode() {
+            response = ClientResponse.create(HttpStatus.SERVICE_UNAVAILABLE).build();
+            RemoteGatewayException exception = assertThrows(RemoteGatewayException.class,
+                () -> schedulerServiceClient.updateStatus(JOB_KEY, TASK_ID, createPayload()));
+            assertEquals("Call to SchedulerServiceClient.updateStatus(jobKey, taskId, payload) failed status code"
+                + " was: 503 SERVICE_UNAVAILABLE", exception.getMessage());
+        }
+
+        @Test
+        void negativeExceptionRaised() {
+            WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> Mono.error(new IllegalStateException("I am the cause")))
+                .build();
+            schedulerServiceClient = new SchedulerServiceWebClientImpl(webClient, UPDATE_STATUS_URL,
+                GET_LATEST_STATUS_URL, GET_STATUS_URL);
+            InternalServerException exception = assertThrows(InternalServerException.class,
+                () -> schedulerServiceClient.updateStatus(JOB_KEY, TASK_ID, createPayload()));
+            assertEquals("Failed to upload Job result", exception.getMessage());
+        }
+    }
+
+    @Nested
+    @DisplayName("public TaskResponse getLatestTask(String jobKey)")
+    class GetLatestTask {
+        @Test
+        void positiveTypical() {
+            response = createTaskResponse();
+            SchedulerServiceClient.TaskResponse taskResponse = schedulerServiceClient.getLatestTask(JOB_KEY);
+            assertRequest(HttpMethod.GET, URL_PREFIX + "/job/ABC/status");
+            assertEquals(JOB_KEY, taskResponse.getJobKey());
+            assertEquals(1, taskResponse.getTaskId());
+            assertEquals(Status.PROCESSING, taskResponse.getStatus());
+        }
+
+        @Test
+        void positiveNotFound() {
+            response = ClientResponse.create(HttpStatus.NOT_FOUND).body("Not found").build();
+            assertNull(schedulerServiceClient.getLatestTask(JOB_KEY), "Not found should return null");
+        }
+
+        @Test
+        void negativeIncorrectStatusCode() {
+            response = ClientResponse.create(HttpStatus.BAD_GATEWAY).build();
+            RemoteGatewayException exception = assertThrows(RemoteGatewayException.class,
+                () -> schedulerServiceClient.getLatestTask(JOB_KEY));
+            assertEquals("Call to SchedulerServiceClient.getLatestTask(String jobKey) failed status code was: "
+                + "502 BAD_GATEWAY", exception.getMessage());
+        }
+    }
+
+    @Nested
+    @DisplayName("public TaskResponse getTask(String jobKey, Long taskId)")
+    class GetTask {
+        @Test
+        void positiveTypical() {
+            response = createTaskResponse();
+            SchedulerServiceClient.TaskResponse taskResponse = schedulerServiceClient.getTask(JOB_KEY, TASK_ID);
+            assertRequest(HttpMethod.GET, URL_PREFIX + "/job/ABC/task/1");
+            assertEquals(Status.PROCESSING, taskResponse.getStatus());
+        }
+
+        @Test
+        void positiveNotFound() {
+            response = ClientResponse.create(HttpStatus.NOT_FOUND).build();
+            assertNull(schedulerServiceClient.getTask(JOB_KEY, TASK_ID), "Not found should return null");
+        }
+    }
+}
@@ -6,8 +6,14 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.InterceptingClientHttpRequestFactory;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.DefaultUriBuilderFactory;
+import uk.gov.hmcts.juror.job.execution.client.CachingJwtAuthenticationInterceptor;
+import uk.gov.hmcts.juror.job.execution.client.HttpClientPoolManager;
 import uk.gov.hmcts.juror.standard.client.interceptor.JwtAuthenticationInterceptor;
 import uk.gov.hmcts.juror.standard.config.WebConfig;
 import uk.gov.hmcts.juror.standard.service.contracts.auth.JwtService;
@@ -16,7 +22,9 @@ import java.net.URI;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -26,11 +34,13 @@ class ClientConfigTest {
     private static RemoteConfig config;
     private static ClientConfig clientConfig;
     private static JwtService jwtService;
+    private static HttpClientPoolManager httpClientPoolManager;
 
     @BeforeAll
     static void beforeAll() {
         config = mock(RemoteConfig.class);
         jwtService = mock(JwtService.class);
+        httpClientPoolManager = mock(HttpClientPoolManager.class);
         clientConfig = new ClientConfig();
 
         WebConfig schedularServiceWebConfig = createWebConfigMock();
@@ -40,6 +50,8 @@ class ClientConfigTest {
         when(config.getSchedulerService()).thenReturn(schedularServiceWebConfig);
         when(config.getJurorService()).thenReturn(jurorServiceWebConfig);
         when(config.getPoliceNationalComputerCheckService()).thenReturn(policeNationalComputerCheckServiceWebConfig);
+        when(config.getHttpClient()).thenReturn(new HttpClientConfig());
+        when(config.getJwtCache()).thenReturn(new JwtCacheConfig());
 
     }
 
@@ -56,19 +68,73 @@ class ClientConfigTest {
     @Test
     void validateSchedulerServiceRestTemplateBuilder() {
         validateRestTemplateBuilder(config.getSchedulerService(),
-            clientConfig.schedulerServiceRestTemplateBuilder(config, jwtService));
+            clientConfig.schedulerServiceRestTemplateBuilder(config, jwtService, httpClientPoolManager));
     }
 
     @Test
     void validateJurorServiceRestTemplateBuilder() {
         validateRestTemplateBuilder(config.getJurorService(),
-            clientConfig.jurorServiceRestTemplateBuilder(config, jwtService));
+            clientConfig.jurorServiceRestTemplateBuilder(config, jwtService, httpClientPoolManager));
     }
 
     @Test
     void validatePoliceNationalCheckServiceRestTemplateBuilder() {
         validateRestTemplateBuilder(config.getPoliceNationalComputerCheckService(),
-            clientConfig.policeNationalCheckServiceRestTemplateBuilder(config, jwtService));
+            clientConfig.policeNationalCheckServiceRestTemplateBuilder(config, jwtService, httpClientPoolManager));
+    }
+
+    @Test
+    void positivePooledHttpClientEnabled() {
+        RemoteConfig remoteConfig = new RemoteConfig();
+        remoteConfig.getHttpClient().setEnabled(true);
+        WebConfig webConfig = createWebConfigMock();
+        remoteConfig.setJurorService(webConfig);
+        HttpClientPoolManager poolManager = mock(HttpClientPoolManager.class);
+        ClientHttpRequestFactory requestFactory = mock(ClientHttpRequestFactory.class);
+        when(poolManager.getRequestFactory("juror-service", remoteConfig)).thenReturn(requestFactory);
+
+        RestTemplate restTemplate = clientConfig.jurorServiceRestTemplateBuilder(remoteConfig, jwtService,
+            poolManager).build();
+
+        assertInstanceOf(InterceptingClientHttpRequestFactory.class, restTemplate.getRequestFactory());
+        verify(poolManager, times(1)).getRequestFactory("juror-service", remoteConfig);
+        verify(webConfig, never()).getRequestFactory();
+    }
+
+    @Test
+    void positiveAuthenticationInterceptorNotCached() {
+        ClientHttpRequestInterceptor interceptor = mock(ClientHttpRequestInterceptor.class);
+        assertSame(interceptor, ClientConfig.authenticationInterceptor(new RemoteConfig(), interceptor),
+            "Interceptor should be unchanged when the token cache is disabled");
+    }
+
+    @Test
+    void positiveAuthenticationInterceptorCached() {
+        RemoteConfig remoteConfig = new RemoteConfig();
+        remoteConfig.getJwtCache().setEnabled(true);
+        assertInstanceOf(CachingJwtAuthenticationInterceptor.class,
+            ClientConfig.authenticationInterceptor(remoteConfig, mock(ClientHttpRequestInterceptor.class)));
+    }
+
+    @Test
+    void positiveApplyTimeoutsNotConfigured() {
+        RestTemplateBuilder restTemplateBuilder = new RestTemplateBuilder();
+        assertSame(restTemplateBuilder, ClientConfig.applyTimeouts(restTemplateBuilder, new RemoteConfig()),
+            "Builder should be unchanged when no timeouts are configured");
+    }
+
+    @Test
+    void positiveApplyTimeoutsConfigured() {
+        RemoteConfig remoteConfig = new RemoteConfig();
+        remoteConfig.setConnectTimeout(1000);
+        remoteConfig.setReadTimeout(5000);
+
+        RestTemplate restTemplate = ClientConfig.applyTimeouts(
+            new RestTemplateBuilder().requestFactory(SimpleClientHttpRequestFactory::new), remoteConfig).build();
+
+        assertInstanceOf(SimpleClientHttpRequestFactory.class, restTemplate.getRequestFactory());
+        assertEquals(1000, ReflectionTestUtils.getField(restTemplate.getRequestFactory(), "connectTimeout"));
+        assertEquals(5000, ReflectionTestUtils.getField(restTemplate.getRequestFactory(), "readTimeout"));
     }
 
 
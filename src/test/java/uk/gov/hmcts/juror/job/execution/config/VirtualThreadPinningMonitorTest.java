@@ -0,0 +1,62 @@
+package uk.gov.hmcts.juror.job.execution.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+class VirtualThreadPinningMonitorTest {
+
+    private VirtualThreadPinningMonitor monitor;
+
+    @AfterEach
+    void afterEach() {
+        if (monitor != null) {
+            monitor.destroy();
+        }
+    }
+
+    @Test
+    void positiveStartAndStop() {
+        monitor = new VirtualThreadPinningMonitor(Duration.ofMillis(20));
+        assertFalse(monitor.isRunning(), "Monitor should not be running before it is started");
+        monitor.afterPropertiesSet();
+        assertTrue(monitor.isRunning(), "Monitor should be running once started");
+        monitor.destroy();
+        assertFalse(monitor.isRunning(), "Monitor should not be running once destroyed");
+    }
+
+    @Test
+    void positivePinnedThreadLogged() throws InterruptedException {
+        monitor = spy(new VirtualThreadPinningMonitor(Duration.ofMillis(10)));
+        monitor.afterPropertiesSet();
+
+        Object lock = new Object();
+        Thread.ofVirtual().start(() -> {
+            synchronized (lock) {
+                try {
+                    Thread.sleep(50);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }).join();
+
+        verify(monitor, timeout(10_000).atLeastOnce()).logPinnedEvent(any());
+    }
+
+    @Test
+    void positiveFormatStackTraceUnknown() {
+        assertEquals("unknown", VirtualThreadPinningMonitor.formatStackTrace(null),
+            "Expect unknown when there is no stack trace");
+    }
+}
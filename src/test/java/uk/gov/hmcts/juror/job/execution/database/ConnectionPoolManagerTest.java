@@ -0,0 +1,117 @@
+package uk.gov.hmcts.juror.job.execution.database;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.juror.job.execution.config.DatabaseConfig;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("ConnectionPoolManager")
+class ConnectionPoolManagerTest {
+
+    private ConnectionPoolManager connectionPoolManager;
+
+    @BeforeEach
+    void beforeEach() {
+        connectionPoolManager = spy(new ConnectionPoolManager(new SimpleMeterRegistry()));
+        doAnswer(invocation -> mock(HikariDataSource.class))
+            .when(connectionPoolManager).createDataSource(any(), any());
+    }
+
+    private DatabaseConfig createConfig(String schema) {
+        return DatabaseConfig.builder()
+            .url("jdbc:postgresql://localhost:5432/juror")
+            .username("username")
+            .password("password")
+            .schema(schema)
+            .build();
+    }
+
+    @Nested
+    @DisplayName("public Connection getConnection(DatabaseConfig config)")
+    class GetConnection {
+        @Test
+        void positiveReusesPoolForSameKey() throws SQLException {
+            DatabaseConfig config = createConfig("juror_mod");
+            HikariDataSource dataSource = connectionPoolManager.getDataSource(config);
+            Connection connection = mock(Connection.class);
+            when(dataSource.getConnection()).thenReturn(connection);
+
+            assertSame(connection, connectionPoolManager.getConnection(config),
+                "Connection should come from the pool");
+            assertSame(connection, connectionPoolManager.getConnection(createConfig("juror_mod")),
+                "Equivalent config should share the same pool");
+
+            verify(connectionPoolManager, times(1)).createDataSource(any(), any());
+            verify(dataSource, times(2)).getConnection();
+            assertEquals(1, connectionPoolManager.dataSources.size(), "Only one pool should be created");
+        }
+
+        @Test
+        void positiveSeparatePoolPerSchema() {
+            HikariDataSource dataSource1 = connectionPoolManager.getDataSource(createConfig("juror_mod"));
+            HikariDataSource dataSource2 = connectionPoolManager.getDataSource(createConfig("juror_dashboard"));
+
+            assertNotSame(dataSource1, dataSource2, "Each schema should have its own pool");
+            assertEquals(2, connectionPoolManager.dataSources.size(), "Two pools should be created");
+        }
+    }
+
+    @Test
+    void positiveCreateHikariConfig() {
+        DatabaseConfig config = createConfig("juror_mod");
+        config.setPoolSize(7);
+        config.setMinimumIdle(1);
+        config.setConnectionTimeout(1000L);
+        config.setValidationTimeout(500L);
+        config.setIdleTimeout(20_000L);
+        config.setMaxLifetime(60_000L);
+
+        HikariConfig hikariConfig =
+            connectionPoolManager.createHikariConfig(ConnectionPoolManager.PoolKey.of(config), config);
+
+        assertEquals(ConnectionPoolManager.DRIVER_CLASS_NAME, hikariConfig.getDriverClassName());
+        assertEquals(config.getUrl(), hikariConfig.getJdbcUrl());
+        assertEquals(config.getUsername(), hikariConfig.getUsername());
+        assertEquals(config.getPassword(), hikariConfig.getPassword());
+        assertEquals(config.getSchema(), hikariConfig.getSchema());
+        assertEquals(7, hikariConfig.getMaximumPoolSize());
+        assertEquals(1, hikariConfig.getMinimumIdle());
+        assertEquals(1000L, hikariConfig.getConnectionTimeout());
+        assertEquals(500L, hikariConfig.getValidationTimeout());
+        assertEquals(20_000L, hikariConfig.getIdleTimeout());
+        assertEquals(60_000L, hikariConfig.getMaxLifetime());
+        assertTrue(hikariConfig.getPoolName().startsWith(ConnectionPoolManager.POOL_NAME_PREFIX + "juror_mod"),
+            "Pool name should contain the schema");
+    }
+
+    @Test
+    void positiveClose() {
+        HikariDataSource dataSource1 = connectionPoolManager.getDataSource(createConfig("juror_mod"));
+        HikariDataSource dataSource2 = connectionPoolManager.getDataSource(createConfig("juror_dashboard"));
+
+        connectionPoolManager.close();
+
+        verify(dataSource1, times(1)).close();
+        verify(dataSource2, times(1)).close();
+        assertTrue(connectionPoolManager.dataSources.isEmpty(), "All pools should be removed");
+    }
+}
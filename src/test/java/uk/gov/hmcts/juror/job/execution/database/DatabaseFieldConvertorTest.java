@@ -13,14 +13,17 @@ import java.lang.reflect.Field;
 import java.math.BigDecimal;
 import java.sql.Clob;
 import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.doReturn;
@@ -59,11 +62,11 @@ public class DatabaseFieldConvertorTest {
 
             ResultSet resultSet = mock(ResultSet.class);
 
-            when(resultSet.getObject(columnName, Clob.class)).thenReturn(clob);
+            when(resultSet.getObject(1, Clob.class)).thenReturn(clob);
             DatabaseColumn databaseColumn = createDatabaseColumnMock(columnName, "setTestClob", true);
-            assertEquals(expectedValue, DatabaseFieldConvertor.CONVERTERS.get(String.class).apply(databaseColumn,
-                resultSet), "Should return expected value");
-            verify(resultSet, times(1)).getObject(columnName, Clob.class);
+            assertEquals(expectedValue, DatabaseFieldConvertor.CONVERTERS.get(String.class).convert(databaseColumn,
+                resultSet, 1), "Should return expected value");
+            verify(resultSet, times(1)).getObject(1, Clob.class);
             verifyNoMoreInteractions(resultSet);
         }
 
@@ -78,16 +81,16 @@ public class DatabaseFieldConvertorTest {
             when(clob.getSubString(1, (int) clob.length())).thenThrow(cause);
 
             ResultSet resultSet = mock(ResultSet.class);
-            when(resultSet.getObject("testClob", Clob.class)).thenReturn(clob);
+            when(resultSet.getObject(1, Clob.class)).thenReturn(clob);
 
             InternalServerException internalServerException = assertThrows(InternalServerException.class,
-                () -> DatabaseFieldConvertor.CONVERTERS.get(String.class).apply(databaseColumn, resultSet),
+                () -> DatabaseFieldConvertor.CONVERTERS.get(String.class).convert(databaseColumn, resultSet, 1),
                 "Should throw InternalServerException");
 
             assertEquals("Failed to convert clob to string", internalServerException.getMessage(),
                 "Message should be the same");
             assertEquals(cause, internalServerException.getCause(), "Cause should be the same");
-            verify(resultSet, times(1)).getObject(columnName, Clob.class);
+            verify(resultSet, times(1)).getObject(1, Clob.class);
             verifyNoMoreInteractions(resultSet);
         }
 
@@ -97,10 +100,10 @@ public class DatabaseFieldConvertorTest {
             String expectedValue = "testStringValue";
             DatabaseColumn databaseColumn = createDatabaseColumnMock(columnName, "setTestString");
             ResultSet resultSet = mock(ResultSet.class);
-            when(resultSet.getObject(columnName, String.class)).thenReturn(expectedValue);
-            assertEquals(expectedValue, DatabaseFieldConvertor.CONVERTERS.get(String.class).apply(databaseColumn,
-                resultSet), "Should return expected value");
-            verify(resultSet, times(1)).getObject(columnName, String.class);
+            when(resultSet.getObject(1, String.class)).thenReturn(expectedValue);
+            assertEquals(expectedValue, DatabaseFieldConvertor.CONVERTERS.get(String.class).convert(databaseColumn,
+                resultSet, 1), "Should return expected value");
+            verify(resultSet, times(1)).getObject(1, String.class);
             verifyNoMoreInteractions(resultSet);
         }
 
@@ -110,10 +113,10 @@ public class DatabaseFieldConvertorTest {
             Integer expectedValue = 123;
             DatabaseColumn databaseColumn = createDatabaseColumnMock(columnName, "setTestInteger");
             ResultSet resultSet = mock(ResultSet.class);
-            when(resultSet.getObject(columnName, Integer.class)).thenReturn(expectedValue);
-            assertEquals(expectedValue, DatabaseFieldConvertor.CONVERTERS.get(Integer.class).apply(databaseColumn,
-                resultSet), "Should return expected value");
-            verify(resultSet, times(1)).getObject(columnName, Integer.class);
+            when(resultSet.getObject(1, Integer.class)).thenReturn(expectedValue);
+            assertEquals(expectedValue, DatabaseFieldConvertor.CONVERTERS.get(Integer.class).convert(databaseColumn,
+                resultSet, 1), "Should return expected value");
+            verify(resultSet, times(1)).getObject(1, Integer.class);
             verifyNoMoreInteractions(resultSet);
 
         }
@@ -124,10 +127,10 @@ public class DatabaseFieldConvertorTest {
             Long expectedValue = 123L;
             DatabaseColumn databaseColumn = createDatabaseColumnMock(columnName, "setTestInteger");
             ResultSet resultSet = mock(ResultSet.class);
-            when(resultSet.getObject(columnName, Long.class)).thenReturn(expectedValue);
-            assertEquals(expectedValue, DatabaseFieldConvertor.CONVERTERS.get(Long.class).apply(databaseColumn,
-                resultSet), "Should return expected value");
-            verify(resultSet, times(1)).getObject(columnName, Long.class);
+            when(resultSet.getObject(1, Long.class)).thenReturn(expectedValue);
+            assertEquals(expectedValue, DatabaseFieldConvertor.CONVERTERS.get(Long.class).convert(databaseColumn,
+                resultSet, 1), "Should return expected value");
+            verify(resultSet, times(1)).getObject(1, Long.class);
             verifyNoMoreInteractions(resultSet);
 
         }
@@ -138,10 +141,10 @@ public class DatabaseFieldConvertorTest {
             BigDecimal expectedValue = new BigDecimal(1);
             DatabaseColumn databaseColumn = createDatabaseColumnMock(columnName, "setBigDecimal");
             ResultSet resultSet = mock(ResultSet.class);
-            when(resultSet.getObject(columnName, BigDecimal.class)).thenReturn(expectedValue);
-            assertEquals(expectedValue, DatabaseFieldConvertor.CONVERTERS.get(BigDecimal.class).apply(databaseColumn,
-                resultSet), "Should return expected value");
-            verify(resultSet, times(1)).getObject(columnName, BigDecimal.class);
+            when(resultSet.getObject(1, BigDecimal.class)).thenReturn(expectedValue);
+            assertEquals(expectedValue, DatabaseFieldConvertor.CONVERTERS.get(BigDecimal.class).convert(databaseColumn,
+                resultSet, 1), "Should return expected value");
+            verify(resultSet, times(1)).getObject(1, BigDecimal.class);
             verifyNoMoreInteractions(resultSet);
         }
 
@@ -153,11 +156,11 @@ public class DatabaseFieldConvertorTest {
             when(timestamp.toLocalDateTime()).thenReturn(expectedValue);
             DatabaseColumn databaseColumn = createDatabaseColumnMock(columnName, "setLocalDate");
             ResultSet resultSet = mock(ResultSet.class);
-            when(resultSet.getObject(columnName, Timestamp.class)).thenReturn(timestamp);
+            when(resultSet.getObject(1, Timestamp.class)).thenReturn(timestamp);
             assertEquals(expectedValue.toLocalDate(),
-                DatabaseFieldConvertor.CONVERTERS.get(LocalDate.class).apply(databaseColumn,
-                    resultSet), "Should return expected value");
-            verify(resultSet, times(1)).getObject(columnName, Timestamp.class);
+                DatabaseFieldConvertor.CONVERTERS.get(LocalDate.class).convert(databaseColumn,
+                    resultSet, 1), "Should return expected value");
+            verify(resultSet, times(1)).getObject(1, Timestamp.class);
             verifyNoMoreInteractions(resultSet);
         }
 
@@ -166,10 +169,10 @@ public class DatabaseFieldConvertorTest {
             final String columnName = "testLocalDate";
             DatabaseColumn databaseColumn = createDatabaseColumnMock(columnName, "setLocalDate");
             ResultSet resultSet = mock(ResultSet.class);
-            when(resultSet.getObject(columnName, Timestamp.class)).thenReturn(null);
-            assertNull(DatabaseFieldConvertor.CONVERTERS.get(LocalDate.class).apply(databaseColumn,
-                resultSet), "Should return expected value");
-            verify(resultSet, times(1)).getObject(columnName, Timestamp.class);
+            when(resultSet.getObject(1, Timestamp.class)).thenReturn(null);
+            assertNull(DatabaseFieldConvertor.CONVERTERS.get(LocalDate.class).convert(databaseColumn,
+                resultSet, 1), "Should return expected value");
+            verify(resultSet, times(1)).getObject(1, Timestamp.class);
             verifyNoMoreInteractions(resultSet);
         }
 
@@ -198,35 +201,33 @@ public class DatabaseFieldConvertorTest {
     }
 
     @Nested
-    @DisplayName("static <T> T getResultSetObject(ResultSet resultSet, String columnName, Class<T> type)")
+    @DisplayName("static <T> T getResultSetObject(ResultSet resultSet, int columnIndex, Class<T> type)")
     class GetResultSetObject {
 
         @Test
         void positiveTypical() throws Exception {
-            final String columnName = "testColumnName";
             final String expectedValue = "testValue";
             ResultSet resultSet = mock(ResultSet.class);
-            when(resultSet.getObject(columnName, String.class)).thenReturn(expectedValue);
-            assertEquals(expectedValue, DatabaseFieldConvertor.getResultSetObject(resultSet, columnName,
+            when(resultSet.getObject(1, String.class)).thenReturn(expectedValue);
+            assertEquals(expectedValue, DatabaseFieldConvertor.getResultSetObject(resultSet, 1,
                 String.class), "Should return expected value");
-            verify(resultSet, times(1)).getObject(columnName, String.class);
+            verify(resultSet, times(1)).getObject(1, String.class);
             verifyNoMoreInteractions(resultSet);
         }
 
         @Test
         void negativeUnexpectedException() throws Exception {
-            final String columnName = "testColumnName";
             RuntimeException cause = new RuntimeException("I am the cause");
             ResultSet resultSet = mock(ResultSet.class);
-            when(resultSet.getObject(columnName, String.class)).thenThrow(cause);
+            when(resultSet.getObject(1, String.class)).thenThrow(cause);
 
             InternalServerException internalServerException = assertThrows(InternalServerException.class,
-                () -> DatabaseFieldConvertor.getResultSetObject(resultSet, columnName, String.class),
+                () -> DatabaseFieldConvertor.getResultSetObject(resultSet, 1, String.class),
                 "Should throw InternalServerException");
             assertEquals("Failed to convert result set into: class java.lang.String",
                 internalServerException.getMessage(), "Message should be the same");
             assertEquals(cause, internalServerException.getCause(), "Cause should be the same");
-            verify(resultSet, times(1)).getObject(columnName, String.class);
+            verify(resultSet, times(1)).getObject(1, String.class);
             verifyNoMoreInteractions(resultSet);
         }
     }
@@ -283,22 +284,27 @@ public class DatabaseFieldConvertorTest {
         @Test
         void positiveTypicalSingleField() throws Exception {
             ResultSet resultSet = mock(ResultSet.class);
-            when(resultSet.getObject("dbColumnName", String.class)).thenReturn("testValue");
+            when(resultSet.findColumn("dbColumnName")).thenReturn(1);
+            when(resultSet.getObject(1, String.class)).thenReturn("testValue");
             SingleFieldConvert result = DatabaseFieldConvertor.convertToItem(SingleFieldConvert.class, resultSet);
 
             assertNotNull(result, "Should return not null");
             assertEquals("testValue", result.getMyStringValue(), "Should return expected value");
 
-            verify(resultSet, times(1)).getObject("dbColumnName", String.class);
+            verify(resultSet, times(1)).findColumn("dbColumnName");
+            verify(resultSet, times(1)).getObject(1, String.class);
             verifyNoMoreInteractions(resultSet);
         }
 
         @Test
         void positiveTypicalMultipleFields() throws Exception {
             ResultSet resultSet = mock(ResultSet.class);
-            when(resultSet.getObject("dbColumnName", String.class)).thenReturn("testValue");
-            when(resultSet.getObject("owner", String.class)).thenReturn("testOwner");
-            when(resultSet.getObject("count", Integer.class)).thenReturn(10);
+            when(resultSet.findColumn("dbColumnName")).thenReturn(1);
+            when(resultSet.findColumn("owner")).thenReturn(2);
+            when(resultSet.findColumn("count")).thenReturn(3);
+            when(resultSet.getObject(1, String.class)).thenReturn("testValue");
+            when(resultSet.getObject(2, String.class)).thenReturn("testOwner");
+            when(resultSet.getObject(3, Integer.class)).thenReturn(10);
             MultipleFieldConvert result = DatabaseFieldConvertor.convertToItem(MultipleFieldConvert.class, resultSet);
 
             assertNotNull(result, "Should return not null");
@@ -306,9 +312,12 @@ public class DatabaseFieldConvertorTest {
             assertEquals("testOwner", result.getOwner(), "Should return expected value");
             assertEquals(10, result.getTotal(), "Should return expected value");
 
-            verify(resultSet, times(1)).getObject("dbColumnName", String.class);
-            verify(resultSet, times(1)).getObject("owner", String.class);
-            verify(resultSet, times(1)).getObject("count", Integer.class);
+            verify(resultSet, times(1)).findColumn("dbColumnName");
+            verify(resultSet, times(1)).findColumn("owner");
+            verify(resultSet, times(1)).findColumn("count");
+            verify(resultSet, times(1)).getObject(1, String.class);
+            verify(resultSet, times(1)).getObject(2, String.class);
+            verify(resultSet, times(1)).getObject(3, Integer.class);
             verifyNoMoreInteractions(resultSet);
         }
 
@@ -337,8 +346,10 @@ public class DatabaseFieldConvertorTest {
         void positiveMixOfFields() throws Exception {
 
             ResultSet resultSet = mock(ResultSet.class);
-            when(resultSet.getObject("dbColumnName", String.class)).thenReturn("testValue");
-            when(resultSet.getObject("count", Integer.class)).thenReturn(10);
+            when(resultSet.findColumn("dbColumnName")).thenReturn(1);
+            when(resultSet.findColumn("count")).thenReturn(2);
+            when(resultSet.getObject(1, String.class)).thenReturn("testValue");
+            when(resultSet.getObject(2, Integer.class)).thenReturn(10);
             MixFieldConvert result = DatabaseFieldConvertor.convertToItem(MixFieldConvert.class, resultSet);
 
             assertNotNull(result, "Should return not null");
@@ -346,11 +357,29 @@ public class DatabaseFieldConvertorTest {
             assertNull(result.getOwner(), "Should return expected value");
             assertEquals(10, result.getTotal(), "Should return expected value");
 
-            verify(resultSet, times(1)).getObject("dbColumnName", String.class);
-            verify(resultSet, times(1)).getObject("count", Integer.class);
+            verify(resultSet, times(1)).findColumn("dbColumnName");
+            verify(resultSet, times(1)).findColumn("count");
+            verify(resultSet, times(1)).getObject(1, String.class);
+            verify(resultSet, times(1)).getObject(2, Integer.class);
             verifyNoMoreInteractions(resultSet);
         }
 
+        @Test
+        void negativeColumnNotFound() throws Exception {
+            ResultSet resultSet = mock(ResultSet.class);
+            SQLException cause = new SQLException("The column name dbColumnName was not found in this ResultSet.");
+            when(resultSet.findColumn("dbColumnName")).thenThrow(cause);
+
+            InternalServerException internalServerException = assertThrows(InternalServerException.class,
+                () -> DatabaseFieldConvertor.convertToItem(SingleFieldConvert.class, resultSet),
+                "Should throw InternalServerException");
+            assertEquals("Failed to convert result set into: " + SingleFieldConvert.class,
+                internalServerException.getMessage(), "Message should be the same");
+            assertEquals("Failed to convert result set into: " + SingleFieldConvert.class
+                    + " column not found: dbColumnName",
+                internalServerException.getCause().getMessage(), "Cause message should be the same");
+        }
+
         @Test
         void negativeUnexpectedException() {
             ResultSet resultSet = mock(ResultSet.class);
@@ -366,6 +395,125 @@ public class DatabaseFieldConvertorTest {
         }
     }
 
+    @Nested
+    @DisplayName("public static <T> CompiledRowMapper<T> getRowMapper(Class<T> convertToClass)")
+    class GetRowMapper {
+
+        public static class UnsupportedFieldConvert {
+            @DatabaseColumn(name = "value", setter = "setValue")
+            private Object value;
+
+            public void setValue(Object value) {
+                this.value = value;
+            }
+        }
+
+        @Test
+        void positiveRowMapperIsCached() {
+            CompiledRowMapper<ConvertToItem.MultipleFieldConvert> rowMapper =
+                DatabaseFieldConvertor.getRowMapper(ConvertToItem.MultipleFieldConvert.class);
+
+            assertSame(rowMapper, DatabaseFieldConvertor.getRowMapper(ConvertToItem.MultipleFieldConvert.class),
+                "Row mapper should only be created once per class");
+            assertEquals(3, rowMapper.columnBindings.size(), "Should have a binding per database column");
+        }
+
+        @Test
+        void negativeUnsupportedType() {
+            InternalServerException internalServerException = assertThrows(InternalServerException.class,
+                () -> DatabaseFieldConvertor.getRowMapper(UnsupportedFieldConvert.class),
+                "Should throw InternalServerException");
+            assertEquals("Failed to convert result set into: " + UnsupportedFieldConvert.class,
+                internalServerException.getMessage(), "Message should be the same");
+            assertEquals("Unsupported class type: class java.lang.Object",
+                internalServerException.getCause().getMessage(), "Cause message should be the same");
+            assertFalse(DatabaseFieldConvertor.ROW_MAPPERS.containsKey(UnsupportedFieldConvert.class),
+                "Failed row mappers should not be cached");
+        }
+    }
+
+    @Nested
+    @DisplayName("public static <T> RowMapper<T> bind(Class<T> convertToClass, ResultSet resultSet)")
+    class Bind {
+
+        public enum TestEnum {
+            A, B
+        }
+
+        @Setter
+        @Getter
+        public static class IndexedFieldConvert {
+            @DatabaseColumn(name = "name", setter = "setName")
+            private String name;
+            @DatabaseColumn(name = "data", setter = "setData", isClob = true)
+            private String data;
+            @DatabaseColumn(name = "count", setter = "setCount")
+            private Long count;
+            @DatabaseColumn(name = "date", setter = "setDate")
+            private LocalDate date;
+            @DatabaseColumn(name = "type", setter = "setType")
+            private TestEnum type;
+        }
+
+        @Test
+        void positiveColumnIndexesResolvedOnce() throws Exception {
+            ResultSet resultSet = mock(ResultSet.class);
+            when(resultSet.findColumn("name")).thenReturn(1);
+            when(resultSet.findColumn("data")).thenReturn(2);
+            when(resultSet.findColumn("count")).thenReturn(3);
+            when(resultSet.findColumn("date")).thenReturn(4);
+            when(resultSet.findColumn("type")).thenReturn(5);
+
+            Clob clob = mock(Clob.class);
+            when(clob.length()).thenReturn(4L);
+            when(clob.getSubString(1, 4)).thenReturn("data");
+            LocalDateTime dateTime = LocalDateTime.of(2023, 1, 2, 3, 4);
+            when(resultSet.getObject(1, String.class)).thenReturn("name1", "name2");
+            when(resultSet.getObject(2, Clob.class)).thenReturn(clob, (Clob) null);
+            when(resultSet.getObject(3, Long.class)).thenReturn(1L, 2L);
+            when(resultSet.getObject(4, Timestamp.class)).thenReturn(Timestamp.valueOf(dateTime), null);
+            when(resultSet.getObject(5, String.class)).thenReturn("A", (String) null);
+
+            RowMapper<IndexedFieldConvert> rowMapper =
+                DatabaseFieldConvertor.bind(IndexedFieldConvert.class, resultSet);
+
+            IndexedFieldConvert first = rowMapper.mapRow(resultSet);
+            assertEquals("name1", first.getName(), "Name should match");
+            assertEquals("data", first.getData(), "Data should match");
+            assertEquals(1L, first.getCount(), "Count should match");
+            assertEquals(dateTime.toLocalDate(), first.getDate(), "Date should match");
+            assertEquals(TestEnum.A, first.getType(), "Type should match");
+
+            InternalServerException internalServerException = assertThrows(InternalServerException.class,
+                () -> rowMapper.mapRow(resultSet), "Null clob should fail to convert");
+            assertEquals("Failed to convert result set into: " + IndexedFieldConvert.class,
+                internalServerException.getMessage(), "Message should be the same");
+
+            verify(resultSet, times(1)).findColumn("name");
+            verify(resultSet, times(1)).findColumn("data");
+            verify(resultSet, times(1)).findColumn("count");
+            verify(resultSet, times(1)).findColumn("date");
+            verify(resultSet, times(1)).findColumn("type");
+            verify(resultSet, times(2)).getObject(1, String.class);
+            verify(resultSet, times(2)).getObject(2, Clob.class);
+        }
+
+        @Test
+        void negativeColumnNotFound() throws Exception {
+            ResultSet resultSet = mock(ResultSet.class);
+            SQLException cause = new SQLException("The column name count was not found in this ResultSet.");
+            when(resultSet.findColumn("count")).thenThrow(cause);
+
+            InternalServerException internalServerException = assertThrows(InternalServerException.class,
+                () -> DatabaseFieldConvertor.bind(ConvertToItem.MixFieldConvert.class, resultSet),
+                "Should throw InternalServerException");
+            assertEquals("Failed to convert result set into: " + ConvertToItem.MixFieldConvert.class
+                    + " column not found: count",
+                internalServerException.getMessage(), "Message should be the same");
+            assertEquals(cause, internalServerException.getCause(), "Cause should be the same");
+        }
+    }
+
     @Nested
     @DisplayName("static Object convertField(Field field, ResultSet resultSet)")
     class ConvertField {
@@ -382,11 +530,13 @@ public class DatabaseFieldConvertorTest {
             when(field.getAnnotation(DatabaseColumn.class)).thenReturn(databaseColumn);
 
             ResultSet resultSet = mock(ResultSet.class);
-            when(resultSet.getObject("testEnum", String.class)).thenReturn("A");
+            when(resultSet.findColumn("testEnum")).thenReturn(1);
+            when(resultSet.getObject(1, String.class)).thenReturn("A");
 
             assertEquals(TestEnum.A, DatabaseFieldConvertor.convertField(field, resultSet),
                 "Should return expected value");
-            verify(resultSet, times(1)).getObject("testEnum", String.class);
+            verify(resultSet, times(1)).findColumn("testEnum");
+            verify(resultSet, times(1)).getObject(1, String.class);
             verifyNoMoreInteractions(resultSet);
         }
 
@@ -399,11 +549,13 @@ public class DatabaseFieldConvertorTest {
             when(field.getAnnotation(DatabaseColumn.class)).thenReturn(databaseColumn);
 
             ResultSet resultSet = mock(ResultSet.class);
-            when(resultSet.getObject("testString", String.class)).thenReturn(expectedValue);
+            when(resultSet.findColumn("testString")).thenReturn(2);
+            when(resultSet.getObject(2, String.class)).thenReturn(expectedValue);
 
             assertEquals(expectedValue, DatabaseFieldConvertor.convertField(field, resultSet),
                 "Should return expected value");
-            verify(resultSet, times(1)).getObject("testString", String.class);
+            verify(resultSet, times(1)).findColumn("testString");
+            verify(resultSet, times(1)).getObject(2, String.class);
             verifyNoMoreInteractions(resultSet);
         }
 
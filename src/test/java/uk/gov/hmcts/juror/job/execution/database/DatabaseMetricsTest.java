@@ -0,0 +1,96 @@
+package uk.gov.hmcts.juror.job.execution.database;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.juror.job.execution.jobs.Job;
+import uk.gov.hmcts.juror.job.execution.jobs.JobMetrics;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayName("DatabaseMetrics")
+class DatabaseMetricsTest {
+    private SimpleMeterRegistry meterRegistry;
+    private DatabaseMetrics databaseMetrics;
+
+    @BeforeEach
+    void beforeEach() {
+        meterRegistry = new SimpleMeterRegistry();
+        databaseMetrics = new DatabaseMetrics(meterRegistry, 1);
+    }
+
+    @Test
+    void positiveStatementTaggedWithCurrentJob() {
+        new JobMetrics(meterRegistry).recordStep("TestJob", "0", () -> {
+            Timer.Sample sample = databaseMetrics.start();
+            databaseMetrics.recordStatement(sample, DatabaseMetrics.OPERATION_QUERY,
+                "SELECT * FROM juror WHERE id = 1", true, "secret");
+            return Job.Result.passed();
+        });
+        assertEquals(1, meterRegistry.get(DatabaseMetrics.STATEMENT_DURATION)
+            .tags(DatabaseMetrics.TAG_JOB, "TestJob",
+                DatabaseMetrics.TAG_OPERATION, DatabaseMetrics.OPERATION_QUERY,
+                DatabaseMetrics.TAG_STATEMENT, "SELECT * FROM juror WHERE id = ?",
+                DatabaseMetrics.TAG_OUTCOME, DatabaseMetrics.OUTCOME_SUCCESS)
+            .timer().count(), "Statement should be timed against the running job");
+    }
+
+    @Test
+    void positiveStatementWithoutJob() {
+        databaseMetrics.recordConnectionAcquire(databaseMetrics.start(), false);
+        assertEquals(1, meterRegistry.get(DatabaseMetrics.CONNECTION_ACQUIRE)
+            .tags(DatabaseMetrics.TAG_JOB, JobMetrics.NO_JOB,
+                DatabaseMetrics.TAG_OUTCOME, DatabaseMetrics.OUTCOME_FAILURE)
+            .timer().count(), "Connection acquire should be timed without a job");
+    }
+
+    @Nested
+    @DisplayName("static String fingerprint(String statement)")
+    class Fingerprint {
+        @Test
+        void positiveLiteralsReplaced() {
+            assertEquals("SELECT * FROM juror WHERE name = ? AND age > ? AND id=?",
+                DatabaseMetrics.fingerprint("SELECT *\n  FROM juror WHERE name = 'O''Brien' AND age > 18.5 AND id=?"),
+                "Literals and whitespace should be normalised");
+        }
+
+        @Test
+        void positiveProcedureNameUnchanged() {
+            assertEquals("juror_mod.housekeeping_process",
+                DatabaseMetrics.fingerprint("juror_mod.housekeeping_process"), "Procedure names should not change");
+        }
+
+        @Test
+        void positiveTruncated() {
+            assertEquals(DatabaseMetrics.MAX_FINGERPRINT_LENGTH,
+                DatabaseMetrics.fingerprint("SELECT " + "a,".repeat(100) + "b FROM c").length(),
+                "Long statements should be truncated");
+        }
+
+        @Test
+        void positiveNull() {
+            assertEquals("unknown", DatabaseMetrics.fingerprint(null), "Null statement should be unknown");
+        }
+    }
+
+    @Nested
+    @DisplayName("static String redact(Object... arguments)")
+    class Redact {
+        @Test
+        void positiveOnlyTypesLogged() {
+            assertEquals("[String, Integer, null, LocalDate]",
+                DatabaseMetrics.redact("secret", 1, null, LocalDate.now()), "Only parameter types should be logged");
+        }
+
+        @Test
+        void positiveNoArguments() {
+            assertEquals("[]", DatabaseMetrics.redact(), "Empty arguments");
+            assertEquals("[]", DatabaseMetrics.redact((Object[]) null), "Null arguments");
+        }
+    }
+}
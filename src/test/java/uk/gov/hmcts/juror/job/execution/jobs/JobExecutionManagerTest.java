@@ -0,0 +1,105 @@
+package uk.gov.hmcts.juror.job.execution.jobs;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.juror.job.execution.config.JobTimeoutConfig;
+import uk.gov.hmcts.juror.job.execution.database.model.MetaData;
+import uk.gov.hmcts.juror.job.execution.model.Status;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("JobExecutionManager")
+class JobExecutionManagerTest {
+    private static final String JOB_KEY = "ABC";
+    private static final Long TASK_ID = 1L;
+
+    private JobTimeoutConfig config;
+    private JobExecutionManager jobExecutionManager;
+
+    @BeforeEach
+    void beforeEach() {
+        config = new JobTimeoutConfig();
+        jobExecutionManager = new JobExecutionManager(config);
+    }
+
+    @AfterEach
+    void afterEach() {
+        jobExecutionManager.shutdown();
+        Thread.interrupted();
+    }
+
+    @Test
+    void positiveStartRegistersTaskUntilClosed() {
+        try (JobExecution jobExecution = jobExecutionManager.start("TestJob", new MetaData(JOB_KEY, TASK_ID,
+            Map.of()))) {
+            assertTrue(jobExecutionManager.isRunning(JOB_KEY, TASK_ID));
+            assertFalse(jobExecution.hasDeadline(), "No timeout is configured by default");
+        }
+        assertFalse(jobExecutionManager.isRunning(JOB_KEY, TASK_ID));
+    }
+
+    @Test
+    void positiveStartWithoutTaskNotRegistered() {
+        try (JobExecution jobExecution = jobExecutionManager.start("TestJob", new MetaData(null, null, Map.of()))) {
+            assertFalse(jobExecutionManager.isRunning(null, null));
+            assertFalse(jobExecution.isStopped());
+        }
+    }
+
+    @Test
+    void positiveStartUsesJobTimeout() {
+        JobTimeoutConfig.Timeouts timeouts = new JobTimeoutConfig.Timeouts();
+        timeouts.setJobTimeout(60_000L);
+        config.getJobs().put("TestJob", timeouts);
+
+        try (JobExecution jobExecution = jobExecutionManager.start("TestJob", null);
+             JobExecution otherExecution = jobExecutionManager.start("OtherJob", null)) {
+            assertTrue(jobExecution.hasDeadline());
+            assertFalse(otherExecution.hasDeadline());
+        }
+    }
+
+    @Test
+    void positiveStartUsesJobOwnTimeout() {
+        JobTimeoutConfig.Timeouts timeouts = new JobTimeoutConfig.Timeouts();
+        timeouts.setJobTimeout(0L);
+        config.getJobs().put("OverriddenJob", timeouts);
+
+        try (JobExecution jobExecution = jobExecutionManager.start("TestJob", 60_000, null);
+             JobExecution overriddenExecution = jobExecutionManager.start("OverriddenJob", 60_000, null)) {
+            assertTrue(jobExecution.hasDeadline(), "The job's own timeout should be used");
+            assertFalse(overriddenExecution.hasDeadline(), "Timeouts configured for the job should take precedence");
+        }
+    }
+
+    @Test
+    void positiveGetReportedStatus() {
+        assertEquals(Status.FAILED, jobExecutionManager.getReportedStatus(Status.TIMED_OUT));
+        assertEquals(Status.FAILED, jobExecutionManager.getReportedStatus(Status.CANCELLED));
+        assertEquals(Status.SUCCESS, jobExecutionManager.getReportedStatus(Status.SUCCESS));
+
+        config.setReportStoppedStatus(true);
+        assertEquals(Status.TIMED_OUT, jobExecutionManager.getReportedStatus(Status.TIMED_OUT));
+        assertEquals(Status.CANCELLED, jobExecutionManager.getReportedStatus(Status.CANCELLED));
+    }
+
+    @Test
+    void positiveCancel() {
+        try (JobExecution jobExecution = jobExecutionManager.start("TestJob", new MetaData(JOB_KEY, TASK_ID,
+            Map.of()))) {
+            assertTrue(jobExecutionManager.cancel(JOB_KEY, TASK_ID));
+            assertEquals(Status.CANCELLED, jobExecution.getStopStatus());
+        }
+    }
+
+    @Test
+    void negativeCancelNotRunning() {
+        assertFalse(jobExecutionManager.cancel(JOB_KEY, TASK_ID));
+    }
+}
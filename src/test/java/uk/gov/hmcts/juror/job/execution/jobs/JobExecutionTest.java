@@ -0,0 +1,204 @@
+package uk.gov.hmcts.juror.job.execution.jobs;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.juror.job.execution.model.Status;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("JobExecution")
+class JobExecutionTest {
+    private ScheduledExecutorService scheduler;
+
+    @BeforeEach
+    void beforeEach() {
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+    }
+
+    @AfterEach
+    void afterEach() {
+        scheduler.shutdownNow();
+        Thread.interrupted();
+    }
+
+    @Test
+    void positiveCurrentDefaultsToNone() {
+        assertSame(JobExecution.NONE, JobExecution.current());
+        assertFalse(JobExecution.NONE.hasDeadline());
+        assertFalse(JobExecution.NONE.cancel(), "NONE should never stop");
+        assertFalse(JobExecution.NONE.isStopped());
+        assertSame(JobExecution.NONE, JobExecution.NONE.startStep("step"));
+    }
+
+    @Test
+    void positiveCallSetsCurrent() {
+        try (JobExecution jobExecution = JobExecution.start("job", 0, 0, scheduler, null)) {
+            assertSame(jobExecution, jobExecution.call(JobExecution::current));
+            assertSame(JobExecution.NONE, JobExecution.current(), "Current should be restored after the call");
+        }
+    }
+
+    @Nested
+    @DisplayName("static long getDeadline(long now, long timeout, long parentDeadline)")
+    class GetDeadline {
+        @Test
+        void positiveNoTimeout() {
+            assertEquals(Long.MAX_VALUE, JobExecution.getDeadline(100, 0, Long.MAX_VALUE));
+            assertEquals(500, JobExecution.getDeadline(100, -1, 500));
+        }
+
+        @Test
+        void positiveTimeout() {
+            assertEquals(100 + TimeUnit.MILLISECONDS.toNanos(5), JobExecution.getDeadline(100, 5, Long.MAX_VALUE));
+        }
+
+        @Test
+        void positiveParentDeadlineEarlier() {
+            assertEquals(500, JobExecution.getDeadline(100, 5000, 500),
+                "A step should never outlive its job");
+        }
+    }
+
+    @Nested
+    @DisplayName("Stopping")
+    class Stopping {
+        @Test
+        void positiveCancelRunsStopActionsAndInterrupts() {
+            AtomicInteger stopCount = new AtomicInteger();
+            try (JobExecution jobExecution = JobExecution.start("job", 0, 0, scheduler, null)) {
+                jobExecution.onStop(stopCount::incrementAndGet);
+                assertTrue(jobExecution.cancel());
+                assertFalse(jobExecution.cancel(), "An execution should only be stopped once");
+
+                assertTrue(jobExecution.isStopped());
+                assertEquals(Status.CANCELLED, jobExecution.getStopStatus());
+                assertEquals(1, stopCount.get());
+                assertTrue(Thread.currentThread().isInterrupted(), "Thread running the job should be interrupted");
+            }
+            assertFalse(Thread.currentThread().isInterrupted(), "Interrupt should be cleared on close");
+        }
+
+        @Test
+        void positiveClosedRegistrationNotRun() {
+            AtomicInteger stopCount = new AtomicInteger();
+            try (JobExecution jobExecution = JobExecution.start("job", 0, 0, scheduler, null)) {
+                jobExecution.onStop(stopCount::incrementAndGet).close();
+                jobExecution.cancel();
+            }
+            assertEquals(0, stopCount.get());
+        }
+
+        @Test
+        void positiveOnStopAfterStoppedRunsImmediately() {
+            AtomicInteger stopCount = new AtomicInteger();
+            try (JobExecution jobExecution = JobExecution.start("job", 0, 0, scheduler, null)) {
+                jobExecution.cancel();
+                jobExecution.onStop(stopCount::incrementAndGet);
+            }
+            assertEquals(1, stopCount.get());
+        }
+
+        @Test
+        void positiveFailingStopActionDoesNotStopOthers() {
+            AtomicInteger stopCount = new AtomicInteger();
+            try (JobExecution jobExecution = JobExecution.start("job", 0, 0, scheduler, null)) {
+                jobExecution.onStop(() -> {
+                    throw new IllegalStateException("I am the cause");
+                });
+                jobExecution.onStop(stopCount::incrementAndGet);
+                jobExecution.cancel();
+            }
+            assertEquals(1, stopCount.get());
+        }
+
+        @Test
+        void positiveDeadlineTimesOut() throws InterruptedException {
+            CountDownLatch stopped = new CountDownLatch(1);
+            try (JobExecution jobExecution = JobExecution.start("job", 20, 0, scheduler, null)) {
+                assertTrue(jobExecution.hasDeadline());
+                jobExecution.onStop(stopped::countDown);
+                assertTrue(stopped.await(5, TimeUnit.SECONDS), "Execution should be stopped at its deadline");
+                assertEquals(Status.TIMED_OUT, jobExecution.getStopStatus());
+            }
+        }
+
+        @Test
+        void positiveParentStopCascadesToStep() {
+            try (JobExecution jobExecution = JobExecution.start("job", 0, 0, scheduler, null);
+                 JobExecution stepExecution = jobExecution.startStep("step")) {
+                jobExecution.cancel();
+                assertTrue(stepExecution.isStopped());
+                assertEquals(Status.CANCELLED, stepExecution.getStopStatus());
+            }
+        }
+
+        @Test
+        void positiveStepStopDoesNotStopParent() {
+            try (JobExecution jobExecution = JobExecution.start("job", 0, 0, scheduler, null)) {
+                try (JobExecution stepExecution = jobExecution.startStep("step")) {
+                    stepExecution.cancel();
+                }
+                assertFalse(jobExecution.isStopped());
+            }
+        }
+
+        @Test
+        void positiveOnCloseCalled() {
+            AtomicReference<JobExecution> closed = new AtomicReference<>();
+            JobExecution jobExecution = JobExecution.start("job", 0, 0, scheduler, closed::set);
+            jobExecution.close();
+            assertSame(jobExecution, closed.get());
+        }
+    }
+
+    @Nested
+    @DisplayName("public Job.Result toStoppedResult(Job.Result result)")
+    class ToStoppedResult {
+        @Test
+        void positiveNullResult() {
+            try (JobExecution jobExecution = JobExecution.start("job", 0, 0, scheduler, null)) {
+                jobExecution.cancel();
+                Job.Result result = jobExecution.toStoppedResult(null);
+                assertEquals(Status.CANCELLED, result.getStatus());
+                assertEquals("job was cancelled", result.getMessage());
+                assertNull(result.getThrowable());
+            }
+        }
+
+        @Test
+        void positiveKeepsMetaDataAndMessage() {
+            try (JobExecution jobExecution = JobExecution.start("job", 0, 0, scheduler, null)) {
+                jobExecution.cancel();
+                Job.Result result = jobExecution.toStoppedResult(Job.Result.passed("Done")
+                    .addMetaData("FILES_UPLOADED", "3"));
+                assertEquals(Status.CANCELLED, result.getStatus());
+                assertEquals("job was cancelled\\nDone", result.getMessage());
+                assertEquals(Map.of("FILES_UPLOADED", "3"), result.getMetaData());
+            }
+        }
+
+        @Test
+        void positiveAlreadyStoppedResultUnchanged() {
+            try (JobExecution jobExecution = JobExecution.start("job", 0, 0, scheduler, null)) {
+                jobExecution.cancel();
+                Job.Result stoppedResult = jobExecution.toStoppedResult(null);
+                assertSame(stoppedResult, jobExecution.toStoppedResult(stoppedResult));
+            }
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package uk.gov.hmcts.juror.job.execution.jobs;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.juror.job.execution.model.Status;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("JobMetrics")
+class JobMetricsTest {
+    private static final String JOB_NAME = "TestJob";
+
+    private SimpleMeterRegistry meterRegistry;
+    private JobMetrics jobMetrics;
+
+    @BeforeEach
+    void beforeEach() {
+        meterRegistry = new SimpleMeterRegistry();
+        jobMetrics = new JobMetrics(meterRegistry);
+    }
+
+    private double getActive() {
+        return meterRegistry.get(JobMetrics.JOB_ACTIVE).tags(JobMetrics.TAG_JOB, JOB_NAME).gauge().value();
+    }
+
+    @Test
+    void positiveRecordJob() {
+        Job.Result expectedResult = new Job.Result(Status.PARTIAL_SUCCESS);
+        Job.Result result = jobMetrics.recordJob(JOB_NAME, () -> {
+            assertEquals(1.0, getActive(), "Job should be counted as active while running");
+            return expectedResult;
+        });
+        assertSame(expectedResult, result, "Expected same result");
+        assertEquals(0.0, getActive(), "Job should no longer be active");
+        assertEquals(1, meterRegistry.get(JobMetrics.JOB_DURATION)
+            .tags(JobMetrics.TAG_JOB, JOB_NAME, JobMetrics.TAG_STATUS, "PARTIAL_SUCCESS").timer().count(),
+            "Job should be timed by status");
+        assertEquals(1.0, meterRegistry.get(JobMetrics.JOB_RESULTS)
+            .tags(JobMetrics.TAG_JOB, JOB_NAME, JobMetrics.TAG_STATUS, "PARTIAL_SUCCESS").counter().count(),
+            "Job outcome should be counted");
+    }
+
+    @Test
+    void negativeRecordJobException() {
+        RuntimeException cause = new RuntimeException("I am the cause");
+        assertSame(cause, assertThrows(RuntimeException.class, () -> jobMetrics.recordJob(JOB_NAME, () -> {
+            throw cause;
+        })), "Exception should be rethrown");
+        assertEquals(0.0, getActive(), "Job should no longer be active");
+        assertEquals(1.0, meterRegistry.get(JobMetrics.JOB_RESULTS)
+            .tags(JobMetrics.TAG_JOB, JOB_NAME, JobMetrics.TAG_STATUS, JobMetrics.UNKNOWN_STATUS).counter().count(),
+            "Job outcome should be counted as unknown");
+    }
+
+    @Test
+    void positiveRecordRulesPassed() {
+        assertNull(jobMetrics.recordRules(JOB_NAME, () -> null), "Rules passing should return null");
+        assertEquals(1, meterRegistry.get(JobMetrics.RULES_DURATION)
+            .tags(JobMetrics.TAG_JOB, JOB_NAME, JobMetrics.TAG_STATUS, "VALIDATION_PASSED").timer().count(),
+            "Passed rules should be timed");
+    }
+
+    @Test
+    void positiveRecordStep() {
+        jobMetrics.recordStep(JOB_NAME, "1.2", Job.Result::passed);
+        assertEquals(1, meterRegistry.get(JobMetrics.STEP_DURATION)
+            .tags(JobMetrics.TAG_JOB, JOB_NAME, JobMetrics.TAG_STEP, "1.2", JobMetrics.TAG_STATUS, "SUCCESS")
+            .timer().count(), "Step should be timed");
+    }
+
+    @Test
+    void positiveNoopDoesNotRecord() {
+        Job.Result expectedResult = Job.Result.passed();
+        assertSame(expectedResult, JobMetrics.NOOP.recordJob(JOB_NAME, () -> expectedResult),
+            "Expected same result");
+    }
+}
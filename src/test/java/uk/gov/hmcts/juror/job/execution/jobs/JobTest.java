@@ -1,5 +1,6 @@
 package uk.gov.hmcts.juror.job.execution.jobs;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
@@ -19,12 +20,15 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
@@ -158,6 +162,39 @@ class JobTest {
             assertSame(expectedResult, result, "Expected same result");
         }
 
+        @Test
+        void positiveExecuteRecordsRulesAndRunners() {
+            rulesEngineMockedStatic = Mockito.mockStatic(RulesEngine.class);
+            when(RulesEngine.fire(any())).thenReturn(Collections.emptyList());
+            SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+            Job job = new TestJob(Job.Result.passed());
+            job.setJobMetrics(new JobMetrics(meterRegistry));
+
+            job.execute(mock(MetaData.class));
+            assertEquals(1, meterRegistry.get(JobMetrics.RULES_DURATION)
+                .tags(JobMetrics.TAG_JOB, "TestJob", JobMetrics.TAG_STATUS, "VALIDATION_PASSED").timer().count(),
+                "Rules should be timed");
+            assertEquals(1, meterRegistry.get(JobMetrics.RUNNERS_DURATION)
+                .tags(JobMetrics.TAG_JOB, "TestJob", JobMetrics.TAG_STATUS, "SUCCESS").timer().count(),
+                "Runners should be timed");
+        }
+
+        @Test
+        void negativeExecuteFailedRulesNotTimedAsRunners() {
+            rulesEngineMockedStatic = Mockito.mockStatic(RulesEngine.class);
+            when(RulesEngine.fire(any())).thenReturn(List.of("Error message 123"));
+            SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+            Job job = new TestJob();
+            job.setJobMetrics(new JobMetrics(meterRegistry));
+
+            job.execute(mock(MetaData.class));
+            assertEquals(1, meterRegistry.get(JobMetrics.RULES_DURATION)
+                .tags(JobMetrics.TAG_JOB, "TestJob", JobMetrics.TAG_STATUS, "VALIDATION_FAILED").timer().count(),
+                "Rules should be timed");
+            assertTrue(meterRegistry.find(JobMetrics.RUNNERS_DURATION).timers().isEmpty(),
+                "Runners should not run");
+        }
+
         @Test
         void negativeExecuteUnexpectedException() {
             rulesEngineMockedStatic = Mockito.mockStatic(RulesEngine.class);
@@ -193,6 +230,20 @@ class JobTest {
             assertEquals(expectedResult, result, "Expected same result");
         }
 
+        @Test
+        void positiveStepRecorded() {
+            SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+            Job job = new TestJob();
+            job.setJobMetrics(new JobMetrics(meterRegistry));
+            job.runJobStep(md -> {
+                throw new RuntimeException("I am the cause");
+            }, mock(MetaData.class), "2");
+            assertEquals(1, meterRegistry.get(JobMetrics.STEP_DURATION)
+                .tags(JobMetrics.TAG_JOB, "TestJob", JobMetrics.TAG_STEP, "2",
+                    JobMetrics.TAG_STATUS, "FAILED_UNEXPECTED_EXCEPTION").timer().count(),
+                "Step should be timed with the status of the failure result");
+        }
+
         @Test
         void negativeUnexpectedException() {
             Job job = new TestJob();
@@ -228,6 +279,49 @@ class JobTest {
             assertEquals(0, result.getMetaData().size(), "No meta data should be given");
 
         }
+
+        @Test
+        void negativeJobStopped() {
+            Job job = new TestJob();
+            AtomicBoolean stepRun = new AtomicBoolean(false);
+            ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+            try (JobExecution jobExecution = JobExecution.start("TestJob", 0, 0, scheduler, null)) {
+                jobExecution.cancel();
+                Job.Result result = jobExecution.call(() -> job.runJobStep(md -> {
+                    stepRun.set(true);
+                    return Job.Result.passed();
+                }, mock(MetaData.class)));
+                assertEquals(Status.CANCELLED, result.getStatus(), "Expected cancelled result");
+                assertEquals("TestJob was cancelled", result.getMessage(), "Expected stop reason");
+            } finally {
+                scheduler.shutdownNow();
+            }
+            assertFalse(stepRun.get(), "Step should not run once the job has been stopped");
+        }
+
+        @Test
+        void negativeStepTimedOut() {
+            Job job = new TestJob();
+            ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+            try (JobExecution jobExecution = JobExecution.start("TestJob", 0, 50, scheduler, null)) {
+                Job.Result result = jobExecution.call(() -> job.runJobStep(md -> {
+                    try {
+                        Thread.sleep(10_000);
+                        return Job.Result.passed();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return Job.Result.failed("Interrupted");
+                    }
+                }, mock(MetaData.class), "1"));
+                assertEquals(Status.TIMED_OUT, result.getStatus(), "Expected timed out result");
+                assertEquals("TestJob step 1 timed out after 50ms\\nInterrupted", result.getMessage(),
+                    "Expected stop reason followed by the step message");
+                assertFalse(jobExecution.isStopped(), "Only the step should be stopped");
+            } finally {
+                scheduler.shutdownNow();
+            }
+            assertFalse(Thread.interrupted(), "Interrupt should be cleared once the step has finished");
+        }
     }
 
 
@@ -249,6 +343,16 @@ class JobTest {
             assertEquals(0, result.getMetaData().size(), "Expected empty meta data");
         }
 
+        @Test
+        void positiveToMetaDataCombinesMetaDataAndMetrics() {
+            Job.Result result = new Job.Result(Status.SUCCESS)
+                .addMetaData("KEY", "value")
+                .addCounter("TOTAL", 7);
+            assertEquals(Map.of("KEY", "value"), result.getMetaData(), "Metrics should not be added to meta data");
+            assertEquals(Map.of("KEY", "value", "TOTAL", "7"), result.toMetaData(),
+                "Expected meta data and metrics");
+        }
+
         @Test
         void positiveConstructorStatusAndMessageOnly() {
             final String message = RandomStringUtils.randomAlphabetic(10);
@@ -439,6 +543,28 @@ class JobTest {
                     "Expected same result");
             }
 
+            @Test
+            void positiveWithMetrics() {
+                Job.Result result1 = new Job.Result(Status.SUCCESS, "Message 1")
+                    .addCounter("TOTAL", 2)
+                    .addMetrics(new ResultMetrics().setGauge("MAX", 5).addSample("FAILED", "id1"));
+                Job.Result result2 = new Job.Result(Status.PARTIAL_SUCCESS, "Message 2")
+                    .addCounter("TOTAL", 3)
+                    .addMetrics(new ResultMetrics().setGauge("MAX", 4).addSample("FAILED", "id2"));
+
+                Job.Result result = Job.Result.merge(List.of(result1, result2));
+                assertEquals(5, result.getMetrics().getCounter("TOTAL"), "Counters should be summed");
+                assertEquals(5L, result.getMetrics().getGauge("MAX"), "Gauges should keep the highest value");
+                assertEquals(List.of("id1", "id2"), result.getMetrics().getSamples("FAILED"),
+                    "Samples should be appended");
+                assertEquals(Map.of(
+                        "TOTAL", "5",
+                        "MAX", "5",
+                        "FAILED_1", "id1",
+                        "FAILED_2", "id2"),
+                    result.toMetaData(), "Metrics should only be turned into strings by toMetaData");
+            }
+
             @Test
             void positiveWithoutMessage() {
                 Job.Result result1 = new Job.Result(Status.SUCCESS);
@@ -1,5 +1,6 @@
 package uk.gov.hmcts.juror.job.execution.jobs;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import uk.gov.hmcts.juror.job.execution.database.model.MetaData;
 import uk.gov.hmcts.juror.job.execution.model.Status;
@@ -67,6 +68,27 @@ class LinearJobTest {
         assertTrue(postActionCalled.get(), "Post action should be called");
     }
 
+    @Test
+    void positiveStepsRecordedByIndex() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        Job.ResultSupplier resultSupplier = new Job.ResultSupplier(
+            false,
+            List.of(
+                md -> new Job.Result(Status.SUCCESS, "Success 1"),
+                md -> new Job.Result(Status.SUCCESS, "Success 2")),
+            null
+        );
+        LinearJob linearJob = new TestLinearJob(resultSupplier);
+        linearJob.setJobMetrics(new JobMetrics(meterRegistry));
+        linearJob.executeRunners(mock(MetaData.class));
+
+        for (String step : List.of("0", "1")) {
+            assertEquals(1, meterRegistry.get(JobMetrics.STEP_DURATION)
+                .tags(JobMetrics.TAG_JOB, "TestLinearJob", JobMetrics.TAG_STEP, step,
+                    JobMetrics.TAG_STATUS, "SUCCESS").timer().count(), "Step " + step + " should be timed");
+        }
+    }
+
     @Test
     void negativeTwoPassOneFailVerifyMerge() {
         MetaData metaData = mock(MetaData.class);
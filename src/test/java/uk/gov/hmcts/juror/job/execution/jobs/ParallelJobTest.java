@@ -1,13 +1,18 @@
 package uk.gov.hmcts.juror.job.execution.jobs;
 
 import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.juror.job.execution.config.ExecutionConfig;
 import uk.gov.hmcts.juror.job.execution.database.model.MetaData;
 import uk.gov.hmcts.juror.job.execution.model.Status;
 
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
@@ -357,12 +362,117 @@ class ParallelJobTest {
         assertEquals(2, postActionCalled.get(), "Post action should be called");
     }
 
+    @Test
+    void negativeFailedStepDoesNotLoseOtherResults() {
+        AtomicInteger postActionCalled = new AtomicInteger(0);
+        ParallelJob parallelJob = new TestParallelJob(new Job.ResultSupplier(
+            false,
+            List.of(
+                md -> {
+                    throw new AssertionError("I am the cause");
+                },
+                md -> new Job.Result(Status.SUCCESS, "Step 2 success"),
+                md -> new Job.Result(Status.PARTIAL_SUCCESS, "Step 3 partial success")
+            ),
+            result -> postActionCalled.incrementAndGet()
+        ));
+
+        Job.Result result = parallelJob.executeRunners(mock(MetaData.class));
+        assertEquals(Status.FAILED_UNEXPECTED_EXCEPTION, result.getStatus(),
+            "Status should be FAILED_UNEXPECTED_EXCEPTION");
+        assertEquals("Unexpected exception raised: java.lang.AssertionError\\nStep 2 success"
+            + "\\nStep 3 partial success", result.getMessage(), "Every step's message should be kept");
+        assertInstanceOf(AssertionError.class, result.getThrowable(), "Failed step's cause should be kept");
+        assertEquals(1, postActionCalled.get(), "Post action should be called");
+    }
+
+    @Test
+    void positiveConcurrencyBoundedByExecutionConfig() {
+        ExecutionConfig executionConfig = new ExecutionConfig();
+        executionConfig.setConcurrency(2);
+        AtomicInteger activeSteps = new AtomicInteger(0);
+        AtomicInteger maxActiveSteps = new AtomicInteger(0);
+        Set<String> threadNames = ConcurrentHashMap.newKeySet();
+        Function<MetaData, Job.Result> step = md -> {
+            threadNames.add(Thread.currentThread().getName());
+            maxActiveSteps.accumulateAndGet(activeSteps.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                activeSteps.decrementAndGet();
+            }
+            return new Job.Result(Status.SUCCESS, "Success");
+        };
+        ParallelJob parallelJob = new TestParallelJob(executionConfig,
+            new Job.ResultSupplier(false, List.of(step, step, step, step, step, step)));
+
+        Job.Result result = parallelJob.executeRunners(mock(MetaData.class));
+        assertEquals(Status.SUCCESS, result.getStatus(), "Status should be SUCCESS");
+        assertTrue(maxActiveSteps.get() <= 2, "No more than 2 steps should run at once");
+        assertTrue(threadNames.stream().allMatch(name -> name.startsWith("TestParallelJob-step-")),
+            "Steps should run on the job's own executor");
+    }
+
+    @Test
+    void positiveVirtualThreads() {
+        ExecutionConfig executionConfig = new ExecutionConfig();
+        executionConfig.setVirtualThreads(true);
+        Set<Boolean> virtualThreads = ConcurrentHashMap.newKeySet();
+        Function<MetaData, Job.Result> step = md -> {
+            virtualThreads.add(Thread.currentThread().isVirtual());
+            return new Job.Result(Status.SUCCESS, "Success");
+        };
+        ParallelJob parallelJob = new TestParallelJob(executionConfig,
+            new Job.ResultSupplier(false, List.of(step, step, step)));
+
+        assertEquals(Status.SUCCESS, parallelJob.executeRunners(mock(MetaData.class)).getStatus(),
+            "Status should be SUCCESS");
+        assertEquals(Set.of(true), virtualThreads, "Steps should run on virtual threads");
+    }
+
+    @Test
+    void positiveVirtualThreadsInheritedFromTriggeringThread() throws InterruptedException {
+        Set<Boolean> virtualThreads = ConcurrentHashMap.newKeySet();
+        Function<MetaData, Job.Result> step = md -> {
+            virtualThreads.add(Thread.currentThread().isVirtual());
+            return new Job.Result(Status.SUCCESS, "Success");
+        };
+        ParallelJob parallelJob = new TestParallelJob(new ExecutionConfig(),
+            new Job.ResultSupplier(false, List.of(step, step)));
+
+        parallelJob.executeRunners(mock(MetaData.class));
+        assertEquals(Set.of(false), virtualThreads, "Steps should follow the platform triggering thread");
+
+        virtualThreads.clear();
+        Thread.ofVirtual().start(() -> parallelJob.executeRunners(mock(MetaData.class))).join();
+        assertEquals(Set.of(true), virtualThreads, "Steps should follow the virtual triggering thread");
+    }
+
+    @Test
+    void positiveGetConcurrency() {
+        ExecutionConfig executionConfig = new ExecutionConfig();
+        assertEquals(7, new TestParallelJob().getConcurrency(7), "No config should run every step at once");
+        assertEquals(7, new TestParallelJob(executionConfig).getConcurrency(7),
+            "No concurrency should run every step at once");
+        executionConfig.setConcurrency(3);
+        assertEquals(3, new TestParallelJob(executionConfig).getConcurrency(7), "Expect configured concurrency");
+        assertEquals(2, new TestParallelJob(executionConfig).getConcurrency(2),
+            "Concurrency should not exceed the step count");
+        assertEquals(1, new TestParallelJob(executionConfig).getConcurrency(0), "Expect at least 1 thread");
+    }
+
     static class TestParallelJob extends ParallelJob {
 
         private List<ResultSupplier> resultSupplier;
 
         public TestParallelJob(ResultSupplier... resultSupplier) {
-            super();
+            this((ExecutionConfig) null, resultSupplier);
+        }
+
+        public TestParallelJob(ExecutionConfig executionConfig, ResultSupplier... resultSupplier) {
+            super(executionConfig);
             this.resultSupplier = List.of(resultSupplier);
         }
 
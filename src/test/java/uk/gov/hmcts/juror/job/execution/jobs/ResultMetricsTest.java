@@ -0,0 +1,132 @@
+package uk.gov.hmcts.juror.job.execution.jobs;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("ResultMetrics")
+class ResultMetricsTest {
+
+    @Nested
+    @DisplayName("Counters, gauges and samples")
+    class Values {
+        @Test
+        void positiveCounters() {
+            ResultMetrics metrics = new ResultMetrics()
+                .increment("TOTAL")
+                .increment("TOTAL")
+                .add("TOTAL", 3);
+            assertEquals(5, metrics.getCounter("TOTAL"), "Counter should be summed");
+            assertEquals(0, metrics.getCounter("MISSING"), "Missing counter should be 0");
+        }
+
+        @Test
+        void positiveGauges() {
+            ResultMetrics metrics = new ResultMetrics()
+                .setGauge("SIZE", 4)
+                .setGauge("SIZE", 2);
+            assertEquals(2L, metrics.getGauge("SIZE"), "Gauge should keep the last value");
+            assertNull(metrics.getGauge("MISSING"), "Missing gauge should be null");
+        }
+
+        @Test
+        void positiveSamplesBounded() {
+            ResultMetrics metrics = new ResultMetrics();
+            for (int i = 1; i <= ResultMetrics.SAMPLE_LIMIT + 5; i++) {
+                metrics.addSample("FAILED", "id" + i);
+            }
+            assertEquals(ResultMetrics.SAMPLE_LIMIT, metrics.getSamples("FAILED").size(),
+                "Samples should be capped");
+            assertEquals("id1", metrics.getSamples("FAILED").get(0), "First samples should be kept");
+            assertEquals(ResultMetrics.SAMPLE_LIMIT + 5, metrics.getSampleCount("FAILED"),
+                "Every sample should be counted");
+            assertEquals(List.of(), metrics.getSamples("MISSING"), "Missing samples should be empty");
+        }
+
+        @Test
+        void positiveIsEmpty() {
+            assertTrue(new ResultMetrics().isEmpty(), "New metrics should be empty");
+            assertFalse(new ResultMetrics().addSample("FAILED", "id1").isEmpty(), "Samples should not be empty");
+        }
+    }
+
+    @Nested
+    @DisplayName("public ResultMetrics merge(ResultMetrics other)")
+    class Merge {
+        @Test
+        void positiveMerge() {
+            ResultMetrics metrics = new ResultMetrics()
+                .add("TOTAL", 2)
+                .setGauge("MAX", 3)
+                .addSample("FAILED", "id1");
+            ResultMetrics other = new ResultMetrics()
+                .add("TOTAL", 5)
+                .add("OTHER", 1)
+                .setGauge("MAX", 7)
+                .addSample("FAILED", "id2");
+
+            metrics.merge(other);
+            assertEquals(7, metrics.getCounter("TOTAL"), "Counters should be summed");
+            assertEquals(1, metrics.getCounter("OTHER"), "New counters should be added");
+            assertEquals(7L, metrics.getGauge("MAX"), "Gauges should keep the highest value");
+            assertEquals(List.of("id1", "id2"), metrics.getSamples("FAILED"), "Samples should be appended");
+            assertEquals(5, other.getCounter("TOTAL"), "Merged metrics should not change");
+        }
+
+        @Test
+        void positiveMergeSamplesBounded() {
+            ResultMetrics metrics = new ResultMetrics();
+            ResultMetrics other = new ResultMetrics();
+            for (int i = 0; i < ResultMetrics.SAMPLE_LIMIT; i++) {
+                metrics.addSample("FAILED", "a" + i);
+                other.addSample("FAILED", "b" + i);
+            }
+            metrics.merge(other);
+            assertEquals(ResultMetrics.SAMPLE_LIMIT, metrics.getSamples("FAILED").size(),
+                "Samples should stay capped");
+            assertEquals(ResultMetrics.SAMPLE_LIMIT * 2L, metrics.getSampleCount("FAILED"),
+                "Sample totals should be summed");
+        }
+    }
+
+    @Nested
+    @DisplayName("public Map<String, String> toMetaData()")
+    class ToMetaData {
+        @Test
+        void positiveToMetaData() {
+            ResultMetrics metrics = new ResultMetrics()
+                .add("TOTAL", 2)
+                .setGauge("MAX", 3)
+                .addSample("FAILED", "id1")
+                .addSample("FAILED", "id2");
+            assertEquals(Map.of(
+                    "TOTAL", "2",
+                    "MAX", "3",
+                    "FAILED_1", "id1",
+                    "FAILED_2", "id2"),
+                metrics.toMetaData(), "Expected string meta data");
+        }
+
+        @Test
+        void positiveToMetaDataOmittedSamples() {
+            ResultMetrics metrics = new ResultMetrics();
+            for (int i = 1; i <= ResultMetrics.SAMPLE_LIMIT + 3; i++) {
+                metrics.addSample("FAILED", "id" + i);
+            }
+            Map<String, String> metaData = metrics.toMetaData();
+            assertEquals(ResultMetrics.SAMPLE_LIMIT + 1, metaData.size(), "Expected capped samples and omitted count");
+            assertEquals("id" + ResultMetrics.SAMPLE_LIMIT, metaData.get("FAILED_" + ResultMetrics.SAMPLE_LIMIT),
+                "Last kept sample should be reported");
+            assertEquals("3", metaData.get("FAILED" + ResultMetrics.OMITTED_SAMPLES_SUFFIX),
+                "Omitted samples should be counted");
+        }
+    }
+}
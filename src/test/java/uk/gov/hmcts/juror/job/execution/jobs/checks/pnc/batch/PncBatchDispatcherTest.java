@@ -0,0 +1,132 @@
+package uk.gov.hmcts.juror.job.execution.jobs.checks.pnc.batch;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.juror.job.execution.client.contracts.PoliceNationalCheckServiceClient;
+import uk.gov.hmcts.juror.job.execution.testsupport.TestConstants;
+import uk.gov.hmcts.juror.standard.service.exceptions.InternalServerException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("PncBatchDispatcher")
+class PncBatchDispatcherTest {
+
+    private PoliceNationalCheckServiceClient policeNationalCheckServiceClient;
+
+    @BeforeEach
+    void beforeEach() {
+        policeNationalCheckServiceClient = mock(PoliceNationalCheckServiceClient.class);
+    }
+
+    private List<PoliceNationalCheckServiceClient.JurorCheckRequest> createBatch() {
+        return List.of(mock(PoliceNationalCheckServiceClient.JurorCheckRequest.class));
+    }
+
+    @Test
+    void positiveSequentialSendsOnCallingThread() {
+        List<Thread> sendingThreads = new CopyOnWriteArrayList<>();
+        doAnswer(invocation -> {
+            sendingThreads.add(Thread.currentThread());
+            return null;
+        }).when(policeNationalCheckServiceClient).checkJurors(any());
+
+        try (PncBatchDispatcher dispatcher = new PncBatchDispatcher(policeNationalCheckServiceClient,
+            TestConstants.VALID_META_DATA, 1)) {
+            dispatcher.dispatch(createBatch());
+            dispatcher.dispatch(createBatch());
+            assertEquals(new PncBatchJob.BatchDispatchResult(2, 0), dispatcher.complete(),
+                "Both batches should be dispatched");
+        }
+        assertEquals(List.of(Thread.currentThread(), Thread.currentThread()), sendingThreads,
+            "Batches should be sent on the calling thread");
+    }
+
+    @Test
+    void positiveConcurrentBoundedInFlight() {
+        AtomicInteger inFlight = new AtomicInteger(0);
+        AtomicInteger maxInFlight = new AtomicInteger(0);
+        doAnswer(invocation -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            Thread.sleep(20);
+            inFlight.decrementAndGet();
+            return null;
+        }).when(policeNationalCheckServiceClient).checkJurors(any());
+
+        try (PncBatchDispatcher dispatcher = new PncBatchDispatcher(policeNationalCheckServiceClient,
+            TestConstants.VALID_META_DATA, 3)) {
+            for (int i = 0; i < 8; i++) {
+                dispatcher.dispatch(createBatch());
+                assertTrue(inFlight.get() <= 3, "No more than 3 batches should be in flight");
+            }
+            assertEquals(new PncBatchJob.BatchDispatchResult(8, 0), dispatcher.complete(),
+                "All batches should be dispatched once complete returns");
+        }
+        assertEquals(3, maxInFlight.get(), "Batches should be sent concurrently up to the limit");
+        verify(policeNationalCheckServiceClient, times(8)).checkJurors(any());
+    }
+
+    @Test
+    void negativeFailedBatchesCounted() {
+        AtomicInteger callCount = new AtomicInteger(0);
+        doAnswer(invocation -> {
+            if (callCount.incrementAndGet() % 2 == 0) {
+                throw new InternalServerException("I am the cause");
+            }
+            return null;
+        }).when(policeNationalCheckServiceClient).checkJurors(any());
+
+        try (PncBatchDispatcher dispatcher = new PncBatchDispatcher(policeNationalCheckServiceClient,
+            TestConstants.VALID_META_DATA, 2)) {
+            for (int i = 0; i < 4; i++) {
+                dispatcher.dispatch(createBatch());
+            }
+            assertEquals(new PncBatchJob.BatchDispatchResult(2, 2), dispatcher.complete(),
+                "Failed batches should be counted separately");
+        }
+    }
+
+    @Test
+    void positiveNonBlockingBoundedInFlightWithoutPool() {
+        List<CompletableFuture<Void>> pending = new ArrayList<>();
+        List<Thread> sendingThreads = new CopyOnWriteArrayList<>();
+        when(policeNationalCheckServiceClient.isNonBlocking()).thenReturn(true);
+        when(policeNationalCheckServiceClient.checkJurorsAsync(any())).thenAnswer(invocation -> {
+            sendingThreads.add(Thread.currentThread());
+            CompletableFuture<Void> future = new CompletableFuture<>();
+            pending.add(future);
+            return future;
+        });
+
+        try (PncBatchDispatcher dispatcher = new PncBatchDispatcher(policeNationalCheckServiceClient,
+            TestConstants.VALID_META_DATA, 2)) {
+            dispatcher.dispatch(createBatch());
+            dispatcher.dispatch(createBatch());
+            assertEquals(2, pending.size(), "Both batches should be in flight");
+
+            pending.get(0).complete(null);
+            dispatcher.dispatch(createBatch());
+            pending.get(1).completeExceptionally(new InternalServerException("I am the cause"));
+            pending.get(2).complete(null);
+            assertEquals(new PncBatchJob.BatchDispatchResult(2, 1), dispatcher.complete(),
+                "Batches should be counted once their responses arrive");
+        }
+        assertEquals(List.of(Thread.currentThread(), Thread.currentThread(), Thread.currentThread()),
+            sendingThreads, "Requests should be issued on the calling thread");
+        verify(policeNationalCheckServiceClient, never()).checkJurors(any());
+    }
+}
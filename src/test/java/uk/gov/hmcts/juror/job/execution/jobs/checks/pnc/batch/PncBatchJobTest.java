@@ -11,6 +11,7 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.NullSource;
+import org.mockito.InOrder;
 import uk.gov.hmcts.juror.job.execution.client.contracts.JurorServiceClient;
 import uk.gov.hmcts.juror.job.execution.client.contracts.PoliceNationalCheckServiceClient;
 import uk.gov.hmcts.juror.job.execution.client.contracts.SchedulerServiceClient;
@@ -28,6 +29,7 @@ import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
 
@@ -38,10 +40,14 @@ import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doCallRealMethod;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
@@ -58,6 +64,7 @@ class PncBatchJobTest {
     private PoliceNationalCheckServiceClient policeNationalCheckServiceClient;
     private SchedulerServiceClient schedulerServiceClient;
     private JurorServiceClient jurorServiceClient;
+    private PncResultAccumulator resultAccumulator;
     private PncBatchJob pncBatchJob;
 
     @BeforeEach
@@ -66,10 +73,12 @@ class PncBatchJobTest {
         policeNationalCheckServiceClient = mock(PoliceNationalCheckServiceClient.class);
         schedulerServiceClient = mock(SchedulerServiceClient.class);
         jurorServiceClient = mock(JurorServiceClient.class);
+        doCallRealMethod().when(jurorServiceClient).updateAll(anyList());
+        resultAccumulator = mock(PncResultAccumulator.class);
         config = new PncBatchConfig();
 
         pncBatchJob = spy(new PncBatchJob(databaseService, config, policeNationalCheckServiceClient,
-            schedulerServiceClient, jurorServiceClient));
+            schedulerServiceClient, jurorServiceClient, resultAccumulator));
     }
 
     @Test
@@ -114,6 +123,8 @@ class PncBatchJobTest {
             "schedulerServiceClient is not as expected");
         assertSame(jurorServiceClient, pncBatchJob.getJurorServiceClient(),
             "jurorServiceClient is not as expected");
+        assertSame(resultAccumulator, pncBatchJob.getResultAccumulator(),
+            "resultAccumulator is not as expected");
     }
 
     @Test
@@ -138,11 +149,11 @@ class PncBatchJobTest {
             "result status is not as expected");
         assertEquals("0 jurors need PNC checks. As such none were sent to the PNC service", result.getMessage(),
             "result message is not as expected");
-        assertEquals(2, result.getMetaData().size(),
+        assertEquals(2, result.toMetaData().size(),
             "result metaData size is not as expected");
-        assertEquals("0", result.getMetaData().get("TOTAL_BATCHES_REQUESTED"),
+        assertEquals("0", result.toMetaData().get("TOTAL_BATCHES_REQUESTED"),
             "result metaData TOTAL_BATCHES_REQUESTED_KEY is not as expected");
-        assertEquals("0", result.getMetaData().get("TOTAL_CHECKS_REQUESTED"),
+        assertEquals("0", result.toMetaData().get("TOTAL_CHECKS_REQUESTED"),
             "result metaData TOTAL_CHECKS_REQUESTED_KEY is not as expected");
 
         verify(pncBatchJob, times(1))
@@ -168,7 +179,7 @@ class PncBatchJobTest {
 
         when(pncBatchJob.getJurorsToCheck())
             .thenReturn(jurorCheckRequestList);
-        doReturn(3).when(pncBatchJob)
+        doReturn(new PncBatchJob.BatchDispatchResult(3, 0)).when(pncBatchJob)
             .triggerPncCheck(jurorCheckRequestList, metaData);
 
 
@@ -177,11 +188,13 @@ class PncBatchJobTest {
             "result status is not as expected");
         assertEquals("2 jurors sent to the PNC service to be checked. In 3 batches", result.getMessage(),
             "result message is not as expected");
-        assertEquals(2, result.getMetaData().size(),
+        assertEquals(3, result.toMetaData().size(),
             "result metaData size is not as expected");
-        assertEquals("3", result.getMetaData().get("TOTAL_BATCHES_REQUESTED"),
+        assertEquals("3", result.toMetaData().get("TOTAL_BATCHES_REQUESTED"),
             "result metaData TOTAL_BATCHES_REQUESTED_KEY is not as expected");
-        assertEquals("2", result.getMetaData().get("TOTAL_CHECKS_REQUESTED"),
+        assertEquals("0", result.toMetaData().get("TOTAL_BATCHES_FAILED"),
+            "result metaData TOTAL_BATCHES_FAILED_KEY is not as expected");
+        assertEquals("2", result.toMetaData().get("TOTAL_CHECKS_REQUESTED"),
             "result metaData TOTAL_CHECKS_REQUESTED_KEY is not as expected");
 
         verify(pncBatchJob, times(1))
@@ -191,6 +204,51 @@ class PncBatchJobTest {
     }
 
 
+    @Test
+    void positiveGetResultSupplierTestSomeBatchesFailed() {
+        MetaData metaData = mock(MetaData.class);
+        List<PoliceNationalCheckServiceClient.JurorCheckRequest> jurorCheckRequestList
+            = List.of(mock(PoliceNationalCheckServiceClient.JurorCheckRequest.class),
+            mock(PoliceNationalCheckServiceClient.JurorCheckRequest.class));
+        when(pncBatchJob.getJurorsToCheck())
+            .thenReturn(jurorCheckRequestList);
+        doReturn(new PncBatchJob.BatchDispatchResult(2, 1)).when(pncBatchJob)
+            .triggerPncCheck(jurorCheckRequestList, metaData);
+
+        Job.Result result = pncBatchJob.getResultSupplier().getResultRunners().iterator().next().apply(metaData);
+        assertEquals(Status.PROCESSING, result.getStatus(),
+            "result status is not as expected");
+        assertEquals("2 jurors sent to the PNC service to be checked. In 2 batches. 1 batches failed to send",
+            result.getMessage(), "result message is not as expected");
+        assertEquals("2", result.toMetaData().get("TOTAL_BATCHES_REQUESTED"),
+            "Only dispatched batches should count as requested");
+        assertEquals("1", result.toMetaData().get("TOTAL_BATCHES_FAILED"),
+            "result metaData TOTAL_BATCHES_FAILED_KEY is not as expected");
+        assertEquals("2", result.toMetaData().get("TOTAL_CHECKS_REQUESTED"),
+            "result metaData TOTAL_CHECKS_REQUESTED_KEY is not as expected");
+    }
+
+    @Test
+    void negativeGetResultSupplierTestAllBatchesFailed() {
+        MetaData metaData = mock(MetaData.class);
+        List<PoliceNationalCheckServiceClient.JurorCheckRequest> jurorCheckRequestList
+            = List.of(mock(PoliceNationalCheckServiceClient.JurorCheckRequest.class));
+        when(pncBatchJob.getJurorsToCheck())
+            .thenReturn(jurorCheckRequestList);
+        doReturn(new PncBatchJob.BatchDispatchResult(0, 1)).when(pncBatchJob)
+            .triggerPncCheck(jurorCheckRequestList, metaData);
+
+        Job.Result result = pncBatchJob.getResultSupplier().getResultRunners().iterator().next().apply(metaData);
+        assertEquals(Status.FAILED, result.getStatus(),
+            "result status is not as expected");
+        assertEquals("Failed to send all 1 batches to the PNC service", result.getMessage(),
+            "result message is not as expected");
+        assertEquals("0", result.toMetaData().get("TOTAL_BATCHES_REQUESTED"),
+            "result metaData TOTAL_BATCHES_REQUESTED_KEY is not as expected");
+        assertEquals("1", result.toMetaData().get("TOTAL_BATCHES_FAILED"),
+            "result metaData TOTAL_BATCHES_FAILED_KEY is not as expected");
+    }
+
     @Test
     void positiveTriggerPncCheck() {
         config.setBatchSize(2);
@@ -199,8 +257,9 @@ class PncBatchJobTest {
             mock(PoliceNationalCheckServiceClient.JurorCheckRequest.class));
         MetaData metaData = TestConstants.VALID_META_DATA;
 
-        assertEquals(1, pncBatchJob.triggerPncCheck(jurorCheckRequestList, metaData),
-            "triggerPncCheck should return 1");
+        assertEquals(new PncBatchJob.BatchDispatchResult(1, 0),
+            pncBatchJob.triggerPncCheck(jurorCheckRequestList, metaData),
+            "triggerPncCheck should dispatch 1 batch");
 
         PoliceNationalCheckServiceClient.JurorCheckRequestBulk expectedRequest =
             PoliceNationalCheckServiceClient.JurorCheckRequestBulk.builder().checks(jurorCheckRequestList).metaData(
@@ -226,8 +285,9 @@ class PncBatchJobTest {
         );
         MetaData metaData = TestConstants.VALID_META_DATA;
 
-        assertEquals(3, pncBatchJob.triggerPncCheck(jurorCheckRequestList, metaData),
-            "triggerPncCheck should return 3");
+        assertEquals(new PncBatchJob.BatchDispatchResult(3, 0),
+            pncBatchJob.triggerPncCheck(jurorCheckRequestList, metaData),
+            "triggerPncCheck should dispatch 3 batches");
 
 
         verify(policeNationalCheckServiceClient, times(1))
@@ -254,6 +314,81 @@ class PncBatchJobTest {
         verifyNoMoreInteractions(policeNationalCheckServiceClient);
     }
 
+    @Test
+    void positiveTriggerPncCheckConcurrentBatchesBoundedInFlight() throws Exception {
+        config.setBatchSize(1);
+        config.setMaxBatchesInFlight(2);
+        List<PoliceNationalCheckServiceClient.JurorCheckRequest> jurorCheckRequestList
+            = List.of(mock(PoliceNationalCheckServiceClient.JurorCheckRequest.class),
+            mock(PoliceNationalCheckServiceClient.JurorCheckRequest.class),
+            mock(PoliceNationalCheckServiceClient.JurorCheckRequest.class),
+            mock(PoliceNationalCheckServiceClient.JurorCheckRequest.class),
+            mock(PoliceNationalCheckServiceClient.JurorCheckRequest.class));
+        AtomicInteger inFlight = new AtomicInteger(0);
+        AtomicInteger maxInFlight = new AtomicInteger(0);
+        doAnswer(invocation -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            Thread.sleep(20);
+            inFlight.decrementAndGet();
+            return null;
+        }).when(policeNationalCheckServiceClient).checkJurors(any());
+
+        assertEquals(new PncBatchJob.BatchDispatchResult(5, 0),
+            pncBatchJob.triggerPncCheck(jurorCheckRequestList, TestConstants.VALID_META_DATA),
+            "triggerPncCheck should dispatch 5 batches");
+        assertEquals(2, maxInFlight.get(), "No more than 2 batches should be in flight at once");
+        verify(policeNationalCheckServiceClient, times(5)).checkJurors(any());
+    }
+
+    @Test
+    void negativeTriggerPncCheckSomeBatchesFail() {
+        config.setBatchSize(2);
+        config.setMaxBatchesInFlight(3);
+        List<PoliceNationalCheckServiceClient.JurorCheckRequest> jurorCheckRequestList
+            = List.of(mock(PoliceNationalCheckServiceClient.JurorCheckRequest.class),
+            mock(PoliceNationalCheckServiceClient.JurorCheckRequest.class),
+            mock(PoliceNationalCheckServiceClient.JurorCheckRequest.class),
+            mock(PoliceNationalCheckServiceClient.JurorCheckRequest.class),
+            mock(PoliceNationalCheckServiceClient.JurorCheckRequest.class));
+        doAnswer(invocation -> {
+            PoliceNationalCheckServiceClient.JurorCheckRequestBulk request = invocation.getArgument(0);
+            if (request.getChecks().contains(jurorCheckRequestList.get(2))) {
+                throw new InternalServerException("I am the cause");
+            }
+            return null;
+        }).when(policeNationalCheckServiceClient).checkJurors(any());
+
+        assertEquals(new PncBatchJob.BatchDispatchResult(2, 1),
+            pncBatchJob.triggerPncCheck(jurorCheckRequestList, TestConstants.VALID_META_DATA),
+            "One batch should fail and the others dispatch");
+        verify(policeNationalCheckServiceClient, times(3)).checkJurors(any());
+    }
+
+    @Test
+    void negativeTriggerPncCheckSequentialBatchFails() {
+        config.setBatchSize(1);
+        List<PoliceNationalCheckServiceClient.JurorCheckRequest> jurorCheckRequestList
+            = List.of(mock(PoliceNationalCheckServiceClient.JurorCheckRequest.class),
+            mock(PoliceNationalCheckServiceClient.JurorCheckRequest.class));
+        doThrow(new InternalServerException("I am the cause")).doNothing()
+            .when(policeNationalCheckServiceClient).checkJurors(any());
+
+        assertEquals(new PncBatchJob.BatchDispatchResult(1, 1),
+            pncBatchJob.triggerPncCheck(jurorCheckRequestList, TestConstants.VALID_META_DATA),
+            "A failed batch should not stop later batches being sent");
+        verify(policeNationalCheckServiceClient, times(2)).checkJurors(any());
+    }
+
+    @Test
+    void positiveGetMaxBatchesInFlight() {
+        config.setMaxBatchesInFlight(0);
+        assertEquals(1, pncBatchJob.getMaxBatchesInFlight(10), "Unset should send one batch at a time");
+        config.setMaxBatchesInFlight(4);
+        assertEquals(4, pncBatchJob.getMaxBatchesInFlight(10), "Should be bound by config");
+        assertEquals(2, pncBatchJob.getMaxBatchesInFlight(2), "Should be bound by the number of batches");
+        assertEquals(1, pncBatchJob.getMaxBatchesInFlight(0), "Should never be less than 1");
+    }
+
     @Nested
     @DisplayName("private List<PoliceNationalCheckServiceClient.JurorCheckRequest> getJurorsToCheck()")
     class GetJurorsToCheck {
@@ -302,6 +437,7 @@ class PncBatchJobTest {
             verify(databaseService, times(1))
                 .executePreparedStatement(connection, RequirePncCheck.class,
                     "select * from juror_mod.require_pnc_check_view");
+            verify(jurorServiceClient, times(1)).updateAll(anyList());
             verifyNoMoreInteractions(jurorServiceClient, databaseService);
         }
 
@@ -350,6 +486,7 @@ class PncBatchJobTest {
             verify(databaseService, times(1))
                 .executePreparedStatement(connection, RequirePncCheck.class,
                     "select * from juror_mod.require_pnc_check_view");
+            verify(jurorServiceClient, times(1)).updateAll(anyList());
             verifyNoMoreInteractions(jurorServiceClient, databaseService);
         }
 
@@ -399,6 +536,7 @@ class PncBatchJobTest {
             verify(databaseService, times(1))
                 .executePreparedStatement(connection, RequirePncCheck.class,
                                           "select * from juror_mod.require_pnc_check_view");
+            verify(jurorServiceClient, times(1)).updateAll(anyList());
             verifyNoMoreInteractions(jurorServiceClient, databaseService);
 
         }
@@ -448,6 +586,7 @@ class PncBatchJobTest {
             verify(databaseService, times(1))
                 .executePreparedStatement(connection, RequirePncCheck.class,
                     "select * from juror_mod.require_pnc_check_view");
+            verify(jurorServiceClient, times(1)).updateAll(anyList());
             verifyNoMoreInteractions(jurorServiceClient, databaseService);
 
         }
@@ -497,6 +636,7 @@ class PncBatchJobTest {
             verify(databaseService, times(1))
                 .executePreparedStatement(connection, RequirePncCheck.class,
                     "select * from juror_mod.require_pnc_check_view");
+            verify(jurorServiceClient, times(1)).updateAll(anyList());
             verifyNoMoreInteractions(jurorServiceClient, databaseService);
 
         }
@@ -540,6 +680,7 @@ class PncBatchJobTest {
             verify(databaseService, times(1))
                 .executePreparedStatement(connection, RequirePncCheck.class,
                     "select * from juror_mod.require_pnc_check_view");
+            verify(jurorServiceClient, times(1)).updateAll(anyList());
             verifyNoMoreInteractions(jurorServiceClient, databaseService);
         }
 
@@ -586,6 +727,7 @@ class PncBatchJobTest {
             verify(databaseService, times(1))
                 .executePreparedStatement(connection, RequirePncCheck.class,
                     "select * from juror_mod.require_pnc_check_view");
+            verify(jurorServiceClient, times(1)).updateAll(anyList());
             verifyNoMoreInteractions(jurorServiceClient, databaseService);
         }
 
@@ -631,6 +773,41 @@ class PncBatchJobTest {
 
         }
 
+        @Test
+        void negativeGetJurorsToCheckStatusUpdateFailed() {
+            Connection connection = mock(Connection.class);
+
+            doAnswer(invocation -> {
+                Consumer<Connection> connectionConsumer = invocation.getArgument(1);
+                connectionConsumer.accept(connection);
+                return null;
+            }).when(databaseService).execute(eq(config.getDatabase()), any());
+
+            List<RequirePncCheck> requirePncCheck = List.of(
+                createRequirePncCheck(null),
+                createRequirePncCheck(PoliceCheck.NOT_CHECKED)
+            );
+            when(databaseService.executePreparedStatement(connection, RequirePncCheck.class,
+                "select * from juror_mod.require_pnc_check_view"))
+                .thenReturn(requirePncCheck);
+            doThrow(new InternalServerException("I am the cause")).when(jurorServiceClient)
+                .call(requirePncCheck.get(1).getJurorNumber(),
+                    new JurorServiceClient.Payload(PoliceCheck.IN_PROGRESS));
+
+            InternalServerException exception = assertThrows(InternalServerException.class,
+                () -> pncBatchJob.getJurorsToCheck(),
+                "Exception should be thrown when a status update fails");
+            assertEquals("Failed to update juror pnc status for 1 of 2 jurors", exception.getMessage(),
+                "Exception message is not as expected");
+
+            verify(jurorServiceClient, times(1))
+                .call(requirePncCheck.get(0).getJurorNumber(),
+                    new JurorServiceClient.Payload(PoliceCheck.IN_PROGRESS));
+            verify(jurorServiceClient, times(1))
+                .call(requirePncCheck.get(1).getJurorNumber(),
+                    new JurorServiceClient.Payload(PoliceCheck.IN_PROGRESS));
+        }
+
         private RequirePncCheck createRequirePncCheck(PoliceCheck policeCheck) {
             return createRequirePncCheck(LocalDate.now(),
                 RandomStringUtils.randomAlphabetic(5),
@@ -655,6 +832,147 @@ class PncBatchJobTest {
 
     }
 
+    @Nested
+    @DisplayName("Result streamPncChecks(MetaData metaData)")
+    class StreamPncChecks {
+        private Connection connection;
+
+        @BeforeEach
+        void beforeEach() {
+            connection = mock(Connection.class);
+            config.setBatchSize(2);
+            config.setStreaming(true);
+            doAnswer(invocation -> {
+                Consumer<Connection> connectionConsumer = invocation.getArgument(1);
+                connectionConsumer.accept(connection);
+                return null;
+            }).when(databaseService).execute(eq(config.getDatabase()), any());
+        }
+
+        private void mockRows(Runnable afterFirstBatch, RequirePncCheck... rows) {
+            doAnswer(invocation -> {
+                Consumer<RequirePncCheck> rowConsumer = invocation.getArgument(3);
+                for (int index = 0; index < rows.length; index++) {
+                    if (index == config.getBatchSize()) {
+                        afterFirstBatch.run();
+                    }
+                    rowConsumer.accept(rows[index]);
+                }
+                return (long) rows.length;
+            }).when(databaseService).executeStreamingPreparedStatement(eq(connection), eq(RequirePncCheck.class),
+                any(), any(), eq("select * from juror_mod.require_pnc_check_view"));
+        }
+
+        private RequirePncCheck createRequirePncCheck(PoliceCheck policeCheck) {
+            RequirePncCheck requirePncCheck = new RequirePncCheck();
+            requirePncCheck.setJurorNumber(RandomStringUtils.randomNumeric(9));
+            requirePncCheck.setDateOfBirth(LocalDate.now());
+            requirePncCheck.setPostcode(RandomStringUtils.randomAlphabetic(5));
+            requirePncCheck.setPoliceCheck(policeCheck);
+            requirePncCheck.setFirstName(RandomStringUtils.randomAlphabetic(10));
+            requirePncCheck.setLastName(RandomStringUtils.randomAlphabetic(10));
+            return requirePncCheck;
+        }
+
+        private PoliceNationalCheckServiceClient.JurorCheckRequestBulk createRequest(RequirePncCheck... rows) {
+            return PoliceNationalCheckServiceClient.JurorCheckRequestBulk.builder()
+                .checks(Stream.of(rows).map(RequirePncCheck::toJurorCheckRequest).toList())
+                .metaData(new PoliceNationalCheckServiceClient.JurorCheckRequestBulk.MetaData(
+                    TestConstants.VALID_META_DATA.getJobKey(), TestConstants.VALID_META_DATA.getTaskId()))
+                .build();
+        }
+
+        @Test
+        void positiveResultSupplierIsStreaming() {
+            doReturn(Job.Result.passed()).when(pncBatchJob).streamPncChecks(TestConstants.VALID_META_DATA);
+            pncBatchJob.getResultSupplier().getResultRunners().iterator().next()
+                .apply(TestConstants.VALID_META_DATA);
+            verify(pncBatchJob, times(1)).streamPncChecks(TestConstants.VALID_META_DATA);
+            verify(pncBatchJob, never()).getJurorsToCheck();
+        }
+
+        @Test
+        void positiveFirstBatchSentWhileStillReading() {
+            RequirePncCheck first = createRequirePncCheck(null);
+            RequirePncCheck second = createRequirePncCheck(PoliceCheck.IN_PROGRESS);
+            RequirePncCheck missingInformation = createRequirePncCheck(PoliceCheck.NOT_CHECKED).setPostcode(null);
+            RequirePncCheck third = createRequirePncCheck(PoliceCheck.NOT_CHECKED);
+            mockRows(() -> verify(policeNationalCheckServiceClient, times(1))
+                    .checkJurors(createRequest(first, second)),
+                first, second, missingInformation, third);
+
+            Job.Result result = pncBatchJob.streamPncChecks(TestConstants.VALID_META_DATA);
+
+            assertEquals(Status.PROCESSING, result.getStatus(), "result status is not as expected");
+            assertEquals("3 jurors sent to the PNC service to be checked. In 2 batches", result.getMessage(),
+                "result message is not as expected");
+            assertEquals("2", result.toMetaData().get("TOTAL_BATCHES_REQUESTED"),
+                "result metaData TOTAL_BATCHES_REQUESTED_KEY is not as expected");
+            assertEquals("0", result.toMetaData().get("TOTAL_BATCHES_FAILED"),
+                "result metaData TOTAL_BATCHES_FAILED_KEY is not as expected");
+            assertEquals("3", result.toMetaData().get("TOTAL_CHECKS_REQUESTED"),
+                "result metaData TOTAL_CHECKS_REQUESTED_KEY is not as expected");
+
+            InOrder inOrder = inOrder(jurorServiceClient, policeNationalCheckServiceClient);
+            inOrder.verify(jurorServiceClient, times(1)).call(first.getJurorNumber(),
+                new JurorServiceClient.Payload(PoliceCheck.IN_PROGRESS));
+            inOrder.verify(policeNationalCheckServiceClient, times(1)).checkJurors(createRequest(first, second));
+            inOrder.verify(jurorServiceClient, times(1)).call(missingInformation.getJurorNumber(),
+                new JurorServiceClient.Payload(PoliceCheck.INSUFFICIENT_INFORMATION));
+            inOrder.verify(jurorServiceClient, times(1)).call(third.getJurorNumber(),
+                new JurorServiceClient.Payload(PoliceCheck.IN_PROGRESS));
+            inOrder.verify(policeNationalCheckServiceClient, times(1)).checkJurors(createRequest(third));
+            verify(pncBatchJob, never()).getJurorsToCheck();
+        }
+
+        @Test
+        void negativeStatusUpdateFailed() {
+            RequirePncCheck first = createRequirePncCheck(null);
+            RequirePncCheck second = createRequirePncCheck(PoliceCheck.NOT_CHECKED);
+            RequirePncCheck third = createRequirePncCheck(null);
+            RequirePncCheck fourth = createRequirePncCheck(null);
+            mockRows(() -> {
+            }, first, second, third, fourth);
+            doThrow(new InternalServerException("I am the cause")).when(jurorServiceClient)
+                .call(fourth.getJurorNumber(), new JurorServiceClient.Payload(PoliceCheck.IN_PROGRESS));
+
+            InternalServerException exception = assertThrows(InternalServerException.class,
+                () -> pncBatchJob.streamPncChecks(TestConstants.VALID_META_DATA),
+                "Exception should be thrown when a status update fails");
+            assertEquals("Failed to update juror pnc status for 1 of 2 jurors", exception.getMessage(),
+                "Exception message is not as expected");
+            verify(policeNationalCheckServiceClient, times(1)).checkJurors(createRequest(first, second));
+            verifyNoMoreInteractions(policeNationalCheckServiceClient);
+        }
+
+        @Test
+        void positiveNoJurorsToCheck() {
+            mockRows(() -> {
+            }, createRequirePncCheck(null).setDateOfBirth(null));
+
+            Job.Result result = pncBatchJob.streamPncChecks(TestConstants.VALID_META_DATA);
+
+            assertEquals(Status.SUCCESS, result.getStatus(), "result status is not as expected");
+            assertEquals("0", result.toMetaData().get("TOTAL_CHECKS_REQUESTED"),
+                "result metaData TOTAL_CHECKS_REQUESTED_KEY is not as expected");
+            verifyNoInteractions(policeNationalCheckServiceClient);
+        }
+
+        @Test
+        void negativeAllBatchesFailed() {
+            mockRows(() -> {
+            }, createRequirePncCheck(PoliceCheck.IN_PROGRESS));
+            doThrow(new InternalServerException("I am the cause")).when(policeNationalCheckServiceClient)
+                .checkJurors(any());
+
+            Job.Result result = pncBatchJob.streamPncChecks(TestConstants.VALID_META_DATA);
+
+            assertEquals(Status.FAILED, result.getStatus(), "result status is not as expected");
+            assertEquals("1", result.toMetaData().get("TOTAL_BATCHES_FAILED"),
+                "result metaData TOTAL_BATCHES_FAILED_KEY is not as expected");
+        }
+    }
+
     @Nested
     @DisplayName("public void updateResult(SchedulerServiceClient.StatusUpdatePayload payload, String jobKey, Long "
         + "taskId)")
@@ -666,6 +984,19 @@ class PncBatchJobTest {
 
         }
 
+        @Test
+        void positiveUpdateResultAggregated() {
+            when(resultAccumulator.isEnabled()).thenReturn(true);
+            SchedulerServiceClient.StatusUpdatePayload payload =
+                new SchedulerServiceClient.StatusUpdatePayload(Status.PROCESSING, "message", null);
+
+            pncBatchJob.updateResult(payload, TestConstants.VALID_JOB_KEY, TestConstants.VALID_TASK_ID_LONG);
+
+            verify(resultAccumulator, times(1))
+                .accept(payload, TestConstants.VALID_JOB_KEY, TestConstants.VALID_TASK_ID_LONG);
+            verifyNoInteractions(schedulerServiceClient);
+        }
+
         @Test
         void negativeNullPayload() {
             pncBatchJob.updateResult(null, TestConstants.VALID_JOB_KEY, TestConstants.VALID_TASK_ID_LONG);
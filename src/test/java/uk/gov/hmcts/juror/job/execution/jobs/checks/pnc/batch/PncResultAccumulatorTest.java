@@ -0,0 +1,326 @@
+package uk.gov.hmcts.juror.job.execution.jobs.checks.pnc.batch;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import uk.gov.hmcts.juror.job.execution.client.contracts.SchedulerServiceClient;
+import uk.gov.hmcts.juror.job.execution.config.StatusUpdateConfig;
+import uk.gov.hmcts.juror.job.execution.model.Status;
+import uk.gov.hmcts.juror.job.execution.service.StatusUpdatePublisherImpl;
+import uk.gov.hmcts.juror.job.execution.service.contracts.StatusUpdatePublisher;
+import uk.gov.hmcts.juror.job.execution.testsupport.TestConstants;
+import uk.gov.hmcts.juror.standard.service.exceptions.InternalServerException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("PncResultAccumulator")
+class PncResultAccumulatorTest {
+    private static final String JOB_KEY = TestConstants.VALID_JOB_KEY;
+    private static final Long TASK_ID = TestConstants.VALID_TASK_ID_LONG;
+
+    @TempDir
+    Path journalDirectory;
+
+    private SchedulerServiceClient schedulerServiceClient;
+    private PncBatchConfig config;
+    private PncResultAccumulator resultAccumulator;
+
+    @BeforeEach
+    void beforeEach() throws IOException {
+        schedulerServiceClient = mock(SchedulerServiceClient.class);
+        config = new PncBatchConfig();
+        //Long enough that the timer never fires during a test, flush is called directly instead
+        config.setResultFlushInterval(3_600_000);
+        config.setResultJournalDirectory(journalDirectory.toString());
+        resultAccumulator = new PncResultAccumulator(schedulerServiceClient, config,
+            new StatusUpdatePublisherImpl(schedulerServiceClient::updateStatus, new StatusUpdateConfig()));
+        mockTask(Map.of(
+            PncBatchJob.TOTAL_BATCHES_REQUESTED_KEY, "3",
+            PncBatchJob.TOTAL_CHECKS_REQUESTED_KEY, "6"));
+        resultAccumulator.afterPropertiesSet();
+    }
+
+    @AfterEach
+    void afterEach() {
+        resultAccumulator.destroy();
+    }
+
+    private void mockTask(Map<String, String> metaData) {
+        SchedulerServiceClient.TaskResponse taskResponse = new SchedulerServiceClient.TaskResponse();
+        taskResponse.setMetaData(new HashMap<>(metaData));
+        when(schedulerServiceClient.getTask(JOB_KEY, TASK_ID)).thenReturn(taskResponse);
+    }
+
+    private SchedulerServiceClient.StatusUpdatePayload createPayload(long eligible, long ineligible) {
+        SchedulerServiceClient.StatusUpdatePayload payload =
+            new SchedulerServiceClient.StatusUpdatePayload(Status.PROCESSING, "Batch processed", null);
+        payload.addMetaData("TOTAL_WITH_STATUS_ELIGIBLE", String.valueOf(eligible));
+        payload.addMetaData("TOTAL_WITH_STATUS_INELIGIBLE", String.valueOf(ineligible));
+        payload.addMetaData(PncBatchJob.TOTAL_CHECKS_IN_BATCH_KEY, String.valueOf(eligible + ineligible));
+        return payload;
+    }
+
+    private SchedulerServiceClient.StatusUpdatePayload captureUpdate() {
+        ArgumentCaptor<SchedulerServiceClient.StatusUpdatePayload> captor =
+            ArgumentCaptor.forClass(SchedulerServiceClient.StatusUpdatePayload.class);
+        verify(schedulerServiceClient, times(1)).updateStatus(eq(JOB_KEY), eq(TASK_ID), captor.capture());
+        return captor.getValue();
+    }
+
+    @Test
+    void positiveCallbacksCoalescedUntilFlush() {
+        resultAccumulator.accept(createPayload(1, 1), JOB_KEY, TASK_ID);
+        resultAccumulator.accept(createPayload(2, 0), JOB_KEY, TASK_ID);
+
+        verify(schedulerServiceClient, times(1)).getTask(JOB_KEY, TASK_ID);
+        verify(schedulerServiceClient, never()).updateStatus(any(), any(), any());
+
+        resultAccumulator.flush();
+        SchedulerServiceClient.StatusUpdatePayload payload = captureUpdate();
+        assertEquals(Status.PROCESSING, payload.getStatus(), "Status should come from the last callback");
+        assertEquals("3", payload.getMetaDataValue("TOTAL_WITH_STATUS_ELIGIBLE"), "Eligible should be summed");
+        assertEquals("1", payload.getMetaDataValue("TOTAL_WITH_STATUS_INELIGIBLE"), "Ineligible should be summed");
+        assertEquals("2", payload.getMetaDataValue(PncBatchJob.TOTAL_BATCHES_RESPONSES_KEY),
+            "Responses should be counted");
+        assertEquals("3", payload.getMetaDataValue(PncBatchJob.TOTAL_BATCHES_REQUESTED_KEY),
+            "Requested should come from the task");
+
+        resultAccumulator.flush();
+        verify(schedulerServiceClient, times(1)).updateStatus(any(), any(), any());
+    }
+
+    @Test
+    void positiveProgressPublishedPerCallbackWhenCoalescing() {
+        StatusUpdatePublisher statusUpdatePublisher = mock(StatusUpdatePublisher.class);
+        when(statusUpdatePublisher.isCoalescing()).thenReturn(true);
+        resultAccumulator.destroy();
+        resultAccumulator = new PncResultAccumulator(schedulerServiceClient, config, statusUpdatePublisher);
+
+        resultAccumulator.accept(createPayload(1, 1), JOB_KEY, TASK_ID);
+        resultAccumulator.accept(createPayload(2, 0), JOB_KEY, TASK_ID);
+
+        ArgumentCaptor<SchedulerServiceClient.StatusUpdatePayload> captor =
+            ArgumentCaptor.forClass(SchedulerServiceClient.StatusUpdatePayload.class);
+        verify(statusUpdatePublisher, times(2)).publish(eq(JOB_KEY), eq(TASK_ID), captor.capture());
+        assertEquals(Status.PROCESSING, captor.getValue().getStatus());
+        assertEquals("3", captor.getValue().getMetaDataValue("TOTAL_WITH_STATUS_ELIGIBLE"),
+            "Running totals should be published");
+
+        resultAccumulator.flush();
+        verify(statusUpdatePublisher, times(2)).publish(any(), any(), any());
+        verify(schedulerServiceClient, never()).updateStatus(any(), any(), any());
+    }
+
+    @Test
+    void positiveNoProgressPublishedForCompletedTask() {
+        StatusUpdatePublisher statusUpdatePublisher = mock(StatusUpdatePublisher.class);
+        when(statusUpdatePublisher.isCoalescing()).thenReturn(true);
+        resultAccumulator.destroy();
+        resultAccumulator = new PncResultAccumulator(schedulerServiceClient, config, statusUpdatePublisher);
+        resultAccumulator.accept(createPayload(1, 1), JOB_KEY, TASK_ID);
+        PncResultAccumulator.TaskTotals taskTotals = resultAccumulator.tasks.values().iterator().next();
+        resultAccumulator.accept(createPayload(1, 1), JOB_KEY, TASK_ID);
+        resultAccumulator.accept(createPayload(1, 1), JOB_KEY, TASK_ID);
+        assertTrue(resultAccumulator.tasks.isEmpty(), "Completed task should be removed");
+
+        //A callback that fetched the totals just before the task was completed
+        resultAccumulator.publishProgress(taskTotals);
+
+        verify(statusUpdatePublisher, times(3)).publish(eq(JOB_KEY), eq(TASK_ID), any());
+    }
+
+    @Test
+    void positiveLastBatchCompletesImmediately() {
+        resultAccumulator.accept(createPayload(2, 0), JOB_KEY, TASK_ID);
+        resultAccumulator.accept(createPayload(1, 1), JOB_KEY, TASK_ID);
+        resultAccumulator.accept(createPayload(1, 1), JOB_KEY, TASK_ID);
+
+        SchedulerServiceClient.StatusUpdatePayload payload = captureUpdate();
+        assertEquals(Status.SUCCESS, payload.getStatus(), "All checks processed");
+        assertEquals("All batches have successfully processed", payload.getMessage(), "Message should match");
+        assertEquals("3", payload.getMetaDataValue(PncBatchJob.TOTAL_BATCHES_RESPONSES_KEY),
+            "Responses should be counted");
+        assertTrue(resultAccumulator.tasks.isEmpty(), "Completed task should be removed");
+        assertFalse(Files.exists(journalDirectory.resolve(JOB_KEY + "_" + TASK_ID + ".pnc")),
+            "Journal should be removed once complete");
+    }
+
+    @Test
+    void positiveLastBatchPartialSuccess() {
+        resultAccumulator.accept(createPayload(2, 0), JOB_KEY, TASK_ID);
+        resultAccumulator.accept(createPayload(1, 0), JOB_KEY, TASK_ID);
+        resultAccumulator.accept(createPayload(1, 1), JOB_KEY, TASK_ID);
+
+        SchedulerServiceClient.StatusUpdatePayload payload = captureUpdate();
+        assertEquals(Status.PARTIAL_SUCCESS, payload.getStatus(), "Some checks did not process");
+        assertEquals("All batches have processed but some checks did not process", payload.getMessage(),
+            "Message should match");
+    }
+
+    @Test
+    void positiveConcurrentCallbacksDoNotLoseCounts() throws Exception {
+        mockTask(Map.of(
+            PncBatchJob.TOTAL_BATCHES_REQUESTED_KEY, "200",
+            PncBatchJob.TOTAL_CHECKS_REQUESTED_KEY, "400"));
+        List<Future<?>> futures = new ArrayList<>();
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        try {
+            for (int i = 0; i < 200; i++) {
+                futures.add(executorService.submit(
+                    () -> resultAccumulator.accept(createPayload(1, 1), JOB_KEY, TASK_ID)));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+        SchedulerServiceClient.StatusUpdatePayload payload = captureUpdate();
+        assertEquals(Status.SUCCESS, payload.getStatus(), "Every count should be kept");
+        assertEquals("200", payload.getMetaDataValue("TOTAL_WITH_STATUS_ELIGIBLE"), "Eligible should be summed");
+    }
+
+    @Test
+    void positiveBatchesRequestedRefreshedOnFlush() {
+        mockTask(Map.of());
+        resultAccumulator.accept(createPayload(1, 1), JOB_KEY, TASK_ID);
+        mockTask(Map.of(
+            PncBatchJob.TOTAL_BATCHES_REQUESTED_KEY, "1",
+            PncBatchJob.TOTAL_CHECKS_REQUESTED_KEY, "2"));
+
+        resultAccumulator.flush();
+
+        SchedulerServiceClient.StatusUpdatePayload payload = captureUpdate();
+        assertEquals(Status.SUCCESS, payload.getStatus(), "Task should complete once requested is known");
+    }
+
+    @Test
+    void positiveCallbacksBeforeJobResultCompleteOnceRequestedKnown() {
+        mockTask(Map.of());
+        resultAccumulator.accept(createPayload(1, 1), JOB_KEY, TASK_ID);
+        resultAccumulator.flush();
+        verify(schedulerServiceClient, times(1)).updateStatus(eq(JOB_KEY), eq(TASK_ID), any());
+
+        //No new callbacks, the job result with the number of batches requested arrives later
+        resultAccumulator.flush();
+        verify(schedulerServiceClient, times(1)).updateStatus(eq(JOB_KEY), eq(TASK_ID), any());
+        mockTask(Map.of(
+            PncBatchJob.TOTAL_BATCHES_REQUESTED_KEY, "1",
+            PncBatchJob.TOTAL_CHECKS_REQUESTED_KEY, "2"));
+        resultAccumulator.flush();
+
+        ArgumentCaptor<SchedulerServiceClient.StatusUpdatePayload> captor =
+            ArgumentCaptor.forClass(SchedulerServiceClient.StatusUpdatePayload.class);
+        verify(schedulerServiceClient, times(2)).updateStatus(eq(JOB_KEY), eq(TASK_ID), captor.capture());
+        assertEquals(Status.SUCCESS, captor.getValue().getStatus(), "Task should complete once requested is known");
+        assertTrue(resultAccumulator.tasks.isEmpty(), "Completed task should be removed");
+    }
+
+    @Test
+    void negativeJournalFailedCallbackNotCounted() throws IOException {
+        config.setResultJournalDirectory(Files.createFile(journalDirectory.resolve("not-a-directory")).toString());
+        assertThrows(InternalServerException.class,
+            () -> resultAccumulator.accept(createPayload(2, 0), JOB_KEY, TASK_ID));
+        config.setResultJournalDirectory(journalDirectory.toString());
+
+        //Sent again by the PNC service
+        resultAccumulator.accept(createPayload(2, 0), JOB_KEY, TASK_ID);
+        resultAccumulator.flush();
+
+        SchedulerServiceClient.StatusUpdatePayload payload = captureUpdate();
+        assertEquals("2", payload.getMetaDataValue("TOTAL_WITH_STATUS_ELIGIBLE"), "Eligible should be counted once");
+        assertEquals("1", payload.getMetaDataValue(PncBatchJob.TOTAL_BATCHES_RESPONSES_KEY),
+            "Response should be counted once");
+    }
+
+    @Test
+    void positiveJournalRecoveredOnRestart() throws IOException {
+        resultAccumulator.accept(createPayload(1, 1), JOB_KEY, TASK_ID);
+        resultAccumulator.accept(createPayload(2, 0), JOB_KEY, TASK_ID);
+        assertTrue(Files.exists(journalDirectory.resolve(JOB_KEY + "_" + TASK_ID + ".pnc")),
+            "Callbacks should be journaled");
+
+        PncResultAccumulator restarted = new PncResultAccumulator(schedulerServiceClient, config,
+            new StatusUpdatePublisherImpl(schedulerServiceClient::updateStatus, new StatusUpdateConfig()));
+        restarted.loadJournal();
+        restarted.flush();
+
+        SchedulerServiceClient.StatusUpdatePayload payload = captureUpdate();
+        assertEquals("3", payload.getMetaDataValue("TOTAL_WITH_STATUS_ELIGIBLE"), "Eligible should be recovered");
+        assertEquals("2", payload.getMetaDataValue(PncBatchJob.TOTAL_BATCHES_RESPONSES_KEY),
+            "Responses should be recovered");
+
+        restarted.accept(createPayload(1, 1), JOB_KEY, TASK_ID);
+        verify(schedulerServiceClient, times(1)).getTask(JOB_KEY, TASK_ID);
+        ArgumentCaptor<SchedulerServiceClient.StatusUpdatePayload> captor =
+            ArgumentCaptor.forClass(SchedulerServiceClient.StatusUpdatePayload.class);
+        verify(schedulerServiceClient, times(2)).updateStatus(eq(JOB_KEY), eq(TASK_ID), captor.capture());
+        assertEquals(Status.SUCCESS, captor.getValue().getStatus(), "Recovered totals should complete the task");
+    }
+
+    @Test
+    void negativeFinalUpdateFailedRetriedOnFlush() {
+        doThrow(new InternalServerException("I am the cause")).doNothing()
+            .when(schedulerServiceClient).updateStatus(any(), any(), any());
+        resultAccumulator.accept(createPayload(2, 0), JOB_KEY, TASK_ID);
+        resultAccumulator.accept(createPayload(2, 0), JOB_KEY, TASK_ID);
+        resultAccumulator.accept(createPayload(2, 0), JOB_KEY, TASK_ID);
+        assertFalse(resultAccumulator.tasks.isEmpty(), "Task should be kept for a retry");
+
+        resultAccumulator.flush();
+
+        verify(schedulerServiceClient, times(2)).updateStatus(eq(JOB_KEY), eq(TASK_ID), any());
+        assertTrue(resultAccumulator.tasks.isEmpty(), "Task should be removed once the final update is sent");
+    }
+
+    @Test
+    void negativeTaskNotFound() {
+        when(schedulerServiceClient.getTask(JOB_KEY, TASK_ID)).thenReturn(null);
+        InternalServerException exception = assertThrows(InternalServerException.class,
+            () -> resultAccumulator.accept(createPayload(1, 1), JOB_KEY, TASK_ID));
+        assertEquals("Task with jobKey: " + JOB_KEY + " taskId: " + TASK_ID + " was not found. "
+            + "Failed to update status", exception.getMessage(), "Message should match");
+    }
+
+    @Test
+    void negativeEnabledWithoutJournalDirectory() {
+        config.setResultJournalDirectory(null);
+        PncResultAccumulator accumulator = new PncResultAccumulator(schedulerServiceClient, config,
+            new StatusUpdatePublisherImpl(schedulerServiceClient::updateStatus, new StatusUpdateConfig()));
+        InternalServerException exception = assertThrows(InternalServerException.class,
+            accumulator::afterPropertiesSet);
+        assertEquals("PNC result accumulator is enabled but no persistent directory is set "
+            + "in jobs.checks.pnc.batch.result-journal-directory", exception.getMessage(), "Message should match");
+    }
+
+    @Test
+    void positiveDisabled() {
+        config.setResultFlushInterval(0);
+        assertFalse(resultAccumulator.isEnabled(), "Should be disabled without a flush interval");
+    }
+}
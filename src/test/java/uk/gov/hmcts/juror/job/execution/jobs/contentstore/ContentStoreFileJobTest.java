@@ -6,6 +6,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import org.springframework.util.FileSystemUtils;
@@ -25,6 +26,7 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -34,13 +36,19 @@ import java.util.function.Function;
 import java.util.stream.Stream;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doCallRealMethod;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
@@ -107,7 +115,8 @@ public class ContentStoreFileJobTest {
             ((Consumer<Connection>) invocation.getArgument(1)).accept(connection);
             return null;
         }).when(databaseService).execute(any(), any());
-
+        //Routes the collection upload through the single file upload so per file stubs still apply
+        doCallRealMethod().when(sftpService).upload(any(), anyCollection(), anyLong(), anyLong(), any());
     }
 
     @AfterEach
@@ -148,16 +157,22 @@ public class ContentStoreFileJobTest {
             );
         }
 
+        private void mockContentStoreQuery(List<ContentStore> contentStoreList) {
+            doAnswer(invocation -> {
+                Consumer<ContentStore> rowConsumer = invocation.getArgument(3);
+                contentStoreList.forEach(rowConsumer);
+                return (long) contentStoreList.size();
+            }).when(databaseService).executeStreamingPreparedStatement(eq(connection), eq(ContentStore.class), any(),
+                any(), eq(SELECT_SQL_QUERY), eq(fileType));
+        }
+
         @Test
         void positiveTypical() throws IOException {
             try (MockedStatic<FileUtils> fileUtilsMock = Mockito.mockStatic(FileUtils.class)) {
                 ContentStoreFileJob contentStoreFileJob = getContentStoreFileJob();
                 List<ContentStore> contentStoreList = getStandardContentStoreList();
 
-                when(databaseService.executePreparedStatement(connection,
-                    ContentStore.class,
-                    SELECT_SQL_QUERY,
-                    fileType)).thenReturn(contentStoreList);
+                mockContentStoreQuery(contentStoreList);
 
                 fileUtilsMock.when(() ->
                         FileUtils.createFile(any()))
@@ -168,12 +183,12 @@ public class ContentStoreFileJobTest {
                 assertEquals(Status.SUCCESS, result.getStatus(), "Expect status to be SUCCESS");
                 assertNull(result.getMessage(), "Expect no message");
                 assertNull(result.getThrowable(), "Expect no throwable");
-                assertEquals(3, result.getMetaData().size(), "Expect 3 metadata entries");
-                assertEquals("3", result.getMetaData().get("TOTAL_FILES_TO_GENERATED"),
+                assertEquals(3, result.toMetaData().size(), "Expect 3 metadata entries");
+                assertEquals("3", result.toMetaData().get("TOTAL_FILES_TO_GENERATED"),
                     "Expect 3 files to be generated");
-                assertEquals("3", result.getMetaData().get("TOTAL_FILES_GENERATED_SUCCESS"),
+                assertEquals("3", result.toMetaData().get("TOTAL_FILES_GENERATED_SUCCESS"),
                     "Expect 3 files to be generated successfully");
-                assertEquals("0", result.getMetaData().get("TOTAL_FILES_GENERATED_UNSUCCESSFULLY"),
+                assertEquals("0", result.toMetaData().get("TOTAL_FILES_GENERATED_UNSUCCESSFULLY"),
                     "Expect 0 files to be generated unsuccessfully");
                 verify(databaseService, times(1))
                     .execute(eq(databaseConfig), any());
@@ -182,7 +197,8 @@ public class ContentStoreFileJobTest {
                     .executeStoredProcedure(connection, procedureName, procedureArguments);
 
                 verify(databaseService, times(1))
-                    .executePreparedStatement(connection, ContentStore.class, SELECT_SQL_QUERY, fileType);
+                    .executeStreamingPreparedStatement(eq(connection), eq(ContentStore.class),
+                        eq(databaseConfig.getFetchSize()), any(), eq(SELECT_SQL_QUERY), eq(fileType));
 
                 for (ContentStore contentStore : contentStoreList) {
                     fileUtilsMock.verify(() -> FileUtils.writeToFile(any(File.class), eq(contentStore.getData())));
@@ -198,10 +214,7 @@ public class ContentStoreFileJobTest {
             try (MockedStatic<FileUtils> fileUtilsMock = Mockito.mockStatic(FileUtils.class)) {
                 ContentStoreFileJob contentStoreFileJob = getContentStoreFileJob();
 
-                when(databaseService.executePreparedStatement(connection,
-                    ContentStore.class,
-                    SELECT_SQL_QUERY,
-                    fileType)).thenReturn(getFailedContentStoreList());
+                mockContentStoreQuery(getFailedContentStoreList());
 
                 fileUtilsMock.when(() -> FileUtils.createFile(any())).thenReturn(mock(File.class));
 
@@ -216,12 +229,12 @@ public class ContentStoreFileJobTest {
                 assertEquals(Status.SUCCESS, result.getStatus(), "Expect status to be SUCCESS");
                 assertNull(result.getMessage(), "Expect no message");
                 assertNull(result.getThrowable(), "Expect no throwable");
-                assertEquals(3, result.getMetaData().size(), "Expect 3 metadata entries");
-                assertEquals("1", result.getMetaData().get("TOTAL_FILES_TO_GENERATED"),
+                assertEquals(3, result.toMetaData().size(), "Expect 3 metadata entries");
+                assertEquals("1", result.toMetaData().get("TOTAL_FILES_TO_GENERATED"),
                     "Expect 1 files to be generated");
-                assertEquals("1", result.getMetaData().get("TOTAL_FILES_GENERATED_SUCCESS"),
+                assertEquals("1", result.toMetaData().get("TOTAL_FILES_GENERATED_SUCCESS"),
                     "Expect 1 files to be generated successfully");
-                assertEquals("0", result.getMetaData().get("TOTAL_FILES_GENERATED_UNSUCCESSFULLY"),
+                assertEquals("0", result.toMetaData().get("TOTAL_FILES_GENERATED_UNSUCCESSFULLY"),
                     "Expect 0 files to be generated unsuccessfully");
                 verify(databaseService, times(1))
                     .execute(eq(databaseConfig), any());
@@ -230,7 +243,8 @@ public class ContentStoreFileJobTest {
                     .executeStoredProcedure(connection, procedureName, procedureArguments);
 
                 verify(databaseService, times(1))
-                    .executePreparedStatement(connection, ContentStore.class, SELECT_SQL_QUERY, fileType);
+                    .executeStreamingPreparedStatement(eq(connection), eq(ContentStore.class),
+                        eq(databaseConfig.getFetchSize()), any(), eq(SELECT_SQL_QUERY), eq(fileType));
 
                 fileUtilsMock.verify(() -> FileUtils.writeToFile(any(File.class), any(String.class)), times(1));
 
@@ -244,10 +258,7 @@ public class ContentStoreFileJobTest {
             try (MockedStatic<FileUtils> fileUtilsMock = Mockito.mockStatic(FileUtils.class)) {
                 ContentStoreFileJob contentStoreFileJob = getContentStoreFileJob();
 
-                when(databaseService.executePreparedStatement(connection,
-                    ContentStore.class,
-                    SELECT_SQL_QUERY,
-                    fileType)).thenReturn(getFailedContentStoreList());
+                mockContentStoreQuery(getFailedContentStoreList());
 
                 fileUtilsMock.when(() -> FileUtils.createFile(any())).thenReturn(mock(File.class));
 
@@ -261,12 +272,12 @@ public class ContentStoreFileJobTest {
                 assertEquals(Status.SUCCESS, result.getStatus(), "Expect status to be SUCCESS");
                 assertNull(result.getMessage(), "Expect no message");
                 assertNull(result.getThrowable(), "Expect no throwable");
-                assertEquals(3, result.getMetaData().size(), "Expect 3 metadata entries");
-                assertEquals("3", result.getMetaData().get("TOTAL_FILES_TO_GENERATED"),
+                assertEquals(3, result.toMetaData().size(), "Expect 3 metadata entries");
+                assertEquals("3", result.toMetaData().get("TOTAL_FILES_TO_GENERATED"),
                     "Expect 3 files to be generated");
-                assertEquals("3", result.getMetaData().get("TOTAL_FILES_GENERATED_SUCCESS"),
+                assertEquals("3", result.toMetaData().get("TOTAL_FILES_GENERATED_SUCCESS"),
                     "Expect 3 files to be generated successfully");
-                assertEquals("0", result.getMetaData().get("TOTAL_FILES_GENERATED_UNSUCCESSFULLY"),
+                assertEquals("0", result.toMetaData().get("TOTAL_FILES_GENERATED_UNSUCCESSFULLY"),
                     "Expect 0 files to be generated unsuccessfully");
                 verify(databaseService, times(1))
                     .execute(eq(databaseConfig), any());
@@ -275,7 +286,8 @@ public class ContentStoreFileJobTest {
                     .executeStoredProcedure(connection, procedureName, procedureArguments);
 
                 verify(databaseService, times(1))
-                    .executePreparedStatement(connection, ContentStore.class, SELECT_SQL_QUERY, fileType);
+                    .executeStreamingPreparedStatement(eq(connection), eq(ContentStore.class),
+                        eq(databaseConfig.getFetchSize()), any(), eq(SELECT_SQL_QUERY), eq(fileType));
 
                 fileUtilsMock.verify(() -> FileUtils.writeToFile(any(File.class), any(String.class)), times(3));
 
@@ -289,10 +301,7 @@ public class ContentStoreFileJobTest {
             try (MockedStatic<FileUtils> fileUtilsMock = Mockito.mockStatic(FileUtils.class)) {
                 ContentStoreFileJob contentStoreFileJob = getContentStoreFileJob();
 
-                when(databaseService.executePreparedStatement(connection,
-                    ContentStore.class,
-                    SELECT_SQL_QUERY,
-                    fileType)).thenReturn(getFailedContentStoreList());
+                mockContentStoreQuery(getFailedContentStoreList());
 
                 fileUtilsMock.when(() -> FileUtils.createFile(any())).thenReturn(mock(File.class));
 
@@ -307,12 +316,12 @@ public class ContentStoreFileJobTest {
                 assertEquals(Status.SUCCESS, result.getStatus(), "Expect status to be SUCCESS");
                 assertNull(result.getMessage(), "Expect no message");
                 assertNull(result.getThrowable(), "Expect no throwable");
-                assertEquals(3, result.getMetaData().size(), "Expect 3 metadata entries");
-                assertEquals("3", result.getMetaData().get("TOTAL_FILES_TO_GENERATED"),
+                assertEquals(3, result.toMetaData().size(), "Expect 3 metadata entries");
+                assertEquals("3", result.toMetaData().get("TOTAL_FILES_TO_GENERATED"),
                     "Expect 3 files to be generated");
-                assertEquals("3", result.getMetaData().get("TOTAL_FILES_GENERATED_SUCCESS"),
+                assertEquals("3", result.toMetaData().get("TOTAL_FILES_GENERATED_SUCCESS"),
                     "Expect 3 files to be generated successfully");
-                assertEquals("0", result.getMetaData().get("TOTAL_FILES_GENERATED_UNSUCCESSFULLY"),
+                assertEquals("0", result.toMetaData().get("TOTAL_FILES_GENERATED_UNSUCCESSFULLY"),
                     "Expect 0 files to be generated unsuccessfully");
                 verify(databaseService, times(1))
                     .execute(eq(databaseConfig), any());
@@ -321,7 +330,8 @@ public class ContentStoreFileJobTest {
                     .executeStoredProcedure(connection, procedureName, procedureArguments);
 
                 verify(databaseService, times(1))
-                    .executePreparedStatement(connection, ContentStore.class, SELECT_SQL_QUERY, fileType);
+                    .executeStreamingPreparedStatement(eq(connection), eq(ContentStore.class),
+                        eq(databaseConfig.getFetchSize()), any(), eq(SELECT_SQL_QUERY), eq(fileType));
 
                 fileUtilsMock.verify(() -> FileUtils.writeToFile(any(File.class), any(String.class)), times(3));
 
@@ -337,10 +347,7 @@ public class ContentStoreFileJobTest {
                 List<ContentStore> contentStoreList = getStandardContentStoreList();
 
                 RuntimeException expectedException = new RuntimeException("I am the cause");
-                when(databaseService.executePreparedStatement(connection,
-                    ContentStore.class,
-                    SELECT_SQL_QUERY,
-                    fileType)).thenReturn(contentStoreList);
+                mockContentStoreQuery(contentStoreList);
 
                 fileUtilsMock.when(() ->
                         FileUtils.createFile(any()))
@@ -352,18 +359,18 @@ public class ContentStoreFileJobTest {
                 assertEquals("3 files failed to generate out of 3.", result.getMessage(),
                     "Expect message to contain the number of failed files");
                 assertNull(result.getThrowable());
-                assertEquals(6, result.getMetaData().size(), "Expect 6 metadata entries");
-                assertEquals("3", result.getMetaData().get("TOTAL_FILES_TO_GENERATED"),
+                assertEquals(6, result.toMetaData().size(), "Expect 6 metadata entries");
+                assertEquals("3", result.toMetaData().get("TOTAL_FILES_TO_GENERATED"),
                     "Expect 3 files to be generated");
-                assertEquals("0", result.getMetaData().get("TOTAL_FILES_GENERATED_SUCCESS"),
+                assertEquals("0", result.toMetaData().get("TOTAL_FILES_GENERATED_SUCCESS"),
                     "Expect 0 files to be generated successfully");
-                assertEquals("3", result.getMetaData().get("TOTAL_FILES_GENERATED_UNSUCCESSFULLY"),
+                assertEquals("3", result.toMetaData().get("TOTAL_FILES_GENERATED_UNSUCCESSFULLY"),
                     "Expect 3 files to be generated unsuccessfully");
-                assertEquals("DocId 1", result.getMetaData().get("FAILED_TO_GENERATE_FILE_1"),
+                assertEquals("DocId 1", result.toMetaData().get("FAILED_TO_GENERATE_FILE_1"),
                     "Expect DocId 1 to be the first failed file");
-                assertEquals("DocId 2", result.getMetaData().get("FAILED_TO_GENERATE_FILE_2"),
+                assertEquals("DocId 2", result.toMetaData().get("FAILED_TO_GENERATE_FILE_2"),
                     "Expect DocId 2 to be the second failed file");
-                assertEquals("DocId 3", result.getMetaData().get("FAILED_TO_GENERATE_FILE_3"),
+                assertEquals("DocId 3", result.toMetaData().get("FAILED_TO_GENERATE_FILE_3"),
                     "Expect DocId 3 to be the third failed file");
                 verify(databaseService, times(1))
                     .execute(eq(databaseConfig), any());
@@ -372,7 +379,8 @@ public class ContentStoreFileJobTest {
                     .executeStoredProcedure(connection, procedureName, procedureArguments);
 
                 verify(databaseService, times(1))
-                    .executePreparedStatement(connection, ContentStore.class, SELECT_SQL_QUERY, fileType);
+                    .executeStreamingPreparedStatement(eq(connection), eq(ContentStore.class),
+                        eq(databaseConfig.getFetchSize()), any(), eq(SELECT_SQL_QUERY), eq(fileType));
 
                 verifyNoMoreInteractions(databaseService);
                 verifyNoInteractions(sftpService);
@@ -413,20 +421,21 @@ public class ContentStoreFileJobTest {
                     .thenReturn(true);
 
                 Job.Result result = contentStoreFileJob.uploadFiles();
-                assertEquals(5, result.getMetaData().size(),
+                assertEquals(5, result.toMetaData().size(),
                     "Expect 5 metadata entries");
-                assertEquals("3", result.getMetaData().get("TOTAL_FILES_TO_UPLOAD"),
+                assertEquals("3", result.toMetaData().get("TOTAL_FILES_TO_UPLOAD"),
                     "Expect 3 files to be uploaded");
-                assertEquals("3", result.getMetaData().get("TOTAL_FILES_UPLOADED_SUCCESS"),
+                assertEquals("3", result.toMetaData().get("TOTAL_FILES_UPLOADED_SUCCESS"),
                     "Expect 3 files to be uploaded successfully");
-                assertEquals("3", result.getMetaData().get("TOTAL_FILES_UPDATED_SUCCESS"),
+                assertEquals("3", result.toMetaData().get("TOTAL_FILES_UPDATED_SUCCESS"),
                     "Expect 3 files to be updated successfully");
-                assertEquals("0", result.getMetaData().get("TOTAL_FILES_UPDATED_UNSUCCESSFULLY"),
+                assertEquals("0", result.toMetaData().get("TOTAL_FILES_UPDATED_UNSUCCESSFULLY"),
                     "Expect 0 files to be updated unsuccessfully");
-                assertEquals("0", result.getMetaData().get("TOTAL_FILES_UPLOADED_UNSUCCESSFULLY"),
+                assertEquals("0", result.toMetaData().get("TOTAL_FILES_UPLOADED_UNSUCCESSFULLY"),
                     "Expect 0 files to be uploaded unsuccessfully");
 
                 verify(fileSearch, times(1)).setFileNameRegexFilter(fileNameRegex);
+                verify(sftpService, times(1)).upload(eq(sftpClass), eq(files), eq(0L), eq(0L), any());
                 for (File file : files) {
                     fileUtilsMock.verify(() -> FileUtils.deleteFile(eq(file)), times(1));
                     verify(sftpService, times(1)).upload(sftpClass, file, 0, 0);
@@ -471,17 +480,17 @@ public class ContentStoreFileJobTest {
                 assertEquals("0 files failed to upload out of 3", result.getMessage(),
                     "0 files failed to upload out of 3");
 
-                assertEquals(8, result.getMetaData().size(),
+                assertEquals(8, result.toMetaData().size(),
                     "Expect 8 metadata entries");
-                assertEquals("3", result.getMetaData().get("TOTAL_FILES_TO_UPLOAD"),
+                assertEquals("3", result.toMetaData().get("TOTAL_FILES_TO_UPLOAD"),
                     "Expect 3 files to be uploaded");
-                assertEquals("3", result.getMetaData().get("TOTAL_FILES_UPLOADED_SUCCESS"),
+                assertEquals("3", result.toMetaData().get("TOTAL_FILES_UPLOADED_SUCCESS"),
                     "Expect 3 files to be uploaded successfully");
-                assertEquals("0", result.getMetaData().get("TOTAL_FILES_UPDATED_SUCCESS"),
+                assertEquals("0", result.toMetaData().get("TOTAL_FILES_UPDATED_SUCCESS"),
                     "Expect 0 files to be updated successfully");
-                assertEquals("3", result.getMetaData().get("TOTAL_FILES_UPDATED_UNSUCCESSFULLY"),
+                assertEquals("3", result.toMetaData().get("TOTAL_FILES_UPDATED_UNSUCCESSFULLY"),
                     "Expect 3 files to be updated unsuccessfully");
-                assertEquals("0", result.getMetaData().get("TOTAL_FILES_UPLOADED_UNSUCCESSFULLY"),
+                assertEquals("0", result.toMetaData().get("TOTAL_FILES_UPLOADED_UNSUCCESSFULLY"),
                     "Expect 0 files to be uploaded unsuccessfully");
 
                 for (File file : files) {
@@ -522,17 +531,17 @@ public class ContentStoreFileJobTest {
                 assertEquals("2 files failed to upload out of 2", result.getMessage(),
                     "2 files failed to upload out of 2");
 
-                assertEquals(7, result.getMetaData().size(),
+                assertEquals(7, result.toMetaData().size(),
                     "Expect 7 metadata entries");
-                assertEquals("2", result.getMetaData().get("TOTAL_FILES_TO_UPLOAD"),
+                assertEquals("2", result.toMetaData().get("TOTAL_FILES_TO_UPLOAD"),
                     "Expect 2 files to be uploaded");
-                assertEquals("0", result.getMetaData().get("TOTAL_FILES_UPLOADED_SUCCESS"),
+                assertEquals("0", result.toMetaData().get("TOTAL_FILES_UPLOADED_SUCCESS"),
                     "Expect 0 files to be uploaded successfully");
-                assertEquals("0", result.getMetaData().get("TOTAL_FILES_UPDATED_SUCCESS"),
+                assertEquals("0", result.toMetaData().get("TOTAL_FILES_UPDATED_SUCCESS"),
                     "Expect 0 files to be updated successfully");
-                assertEquals("2", result.getMetaData().get("TOTAL_FILES_UPDATED_UNSUCCESSFULLY"),
+                assertEquals("2", result.toMetaData().get("TOTAL_FILES_UPDATED_UNSUCCESSFULLY"),
                     "Expect 2 files to be updated unsuccessfully");
-                assertEquals("2", result.getMetaData().get("TOTAL_FILES_UPLOADED_UNSUCCESSFULLY"),
+                assertEquals("2", result.toMetaData().get("TOTAL_FILES_UPLOADED_UNSUCCESSFULLY"),
                     "Expect 2 files to be uploaded unsuccessfully");
 
                 for (File file : files) {
@@ -544,6 +553,60 @@ public class ContentStoreFileJobTest {
             }
         }
 
+        @Test
+        void positiveBatchedUpdates() throws IOException, SQLException {
+            try (MockedStatic<FileUtils> fileUtilsMock = Mockito.mockStatic(FileUtils.class);
+                 MockedStatic<FileSearch> fileSearchMock = Mockito.mockStatic(FileSearch.class)) {
+                getContentStoreFileJob();
+                ContentStoreFileJob contentStoreFileJob = new ContentStoreFileJobImpl(ftpDirectory, databaseConfig,
+                    fileType, procedureName, procedureArguments, fileNameRegex, sftpClass, 10, 60_000);
+                FileSearch fileSearch = mock(FileSearch.class);
+                fileSearchMock.when(() -> FileSearch.directory(ftpDirectory, true)).thenReturn(fileSearch);
+
+                File file1 = mock(File.class);
+                when(file1.getName()).thenReturn("sample1.txt");
+                File file2 = mock(File.class);
+                when(file2.getName()).thenReturn("sample2.txt");
+                File failedFile = mock(File.class);
+                when(failedFile.getName()).thenReturn("failed.txt");
+
+                when(fileSearch.search()).thenReturn(new HashSet<>(Set.of(file1, file2, failedFile)));
+                when(fileSearch.setFileNameRegexFilter(any())).thenReturn(fileSearch);
+                when(sftpService.upload(eq(sftpClass), any(File.class), anyLong(), anyLong()))
+                    .thenReturn(true);
+                when(sftpService.upload(eq(sftpClass), eq(failedFile), anyLong(), anyLong()))
+                    .thenReturn(false);
+
+                Job.Result result = contentStoreFileJob.uploadFiles();
+                assertEquals(Status.PARTIAL_SUCCESS, result.getStatus(), "Expect status to be PARTIAL_SUCCESS");
+                assertEquals("2", result.toMetaData().get("TOTAL_FILES_UPLOADED_SUCCESS"),
+                    "Expect 2 files to be uploaded successfully");
+                assertEquals("2", result.toMetaData().get("TOTAL_FILES_UPDATED_SUCCESS"),
+                    "Expect 2 files to be updated successfully");
+                assertEquals("1", result.toMetaData().get("TOTAL_FILES_UPLOADED_UNSUCCESSFULLY"),
+                    "Expect 1 file to be uploaded unsuccessfully");
+                assertEquals("failed.txt", result.toMetaData().get("FAILED_TO_UPLOAD_FILE_1"),
+                    "Expect failed.txt to be the failed file");
+
+                ArgumentCaptor<List<Object[]>> sentCaptor = ArgumentCaptor.forClass(List.class);
+                verify(databaseService, times(1))
+                    .executeBatchUpdate(eq(connection), eq(UPDATE_SQL_QUERY), sentCaptor.capture());
+                assertThat(sentCaptor.getValue().stream().map(arguments -> arguments[0]).toList(),
+                    containsInAnyOrder("sample1.txt", "sample2.txt"));
+                assertEquals(fileType, sentCaptor.getValue().get(0)[1], "Expect file type to be the second argument");
+
+                ArgumentCaptor<List<Object[]>> failedCaptor = ArgumentCaptor.forClass(List.class);
+                verify(databaseService, times(1))
+                    .executeBatchUpdate(eq(connection), eq(UPDATE_SQL_FAILED_QUERY), failedCaptor.capture());
+                assertEquals(1, failedCaptor.getValue().size(), "Expect 1 failed file update");
+                assertEquals("failed.txt", failedCaptor.getValue().get(0)[0], "Expect failed.txt to be flagged");
+
+                verify(databaseService, times(1)).execute(eq(databaseConfig), any());
+                verify(databaseService, never()).executeUpdate(any(), any(), any(Object[].class));
+                fileUtilsMock.verify(() -> FileUtils.deleteFile(any(File.class)), times(3));
+            }
+        }
+
         @Test
         void positiveNoFilesFound() throws IOException {
             try (MockedStatic<FileSearch> fileSearchMock = Mockito.mockStatic(FileSearch.class)) {
@@ -557,15 +620,15 @@ public class ContentStoreFileJobTest {
                 when(fileSearch.search()).thenReturn(Set.of());
 
                 Job.Result result = contentStoreFileJob.uploadFiles();
-                assertEquals(5, result.getMetaData().size(), "Expect 3 metadata entries");
-                assertEquals("0", result.getMetaData().get("TOTAL_FILES_TO_UPLOAD"), "Expect 0 files to be uploaded");
-                assertEquals("0", result.getMetaData().get("TOTAL_FILES_UPLOADED_SUCCESS"),
+                assertEquals(5, result.toMetaData().size(), "Expect 3 metadata entries");
+                assertEquals("0", result.toMetaData().get("TOTAL_FILES_TO_UPLOAD"), "Expect 0 files to be uploaded");
+                assertEquals("0", result.toMetaData().get("TOTAL_FILES_UPLOADED_SUCCESS"),
                     "Expect 0 files to be uploaded successfully");
-                assertEquals("0", result.getMetaData().get("TOTAL_FILES_UPLOADED_UNSUCCESSFULLY"),
+                assertEquals("0", result.toMetaData().get("TOTAL_FILES_UPLOADED_UNSUCCESSFULLY"),
                     "Expect 0 files to be uploaded unsuccessfully");
-                assertEquals("0", result.getMetaData().get("TOTAL_FILES_UPDATED_SUCCESS"),
+                assertEquals("0", result.toMetaData().get("TOTAL_FILES_UPDATED_SUCCESS"),
                     "Expect 0 files to be updated successfully");
-                assertEquals("0", result.getMetaData().get("TOTAL_FILES_UPDATED_UNSUCCESSFULLY"),
+                assertEquals("0", result.toMetaData().get("TOTAL_FILES_UPDATED_UNSUCCESSFULLY"),
                     "Expect 0 files to be updated unsuccessfully");
                 assertEquals(Status.SUCCESS, result.getStatus(), "Expect status to be SUCCESS");
                 assertEquals("No files found", result.getMessage(), "Expect no files found message");
@@ -598,20 +661,20 @@ public class ContentStoreFileJobTest {
 
 
                 Job.Result result = contentStoreFileJob.uploadFiles();
-                assertEquals(6, result.getMetaData().size(), "Expect 6 metadata entries");
-                assertEquals("test.txt", result.getMetaData().get("FAILED_TO_UPLOAD_FILE_1"),
+                assertEquals(6, result.toMetaData().size(), "Expect 6 metadata entries");
+                assertEquals("test.txt", result.toMetaData().get("FAILED_TO_UPLOAD_FILE_1"),
                     "Expect failed file name");
-                assertEquals("4", result.getMetaData().get("TOTAL_FILES_TO_UPLOAD"),
+                assertEquals("4", result.toMetaData().get("TOTAL_FILES_TO_UPLOAD"),
                     "Expect 4 files to be uploaded");
-                assertEquals("3", result.getMetaData().get("TOTAL_FILES_UPLOADED_SUCCESS"),
+                assertEquals("3", result.toMetaData().get("TOTAL_FILES_UPLOADED_SUCCESS"),
                     "Expect 3 files to be uploaded successfully");
 
-                assertEquals("3", result.getMetaData().get("TOTAL_FILES_UPDATED_SUCCESS"),
+                assertEquals("3", result.toMetaData().get("TOTAL_FILES_UPDATED_SUCCESS"),
                     "Expect 3 files to be updated successfully");
-                assertEquals("1", result.getMetaData().get("TOTAL_FILES_UPDATED_UNSUCCESSFULLY"),
+                assertEquals("1", result.toMetaData().get("TOTAL_FILES_UPDATED_UNSUCCESSFULLY"),
                     "Expect 1 file to be updated unsuccessfully");
 
-                assertEquals("1", result.getMetaData().get("TOTAL_FILES_UPLOADED_UNSUCCESSFULLY"),
+                assertEquals("1", result.toMetaData().get("TOTAL_FILES_UPLOADED_UNSUCCESSFULLY"),
                     "Expect 1 files to be uploaded unsuccessfully");
 
                 verify(fileSearch, times(1)).setFileNameRegexFilter(fileNameRegex);
@@ -654,15 +717,15 @@ public class ContentStoreFileJobTest {
                 when(sftpService.upload(sftpClass, files, 1, 1)).thenReturn(files);
 
                 Job.Result result = contentStoreFileJob.uploadFiles();
-                assertEquals(8, result.getMetaData().size(), "Expect 8 metadata entries");
-                assertEquals("3", result.getMetaData().get("TOTAL_FILES_TO_UPLOAD"), "Expect 3 files to be uploaded");
-                assertEquals("0", result.getMetaData().get("TOTAL_FILES_UPLOADED_SUCCESS"),
+                assertEquals(8, result.toMetaData().size(), "Expect 8 metadata entries");
+                assertEquals("3", result.toMetaData().get("TOTAL_FILES_TO_UPLOAD"), "Expect 3 files to be uploaded");
+                assertEquals("0", result.toMetaData().get("TOTAL_FILES_UPLOADED_SUCCESS"),
                     "Expect 0 files to be uploaded successfully");
-                assertEquals("3", result.getMetaData().get("TOTAL_FILES_UPLOADED_UNSUCCESSFULLY"),
+                assertEquals("3", result.toMetaData().get("TOTAL_FILES_UPLOADED_UNSUCCESSFULLY"),
                     "Expect 3 files to be uploaded unsuccessfully");
-                assertEquals("0", result.getMetaData().get("TOTAL_FILES_UPDATED_SUCCESS"),
+                assertEquals("0", result.toMetaData().get("TOTAL_FILES_UPDATED_SUCCESS"),
                     "Expect 0 files to be updated successfully");
-                assertEquals("3", result.getMetaData().get("TOTAL_FILES_UPDATED_UNSUCCESSFULLY"),
+                assertEquals("3", result.toMetaData().get("TOTAL_FILES_UPDATED_UNSUCCESSFULLY"),
                     "Expect 3 files to be updated unsuccessfully");
 
                 verify(fileSearch, times(1)).setFileNameRegexFilter(fileNameRegex);
@@ -677,9 +740,9 @@ public class ContentStoreFileJobTest {
 
                 assertThat(result.getMessage(), startsWith("3 files failed to upload out of 3"));
                 List<String> failedFilesSorted = Stream.of(
-                    result.getMetaData().get("FAILED_TO_UPLOAD_FILE_1"),
-                    result.getMetaData().get("FAILED_TO_UPLOAD_FILE_2"),
-                    result.getMetaData().get("FAILED_TO_UPLOAD_FILE_3")).sorted().toList();
+                    result.toMetaData().get("FAILED_TO_UPLOAD_FILE_1"),
+                    result.toMetaData().get("FAILED_TO_UPLOAD_FILE_2"),
+                    result.toMetaData().get("FAILED_TO_UPLOAD_FILE_3")).sorted().toList();
 
                 assertEquals("Test1.txt", failedFilesSorted.get(0), "Expect Test1.txt to be the first failed file");
                 assertEquals("Test2.txt", failedFilesSorted.get(1), "Expect Test2.txt to be the second failed file");
@@ -688,14 +751,310 @@ public class ContentStoreFileJobTest {
         }
     }
 
+    @DisplayName("protected Result generateAndUploadFiles(MetaData)")
+    @Nested
+    class GenerateAndUploadFiles {
+        private static final String SELECT_SQL_QUERY = "SELECT CS.REQUEST_ID, CS.DOCUMENT_ID, CS.DATA, "
+            + "CS.FAILED_FILE_TRANSFER "
+            + "FROM CONTENT_STORE CS "
+            + "WHERE CS.FILE_TYPE=? "
+            + "AND CS.DATE_SENT is NULL";
+
+        private static final String UPDATE_SQL_QUERY = "UPDATE CONTENT_STORE "
+            + "SET DATE_SENT=now(), FAILED_FILE_TRANSFER=false "
+            + "WHERE DOCUMENT_ID=? AND FILE_TYPE=? AND DATE_SENT is NULL";
+
+        private TestUploadPipeline uploadPipeline;
+
+        private ContentStoreFileJob getPipelinedContentStoreFileJob() throws IOException {
+            return getPipelinedContentStoreFileJob(5);
+        }
+
+        private ContentStoreFileJob getPipelinedContentStoreFileJob(int pipelineQueueCapacity) throws IOException {
+            getContentStoreFileJob();
+            uploadPipeline = new TestUploadPipeline();
+            when(sftpService.openPipeline(any(), anyLong(), anyLong(), anyInt())).thenReturn(uploadPipeline);
+            return spy(new ContentStoreFileJobImpl(ftpDirectory, databaseConfig, fileType, procedureName,
+                procedureArguments, fileNameRegex, sftpClass, 0, 0, pipelineQueueCapacity));
+        }
+
+        private void mockContentStoreQuery(String... documentIds) {
+            doAnswer(invocation -> {
+                Consumer<ContentStore> rowConsumer = invocation.getArgument(3);
+                uploadPipeline.streaming = true;
+                for (String documentId : documentIds) {
+                    rowConsumer.accept(new ContentStore().setDocumentId(documentId)
+                        .setData(documentId));
+                }
+                uploadPipeline.streaming = false;
+                return (long) documentIds.length;
+            }).when(databaseService).executeStreamingPreparedStatement(eq(connection), eq(ContentStore.class), any(),
+                any(), eq(SELECT_SQL_QUERY), eq(fileType));
+        }
+
+        private void mockFileSearch(MockedStatic<FileSearch> fileSearchMock, Set<File> leftoverFiles) {
+            FileSearch fileSearch = mock(FileSearch.class);
+            fileSearchMock.when(() -> FileSearch.directory(ftpDirectory, true)).thenReturn(fileSearch);
+            when(fileSearch.setFileNameRegexFilter(any())).thenReturn(fileSearch);
+            when(fileSearch.search()).thenReturn(leftoverFiles);
+        }
+
+        @Test
+        void positiveTypical() throws IOException, SQLException {
+            try (MockedStatic<FileUtils> fileUtilsMock = Mockito.mockStatic(FileUtils.class);
+                 MockedStatic<FileSearch> fileSearchMock = Mockito.mockStatic(FileSearch.class)) {
+                ContentStoreFileJob contentStoreFileJob = getPipelinedContentStoreFileJob();
+                fileUtilsMock.when(() -> FileUtils.createFile(any()))
+                    .thenAnswer(invocation -> new File((String) invocation.getArgument(0)));
+                File leftoverFile = new File(ftpDirectory, "DocId 0");
+                mockFileSearch(fileSearchMock, Set.of(leftoverFile));
+                mockContentStoreQuery("DocId 0", "DocId 1", "DocId 2");
+
+                Job.Result result = contentStoreFileJob.generateAndUploadFiles(new MetaData(VALID_JOB_KEY,
+                    VALID_TASK_ID_LONG, REQUEST_PARAMS));
+
+                assertEquals(Status.SUCCESS, result.getStatus(), "Expect status to be SUCCESS");
+                assertEquals("Successfully uploaded 3 files", result.getMessage(), "Expect success message");
+                assertEquals(8, result.toMetaData().size(), "Expect 8 metadata entries");
+                assertEquals("3", result.toMetaData().get("TOTAL_FILES_TO_GENERATED"),
+                    "Leftover files with a pending row should be generated again");
+                assertEquals("3", result.toMetaData().get("TOTAL_FILES_GENERATED_SUCCESS"),
+                    "Expect 3 files to be generated successfully");
+                assertEquals("3", result.toMetaData().get("TOTAL_FILES_TO_UPLOAD"),
+                    "Expect leftover and generated files to be uploaded");
+                assertEquals("3", result.toMetaData().get("TOTAL_FILES_UPLOADED_SUCCESS"),
+                    "Expect 3 files to be uploaded successfully");
+                assertEquals("3", result.toMetaData().get("TOTAL_FILES_UPDATED_SUCCESS"),
+                    "Expect 3 files to be updated successfully");
+
+                fileUtilsMock.verify(() -> FileUtils.writeToFile(leftoverFile, "DocId 0"), times(1));
+                assertEquals(List.of("DocId 0", "DocId 1", "DocId 2"),
+                    uploadPipeline.submitted.stream().map(File::getName).toList(), "Expect all files submitted");
+                assertTrue(uploadPipeline.closed, "Pipeline should be closed");
+                verify(sftpService, times(1)).openPipeline(sftpClass, 0, 0, 5);
+                for (String documentId : List.of("DocId 0", "DocId 1", "DocId 2")) {
+                    verify(databaseService, times(1))
+                        .executeUpdate(connection, UPDATE_SQL_QUERY, documentId, fileType);
+                }
+                fileUtilsMock.verify(() -> FileUtils.deleteFile(any()), times(3));
+                fileSearchMock.verify(() -> FileSearch.directory(ftpDirectory, true), times(1));
+            }
+        }
+
+        @Test
+        void positiveUploadsNotWaitedOnWhileStreaming() throws IOException, SQLException {
+            try (MockedStatic<FileUtils> fileUtilsMock = Mockito.mockStatic(FileUtils.class);
+                 MockedStatic<FileSearch> fileSearchMock = Mockito.mockStatic(FileSearch.class)) {
+                ContentStoreFileJob contentStoreFileJob = getPipelinedContentStoreFileJob();
+                uploadPipeline.capacity = 1;
+                fileUtilsMock.when(() -> FileUtils.createFile(any()))
+                    .thenAnswer(invocation -> new File((String) invocation.getArgument(0)));
+                mockFileSearch(fileSearchMock, Set.of());
+                mockContentStoreQuery("DocId 1", "DocId 2", "DocId 3");
+
+                Job.Result result = contentStoreFileJob.generateAndUploadFiles(new MetaData(VALID_JOB_KEY,
+                    VALID_TASK_ID_LONG, REQUEST_PARAMS));
+
+                assertEquals(Status.SUCCESS, result.getStatus(), "Expect status to be SUCCESS");
+                assertFalse(uploadPipeline.waitedWhileStreaming,
+                    "Uploads should not be waited on or drained while the cursor is open");
+                assertEquals(List.of("DocId 1", "DocId 2", "DocId 3"),
+                    uploadPipeline.submitted.stream().map(File::getName).toList(),
+                    "Files without room in the pipeline should be submitted after the cursor is closed");
+                for (String documentId : List.of("DocId 1", "DocId 2", "DocId 3")) {
+                    verify(databaseService, times(1))
+                        .executeUpdate(connection, UPDATE_SQL_QUERY, documentId, fileType);
+                }
+            }
+        }
+
+        @Test
+        void positiveLeftoverFilesRegeneratedWhenOnlyRunningFailed() throws IOException {
+            try (MockedStatic<FileUtils> fileUtilsMock = Mockito.mockStatic(FileUtils.class);
+                 MockedStatic<FileSearch> fileSearchMock = Mockito.mockStatic(FileSearch.class)) {
+                ContentStoreFileJob contentStoreFileJob = getPipelinedContentStoreFileJob();
+                fileUtilsMock.when(() -> FileUtils.createFile(any()))
+                    .thenAnswer(invocation -> new File((String) invocation.getArgument(0)));
+                File pendingLeftoverFile = new File(ftpDirectory, "DocId 1");
+                File sentLeftoverFile = new File(ftpDirectory, "DocId 9");
+                mockFileSearch(fileSearchMock, Set.of(pendingLeftoverFile, sentLeftoverFile));
+                mockContentStoreQuery("DocId 1", "DocId 2");
+
+                Job.Result result = contentStoreFileJob.generateAndUploadFiles(new MetaData(VALID_JOB_KEY,
+                    VALID_TASK_ID_LONG, Map.of("jobKey", VALID_JOB_KEY, "taskId", VALID_TASK_ID,
+                    "onlyRunFailed", "true")));
+
+                assertEquals(Status.SUCCESS, result.getStatus(), "Expect status to be SUCCESS");
+                assertEquals("1", result.toMetaData().get("TOTAL_FILES_TO_GENERATED"),
+                    "Only the leftover file with a pending row should be generated");
+                fileUtilsMock.verify(() -> FileUtils.writeToFile(pendingLeftoverFile, "DocId 1"), times(1));
+                fileUtilsMock.verify(() -> FileUtils.writeToFile(eq(sentLeftoverFile), any()), never());
+                assertEquals(List.of("DocId 1", "DocId 9"),
+                    uploadPipeline.submitted.stream().map(File::getName).toList(),
+                    "Leftover files without a pending row should be uploaded as they are after generation");
+                assertEquals("2", result.toMetaData().get("TOTAL_FILES_TO_UPLOAD"), "Expect 2 files to upload");
+            }
+        }
+
+        @Test
+        void negativeLeftoverFileNotUploadedWhenRegenerationFails() throws IOException {
+            try (MockedStatic<FileUtils> fileUtilsMock = Mockito.mockStatic(FileUtils.class);
+                 MockedStatic<FileSearch> fileSearchMock = Mockito.mockStatic(FileSearch.class)) {
+                ContentStoreFileJob contentStoreFileJob = getPipelinedContentStoreFileJob();
+                fileUtilsMock.when(() -> FileUtils.createFile(any()))
+                    .thenAnswer(invocation -> new File((String) invocation.getArgument(0)));
+                File leftoverFile = new File(ftpDirectory, "DocId 1");
+                fileUtilsMock.when(() -> FileUtils.writeToFile(leftoverFile, "DocId 1"))
+                    .thenThrow(new IOException("Disk full"));
+                mockFileSearch(fileSearchMock, Set.of(leftoverFile));
+                mockContentStoreQuery("DocId 1", "DocId 2");
+
+                Job.Result result = contentStoreFileJob.generateAndUploadFiles(new MetaData(VALID_JOB_KEY,
+                    VALID_TASK_ID_LONG, REQUEST_PARAMS));
+
+                assertEquals(List.of("DocId 2"), uploadPipeline.submitted.stream().map(File::getName).toList(),
+                    "A leftover file that could not be written again should not be uploaded");
+                assertEquals("1", result.toMetaData().get("TOTAL_FILES_TO_UPLOAD"), "Expect 1 file to upload");
+                assertEquals("1", result.toMetaData().get("TOTAL_FILES_GENERATED_UNSUCCESSFULLY"),
+                    "Expect 1 file to fail to generate");
+            }
+        }
+
+        @Test
+        void positiveWaitingFilesBoundedByPipelineCapacity() throws IOException, SQLException {
+            try (MockedStatic<FileUtils> fileUtilsMock = Mockito.mockStatic(FileUtils.class);
+                 MockedStatic<FileSearch> fileSearchMock = Mockito.mockStatic(FileSearch.class)) {
+                ContentStoreFileJob contentStoreFileJob = getPipelinedContentStoreFileJob(1);
+                uploadPipeline.capacity = 1;
+                fileUtilsMock.when(() -> FileUtils.createFile(any()))
+                    .thenAnswer(invocation -> new File((String) invocation.getArgument(0)));
+                mockFileSearch(fileSearchMock, Set.of());
+                mockContentStoreQuery("DocId 1", "DocId 2", "DocId 3");
+
+                Job.Result result = contentStoreFileJob.generateAndUploadFiles(new MetaData(VALID_JOB_KEY,
+                    VALID_TASK_ID_LONG, REQUEST_PARAMS));
+
+                assertEquals(Status.SUCCESS, result.getStatus(), "Expect status to be SUCCESS");
+                assertTrue(uploadPipeline.waitedWhileStreaming,
+                    "The cursor should wait for room once as many files are waiting as the pipeline holds");
+                assertEquals(List.of("DocId 1", "DocId 2", "DocId 3"),
+                    uploadPipeline.submitted.stream().map(File::getName).toList(),
+                    "Expect files to be submitted in the order they were generated");
+                for (String documentId : List.of("DocId 1", "DocId 2", "DocId 3")) {
+                    verify(databaseService, times(1))
+                        .executeUpdate(connection, UPDATE_SQL_QUERY, documentId, fileType);
+                }
+            }
+        }
+
+        @Test
+        void negativeSomeFilesFailedToUpload() throws IOException {
+            try (MockedStatic<FileUtils> fileUtilsMock = Mockito.mockStatic(FileUtils.class);
+                 MockedStatic<FileSearch> fileSearchMock = Mockito.mockStatic(FileSearch.class)) {
+                ContentStoreFileJob contentStoreFileJob = getPipelinedContentStoreFileJob();
+                fileUtilsMock.when(() -> FileUtils.createFile(any()))
+                    .thenAnswer(invocation -> new File((String) invocation.getArgument(0)));
+                mockFileSearch(fileSearchMock, Set.of());
+                mockContentStoreQuery("DocId 1", "FAIL 2");
+
+                Job.Result result = contentStoreFileJob.generateAndUploadFiles(new MetaData(VALID_JOB_KEY,
+                    VALID_TASK_ID_LONG, REQUEST_PARAMS));
+
+                assertEquals(Status.PARTIAL_SUCCESS, result.getStatus(), "Expect status to be PARTIAL_SUCCESS");
+                assertEquals("1 files failed to upload out of 2", result.getMessage(), "Expect failure message");
+                assertEquals("2", result.toMetaData().get("TOTAL_FILES_TO_UPLOAD"), "Expect 2 files to upload");
+                assertEquals("1", result.toMetaData().get("TOTAL_FILES_UPLOADED_UNSUCCESSFULLY"),
+                    "Expect 1 file to fail to upload");
+                assertEquals("FAIL 2", result.toMetaData().get("FAILED_TO_UPLOAD_FILE_1"),
+                    "Expect FAIL 2 to fail to upload");
+            }
+        }
+
+        @Test
+        void positiveResultSupplierIsPipelined() throws IOException {
+            ContentStoreFileJob contentStoreFileJob = getPipelinedContentStoreFileJob();
+            assertEquals(1, contentStoreFileJob.getResultSupplier().getResultRunners().size(),
+                "Expect a single pipelined step");
+            ContentStoreFileJob notPipelined = new ContentStoreFileJobImpl(ftpDirectory, databaseConfig, fileType,
+                procedureName, procedureArguments, fileNameRegex, sftpClass);
+            assertEquals(2, notPipelined.getResultSupplier().getResultRunners().size(),
+                "Expect separate generate and upload steps when not pipelined");
+        }
+
+        //Uploads each file as soon as it is submitted, files starting with FAIL fail to upload
+        private class TestUploadPipeline implements SftpService.UploadPipeline {
+            private final List<File> submitted = new ArrayList<>();
+            private final List<SftpService.UploadResult> results = new ArrayList<>();
+            private int capacity = Integer.MAX_VALUE;
+            private boolean streaming;
+            private boolean waitedWhileStreaming;
+            private boolean closed;
+
+            @Override
+            public void submit(File file) {
+                waitedWhileStreaming |= streaming;
+                submitted.add(file);
+                results.add(new SftpService.UploadResult(file, !file.getName().startsWith("FAIL")));
+            }
+
+            @Override
+            public boolean trySubmit(File file) {
+                if (submitted.size() >= capacity) {
+                    return false;
+                }
+                submitted.add(file);
+                results.add(new SftpService.UploadResult(file, !file.getName().startsWith("FAIL")));
+                return true;
+            }
+
+            @Override
+            public void drainResults(Consumer<SftpService.UploadResult> resultConsumer) {
+                waitedWhileStreaming |= streaming;
+                results.forEach(resultConsumer);
+                results.clear();
+            }
+
+            @Override
+            public void complete(Consumer<SftpService.UploadResult> resultConsumer) {
+                drainResults(resultConsumer);
+            }
+
+            @Override
+            public void close() {
+                closed = true;
+            }
+        }
+    }
+
     protected class ContentStoreFileJobImpl extends ContentStoreFileJob {
 
         protected ContentStoreFileJobImpl(File ftpDirectory,
                                           DatabaseConfig databaseConfig, String fileType, String procedureName,
                                           Object[] procedureArguments, String fileNameRegex,
                                           Class<? extends Sftp> sftpClass) {
+            this(ftpDirectory, databaseConfig, fileType, procedureName, procedureArguments, fileNameRegex,
+                sftpClass, 0, 0);
+        }
+
+        @SuppressWarnings("PMD.ExcessiveParameterList")
+        protected ContentStoreFileJobImpl(File ftpDirectory,
+                                          DatabaseConfig databaseConfig, String fileType, String procedureName,
+                                          Object[] procedureArguments, String fileNameRegex,
+                                          Class<? extends Sftp> sftpClass, int updateBatchSize,
+                                          long updateBatchInterval) {
+            this(ftpDirectory, databaseConfig, fileType, procedureName, procedureArguments, fileNameRegex,
+                sftpClass, updateBatchSize, updateBatchInterval, 0);
+        }
+
+        @SuppressWarnings("PMD.ExcessiveParameterList")
+        protected ContentStoreFileJobImpl(File ftpDirectory,
+                                          DatabaseConfig databaseConfig, String fileType, String procedureName,
+                                          Object[] procedureArguments, String fileNameRegex,
+                                          Class<? extends Sftp> sftpClass, int updateBatchSize,
+                                          long updateBatchInterval, int pipelineQueueCapacity) {
             super(sftpService, databaseService, ftpDirectory, databaseConfig, fileType, procedureName,
-                procedureArguments, fileNameRegex, sftpClass, 0, 0);
+                procedureArguments, fileNameRegex, sftpClass, 0, 0, updateBatchSize, updateBatchInterval,
+                pipelineQueueCapacity);
         }
     }
 }
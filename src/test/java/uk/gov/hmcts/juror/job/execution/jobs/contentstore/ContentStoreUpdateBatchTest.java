@@ -0,0 +1,204 @@
+package uk.gov.hmcts.juror.job.execution.jobs.contentstore;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import uk.gov.hmcts.juror.job.execution.config.DatabaseConfig;
+import uk.gov.hmcts.juror.job.execution.jobs.ResultMetrics;
+import uk.gov.hmcts.juror.job.execution.service.contracts.DatabaseService;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@SuppressWarnings("unchecked")
+@DisplayName("ContentStoreUpdateBatch")
+class ContentStoreUpdateBatchTest {
+    private static final String FILE_TYPE = "PRINT";
+
+    private DatabaseService databaseService;
+    private DatabaseConfig databaseConfig;
+    private Connection connection;
+    private Clock clock;
+    private AtomicInteger successUpdateCount;
+    private AtomicInteger failedUpdateCount;
+    private ResultMetrics metrics;
+    private ScheduledExecutorService flushTimer;
+
+    @TempDir
+    Path directory;
+
+    @BeforeEach
+    void beforeEach() {
+        databaseService = mock(DatabaseService.class);
+        databaseConfig = new DatabaseConfig();
+        connection = mock(Connection.class);
+        clock = mock(Clock.class);
+        when(clock.millis()).thenReturn(0L);
+        successUpdateCount = new AtomicInteger(0);
+        failedUpdateCount = new AtomicInteger(0);
+        metrics = new ResultMetrics();
+        flushTimer = mock(ScheduledExecutorService.class);
+        doAnswer(invocation -> {
+            ((Consumer<Connection>) invocation.getArgument(1)).accept(connection);
+            return null;
+        }).when(databaseService).execute(any(), any());
+    }
+
+    private ContentStoreUpdateBatch createBatch(int batchSize, long flushInterval) {
+        return new ContentStoreUpdateBatch(databaseService, databaseConfig, FILE_TYPE, batchSize, flushInterval,
+            clock, successUpdateCount, failedUpdateCount, metrics, flushTimer);
+    }
+
+    private File createFile(String documentId) throws IOException {
+        return Files.createFile(directory.resolve(documentId)).toFile();
+    }
+
+    @Test
+    void positiveFlushesWhenBatchSizeReached() throws SQLException, IOException {
+        ContentStoreUpdateBatch batch = createBatch(3, 60_000);
+        batch.addSent(createFile("doc1"));
+        batch.addFailed(createFile("doc2"));
+        verifyNoInteractions(databaseService);
+
+        batch.addSent(createFile("doc3"));
+
+        ArgumentCaptor<List<Object[]>> sentCaptor = ArgumentCaptor.forClass(List.class);
+        verify(databaseService, times(1)).executeBatchUpdate(eq(connection),
+            eq(ContentStoreFileJob.UPDATE_SQL_QUERY), sentCaptor.capture());
+        assertEquals(2, sentCaptor.getValue().size(), "Expect 2 sent updates");
+        assertEquals("doc1", sentCaptor.getValue().get(0)[0], "Expect document id to be the first argument");
+        assertEquals(FILE_TYPE, sentCaptor.getValue().get(0)[1], "Expect file type to be the second argument");
+        assertEquals("doc3", sentCaptor.getValue().get(1)[0], "Expect document id to be the first argument");
+
+        ArgumentCaptor<List<Object[]>> failedCaptor = ArgumentCaptor.forClass(List.class);
+        verify(databaseService, times(1)).executeBatchUpdate(eq(connection),
+            eq(ContentStoreFileJob.UPDATE_SQL_FAILED_QUERY), failedCaptor.capture());
+        assertEquals("doc2", failedCaptor.getValue().get(0)[0], "Expect failed document id");
+
+        verify(databaseService, times(1)).execute(eq(databaseConfig), any());
+        assertEquals(0, batch.size(), "Batch should be empty after flush");
+        assertEquals(2, successUpdateCount.get(), "Expect 2 successful updates");
+    }
+
+    @Test
+    void positiveFlushesWhenIntervalPassed() throws SQLException, IOException {
+        ContentStoreUpdateBatch batch = createBatch(100, 1000);
+        batch.addSent(createFile("doc1"));
+        verifyNoInteractions(databaseService);
+
+        when(clock.millis()).thenReturn(1000L);
+        batch.addSent(createFile("doc2"));
+
+        verify(databaseService, times(1)).executeBatchUpdate(eq(connection),
+            eq(ContentStoreFileJob.UPDATE_SQL_QUERY), anyList());
+        verify(databaseService, never()).executeBatchUpdate(eq(connection),
+            eq(ContentStoreFileJob.UPDATE_SQL_FAILED_QUERY), anyList());
+        assertEquals(2, successUpdateCount.get(), "Expect 2 successful updates");
+    }
+
+    @Test
+    void positiveTimerFlushesWhenIntervalPassed() throws SQLException, IOException {
+        ContentStoreUpdateBatch batch = createBatch(100, 1000);
+        ArgumentCaptor<Runnable> timerCaptor = ArgumentCaptor.forClass(Runnable.class);
+        verify(flushTimer, times(1)).scheduleWithFixedDelay(timerCaptor.capture(), eq(1000L), eq(1000L),
+            eq(TimeUnit.MILLISECONDS));
+        batch.addSent(createFile("doc1"));
+
+        timerCaptor.getValue().run();
+        verifyNoInteractions(databaseService);
+
+        when(clock.millis()).thenReturn(1000L);
+        timerCaptor.getValue().run();
+        verify(databaseService, times(1)).executeBatchUpdate(eq(connection),
+            eq(ContentStoreFileJob.UPDATE_SQL_QUERY), anyList());
+        assertEquals(1, successUpdateCount.get(), "Expect held update to be flushed by the timer");
+    }
+
+    @Test
+    void positiveFilesDeletedOnceFlushed() throws IOException {
+        ContentStoreUpdateBatch batch = createBatch(10, 60_000);
+        File sent = createFile("doc1");
+        File failed = createFile("doc2");
+        batch.addSent(sent);
+        batch.addFailed(failed);
+        assertTrue(sent.exists() && failed.exists(), "Files should be kept until their update is flushed");
+
+        batch.flush();
+        assertFalse(sent.exists(), "Sent file should be deleted once flushed");
+        assertFalse(failed.exists(), "Failed file should be deleted once flushed");
+    }
+
+    @Test
+    void positiveCloseStopsTimerAndFlushes() throws SQLException, IOException {
+        ContentStoreUpdateBatch batch = createBatch(10, 60_000);
+        batch.addSent(createFile("doc1"));
+        batch.close();
+
+        verify(flushTimer, times(1)).shutdown();
+        verify(databaseService, times(1)).executeBatchUpdate(eq(connection),
+            eq(ContentStoreFileJob.UPDATE_SQL_QUERY), anyList());
+        assertEquals(0, batch.size(), "Batch should be empty after close");
+    }
+
+    @Test
+    void positiveFlushEmptyBatch() {
+        createBatch(10, 1000).flush();
+        verifyNoInteractions(databaseService);
+    }
+
+    @Test
+    void negativeSentUpdateFails() throws SQLException, IOException {
+        when(databaseService.executeBatchUpdate(eq(connection), eq(ContentStoreFileJob.UPDATE_SQL_QUERY), anyList()))
+            .thenThrow(new SQLException("I am the cause"));
+        ContentStoreUpdateBatch batch = createBatch(10, 60_000);
+        batch.addSent(createFile("doc1"));
+        batch.addSent(createFile("doc2"));
+        batch.addFailed(createFile("doc3"));
+        batch.flush();
+
+        assertEquals(0, successUpdateCount.get(), "Expect 0 successful updates");
+        assertEquals(2, failedUpdateCount.get(), "Expect 2 failed updates");
+        assertEquals("doc1", metrics.toMetaData().get("FAILED_TO_UPDATE_FILE_1"), "Expect doc1 to fail to update");
+        assertEquals("doc2", metrics.toMetaData().get("FAILED_TO_UPDATE_FILE_2"), "Expect doc2 to fail to update");
+        verify(databaseService, times(1)).executeBatchUpdate(eq(connection),
+            eq(ContentStoreFileJob.UPDATE_SQL_FAILED_QUERY), anyList());
+    }
+
+    @Test
+    void negativeFailedUpdateFails() throws SQLException, IOException {
+        when(databaseService.executeBatchUpdate(eq(connection), eq(ContentStoreFileJob.UPDATE_SQL_FAILED_QUERY),
+            anyList())).thenThrow(new SQLException("I am the cause"));
+        ContentStoreUpdateBatch batch = createBatch(10, 60_000);
+        batch.addFailed(createFile("doc1"));
+        batch.flush();
+
+        assertEquals(0, failedUpdateCount.get(), "Failed flag errors should not count as failed updates");
+        assertTrue(metrics.isEmpty(), "Expect no metrics");
+    }
+}
@@ -2,9 +2,13 @@ package uk.gov.hmcts.juror.job.execution.jobs.housekeeping.jurordigital;
 
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.RandomUtils;
+import org.junit.jupiter.api.Test;
 import uk.gov.hmcts.juror.job.execution.service.contracts.DatabaseService;
 import uk.gov.hmcts.juror.job.execution.testsupport.AbstractStoredProcedureJobTest;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
 @Slf4j
 class JurorDigitalHouseKeepingJobTest
     extends AbstractStoredProcedureJobTest<JurorDigitalHouseKeepingJob, JurorDigitalHouseKeepingConfig> {
@@ -33,4 +37,12 @@ class JurorDigitalHouseKeepingJobTest
     protected Object[] getProcedureArguments(JurorDigitalHouseKeepingConfig config) {
         return new Object[]{config.getMaxTimeout()};
     }
+
+    @Test
+    void positiveTimeoutIsMaxTimeout() {
+        JurorDigitalHouseKeepingConfig config = createConfig();
+        config.setMaxTimeout(600);
+        JurorDigitalHouseKeepingJob job = createStoredProcedureJob(mock(DatabaseService.class), config);
+        assertEquals(600_000, job.getTimeout(), "Max timeout should be the job's time budget");
+    }
 }
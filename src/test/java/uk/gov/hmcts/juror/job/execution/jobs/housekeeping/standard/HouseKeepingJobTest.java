@@ -2,9 +2,13 @@ package uk.gov.hmcts.juror.job.execution.jobs.housekeeping.standard;
 
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.RandomUtils;
+import org.junit.jupiter.api.Test;
 import uk.gov.hmcts.juror.job.execution.service.contracts.DatabaseService;
 import uk.gov.hmcts.juror.job.execution.testsupport.AbstractStoredProcedureJobTest;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
 @Slf4j
 class HouseKeepingJobTest
     extends AbstractStoredProcedureJobTest<HouseKeepingJob, HouseKeepingConfig> {
@@ -34,4 +38,12 @@ class HouseKeepingJobTest
     protected Object[] getProcedureArguments(HouseKeepingConfig config) {
         return new Object[]{config.getMaxTimeout(), config.getOwnerRestrict()};
     }
+
+    @Test
+    void positiveTimeoutIsMaxTimeout() {
+        HouseKeepingConfig config = createConfig();
+        config.setMaxTimeout(600);
+        HouseKeepingJob job = createStoredProcedureJob(mock(DatabaseService.class), config);
+        assertEquals(600_000, job.getTimeout(), "Max timeout should be the job's time budget");
+    }
 }
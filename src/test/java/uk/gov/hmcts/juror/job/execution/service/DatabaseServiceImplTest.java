@@ -1,38 +1,53 @@
 package uk.gov.hmcts.juror.job.execution.service;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import uk.gov.hmcts.juror.job.execution.config.DatabaseConfig;
+import uk.gov.hmcts.juror.job.execution.database.ConnectionPoolManager;
 import uk.gov.hmcts.juror.job.execution.database.DatabaseFieldConvertor;
+import uk.gov.hmcts.juror.job.execution.database.DatabaseMetrics;
+import uk.gov.hmcts.juror.job.execution.database.RowMapper;
 import uk.gov.hmcts.juror.job.execution.database.model.Count;
+import uk.gov.hmcts.juror.job.execution.jobs.JobExecution;
+import uk.gov.hmcts.juror.job.execution.jobs.JobMetrics;
 import uk.gov.hmcts.juror.standard.service.exceptions.InternalServerException;
 
 import java.sql.CallableStatement;
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Types;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hibernate.validator.internal.util.Contracts.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
-import static org.junit.jupiter.api.Assertions.fail;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
@@ -40,7 +55,7 @@ import static org.mockito.Mockito.when;
 class DatabaseServiceImplTest {
 
     private DatabaseServiceImpl databaseService;
-    private MockedStatic<DriverManager> driverManagerMockedStatic;
+    private ConnectionPoolManager connectionPoolManager;
     private Connection connection;
 
     private DatabaseConfig config;
@@ -55,7 +70,8 @@ class DatabaseServiceImplTest {
         defaultDatabaseConfig.setUrl("defaultDatabaseUrl");
         defaultDatabaseConfig.setSchema("defaultDatabaseSchema");
 
-        databaseService = new DatabaseServiceImpl(defaultDatabaseConfig);
+        connectionPoolManager = mock(ConnectionPoolManager.class);
+        databaseService = new DatabaseServiceImpl(defaultDatabaseConfig, connectionPoolManager);
 
         config = new DatabaseConfig();
         config.setUsername("databaseUsername");
@@ -64,24 +80,13 @@ class DatabaseServiceImplTest {
         config.setSchema("databaseSchema");
     }
 
-    @AfterEach
-    void afterEach() {
-        if (driverManagerMockedStatic != null) {
-            driverManagerMockedStatic.close();
-        }
-    }
-
 
     @Nested
     @DisplayName("public void execute(DatabaseConfig config, Consumer<Connection> connectionConsumer)")
     class Execute {
         @BeforeEach
-        void beforeEach() {
-            driverManagerMockedStatic = Mockito.mockStatic(DriverManager.class);
-            driverManagerMockedStatic.when(() -> DriverManager.getConnection(config.getUrl(), config.getUsername(),
-                    config.getPassword()
-                ))
-                .thenReturn(connection);
+        void beforeEach() throws SQLException {
+            when(connectionPoolManager.getConnection(config)).thenReturn(connection);
         }
 
         @Test
@@ -92,17 +97,21 @@ class DatabaseServiceImplTest {
                     "Connection should be the same");
                 hasRun.set(true);
             });
-            verify(connection, times(1))
-                .setSchema(config.getSchema());
-            driverManagerMockedStatic.verify(() -> DriverManager.getConnection(config.getUrl(), config.getUsername(),
-                config.getPassword()
-            ), times(1));
+            verify(connectionPoolManager, times(1)).getConnection(config);
             assertTrue(hasRun.get(), "Consumer should have run");
-            verify(connection, times(1)).setSchema(config.getSchema());
             verify(connection, times(1)).close();
             verifyNoMoreInteractions(connection);
         }
 
+        @Test
+        void positiveExecutionTestUsesEffectiveConfig() throws SQLException {
+            when(connectionPoolManager.getConnection(defaultDatabaseConfig)).thenReturn(connection);
+            databaseService.execute(null, providedConnection -> assertSame(connection, providedConnection,
+                "Connection should be the same"));
+            verify(connectionPoolManager, times(1)).getConnection(defaultDatabaseConfig);
+            verify(connection, times(1)).close();
+        }
+
         @Test
         void negativeExecutionTestUnexpectedException() {
             RuntimeException cause = new RuntimeException("I am the cause");
@@ -116,29 +125,12 @@ class DatabaseServiceImplTest {
             assertEquals(cause, internalServerException.getCause(), "Cause should be the same");
         }
 
-        @Test
-        void negativeExecutionTestUnexpectedExceptionBeforeConnection() {
-            driverManagerMockedStatic.when(() -> DriverManager.getConnection(config.getUrl(), config.getUsername(),
-                    config.getPassword()
-                ))
-                .thenReturn(null);
-            InternalServerException internalServerException = assertThrows(InternalServerException.class, () -> {
-                databaseService.execute(config, connection -> {
-                    fail("should not get here");
-                });
-            }, "Should throw InternalServerException");
-            assertEquals("Failed to execute connection sql consumer",
-                internalServerException.getMessage(), "Message should be the same");
-            assertEquals(NullPointerException.class, internalServerException.getCause().getClass(),
-                "Cause should be the same");
-        }
-
         @Test
         void negativeExecutionTestUnexpectedConnectionException() throws SQLException {
-            RuntimeException cause = new RuntimeException("I am the cause");
+            SQLException cause = new SQLException("I am the cause");
             AtomicBoolean hasRun = new AtomicBoolean(false);
 
-            doThrow(cause).when(connection).setSchema(config.getSchema());
+            when(connectionPoolManager.getConnection(config)).thenThrow(cause);
 
             InternalServerException internalServerException = assertThrows(InternalServerException.class,
                 () -> databaseService.execute(config, connection -> hasRun.set(true)),
@@ -150,10 +142,7 @@ class DatabaseServiceImplTest {
             assertEquals(cause, internalServerException.getCause(), "Cause should be the same");
 
             assertFalse(hasRun.get(), "Consumer should not have run as exception occurred when getting connection");
-
-            verify(connection, times(1)).setSchema(config.getSchema());
-            verify(connection, times(1)).close();
-            verifyNoMoreInteractions(connection);
+            verifyNoInteractions(connection);
         }
     }
 
@@ -217,11 +206,7 @@ class DatabaseServiceImplTest {
     @DisplayName(" public void executeStoredProcedure(DatabaseConfig config, String procedureName, Object... "
         + "arguments)")
     void positiveVerifyExecuteStoredProcedureOverloadedMethod() throws Exception {
-        driverManagerMockedStatic = Mockito.mockStatic(DriverManager.class);
-        driverManagerMockedStatic.when(() -> DriverManager.getConnection(config.getUrl(), config.getUsername(),
-                config.getPassword()
-            ))
-            .thenReturn(connection);
+        when(connectionPoolManager.getConnection(config)).thenReturn(connection);
         CallableStatement callableStatement = mock(CallableStatement.class);
         when(connection.prepareCall("CALL procedureForTestPurposes(?,?)")).thenReturn(callableStatement);
 
@@ -405,6 +390,7 @@ class DatabaseServiceImplTest {
         }
 
         @Test
+        @SuppressWarnings("unchecked")
         void positiveWithArguments() throws Exception {
             final String sql = "SELECT count(1) as count FROM USER WHERE userId=?";
             PreparedStatement preparedStatement = mock(PreparedStatement.class);
@@ -413,9 +399,11 @@ class DatabaseServiceImplTest {
             ResultSet resultSet = mock(ResultSet.class);
             when(preparedStatement.executeQuery()).thenReturn(resultSet);
             when(resultSet.isBeforeFirst()).thenReturn(true);
+            RowMapper<Count> rowMapper = mock(RowMapper.class);
+            when(rowMapper.mapRow(resultSet)).thenReturn(new Count().setValue(1), new Count().setValue(2));
             databaseFieldConvertorMockedStatic.when(
-                    () -> DatabaseFieldConvertor.convertToItem(Count.class, resultSet))
-                .thenReturn(new Count().setValue(1), new Count().setValue(2));
+                    () -> DatabaseFieldConvertor.bind(Count.class, resultSet))
+                .thenReturn(rowMapper);
             when(resultSet.next()).thenReturn(true, true, false);
 
             List<Count> counts = databaseService.executePreparedStatement(connection, Count.class, sql, "userId");
@@ -429,12 +417,16 @@ class DatabaseServiceImplTest {
             verify(preparedStatement, times(1)).executeQuery();
             verify(resultSet, times(1)).isBeforeFirst();
             verify(resultSet, times(3)).next();
+            verify(rowMapper, times(2)).mapRow(resultSet);
+            databaseFieldConvertorMockedStatic.verify(() -> DatabaseFieldConvertor.bind(Count.class, resultSet),
+                times(1));
             verify(resultSet, times(1)).close();
             verify(preparedStatement, times(1)).close();
             verifyNoMoreInteractions(connection, preparedStatement, resultSet);
         }
 
         @Test
+        @SuppressWarnings("unchecked")
         void positiveWithoutArguments() throws Exception {
             final String sql = "SELECT count(1) as count FROM USER";
             PreparedStatement preparedStatement = mock(PreparedStatement.class);
@@ -443,9 +435,11 @@ class DatabaseServiceImplTest {
             ResultSet resultSet = mock(ResultSet.class);
             when(preparedStatement.executeQuery()).thenReturn(resultSet);
             when(resultSet.isBeforeFirst()).thenReturn(true);
+            RowMapper<Count> rowMapper = mock(RowMapper.class);
+            when(rowMapper.mapRow(resultSet)).thenReturn(new Count().setValue(1));
             databaseFieldConvertorMockedStatic.when(
-                    () -> DatabaseFieldConvertor.convertToItem(Count.class, resultSet))
-                .thenReturn(new Count().setValue(1));
+                    () -> DatabaseFieldConvertor.bind(Count.class, resultSet))
+                .thenReturn(rowMapper);
             when(resultSet.next()).thenReturn(true, false);
 
             List<Count> counts = databaseService.executePreparedStatement(connection, Count.class, sql);
@@ -457,6 +451,7 @@ class DatabaseServiceImplTest {
             verify(preparedStatement, times(1)).executeQuery();
             verify(resultSet, times(1)).isBeforeFirst();
             verify(resultSet, times(2)).next();
+            verify(rowMapper, times(1)).mapRow(resultSet);
             verify(resultSet, times(1)).close();
             verify(preparedStatement, times(1)).close();
             verifyNoMoreInteractions(connection, preparedStatement, resultSet);
@@ -508,6 +503,309 @@ class DatabaseServiceImplTest {
         }
     }
 
+    @Nested
+    @DisplayName("public int[] executeBatchUpdate(Connection connection, String sql, List<Object[]> batchArguments)")
+    class ExecuteBatchUpdate {
+        private static final String SQL = "UPDATE CONTENT_STORE SET DATE_SENT=now() "
+            + "WHERE DOCUMENT_ID=? AND FILE_TYPE=?";
+
+        @Test
+        void positiveTypical() throws SQLException {
+            PreparedStatement preparedStatement = mock(PreparedStatement.class);
+            when(connection.prepareStatement(SQL)).thenReturn(preparedStatement);
+            when(preparedStatement.executeBatch()).thenReturn(new int[]{1, 1});
+
+            int[] result = databaseService.executeBatchUpdate(connection, SQL,
+                List.of(new Object[]{"doc1", "PRINT"}, new Object[]{"doc2", "PRINT"}));
+
+            assertEquals(2, result.length, "Should return an update count per batch entry");
+            InOrder inOrder = inOrder(preparedStatement);
+            inOrder.verify(preparedStatement, times(1)).setObject(1, "doc1");
+            inOrder.verify(preparedStatement, times(1)).setObject(2, "PRINT");
+            inOrder.verify(preparedStatement, times(1)).addBatch();
+            inOrder.verify(preparedStatement, times(1)).setObject(1, "doc2");
+            inOrder.verify(preparedStatement, times(1)).setObject(2, "PRINT");
+            inOrder.verify(preparedStatement, times(1)).addBatch();
+            inOrder.verify(preparedStatement, times(1)).executeBatch();
+            inOrder.verify(preparedStatement, times(1)).close();
+            verify(connection, times(1)).prepareStatement(SQL);
+            verifyNoMoreInteractions(connection, preparedStatement);
+        }
+
+        @Test
+        void positiveEmptyBatch() throws SQLException {
+            assertEquals(0, databaseService.executeBatchUpdate(connection, SQL, List.of()).length,
+                "Should return no update counts");
+            verifyNoInteractions(connection);
+        }
+
+        @Test
+        void negativeSqlException() throws SQLException {
+            PreparedStatement preparedStatement = mock(PreparedStatement.class);
+            when(connection.prepareStatement(SQL)).thenReturn(preparedStatement);
+            SQLException cause = new SQLException("I am the cause");
+            when(preparedStatement.executeBatch()).thenThrow(cause);
+
+            SQLException exception = assertThrows(SQLException.class,
+                () -> databaseService.executeBatchUpdate(connection, SQL, List.<Object[]>of(new Object[]{"doc1"})),
+                "Should throw SQLException");
+            assertSame(cause, exception, "Exception should be the same");
+            verify(preparedStatement, times(1)).close();
+        }
+    }
+
+    @Nested
+    @DisplayName("public <T> long executeStreamingPreparedStatement(Connection connection, Class<T> convertToClass, "
+        + "Integer fetchSize, Consumer<T> rowConsumer, String sql, Object... arguments)")
+    class ExecuteStreamingPreparedStatement {
+        private static final String SQL = "SELECT count(1) as count FROM USER WHERE userId=?";
+        private MockedStatic<DatabaseFieldConvertor> databaseFieldConvertorMockedStatic;
+        private PreparedStatement preparedStatement;
+        private ResultSet resultSet;
+
+        @BeforeEach
+        void beforeEach() throws SQLException {
+            databaseFieldConvertorMockedStatic = Mockito.mockStatic(DatabaseFieldConvertor.class);
+            preparedStatement = mock(PreparedStatement.class);
+            resultSet = mock(ResultSet.class);
+            when(connection.prepareStatement(SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY))
+                .thenReturn(preparedStatement);
+            when(preparedStatement.executeQuery()).thenReturn(resultSet);
+        }
+
+        @AfterEach
+        void afterEach() {
+            if (databaseFieldConvertorMockedStatic != null) {
+                databaseFieldConvertorMockedStatic.close();
+            }
+        }
+
+        @Test
+        @SuppressWarnings("unchecked")
+        void positiveRowsPassedToConsumer() throws Exception {
+            when(connection.getAutoCommit()).thenReturn(true);
+            RowMapper<Count> rowMapper = mock(RowMapper.class);
+            when(rowMapper.mapRow(resultSet)).thenReturn(new Count().setValue(1), new Count().setValue(2));
+            databaseFieldConvertorMockedStatic.when(() -> DatabaseFieldConvertor.bind(Count.class, resultSet))
+                .thenReturn(rowMapper);
+            when(resultSet.next()).thenReturn(true, true, false);
+
+            List<Count> counts = new ArrayList<>();
+            assertEquals(2, databaseService.executeStreamingPreparedStatement(connection, Count.class, 50,
+                counts::add, SQL, "userId"), "Should process 2 rows");
+
+            assertEquals(2, counts.size(), "Should have 2 counts");
+            assertEquals(1, counts.get(0).getValue(), "First value should have 1 count");
+            assertEquals(2, counts.get(1).getValue(), "Second value should have 2 count");
+
+            InOrder inOrder = inOrder(connection, preparedStatement);
+            inOrder.verify(connection, times(1)).getAutoCommit();
+            inOrder.verify(connection, times(1)).setAutoCommit(false);
+            inOrder.verify(connection, times(1))
+                .prepareStatement(SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            inOrder.verify(preparedStatement, times(1)).setFetchSize(50);
+            inOrder.verify(preparedStatement, times(1)).setObject(1, "userId");
+            inOrder.verify(preparedStatement, times(1)).executeQuery();
+            inOrder.verify(preparedStatement, times(1)).close();
+            inOrder.verify(connection, times(1)).commit();
+            inOrder.verify(connection, times(1)).setAutoCommit(true);
+            verify(resultSet, times(3)).next();
+            verify(resultSet, times(1)).close();
+            verify(rowMapper, times(2)).mapRow(resultSet);
+            verifyNoMoreInteractions(connection, preparedStatement, resultSet);
+        }
+
+        @Test
+        @SuppressWarnings("unchecked")
+        void positiveAutoCommitAlreadyDisabled() throws Exception {
+            when(connection.getAutoCommit()).thenReturn(false);
+            databaseFieldConvertorMockedStatic.when(() -> DatabaseFieldConvertor.bind(Count.class, resultSet))
+                .thenReturn(mock(RowMapper.class));
+            when(resultSet.next()).thenReturn(false);
+
+            assertEquals(0, databaseService.executeStreamingPreparedStatement(connection, Count.class, null,
+                count -> {
+                }, SQL, "userId"), "Should process 0 rows");
+
+            verify(preparedStatement, times(1)).setFetchSize(DatabaseServiceImpl.DEFAULT_FETCH_SIZE);
+            verify(connection, never()).setAutoCommit(anyBoolean());
+            verify(connection, never()).commit();
+        }
+
+        @Test
+        @SuppressWarnings("unchecked")
+        void negativeConsumerThrowsException() throws Exception {
+            when(connection.getAutoCommit()).thenReturn(true);
+            RowMapper<Count> rowMapper = mock(RowMapper.class);
+            when(rowMapper.mapRow(resultSet)).thenReturn(new Count().setValue(1));
+            databaseFieldConvertorMockedStatic.when(() -> DatabaseFieldConvertor.bind(Count.class, resultSet))
+                .thenReturn(rowMapper);
+            when(resultSet.next()).thenReturn(true);
+
+            RuntimeException cause = new RuntimeException("I am the cause");
+            InternalServerException internalServerException = assertThrows(InternalServerException.class,
+                () -> databaseService.executeStreamingPreparedStatement(connection, Count.class, 10,
+                    count -> {
+                        throw cause;
+                    }, SQL, "userId"),
+                "Should throw InternalServerException");
+
+            assertEquals("Failed to stream result set", internalServerException.getMessage(),
+                "Message should be the same");
+            assertEquals(cause, internalServerException.getCause(), "Cause should be the same");
+            verify(resultSet, times(1)).close();
+            verify(preparedStatement, times(1)).close();
+            verify(connection, never()).commit();
+            verify(connection, times(1)).rollback();
+            verify(connection, times(1)).setAutoCommit(true);
+        }
+    }
+
+    @Nested
+    @DisplayName("Database metrics")
+    class Metrics {
+        private SimpleMeterRegistry meterRegistry;
+
+        @BeforeEach
+        void beforeEach() {
+            meterRegistry = new SimpleMeterRegistry();
+            databaseService = new DatabaseServiceImpl(defaultDatabaseConfig, connectionPoolManager,
+                new DatabaseMetrics(meterRegistry, 0));
+        }
+
+        private long getStatementCount(String operation, String statement, String outcome) {
+            return meterRegistry.get(DatabaseMetrics.STATEMENT_DURATION)
+                .tags(DatabaseMetrics.TAG_JOB, JobMetrics.NO_JOB,
+                    DatabaseMetrics.TAG_OPERATION, operation,
+                    DatabaseMetrics.TAG_STATEMENT, statement,
+                    DatabaseMetrics.TAG_OUTCOME, outcome)
+                .timer().count();
+        }
+
+        @Test
+        void positiveConnectionAcquireRecorded() throws SQLException {
+            when(connectionPoolManager.getConnection(config)).thenReturn(connection);
+            databaseService.execute(config, conn -> {
+            });
+            assertEquals(1, meterRegistry.get(DatabaseMetrics.CONNECTION_ACQUIRE)
+                .tags(DatabaseMetrics.TAG_OUTCOME, DatabaseMetrics.OUTCOME_SUCCESS).timer().count(),
+                "Connection acquire should be timed");
+        }
+
+        @Test
+        void positiveUpdateRecorded() throws SQLException {
+            final String sql = "UPDATE USER SET CS.password=? WHERE userId=?";
+            when(connection.prepareStatement(sql)).thenReturn(mock(PreparedStatement.class));
+
+            databaseService.executeUpdate(connection, sql, "password", "userId");
+            assertEquals(1, getStatementCount(DatabaseMetrics.OPERATION_UPDATE, sql, DatabaseMetrics.OUTCOME_SUCCESS),
+                "Update should be timed by statement");
+        }
+
+        @Test
+        void negativeStoredProcedureFailureRecorded() throws SQLException {
+            when(connection.prepareCall("CALL someProcedure(?)"))
+                .thenThrow(new SQLException("I am the cause"));
+
+            assertThrows(InternalServerException.class,
+                () -> databaseService.executeStoredProcedure(connection, "someProcedure", "arg"));
+            assertEquals(1, getStatementCount(DatabaseMetrics.OPERATION_PROCEDURE, "someProcedure",
+                DatabaseMetrics.OUTCOME_FAILURE), "Failed procedure should be timed");
+        }
+    }
+
+    @Nested
+    @DisplayName("JobExecution.Registration applyTimeBudget(Statement statement)")
+    class ApplyTimeBudget {
+        private ScheduledExecutorService scheduler;
+
+        @BeforeEach
+        void beforeEach() {
+            scheduler = Executors.newSingleThreadScheduledExecutor();
+        }
+
+        @AfterEach
+        void afterEach() {
+            scheduler.shutdownNow();
+            Thread.interrupted();
+        }
+
+        @Test
+        void positiveNoJobExecution() throws SQLException {
+            final String sql = "UPDATE USER SET CS.password=password404";
+            PreparedStatement preparedStatement = mock(PreparedStatement.class);
+            when(connection.prepareStatement(sql)).thenReturn(preparedStatement);
+
+            databaseService.executeUpdate(connection, sql);
+            verify(preparedStatement, never()).setQueryTimeout(anyInt());
+        }
+
+        @Test
+        void positiveQueryTimeoutFromRemainingBudget() throws SQLException {
+            final String sql = "UPDATE USER SET CS.password=password404";
+            PreparedStatement preparedStatement = mock(PreparedStatement.class);
+            when(connection.prepareStatement(sql)).thenReturn(preparedStatement);
+
+            try (JobExecution jobExecution = JobExecution.start("job", 60_000, 0, scheduler, null)) {
+                jobExecution.call(() -> {
+                    assertDoesNotThrow(() -> databaseService.executeUpdate(connection, sql));
+                    return null;
+                });
+            }
+            ArgumentCaptor<Integer> timeoutCaptor = ArgumentCaptor.forClass(Integer.class);
+            verify(preparedStatement, times(1)).setQueryTimeout(timeoutCaptor.capture());
+            assertThat(timeoutCaptor.getValue()).isBetween(59, 60);
+        }
+
+        @Test
+        void positiveStatementCancelledWhenJobStopped() throws SQLException {
+            final String sql = "UPDATE USER SET CS.password=password404";
+            PreparedStatement preparedStatement = mock(PreparedStatement.class);
+            when(connection.prepareStatement(sql)).thenReturn(preparedStatement);
+
+            try (JobExecution jobExecution = JobExecution.start("job", 0, 0, scheduler, null)) {
+                when(preparedStatement.executeUpdate()).thenAnswer(invocation -> {
+                    jobExecution.cancel();
+                    return 1;
+                });
+                jobExecution.call(() -> {
+                    assertDoesNotThrow(() -> databaseService.executeUpdate(connection, sql));
+                    return null;
+                });
+            }
+            verify(preparedStatement, times(1)).cancel();
+        }
+
+        @Test
+        void positiveGetQueryTimeoutSeconds() {
+            assertEquals(1, DatabaseServiceImpl.getQueryTimeoutSeconds(0), "At least a second should be given");
+            assertEquals(2, DatabaseServiceImpl.getQueryTimeoutSeconds(1001));
+            assertEquals(Integer.MAX_VALUE, DatabaseServiceImpl.getQueryTimeoutSeconds(Long.MAX_VALUE - 1000));
+        }
+    }
+
+    @Nested
+    @DisplayName("int getEffectiveFetchSize(Integer fetchSize)")
+    class GetEffectiveFetchSize {
+        @Test
+        void positiveProvided() {
+            defaultDatabaseConfig.setFetchSize(20);
+            assertEquals(5, databaseService.getEffectiveFetchSize(5), "Provided fetch size should be used");
+        }
+
+        @Test
+        void positiveDefaultConfig() {
+            defaultDatabaseConfig.setFetchSize(20);
+            assertEquals(20, databaseService.getEffectiveFetchSize(null), "Default config fetch size should be used");
+        }
+
+        @Test
+        void positiveFallback() {
+            assertEquals(DatabaseServiceImpl.DEFAULT_FETCH_SIZE, databaseService.getEffectiveFetchSize(null),
+                "Fallback fetch size should be used");
+        }
+    }
+
     @Nested
     @DisplayName("DatabaseConfig getEffectiveDatabaseConfig(DatabaseConfig config)")
     class GetEffectiveDatabaseConfig {
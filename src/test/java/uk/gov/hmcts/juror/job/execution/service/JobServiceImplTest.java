@@ -1,12 +1,17 @@
 package uk.gov.hmcts.juror.job.execution.service;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import uk.gov.hmcts.juror.job.execution.client.contracts.SchedulerServiceClient;
+import uk.gov.hmcts.juror.job.execution.config.JobTimeoutConfig;
 import uk.gov.hmcts.juror.job.execution.database.model.MetaData;
 import uk.gov.hmcts.juror.job.execution.jobs.Job;
+import uk.gov.hmcts.juror.job.execution.jobs.JobExecutionManager;
+import uk.gov.hmcts.juror.job.execution.jobs.JobMetrics;
 import uk.gov.hmcts.juror.job.execution.model.Status;
+import uk.gov.hmcts.juror.job.execution.service.contracts.StatusUpdateService;
 import uk.gov.hmcts.juror.job.execution.testsupport.TestConstants;
 import uk.gov.hmcts.juror.standard.service.exceptions.NotFoundException;
 
@@ -16,8 +21,10 @@ import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -33,7 +40,13 @@ class JobServiceImplTest {
     );
     private Clock clock;
 
-    private SchedulerServiceClient schedulerServiceClient;
+    private StatusUpdateService statusUpdateService;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private JobTimeoutConfig jobTimeoutConfig;
+
+    private JobExecutionManager jobExecutionManager;
 
     private JobServiceImpl jobService;
 
@@ -41,14 +54,18 @@ class JobServiceImplTest {
     void beforeEach() {
         this.clock = mock(Clock.class);
         when(clock.instant()).thenReturn(NOW, NOW.plusSeconds(10));
-        this.schedulerServiceClient = mock(SchedulerServiceClient.class);
-        this.jobService = new JobServiceImpl(clock, schedulerServiceClient, JOB_LIST);
+        this.statusUpdateService = mock(StatusUpdateService.class);
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.jobTimeoutConfig = new JobTimeoutConfig();
+        this.jobExecutionManager = new JobExecutionManager(jobTimeoutConfig);
+        this.jobService = new JobServiceImpl(clock, statusUpdateService, JOB_LIST,
+            new JobMetrics(meterRegistry), jobExecutionManager);
     }
 
     @Test
     void positiveConstructorTest() {
         assertSame(clock, jobService.clock);
-        assertSame(schedulerServiceClient, jobService.schedulerServiceClient);
+        assertSame(statusUpdateService, jobService.statusUpdateService);
         assertEquals(3, jobService.jobRunners.size());
         assertEquals(JOB_LIST.get(0), jobService.jobRunners.get("TestJob1"));
         assertEquals(JOB_LIST.get(1), jobService.jobRunners.get("TestJob2"));
@@ -76,10 +93,11 @@ class JobServiceImplTest {
         MetaData metaData = TestConstants.VALID_META_DATA;
 
         Job.Result result = mock(Job.Result.class);
+        when(job.getName()).thenReturn("TestJob");
         when(job.execute(metaData)).thenReturn(result);
         when(result.getStatus()).thenReturn(Status.SUCCESS);
         when(result.getMessage()).thenReturn("Test message");
-        when(result.getMetaData()).thenReturn(new ConcurrentHashMap<>());
+        when(result.toMetaData()).thenReturn(new ConcurrentHashMap<>());
         jobService.trigger(job, metaData);
 
 
@@ -87,7 +105,7 @@ class JobServiceImplTest {
             ArgumentCaptor.forClass(SchedulerServiceClient.StatusUpdatePayload.class);
 
         verify(job, times(1)).execute(metaData);
-        verify(schedulerServiceClient, times(1))
+        verify(statusUpdateService, times(1))
             .updateStatus(eq(TestConstants.VALID_JOB_KEY),
                 eq(TestConstants.VALID_TASK_ID_LONG),
                 argumentCaptor.capture()
@@ -96,7 +114,59 @@ class JobServiceImplTest {
         SchedulerServiceClient.StatusUpdatePayload payload = argumentCaptor.getValue();
         assertEquals(Status.SUCCESS, payload.getStatus());
         assertEquals("Test message", payload.getMessage());
-        assertEquals(result.getMetaData(), payload.getMetaData());
+        assertEquals(result.toMetaData(), payload.getMetaData());
+
+        assertEquals(1, meterRegistry.get(JobMetrics.JOB_DURATION)
+            .tags(JobMetrics.TAG_JOB, "TestJob", JobMetrics.TAG_STATUS, "SUCCESS").timer().count());
+        assertEquals(1.0, meterRegistry.get(JobMetrics.JOB_RESULTS)
+            .tags(JobMetrics.TAG_JOB, "TestJob", JobMetrics.TAG_STATUS, "SUCCESS").counter().count());
+        assertEquals(0.0, meterRegistry.get(JobMetrics.JOB_ACTIVE)
+            .tags(JobMetrics.TAG_JOB, "TestJob").gauge().value());
+    }
+
+    private SchedulerServiceClient.StatusUpdatePayload triggerCancelledJob() {
+        Job job = mock(Job.class);
+        MetaData metaData = TestConstants.VALID_META_DATA;
+        when(job.getName()).thenReturn("TestJob");
+        when(job.execute(metaData)).thenAnswer(invocation -> {
+            jobService.cancel(TestConstants.VALID_JOB_KEY, TestConstants.VALID_TASK_ID_LONG);
+            return Job.Result.passed("Finished");
+        });
+        jobService.trigger(job, metaData);
+
+        ArgumentCaptor<SchedulerServiceClient.StatusUpdatePayload> argumentCaptor =
+            ArgumentCaptor.forClass(SchedulerServiceClient.StatusUpdatePayload.class);
+        verify(statusUpdateService, times(1))
+            .updateStatus(eq(TestConstants.VALID_JOB_KEY),
+                eq(TestConstants.VALID_TASK_ID_LONG),
+                argumentCaptor.capture()
+            );
+        return argumentCaptor.getValue();
+    }
+
+    @Test
+    void positiveTriggerJobCancelledReportedAsStopped() {
+        jobTimeoutConfig.setReportStoppedStatus(true);
+        assertEquals(Status.CANCELLED, triggerCancelledJob().getStatus());
+    }
+
+    @Test
+    void positiveTriggerJobCancelled() {
+        SchedulerServiceClient.StatusUpdatePayload payload = triggerCancelledJob();
+        assertEquals(Status.FAILED, payload.getStatus(),
+            "Cancelled jobs should be reported as failed unless stopped statuses are enabled");
+        assertTrue(payload.getMessage().contains("was cancelled"), "Message should say the job was cancelled");
+        assertFalse(jobExecutionManager.isRunning(TestConstants.VALID_JOB_KEY, TestConstants.VALID_TASK_ID_LONG),
+            "Task should no longer be running");
+        assertFalse(Thread.currentThread().isInterrupted(), "Interrupt should not leak out of the job");
+    }
+
+    @Test
+    void negativeCancelNotRunning() {
+        NotFoundException notFoundException = assertThrows(NotFoundException.class,
+            () -> jobService.cancel(TestConstants.VALID_JOB_KEY, TestConstants.VALID_TASK_ID_LONG));
+        assertEquals("No running task with id: " + TestConstants.VALID_TASK_ID_LONG + " found for job key: "
+            + TestConstants.VALID_JOB_KEY, notFoundException.getMessage());
     }
 
     static class TestJob extends Job {
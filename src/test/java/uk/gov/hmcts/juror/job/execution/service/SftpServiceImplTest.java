@@ -3,16 +3,28 @@ package uk.gov.hmcts.juror.job.execution.service;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import uk.gov.hmcts.juror.job.execution.config.SftpConfig;
+import uk.gov.hmcts.juror.job.execution.jobs.JobExecution;
+import uk.gov.hmcts.juror.job.execution.service.contracts.SftpService;
 import uk.gov.hmcts.juror.job.execution.util.Sftp;
 
 import java.io.File;
+import java.time.Clock;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hibernate.validator.internal.util.Contracts.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 class SftpServiceImplTest {
 
@@ -82,6 +94,309 @@ class SftpServiceImplTest {
                 "File should have failed to upload");
     }
 
+    @Test
+    void uploadSingleRetriesOnCallingThread() {
+        List<Thread> uploadThreads = new ArrayList<>();
+        Sftp.SftpServerGateway gateway = new TestSftpServerGateway() {
+            @Override
+            public void upload(File file) {
+                uploadThreads.add(Thread.currentThread());
+                super.upload(file);
+            }
+        };
+        sftpService = new SftpServiceImpl(List.of(gateway));
+        assertFalse(sftpService.upload(TestSftp.class, new File("FAIL 1"), 2, 0),
+            "File should have failed to upload");
+        assertEquals(List.of(Thread.currentThread(), Thread.currentThread(), Thread.currentThread()), uploadThreads,
+            "Each attempt should run on the calling thread");
+    }
+
+    @Test
+    void uploadSingleRetryWouldPassDeadline() {
+        SftpConfig config = new SftpConfig();
+        config.setUploadDeadline(1000);
+        Clock clock = mock(Clock.class);
+        when(clock.millis()).thenReturn(0L);
+        sftpService = new SftpServiceImpl(gateways, List.of(new TestSftpError(config)), clock);
+        assertFalse(sftpService.upload(TestSftpError.class, new File("test1"), 3, 10_000),
+            "File should have failed to upload");
+        assertEquals(1, uploadCount.get(), "No retry should be attempted once it would pass the deadline");
+    }
+
+    @Test
+    void uploadCollectionParallelismBoundedByPoolSize() {
+        SftpConfig config = new SftpConfig();
+        config.setPoolSize(2);
+        AtomicInteger activeUploads = new AtomicInteger(0);
+        AtomicInteger maxActiveUploads = new AtomicInteger(0);
+        Sftp.SftpServerGateway slowGateway = new TestSftpServerGateway() {
+            @Override
+            public void upload(File file) {
+                maxActiveUploads.accumulateAndGet(activeUploads.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(20);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    activeUploads.decrementAndGet();
+                }
+                super.upload(file);
+            }
+        };
+        sftpService = new SftpServiceImpl(List.of(slowGateway), List.of(new TestSftp(config)), Clock.systemUTC());
+
+        List<File> files = List.of(new File("test1"), new File("FAIL 2"), new File("test3"),
+            new File("test4"), new File("FAIL 5"), new File("test6"));
+        Thread callingThread = Thread.currentThread();
+        Map<File, Boolean> results = new ConcurrentHashMap<>();
+        sftpService.upload(TestSftp.class, files, 0, 0, result -> {
+            assertEquals(callingThread, Thread.currentThread(), "Results should be handled on the calling thread");
+            results.put(result.file(), result.successful());
+        });
+
+        assertEquals(6, results.size(), "Every file should have a result");
+        assertEquals(6, uploadCount.get(), "Every file should have been uploaded");
+        assertFalse(results.get(files.get(1)), "FAIL 2 should have failed to upload");
+        assertFalse(results.get(files.get(4)), "FAIL 5 should have failed to upload");
+        assertEquals(4, results.values().stream().filter(Boolean::booleanValue).count(),
+            "4 files should have uploaded");
+        assertTrue(maxActiveUploads.get() <= 2, "No more than the pool size should upload at once");
+    }
+
+    @Test
+    void uploadCollectionEmpty() {
+        AtomicInteger resultCount = new AtomicInteger(0);
+        sftpService.upload(TestSftp.class, List.of(), 0, 0, result -> resultCount.incrementAndGet());
+        assertEquals(0, resultCount.get(), "No results expected");
+        assertEquals(0, uploadCount.get(), "No uploads expected");
+    }
+
+    @Test
+    void parallelismFromSftpPoolSize() {
+        SftpConfig config = new SftpConfig();
+        config.setPoolSize(10);
+        SftpConfig configNoPool = new SftpConfig();
+        sftpService = new SftpServiceImpl(gateways, List.of(new TestSftp(config), new TestSftpError(configNoPool)),
+            Clock.systemUTC());
+
+        assertEquals(10, sftpService.getParallelism(TestSftp.class), "Parallelism should match the pool size");
+        assertEquals(1, sftpService.getParallelism(TestSftpError.class),
+            "Parallelism should default to 1 without a pool size");
+        assertEquals(1, new SftpServiceImpl(gateways).getParallelism(TestSftp.class),
+            "Parallelism should default to 1 when the sftp configuration is unknown");
+    }
+
+    @Test
+    void uploadCollectionRetriesDoNotBlockOtherFiles() {
+        SftpConfig config = new SftpConfig();
+        config.setPoolSize(1);
+        sftpService = new SftpServiceImpl(gateways, List.of(new TestSftp(config)), Clock.systemUTC());
+
+        List<File> files = List.of(new File("FAIL 1"), new File("test2"), new File("test3"));
+        List<SftpService.UploadResult> results = new ArrayList<>();
+        sftpService.upload(TestSftp.class, files, 2, 100, results::add);
+
+        assertEquals(3, results.size(), "Every file should have a result");
+        assertEquals(files.get(1), results.get(0).file(), "test2 should upload while FAIL 1 waits to retry");
+        assertEquals(files.get(2), results.get(1).file(), "test3 should upload while FAIL 1 waits to retry");
+        assertEquals(files.get(0), results.get(2).file(), "FAIL 1 should be the final result");
+        assertFalse(results.get(2).successful(), "FAIL 1 should have failed to upload");
+        assertEquals(5, uploadCount.get(), "FAIL 1 should be attempted 3 times");
+    }
+
+    @Test
+    void uploadCollectionDeadlineReached() {
+        SftpConfig config = new SftpConfig();
+        config.setPoolSize(2);
+        config.setUploadDeadline(1000);
+        Clock clock = mock(Clock.class);
+        when(clock.millis()).thenReturn(0L, 2000L);
+        sftpService = new SftpServiceImpl(gateways, List.of(new TestSftp(config)), clock);
+
+        List<File> files = List.of(new File("test1"), new File("test2"));
+        Collection<File> filesFailedToUpload = sftpService.upload(TestSftp.class, files, 3, 100);
+
+        assertEquals(2, filesFailedToUpload.size(), "All files should have failed once the deadline passed");
+        assertEquals(0, uploadCount.get(), "No uploads should be attempted after the deadline");
+    }
+
+    @Test
+    void uploadCollectionRetryWouldPassDeadline() {
+        SftpConfig config = new SftpConfig();
+        config.setPoolSize(1);
+        config.setUploadDeadline(1000);
+        Clock clock = mock(Clock.class);
+        when(clock.millis()).thenReturn(0L);
+        sftpService = new SftpServiceImpl(gateways, List.of(new TestSftpError(config)), clock);
+
+        assertFalse(sftpService.upload(TestSftpError.class, new File("test1"), 3, 5000),
+            "File should have failed to upload");
+        assertEquals(1, uploadCount.get(), "No retry should be scheduled past the deadline");
+    }
+
+    @Test
+    void pipelineBoundedByQueueCapacity() {
+        SftpConfig config = new SftpConfig();
+        config.setPoolSize(10);
+        sftpService = new SftpServiceImpl(gateways, List.of(new TestSftp(config)), Clock.systemUTC());
+
+        List<File> files = List.of(new File("test1"), new File("FAIL 2"), new File("test3"), new File("test4"));
+        Map<File, Boolean> results = new ConcurrentHashMap<>();
+        try (SftpService.UploadPipeline pipeline = sftpService.openPipeline(TestSftp.class, 0, 0, 1)) {
+            for (File file : files) {
+                pipeline.submit(file);
+                assertTrue(uploadCount.get() >= files.indexOf(file),
+                    "Submitting should wait for the previous file when the pipeline is full");
+                pipeline.drainResults(result -> results.put(result.file(), result.successful()));
+            }
+            pipeline.complete(result -> results.put(result.file(), result.successful()));
+        }
+
+        assertEquals(4, results.size(), "Every file should have a result");
+        assertEquals(4, uploadCount.get(), "Every file should have been uploaded");
+        assertFalse(results.get(files.get(1)), "FAIL 2 should have failed to upload");
+    }
+
+    @Test
+    void pipelineTrySubmitDoesNotWait() {
+        SftpConfig config = new SftpConfig();
+        config.setPoolSize(1);
+        CountDownLatch uploading = new CountDownLatch(1);
+        Sftp.SftpServerGateway blockingGateway = new TestSftpServerGateway() {
+            @Override
+            public void upload(File file) {
+                try {
+                    uploading.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                uploadCount.incrementAndGet();
+            }
+        };
+        sftpService = new SftpServiceImpl(List.of(blockingGateway), List.of(new TestSftp(config)),
+            Clock.systemUTC());
+
+        List<File> uploaded = new ArrayList<>();
+        try (SftpService.UploadPipeline pipeline = sftpService.openPipeline(TestSftp.class, 0, 0, 1)) {
+            assertTrue(pipeline.trySubmit(new File("test1")), "First file should be submitted");
+            assertFalse(pipeline.trySubmit(new File("test2")), "Second file should not wait for room");
+            uploading.countDown();
+            pipeline.complete(result -> uploaded.add(result.file()));
+        }
+        assertEquals(List.of(new File("test1")), uploaded, "Only the submitted file should be uploaded");
+        assertEquals(1, uploadCount.get());
+    }
+
+    @Test
+    void uploadCollectionJobCancelled() {
+        SftpConfig config = new SftpConfig();
+        config.setPoolSize(1);
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        try (JobExecution jobExecution = JobExecution.start("job", 0, 0, scheduler, null)) {
+            Sftp.SftpServerGateway cancellingGateway = new TestSftpServerGateway() {
+                @Override
+                public void upload(File file) {
+                    uploadCount.incrementAndGet();
+                    jobExecution.cancel();
+                    try {
+                        Thread.sleep(10_000);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new IllegalStateException("Upload aborted", e);
+                    }
+                }
+            };
+            sftpService = new SftpServiceImpl(List.of(cancellingGateway), List.of(new TestSftp(config)),
+                Clock.systemUTC());
+
+            List<File> files = List.of(new File("test1"), new File("test2"));
+            Collection<File> filesFailedToUpload = jobExecution.call(
+                () -> sftpService.upload(TestSftp.class, files, 3, 100));
+
+            assertEquals(2, filesFailedToUpload.size(), "All files should fail once the job is cancelled");
+            assertEquals(1, uploadCount.get(), "No further uploads should be attempted once the job is cancelled");
+        } finally {
+            scheduler.shutdownNow();
+        }
+        assertFalse(Thread.interrupted(), "Interrupt should be cleared once the job has finished");
+    }
+
+    @Test
+    void pipelineAbortReportsOutstandingFilesAsFailed() throws Exception {
+        SftpConfig config = new SftpConfig();
+        config.setPoolSize(1);
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        ExecutorService owner = Executors.newSingleThreadExecutor();
+        try {
+            //Started on another thread so stopping the job does not interrupt the thread waiting on the uploads
+            JobExecution jobExecution = owner.submit(() -> JobExecution.start("job", 0, 0, scheduler, null)).get();
+            Sftp.SftpServerGateway cancellingGateway = new TestSftpServerGateway() {
+                @Override
+                public void upload(File file) {
+                    uploadCount.incrementAndGet();
+                    jobExecution.cancel();
+                    try {
+                        Thread.sleep(10_000);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new IllegalStateException("Upload aborted", e);
+                    }
+                }
+            };
+            sftpService = new SftpServiceImpl(List.of(cancellingGateway), List.of(new TestSftp(config)),
+                Clock.systemUTC());
+
+            List<File> files = List.of(new File("test1"), new File("test2"), new File("test3"));
+            List<SftpService.UploadResult> results = new ArrayList<>();
+            jobExecution.call(() -> {
+                sftpService.upload(TestSftp.class, files, 3, 100, results::add);
+                return null;
+            });
+
+            assertEquals(3, results.size(), "Each file should be reported once");
+            assertTrue(results.stream().noneMatch(SftpService.UploadResult::successful),
+                "Queued and in flight files should be reported as failed");
+            assertEquals(1, uploadCount.get(), "No further uploads should be attempted once the job is cancelled");
+            assertFalse(Thread.currentThread().isInterrupted(), "The waiting thread should not be interrupted");
+            owner.submit(jobExecution::close).get();
+        } finally {
+            owner.shutdownNow();
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Test
+    void deadlineBoundedByJobTimeBudget() {
+        Clock clock = mock(Clock.class);
+        when(clock.millis()).thenReturn(0L);
+        sftpService = new SftpServiceImpl(gateways, List.of(), clock);
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        try (JobExecution jobExecution = JobExecution.start("job", 60_000, 0, scheduler, null)) {
+            assertTrue(sftpService.getDeadline(0, jobExecution) <= 60_000,
+                "Uploads should not run past the job's time budget");
+            assertEquals(1000, sftpService.getDeadline(1000, jobExecution),
+                "The upload deadline should be used when it is sooner");
+        } finally {
+            scheduler.shutdownNow();
+        }
+        assertEquals(Long.MAX_VALUE, sftpService.getDeadline(0, JobExecution.NONE), "No deadline expected");
+    }
+
+    @Test
+    void backoffDelayGrowsExponentiallyWithJitter() {
+        for (int i = 0; i < 100; i++) {
+            assertWithin(500, 1000, SftpServiceImpl.getBackoffDelay(1000, 1, 0));
+            assertWithin(1000, 2000, SftpServiceImpl.getBackoffDelay(1000, 2, 0));
+            assertWithin(2000, 4000, SftpServiceImpl.getBackoffDelay(1000, 3, 0));
+            assertWithin(1500, 3000, SftpServiceImpl.getBackoffDelay(1000, 3, 3000));
+        }
+        assertEquals(0, SftpServiceImpl.getBackoffDelay(0, 3, 0), "No delay expected when retry delay is 0");
+    }
+
+    private void assertWithin(long min, long max, long actual) {
+        assertTrue(actual >= min && actual <= max, "Expected " + actual + " to be between " + min + " and " + max);
+    }
+
     class TestSftp extends Sftp {
 
         protected TestSftp(SftpConfig config) {
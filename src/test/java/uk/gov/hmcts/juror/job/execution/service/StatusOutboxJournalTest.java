@@ -0,0 +1,142 @@
+package uk.gov.hmcts.juror.job.execution.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import uk.gov.hmcts.juror.job.execution.client.contracts.SchedulerServiceClient;
+import uk.gov.hmcts.juror.job.execution.model.Status;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("StatusOutboxJournal")
+class StatusOutboxJournalTest {
+    private static final String JOB_KEY = "ABC";
+
+    @TempDir
+    Path directory;
+
+    private static SchedulerServiceClient.StatusUpdatePayload createPayload(Status status) {
+        return new SchedulerServiceClient.StatusUpdatePayload(status, "Message " + status, Map.of("key", "value"));
+    }
+
+    private Path getFile() {
+        return directory.resolve(StatusOutboxJournal.FILE_NAME);
+    }
+
+    @Nested
+    @DisplayName("Entry append(String jobKey, Long taskId, StatusUpdatePayload payload)")
+    class Append {
+        @Test
+        void positivePendingInOrder() throws IOException {
+            try (StatusOutboxJournal journal = new StatusOutboxJournal(directory)) {
+                StatusOutboxJournal.Entry first = journal.append(JOB_KEY, 1L, createPayload(Status.SUCCESS));
+                StatusOutboxJournal.Entry second = journal.append(JOB_KEY, 2L, createPayload(Status.FAILED));
+
+                assertEquals(List.of(first, second), journal.getPending(10));
+                assertEquals(List.of(first), journal.getPending(1), "Pending updates should be limited");
+                assertEquals(2, Files.readAllLines(getFile()).size(), "Each update should be written to the journal");
+
+                SchedulerServiceClient.StatusUpdatePayload payload = second.toPayload();
+                assertEquals(Status.FAILED, payload.getStatus());
+                assertEquals("Message FAILED", payload.getMessage());
+                assertEquals(Map.of("key", "value"), payload.getMetaData());
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("List<Entry> getPending(int limit, Set<String> skipTasks)")
+    class GetPending {
+        @Test
+        void positiveSkippedTasksDoNotTakeUpLimit() throws IOException {
+            try (StatusOutboxJournal journal = new StatusOutboxJournal(directory)) {
+                StatusOutboxJournal.Entry first = journal.append(JOB_KEY, 1L, createPayload(Status.PROCESSING));
+                journal.append(JOB_KEY, 1L, createPayload(Status.SUCCESS));
+                StatusOutboxJournal.Entry other = journal.append(JOB_KEY, 2L, createPayload(Status.SUCCESS));
+
+                assertEquals(List.of(other), journal.getPending(1, Set.of(first.task())),
+                    "Updates for skipped tasks should be left out");
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("void acknowledge(Collection<Entry> entries)")
+    class Acknowledge {
+        @Test
+        void positiveAcknowledgedNotPending() throws IOException {
+            try (StatusOutboxJournal journal = new StatusOutboxJournal(directory)) {
+                StatusOutboxJournal.Entry first = journal.append(JOB_KEY, 1L, createPayload(Status.SUCCESS));
+                StatusOutboxJournal.Entry second = journal.append(JOB_KEY, 2L, createPayload(Status.SUCCESS));
+                journal.acknowledge(List.of(first));
+
+                assertEquals(List.of(second), journal.getPending(10));
+                assertEquals(3, Files.readAllLines(getFile()).size(), "Acknowledgement should be appended");
+            }
+        }
+
+        @Test
+        void positiveTruncatedWhenNothingPending() throws IOException {
+            try (StatusOutboxJournal journal = new StatusOutboxJournal(directory)) {
+                StatusOutboxJournal.Entry entry = journal.append(JOB_KEY, 1L, createPayload(Status.SUCCESS));
+                journal.acknowledge(List.of(entry));
+
+                assertEquals(0, journal.getPendingCount());
+                assertEquals(0, Files.size(getFile()), "Journal should be emptied once nothing is pending");
+
+                StatusOutboxJournal.Entry next = journal.append(JOB_KEY, 2L, createPayload(Status.SUCCESS));
+                assertEquals(List.of(next), journal.getPending(10), "Journal should still be usable once emptied");
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("StatusOutboxJournal(Path directory)")
+    class Replay {
+        @Test
+        void positivePendingUpdatesSurviveRestart() throws IOException {
+            StatusOutboxJournal.Entry second;
+            try (StatusOutboxJournal journal = new StatusOutboxJournal(directory)) {
+                StatusOutboxJournal.Entry first = journal.append(JOB_KEY, 1L, createPayload(Status.SUCCESS));
+                second = journal.append(JOB_KEY, 2L, createPayload(Status.FAILED));
+                journal.append(JOB_KEY, 3L, createPayload(Status.SUCCESS));
+                journal.acknowledge(List.of(first));
+            }
+            try (StatusOutboxJournal journal = new StatusOutboxJournal(directory)) {
+                List<StatusOutboxJournal.Entry> pending = journal.getPending(10);
+                assertEquals(2, pending.size(), "Only unacknowledged updates should be pending");
+                assertEquals(second, pending.get(0));
+                assertEquals(3L, pending.get(1).taskId());
+                assertEquals(2, Files.readAllLines(getFile()).size(), "Journal should be compacted on open");
+
+                StatusOutboxJournal.Entry next = journal.append(JOB_KEY, 4L, createPayload(Status.SUCCESS));
+                assertTrue(next.id() > pending.get(1).id(), "Ids should carry on from the replayed journal");
+            }
+        }
+
+        @Test
+        void positiveTornAppendSkipped() throws IOException {
+            try (StatusOutboxJournal journal = new StatusOutboxJournal(directory)) {
+                journal.append(JOB_KEY, 1L, createPayload(Status.SUCCESS));
+            }
+            Files.writeString(getFile(), "{\"id\":1,\"acknowledged\":false,\"jobKey\":\"AB", StandardCharsets.UTF_8,
+                StandardOpenOption.APPEND);
+
+            try (StatusOutboxJournal journal = new StatusOutboxJournal(directory)) {
+                assertEquals(1, journal.getPendingCount(), "Partly written lines should be ignored");
+                assertEquals(1L, journal.getPending(1).get(0).taskId());
+            }
+        }
+    }
+}
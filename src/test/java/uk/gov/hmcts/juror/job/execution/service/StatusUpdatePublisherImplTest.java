@@ -0,0 +1,198 @@
+package uk.gov.hmcts.juror.job.execution.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import uk.gov.hmcts.juror.job.execution.client.contracts.SchedulerServiceClient;
+import uk.gov.hmcts.juror.job.execution.config.StatusUpdateConfig;
+import uk.gov.hmcts.juror.job.execution.model.Status;
+import uk.gov.hmcts.juror.job.execution.service.contracts.StatusUpdateService;
+import uk.gov.hmcts.juror.standard.service.exceptions.InternalServerException;
+
+import java.time.Clock;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@DisplayName("StatusUpdatePublisherImpl")
+class StatusUpdatePublisherImplTest {
+    private static final String JOB_KEY = "ABC";
+    private static final Long TASK_ID = 1L;
+    private static final String TASK_KEY = JOB_KEY + "/" + TASK_ID;
+    private static final long NOW = 10_000_000L;
+
+    private StatusUpdateService statusUpdateService;
+    private ScheduledExecutorService executorService;
+    private Clock clock;
+    private StatusUpdatePublisherImpl statusUpdatePublisher;
+
+    @BeforeEach
+    void beforeEach() {
+        statusUpdateService = mock(StatusUpdateService.class);
+        executorService = mock(ScheduledExecutorService.class);
+        StatusUpdateConfig config = new StatusUpdateConfig();
+        config.setCoalesceWindow(5000);
+        clock = mock(Clock.class);
+        when(clock.millis()).thenReturn(NOW);
+        statusUpdatePublisher = new StatusUpdatePublisherImpl(statusUpdateService, config, executorService, clock);
+    }
+
+    private static SchedulerServiceClient.StatusUpdatePayload createPayload(Status status, String message,
+                                                                            Map<String, String> metaData) {
+        return new SchedulerServiceClient.StatusUpdatePayload(status, message, new HashMap<>(metaData));
+    }
+
+    private SchedulerServiceClient.StatusUpdatePayload captureUpdate() {
+        ArgumentCaptor<SchedulerServiceClient.StatusUpdatePayload> captor =
+            ArgumentCaptor.forClass(SchedulerServiceClient.StatusUpdatePayload.class);
+        verify(statusUpdateService, times(1)).updateStatus(eq(JOB_KEY), eq(TASK_ID), captor.capture());
+        return captor.getValue();
+    }
+
+    private void flush() {
+        statusUpdatePublisher.flush(TASK_KEY, statusUpdatePublisher.pending.get(TASK_KEY));
+    }
+
+    @Nested
+    @DisplayName("public void publish(String jobKey, Long taskId, StatusUpdatePayload payload)")
+    class Publish {
+        @Test
+        void positiveNotCoalescingSentDirectly() {
+            statusUpdatePublisher = new StatusUpdatePublisherImpl(statusUpdateService, new StatusUpdateConfig());
+            SchedulerServiceClient.StatusUpdatePayload payload = createPayload(Status.PROCESSING, "1", Map.of());
+
+            assertFalse(statusUpdatePublisher.isCoalescing());
+            statusUpdatePublisher.publish(JOB_KEY, TASK_ID, payload);
+            verify(statusUpdateService, times(1)).updateStatus(JOB_KEY, TASK_ID, payload);
+        }
+
+        @Test
+        void positiveProgressCoalescedWithinWindow() {
+            statusUpdatePublisher.publish(JOB_KEY, TASK_ID,
+                createPayload(Status.PROCESSING, "First", Map.of("A", "1", "B", "1")));
+            statusUpdatePublisher.publish(JOB_KEY, TASK_ID,
+                createPayload(Status.PROCESSING, "Second", Map.of("B", "2")));
+
+            verifyNoInteractions(statusUpdateService);
+            verify(executorService, times(1)).schedule(any(Runnable.class), eq(5000L), eq(TimeUnit.MILLISECONDS));
+            assertEquals(2, statusUpdatePublisher.pending.get(TASK_KEY).getUpdates());
+
+            flush();
+            SchedulerServiceClient.StatusUpdatePayload payload = captureUpdate();
+            assertEquals("Second", payload.getMessage(), "Latest update should be sent");
+            assertEquals(Map.of("A", "1", "B", "2"), payload.getMetaData(), "Meta data should be merged");
+            assertTrue(statusUpdatePublisher.pending.isEmpty(), "Nothing should be held once sent");
+        }
+
+        @Test
+        void positiveNewWindowAfterFlush() {
+            statusUpdatePublisher.publish(JOB_KEY, TASK_ID, createPayload(Status.PROCESSING, "First", Map.of()));
+            flush();
+            statusUpdatePublisher.publish(JOB_KEY, TASK_ID, createPayload(Status.PROCESSING, "Second", Map.of()));
+
+            verify(executorService, times(2)).schedule(any(Runnable.class), eq(5000L), eq(TimeUnit.MILLISECONDS));
+            assertEquals(1, statusUpdatePublisher.pending.get(TASK_KEY).getUpdates());
+        }
+
+        @Test
+        void positiveTerminalFlushesImmediately() {
+            statusUpdatePublisher.publish(JOB_KEY, TASK_ID,
+                createPayload(Status.PROCESSING, "Progress", Map.of("A", "1", "B", "1")));
+            statusUpdatePublisher.publish(JOB_KEY, TASK_ID,
+                createPayload(Status.SUCCESS, "Done", Map.of("B", "2")));
+
+            SchedulerServiceClient.StatusUpdatePayload payload = captureUpdate();
+            assertEquals(Status.SUCCESS, payload.getStatus());
+            assertEquals("Done", payload.getMessage());
+            assertEquals(Map.of("A", "1", "B", "2"), payload.getMetaData(),
+                "Held progress should be merged under the terminal update");
+            assertTrue(statusUpdatePublisher.pending.isEmpty(), "Held progress should be discarded");
+        }
+
+        @Test
+        void positiveProgressNotSentAfterTerminal() {
+            statusUpdatePublisher.publish(JOB_KEY, TASK_ID, createPayload(Status.PROCESSING, "Progress", Map.of()));
+            StatusUpdatePublisherImpl.PendingUpdate pendingUpdate = statusUpdatePublisher.pending.get(TASK_KEY);
+            statusUpdatePublisher.publish(JOB_KEY, TASK_ID, createPayload(Status.FAILED, "Failed", Map.of()));
+
+            statusUpdatePublisher.flush(TASK_KEY, pendingUpdate);
+            assertEquals(Status.FAILED, captureUpdate().getStatus(), "Only the terminal update should be sent");
+        }
+
+        @Test
+        void positiveProgressPublishedAfterTerminalDropped() {
+            statusUpdatePublisher.publish(JOB_KEY, TASK_ID, createPayload(Status.SUCCESS, "Done", Map.of()));
+            statusUpdatePublisher.publish(JOB_KEY, TASK_ID, createPayload(Status.PROCESSING, "Late", Map.of()));
+
+            assertEquals(Status.SUCCESS, captureUpdate().getStatus(), "Late progress should not be sent");
+            assertTrue(statusUpdatePublisher.pending.isEmpty(), "Late progress should not be held");
+            verifyNoInteractions(executorService);
+        }
+
+        @Test
+        void positiveCompletedTasksForgottenAfterRetention() {
+            statusUpdatePublisher.publish(JOB_KEY, TASK_ID, createPayload(Status.SUCCESS, "Done", Map.of()));
+            when(clock.millis()).thenReturn(NOW + StatusUpdatePublisherImpl.COMPLETED_RETENTION + 1);
+            statusUpdatePublisher.publish(JOB_KEY, 2L, createPayload(Status.SUCCESS, "Done", Map.of()));
+
+            assertEquals(Map.of(JOB_KEY + "/2", NOW + StatusUpdatePublisherImpl.COMPLETED_RETENTION + 1),
+                statusUpdatePublisher.completed, "Only recently completed tasks should be remembered");
+        }
+
+        @Test
+        void positiveTerminalWithoutProgressSentDirectly() {
+            SchedulerServiceClient.StatusUpdatePayload payload = createPayload(Status.SUCCESS, "Done", Map.of());
+            statusUpdatePublisher.publish(JOB_KEY, TASK_ID, payload);
+
+            verify(statusUpdateService, times(1)).updateStatus(JOB_KEY, TASK_ID, payload);
+            verifyNoInteractions(executorService);
+        }
+
+        @Test
+        void positiveTasksCoalescedSeparately() {
+            statusUpdatePublisher.publish(JOB_KEY, TASK_ID, createPayload(Status.PROCESSING, "1", Map.of()));
+            statusUpdatePublisher.publish(JOB_KEY, 2L, createPayload(Status.PROCESSING, "2", Map.of()));
+            statusUpdatePublisher.publish(JOB_KEY, 2L, createPayload(Status.SUCCESS, "2", Map.of()));
+
+            verify(statusUpdateService, times(1)).updateStatus(eq(JOB_KEY), eq(2L), any());
+            verify(statusUpdateService, never()).updateStatus(eq(JOB_KEY), eq(TASK_ID), any());
+            assertEquals(1, statusUpdatePublisher.pending.size());
+        }
+    }
+
+    @Test
+    void negativeFailedProgressDropped() {
+        doThrow(new InternalServerException("I am the cause")).when(statusUpdateService)
+            .updateStatus(any(), any(), any());
+        statusUpdatePublisher.publish(JOB_KEY, TASK_ID, createPayload(Status.PROCESSING, "Progress", Map.of()));
+
+        assertDoesNotThrow(this::flush);
+        assertTrue(statusUpdatePublisher.pending.isEmpty(), "Failed progress should not be held");
+    }
+
+    @Test
+    void positiveCloseFlushesHeldProgress() {
+        statusUpdatePublisher.publish(JOB_KEY, TASK_ID, createPayload(Status.PROCESSING, "Progress", Map.of()));
+        statusUpdatePublisher.close();
+
+        verify(executorService, times(1)).shutdownNow();
+        assertEquals("Progress", captureUpdate().getMessage());
+    }
+}
@@ -0,0 +1,240 @@
+package uk.gov.hmcts.juror.job.execution.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InOrder;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import uk.gov.hmcts.juror.job.execution.client.contracts.SchedulerServiceClient;
+import uk.gov.hmcts.juror.job.execution.config.StatusOutboxConfig;
+import uk.gov.hmcts.juror.job.execution.model.Status;
+import uk.gov.hmcts.juror.standard.service.exceptions.InternalServerException;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@DisplayName("StatusUpdateServiceImpl")
+class StatusUpdateServiceImplTest {
+    private static final String JOB_KEY = "ABC";
+
+    @TempDir
+    Path directory;
+
+    private SchedulerServiceClient schedulerServiceClient;
+    private ScheduledExecutorService executorService;
+    private StatusOutboxConfig config;
+    private StatusUpdateServiceImpl statusUpdateService;
+
+    @BeforeEach
+    void beforeEach() throws IOException {
+        schedulerServiceClient = mock(SchedulerServiceClient.class);
+        executorService = mock(ScheduledExecutorService.class);
+        config = new StatusOutboxConfig();
+        config.setEnabled(true);
+        config.setDirectory(directory.toString());
+        config.setRetryDelay(100);
+        config.setMaxRetryDelay(350);
+        statusUpdateService = new StatusUpdateServiceImpl(schedulerServiceClient, config, executorService);
+    }
+
+    @AfterEach
+    void afterEach() throws IOException {
+        statusUpdateService.close();
+    }
+
+    private static SchedulerServiceClient.StatusUpdatePayload createPayload(Status status) {
+        return new SchedulerServiceClient.StatusUpdatePayload(status, "Message", Map.of());
+    }
+
+    @Nested
+    @DisplayName("public void updateStatus(String jobKey, Long taskId, StatusUpdatePayload payload)")
+    class UpdateStatus {
+        @Test
+        void positiveOutboxDisabledSentDirectly() throws IOException {
+            config.setEnabled(false);
+            StatusUpdateServiceImpl directService = new StatusUpdateServiceImpl(schedulerServiceClient, config, null);
+            SchedulerServiceClient.StatusUpdatePayload payload = createPayload(Status.SUCCESS);
+
+            directService.updateStatus(JOB_KEY, 1L, payload);
+            verify(schedulerServiceClient, times(1)).updateStatus(JOB_KEY, 1L, payload);
+        }
+
+        @Test
+        void positiveJournalledAndDeliveredAsynchronously() {
+            statusUpdateService.updateStatus(JOB_KEY, 1L, createPayload(Status.SUCCESS));
+
+            verifyNoInteractions(schedulerServiceClient);
+            verify(executorService, times(1)).execute(any());
+
+            statusUpdateService.deliver();
+            verify(schedulerServiceClient, times(1)).updateStatus(eq(JOB_KEY), eq(1L), any());
+        }
+
+        @Test
+        void positiveSchedulerUnavailableDoesNotFailJob() {
+            doThrow(new InternalServerException("I am the cause")).when(schedulerServiceClient)
+                .updateStatus(any(), any(), any());
+
+            assertDoesNotThrow(() -> statusUpdateService.updateStatus(JOB_KEY, 1L, createPayload(Status.SUCCESS)));
+            statusUpdateService.deliver();
+            verify(executorService, times(1)).schedule(any(Runnable.class), eq(100L), eq(TimeUnit.MILLISECONDS));
+        }
+
+        @Test
+        void negativeEnabledWithoutDirectory() {
+            config.setDirectory(null);
+            InternalServerException exception = assertThrows(InternalServerException.class,
+                () -> new StatusUpdateServiceImpl(schedulerServiceClient, config, executorService));
+            assertEquals("Status outbox is enabled but no persistent directory is set in jobs.status-outbox.directory",
+                exception.getMessage());
+        }
+
+        @Test
+        void positiveNoTaskIdPassedToClient() {
+            SchedulerServiceClient.StatusUpdatePayload payload = createPayload(Status.SUCCESS);
+            statusUpdateService.updateStatus(JOB_KEY, null, payload);
+            verify(schedulerServiceClient, times(1)).updateStatus(JOB_KEY, null, payload);
+            verifyNoInteractions(executorService);
+        }
+    }
+
+    @Nested
+    @DisplayName("void deliver()")
+    class Deliver {
+        @Test
+        void positiveFailedTaskKeepsOrderOthersDelivered() {
+            doThrow(new InternalServerException("I am the cause")).when(schedulerServiceClient)
+                .updateStatus(eq(JOB_KEY), eq(1L), any());
+            statusUpdateService.updateStatus(JOB_KEY, 1L, createPayload(Status.PROCESSING));
+            statusUpdateService.updateStatus(JOB_KEY, 2L, createPayload(Status.SUCCESS));
+            statusUpdateService.updateStatus(JOB_KEY, 1L, createPayload(Status.SUCCESS));
+
+            statusUpdateService.deliver();
+            verify(schedulerServiceClient, times(1)).updateStatus(eq(JOB_KEY), eq(1L), any());
+            verify(schedulerServiceClient, times(1)).updateStatus(eq(JOB_KEY), eq(2L), any());
+
+            reset(schedulerServiceClient);
+            statusUpdateService.deliver();
+            InOrder inOrder = inOrder(schedulerServiceClient);
+            inOrder.verify(schedulerServiceClient).updateStatus(eq(JOB_KEY), eq(1L),
+                argThat(payload -> payload.getStatus() == Status.PROCESSING));
+            inOrder.verify(schedulerServiceClient).updateStatus(eq(JOB_KEY), eq(1L),
+                argThat(payload -> payload.getStatus() == Status.SUCCESS));
+            verify(schedulerServiceClient, never()).updateStatus(eq(JOB_KEY), eq(2L), any());
+        }
+
+        @Test
+        void positiveBlockedTasksDoNotHoldUpBatch() {
+            config.setBatchSize(2);
+            doThrow(new InternalServerException("I am the cause")).when(schedulerServiceClient)
+                .updateStatus(eq(JOB_KEY), eq(1L), any());
+            statusUpdateService.updateStatus(JOB_KEY, 1L, createPayload(Status.PROCESSING));
+            statusUpdateService.updateStatus(JOB_KEY, 1L, createPayload(Status.PROCESSING));
+            statusUpdateService.updateStatus(JOB_KEY, 1L, createPayload(Status.SUCCESS));
+            statusUpdateService.updateStatus(JOB_KEY, 2L, createPayload(Status.SUCCESS));
+            statusUpdateService.updateStatus(JOB_KEY, 3L, createPayload(Status.SUCCESS));
+
+            statusUpdateService.deliver();
+            verify(schedulerServiceClient, times(1)).updateStatus(eq(JOB_KEY), eq(1L), any());
+            verify(schedulerServiceClient, times(1)).updateStatus(eq(JOB_KEY), eq(2L), any());
+            verify(schedulerServiceClient, times(1)).updateStatus(eq(JOB_KEY), eq(3L), any());
+            verify(executorService, times(1)).schedule(any(Runnable.class), eq(100L), eq(TimeUnit.MILLISECONDS));
+        }
+
+        @Test
+        void positiveRejectedUpdateDropped() {
+            doThrow(new InternalServerException("Failed to upload Job result",
+                HttpClientErrorException.create(HttpStatus.NOT_FOUND, "Not Found", new HttpHeaders(), null, null)))
+                .when(schedulerServiceClient).updateStatus(any(), any(), any());
+            statusUpdateService.updateStatus(JOB_KEY, 1L, createPayload(Status.SUCCESS));
+
+            statusUpdateService.deliver();
+            reset(schedulerServiceClient);
+            statusUpdateService.deliver();
+            verifyNoInteractions(schedulerServiceClient);
+            verify(executorService, never()).schedule(any(Runnable.class), anyLong(), any());
+        }
+
+        @Test
+        void positiveRateLimitedUpdateRetried() {
+            doThrow(new InternalServerException("Failed to upload Job result",
+                HttpClientErrorException.create(HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests", new HttpHeaders(),
+                    null, null)))
+                .when(schedulerServiceClient).updateStatus(any(), any(), any());
+            statusUpdateService.updateStatus(JOB_KEY, 1L, createPayload(Status.SUCCESS));
+
+            statusUpdateService.deliver();
+            verify(executorService, times(1)).schedule(any(Runnable.class), eq(100L), eq(TimeUnit.MILLISECONDS));
+        }
+
+        @Test
+        void positiveRetryBackoffCapped() {
+            doThrow(new InternalServerException("I am the cause")).when(schedulerServiceClient)
+                .updateStatus(any(), any(), any());
+            statusUpdateService.updateStatus(JOB_KEY, 1L, createPayload(Status.SUCCESS));
+
+            statusUpdateService.deliver();
+            assertEquals(100, statusUpdateService.getRetryDelay());
+            statusUpdateService.deliver();
+            assertEquals(200, statusUpdateService.getRetryDelay());
+            statusUpdateService.deliver();
+            assertEquals(350, statusUpdateService.getRetryDelay(), "Retry delay should be capped");
+        }
+
+        @Test
+        void positiveDroppedAfterMaxAttempts() {
+            config.setMaxAttempts(2);
+            doThrow(new InternalServerException("I am the cause")).when(schedulerServiceClient)
+                .updateStatus(any(), any(), any());
+            statusUpdateService.updateStatus(JOB_KEY, 1L, createPayload(Status.SUCCESS));
+
+            statusUpdateService.deliver();
+            statusUpdateService.deliver();
+            reset(schedulerServiceClient);
+            statusUpdateService.deliver();
+            verifyNoInteractions(schedulerServiceClient);
+        }
+
+        @Test
+        void positivePendingUpdatesDeliveredAfterRestart() throws IOException {
+            doThrow(new InternalServerException("I am the cause")).when(schedulerServiceClient)
+                .updateStatus(any(), any(), any());
+            statusUpdateService.updateStatus(JOB_KEY, 1L, createPayload(Status.SUCCESS));
+            statusUpdateService.deliver();
+            statusUpdateService.close();
+
+            reset(schedulerServiceClient);
+            ScheduledExecutorService restartedExecutorService = mock(ScheduledExecutorService.class);
+            statusUpdateService = new StatusUpdateServiceImpl(schedulerServiceClient, config,
+                restartedExecutorService);
+            verify(restartedExecutorService, times(1)).execute(any());
+            statusUpdateService.deliver();
+            verify(schedulerServiceClient, times(1)).updateStatus(eq(JOB_KEY), eq(1L), any());
+            verify(restartedExecutorService, never()).schedule(any(Runnable.class), anyLong(), any());
+        }
+    }
+}
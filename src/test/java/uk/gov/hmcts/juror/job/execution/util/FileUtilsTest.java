@@ -13,6 +13,7 @@ import java.nio.file.Files;
 import java.util.List;
 import java.util.Set;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -122,6 +123,26 @@ class FileUtilsTest {
         assertEquals("test", Files.readString(tmpFile.toPath()));
     }
 
+    @Test
+    void positiveWriteToFileLargerThanBuffer() throws IOException {
+        File tmpFile = Files.createTempFile("test", ".txt").toFile();
+        Files.writeString(tmpFile.toPath(), "Existing content that is longer than the new content ".repeat(10_000));
+        //Multi byte characters fall across chunk boundaries and the unpaired surrogate is replaced
+        String data = "Juror \u00e9\u20ac\ud83d\ude00 ".repeat(20_000) + "\ud83d end";
+        FileUtils.writeToFile(tmpFile, data);
+
+        assertArrayEquals(data.getBytes(FileUtils.DEFAULT_CHARSET), Files.readAllBytes(tmpFile.toPath()),
+            "Expect the same bytes as String.getBytes");
+    }
+
+    @Test
+    void positiveWriteToFileEmpty() throws IOException {
+        File tmpFile = Files.createTempFile("test", ".txt").toFile();
+        FileUtils.writeToFile(tmpFile, "");
+
+        assertEquals(0, Files.size(tmpFile.toPath()), "Expect an empty file");
+    }
+
     @Test
     void positiveGetLinesTypicalNoFilters() {
         List<String> lines = List.of("Line 1", "Line 2", "Line 3");